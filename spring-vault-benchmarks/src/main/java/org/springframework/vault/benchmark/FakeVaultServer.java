@@ -0,0 +1,284 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.vault.benchmark;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.UnaryOperator;
+
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import tools.jackson.databind.json.JsonMapper;
+
+import org.springframework.vault.authentication.SimpleSessionManager;
+import org.springframework.vault.authentication.TokenAuthentication;
+import org.springframework.vault.client.ReactiveVaultClient;
+import org.springframework.vault.client.VaultClient;
+import org.springframework.vault.client.VaultEndpoint;
+import org.springframework.vault.core.ReactiveVaultTemplate;
+import org.springframework.vault.core.VaultTemplate;
+import org.springframework.vault.support.VaultToken;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * In-process stand-in for a Vault server based on {@link MockWebServer}.
+ * Serves canned responses for the endpoints used by the benchmarks and delays
+ * each response by a configurable latency to simulate network round-trips.
+ * <p>Supported endpoints:
+ * <ul>
+ * <li>{@code auth/token/lookup-self} and {@code auth/token/renew-self}</li>
+ * <li>{@code sys/leases/renew} and {@code sys/leases/revoke}</li>
+ * <li>{@code transit/encrypt}, {@code transit/decrypt} and
+ * {@code transit/rewrap} including batch requests</li>
+ * <li>{@code database/creds/*} returning renewable leases</li>
+ * <li>{@code secret/data/*} (key-value version 2) and any other path
+ * (key-value version 1) for reads and writes</li>
+ * </ul>
+ *
+ * @author Mark Paluch
+ */
+public class FakeVaultServer implements AutoCloseable {
+
+	public static final String TOKEN = "benchmark-token";
+
+	private static final JsonMapper mapper = JsonMapper.builder().build();
+
+
+	private final MockWebServer server = new MockWebServer();
+
+	private final Duration latency;
+
+	private final AtomicLong leaseCounter = new AtomicLong();
+
+	private volatile Map<String, Object> secret = createSecret(10);
+
+
+	private FakeVaultServer(Duration latency) {
+		this.latency = latency;
+		this.server.setDispatcher(new Dispatcher() {
+
+			@Override
+			public MockResponse dispatch(RecordedRequest request) {
+				return delay(FakeVaultServer.this.dispatch(request));
+			}
+
+		});
+	}
+
+
+	/**
+	 * Start a new {@link FakeVaultServer} on a random port.
+	 * @param latency latency to apply to each response.
+	 * @return the started server.
+	 */
+	public static FakeVaultServer start(Duration latency) {
+
+		FakeVaultServer server = new FakeVaultServer(latency);
+		try {
+			server.server.start();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return server;
+	}
+
+	/**
+	 * Start a new {@link FakeVaultServer} on a random port.
+	 * @param latencyMillis latency in milliseconds to apply to each response.
+	 * @return the started server.
+	 */
+	public static FakeVaultServer start(int latencyMillis) {
+		return start(Duration.ofMillis(latencyMillis));
+	}
+
+	/**
+	 * Create a secret with {@code properties} string properties.
+	 */
+	public static Map<String, Object> createSecret(int properties) {
+
+		Map<String, Object> secret = new LinkedHashMap<>();
+		for (int i = 0; i < properties; i++) {
+			secret.put("key-" + i, "value-" + i);
+		}
+		return secret;
+	}
+
+	/**
+	 * Set the secret returned for key-value reads.
+	 */
+	public void setSecret(Map<String, Object> secret) {
+		this.secret = secret;
+	}
+
+	public VaultEndpoint getEndpoint() {
+
+		VaultEndpoint endpoint = new VaultEndpoint();
+		endpoint.setHost(this.server.getHostName());
+		endpoint.setPort(this.server.getPort());
+		endpoint.setScheme("http");
+		return endpoint;
+	}
+
+	/**
+	 * Create a {@link VaultTemplate} connected to this server.
+	 */
+	public VaultTemplate createVaultTemplate() {
+		return new VaultTemplate(VaultClient.builder().endpoint(getEndpoint()).build(),
+				new SimpleSessionManager(new TokenAuthentication(TOKEN)));
+	}
+
+	/**
+	 * Create a {@link ReactiveVaultTemplate} connected to this server.
+	 */
+	public ReactiveVaultTemplate createReactiveVaultTemplate() {
+		return new ReactiveVaultTemplate(ReactiveVaultClient.builder().endpoint(getEndpoint()).build(),
+				() -> Mono.just(VaultToken.of(TOKEN)));
+	}
+
+	@Override
+	public void close() {
+		try {
+			this.server.shutdown();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private MockResponse dispatch(RecordedRequest request) {
+
+		String path = getPath(request);
+		String method = request.getMethod();
+
+		if (path.equals("auth/token/lookup-self")) {
+			return json(Map.of("data", Map.of("id", TOKEN, "ttl", 3600, "renewable", true, "policies",
+					List.of("default"))));
+		}
+
+		if (path.equals("auth/token/renew-self")) {
+			return json(Map.of("auth", Map.of("client_token", TOKEN, "lease_duration", 3600, "renewable", true)));
+		}
+
+		if (path.equals("sys/leases/renew")) {
+			Map<String, Object> body = readBody(request);
+			return json(Map.of("lease_id", body.getOrDefault("lease_id", ""), "lease_duration", 3600, "renewable",
+					true));
+		}
+
+		if (path.equals("sys/leases/revoke") || "DELETE".equals(method)) {
+			return new MockResponse().setResponseCode(204);
+		}
+
+		if (path.startsWith("transit/encrypt/")) {
+			return transit(request, "plaintext", "ciphertext", value -> "vault:v1:" + value);
+		}
+
+		if (path.startsWith("transit/decrypt/")) {
+			return transit(request, "ciphertext", "plaintext", value -> value.substring("vault:v1:".length()));
+		}
+
+		if (path.startsWith("transit/rewrap/")) {
+			return transit(request, "ciphertext", "ciphertext", value -> value);
+		}
+
+		if (path.startsWith("database/creds/")) {
+			return json(Map.of("lease_id", path + "/" + this.leaseCounter.incrementAndGet(), "lease_duration", 3600,
+					"renewable", true, "data", Map.of("username", "user", "password", "password")));
+		}
+
+		if (path.startsWith("secret/data/")) {
+
+			if ("GET".equals(method)) {
+				return json(Map.of("data", Map.of("data", this.secret, "metadata",
+						Map.of("version", 1, "created_time", "2026-01-01T00:00:00Z", "destroyed", false))));
+			}
+
+			return json(Map.of("data", Map.of("version", 1, "created_time", "2026-01-01T00:00:00Z", "destroyed",
+					false)));
+		}
+
+		if ("GET".equals(method)) {
+			return json(Map.of("data", this.secret));
+		}
+
+		return new MockResponse().setResponseCode(204);
+	}
+
+	@SuppressWarnings("unchecked")
+	private MockResponse transit(RecordedRequest request, String inputField, String outputField,
+			UnaryOperator<String> function) {
+
+		Map<String, Object> body = readBody(request);
+
+		if (body.get("batch_input") instanceof List<?> batchInput) {
+
+			List<Map<String, Object>> results = new ArrayList<>(batchInput.size());
+			for (Object item : batchInput) {
+				results.add(Map.of(outputField, function.apply((String) ((Map<String, Object>) item).get(inputField))));
+			}
+			return json(Map.of("data", Map.of("batch_results", results)));
+		}
+
+		return json(Map.of("data", Map.of(outputField, function.apply((String) body.get(inputField)))));
+	}
+
+	private MockResponse delay(MockResponse response) {
+
+		if (!this.latency.isZero()) {
+			response.setHeadersDelay(this.latency.toNanos(), TimeUnit.NANOSECONDS);
+		}
+		return response;
+	}
+
+	private static String getPath(RecordedRequest request) {
+
+		String path = request.getPath();
+		if (path == null) {
+			return "";
+		}
+
+		int query = path.indexOf('?');
+		if (query != -1) {
+			path = path.substring(0, query);
+		}
+
+		return path.startsWith("/v1/") ? path.substring(4) : path;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Map<String, Object> readBody(RecordedRequest request) {
+
+		String body = request.getBody().readUtf8();
+		return body.isEmpty() ? Map.of() : mapper.readValue(body, Map.class);
+	}
+
+	private static MockResponse json(Map<String, ?> body) {
+		return new MockResponse().setResponseCode(200)
+			.setHeader("Content-Type", "application/json")
+			.setBody(mapper.writeValueAsString(body));
+	}
+
+}
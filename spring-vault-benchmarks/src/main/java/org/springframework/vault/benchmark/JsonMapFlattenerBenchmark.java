@@ -0,0 +1,108 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.vault.benchmark;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.springframework.vault.support.JsonMapFlattener;
+
+/**
+ * Benchmarks for {@link JsonMapFlattener} using nested secrets of about 1 KB,
+ * 100 KB and 1 MB of JSON.
+ *
+ * @author Mark Paluch
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonMapFlattenerBenchmark {
+
+	/**
+	 * Approximate size of the secret in bytes.
+	 */
+	@Param({ "1024", "102400", "1048576" })
+	int secretSize;
+
+	Map<String, Object> secret;
+
+	Map<String, Object> flattened;
+
+	String lookupKey;
+
+	@Setup
+	public void setUp() {
+
+		this.secret = new LinkedHashMap<>();
+
+		// each entry renders to roughly 100 bytes of JSON
+		int entries = Math.max(1, this.secretSize / 100);
+		for (int i = 0; i < entries; i++) {
+			this.secret.put("key-" + i, Map.of("username", "user-" + i, "password", "password-" + i, "hosts",
+					List.of("host-a", "host-b"), "port", 5432));
+		}
+
+		this.flattened = JsonMapFlattener.flatten(this.secret);
+		this.lookupKey = "key-" + (entries - 1) + ".hosts[1]";
+	}
+
+	@Benchmark
+	public Map<String, Object> flatten() {
+		return JsonMapFlattener.flatten(this.secret);
+	}
+
+	@Benchmark
+	public Map<String, String> flattenToStringMap() {
+		return JsonMapFlattener.flattenToStringMap(this.secret);
+	}
+
+	@Benchmark
+	public void iterateFlattenedView(Blackhole blackhole) {
+		for (Map.Entry<String, Object> entry : JsonMapFlattener.flattenedView(this.secret).entrySet()) {
+			blackhole.consume(entry);
+		}
+	}
+
+	@Benchmark
+	public Object getFromFlattenedView() {
+		return JsonMapFlattener.flattenedView(this.secret).get(this.lookupKey);
+	}
+
+	@Benchmark
+	public Map<String, Object> unflatten() {
+		return JsonMapFlattener.unflatten(this.flattened);
+	}
+
+}
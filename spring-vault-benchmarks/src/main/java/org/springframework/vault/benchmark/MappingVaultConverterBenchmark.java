@@ -0,0 +1,124 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.vault.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.vault.repository.convert.MappingVaultConverter;
+import org.springframework.vault.repository.convert.SecretDocument;
+import org.springframework.vault.repository.mapping.VaultMappingContext;
+
+/**
+ * Benchmarks for reading and writing entities with {@link MappingVaultConverter}.
+ *
+ * @author Mark Paluch
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MappingVaultConverterBenchmark {
+
+	MappingVaultConverter converter;
+
+	Credentials credentials;
+
+	Person person;
+
+	SecretDocument credentialsDocument;
+
+	SecretDocument personDocument;
+
+	@Setup
+	public void setUp() {
+
+		this.converter = new MappingVaultConverter(new VaultMappingContext());
+		this.converter.afterPropertiesSet();
+
+		this.credentials = new Credentials("db", "walter", "heisenberg", 5432, List.of("read", "write"));
+		this.person = new Person();
+		this.person.id = "walter";
+		this.person.firstname = "Walter";
+		this.person.lastname = "White";
+		this.person.address = new Address("308 Negra Arroyo Lane", "Albuquerque");
+
+		this.credentialsDocument = write(this.credentials);
+		this.personDocument = write(this.person);
+	}
+
+	@Benchmark
+	public Credentials readRecord() {
+		return this.converter.read(Credentials.class, this.credentialsDocument);
+	}
+
+	@Benchmark
+	public SecretDocument writeRecord() {
+		return write(this.credentials);
+	}
+
+	@Benchmark
+	public Person readEntity() {
+		return this.converter.read(Person.class, this.personDocument);
+	}
+
+	@Benchmark
+	public SecretDocument writeEntity() {
+		return write(this.person);
+	}
+
+	private SecretDocument write(Object source) {
+
+		SecretDocument document = new SecretDocument();
+		this.converter.write(source, document);
+		return document;
+	}
+
+	public record Credentials(@Id String id, String username, String password, int port, List<String> roles) {
+	}
+
+	public record Address(String street, String city) {
+	}
+
+	public static class Person {
+
+		@Id
+		String id;
+
+		String firstname;
+
+		String lastname;
+
+		Address address;
+
+	}
+
+}
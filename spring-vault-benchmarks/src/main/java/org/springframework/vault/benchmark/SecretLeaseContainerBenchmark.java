@@ -0,0 +1,97 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.vault.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.vault.core.VaultTemplate;
+import org.springframework.vault.core.lease.SecretLeaseContainer;
+
+/**
+ * Benchmarks for {@link SecretLeaseContainer} startup and shutdown with a
+ * number of renewable secrets against {@link FakeVaultServer}. Each invocation
+ * requests all secrets on start and revokes their leases on shutdown.
+ *
+ * @author Mark Paluch
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SecretLeaseContainerBenchmark {
+
+	@Param("0")
+	int latencyMillis;
+
+	@Param({ "10", "100" })
+	int secrets;
+
+	FakeVaultServer server;
+
+	VaultTemplate template;
+
+	ThreadPoolTaskScheduler scheduler;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+
+		this.server = FakeVaultServer.start(this.latencyMillis);
+		this.template = this.server.createVaultTemplate();
+
+		this.scheduler = new ThreadPoolTaskScheduler();
+		this.scheduler.setPoolSize(2);
+		this.scheduler.setDaemon(true);
+		this.scheduler.initialize();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		this.scheduler.shutdown();
+		this.server.close();
+	}
+
+	@Benchmark
+	public void startAndStop() throws Exception {
+
+		SecretLeaseContainer container = new SecretLeaseContainer(this.template, this.scheduler);
+		for (int i = 0; i < this.secrets; i++) {
+			container.requestRenewableSecret("database/creds/role-" + i);
+		}
+
+		container.afterPropertiesSet();
+		container.start();
+		container.destroy();
+	}
+
+}
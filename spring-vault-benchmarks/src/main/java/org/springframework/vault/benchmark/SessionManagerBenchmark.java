@@ -0,0 +1,91 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.vault.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.vault.authentication.LifecycleAwareSessionManager;
+import org.springframework.vault.authentication.TokenAuthentication;
+import org.springframework.vault.client.VaultClient;
+import org.springframework.vault.support.VaultToken;
+
+/**
+ * Benchmarks for concurrent token access through
+ * {@link LifecycleAwareSessionManager} against {@link FakeVaultServer}.
+ *
+ * @author Mark Paluch
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class SessionManagerBenchmark {
+
+	@Param("0")
+	int latencyMillis;
+
+	FakeVaultServer server;
+
+	ThreadPoolTaskScheduler scheduler;
+
+	LifecycleAwareSessionManager sessionManager;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+
+		this.server = FakeVaultServer.start(this.latencyMillis);
+
+		this.scheduler = new ThreadPoolTaskScheduler();
+		this.scheduler.setDaemon(true);
+		this.scheduler.initialize();
+
+		this.sessionManager = new LifecycleAwareSessionManager(new TokenAuthentication(FakeVaultServer.TOKEN),
+				this.scheduler, VaultClient.builder().endpoint(this.server.getEndpoint()).build());
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		this.sessionManager.destroy();
+		this.scheduler.shutdown();
+		this.server.close();
+	}
+
+	@Benchmark
+	public VaultToken getSessionToken() {
+		return this.sessionManager.getSessionToken();
+	}
+
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.vault.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.vault.core.ReactiveVaultTransitOperations;
+import org.springframework.vault.core.VaultTransitOperations;
+import org.springframework.vault.support.Ciphertext;
+import org.springframework.vault.support.Plaintext;
+import org.springframework.vault.support.VaultDecryptionResult;
+import org.springframework.vault.support.VaultEncryptionResult;
+
+/**
+ * Benchmarks for single and batch {@code transit} encryption and decryption
+ * against {@link FakeVaultServer}.
+ *
+ * @author Mark Paluch
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TransitBenchmark {
+
+	@Param("0")
+	int latencyMillis;
+
+	@Param({ "10", "1000" })
+	int batchSize;
+
+	FakeVaultServer server;
+
+	VaultTransitOperations transit;
+
+	ReactiveVaultTransitOperations reactiveTransit;
+
+	Plaintext plaintext = Plaintext.of("hello-world");
+
+	Ciphertext ciphertext = Ciphertext.of("vault:v1:aGVsbG8td29ybGQ=");
+
+	List<Plaintext> plaintexts;
+
+	List<Ciphertext> ciphertexts;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+
+		this.server = FakeVaultServer.start(this.latencyMillis);
+		this.transit = this.server.createVaultTemplate().opsForTransit();
+		this.reactiveTransit = this.server.createReactiveVaultTemplate().opsForTransit();
+
+		this.plaintexts = new ArrayList<>(this.batchSize);
+		this.ciphertexts = new ArrayList<>(this.batchSize);
+		for (int i = 0; i < this.batchSize; i++) {
+			this.plaintexts.add(this.plaintext);
+			this.ciphertexts.add(this.ciphertext);
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		this.server.close();
+	}
+
+	@Benchmark
+	public Ciphertext encrypt() {
+		return this.transit.encrypt("my-key", this.plaintext);
+	}
+
+	@Benchmark
+	public Plaintext decrypt() {
+		return this.transit.decrypt("my-key", this.ciphertext);
+	}
+
+	@Benchmark
+	public List<VaultEncryptionResult> encryptBatch() {
+		return this.transit.encrypt("my-key", this.plaintexts);
+	}
+
+	@Benchmark
+	public List<VaultDecryptionResult> decryptBatch() {
+		return this.transit.decrypt("my-key", this.ciphertexts);
+	}
+
+	@Benchmark
+	public Ciphertext reactiveEncrypt() {
+		return this.reactiveTransit.encrypt("my-key", this.plaintext).block();
+	}
+
+	@Benchmark
+	public List<VaultEncryptionResult> reactiveEncryptBatch() {
+		return this.reactiveTransit.encrypt("my-key", this.plaintexts).collectList().block();
+	}
+
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.vault.benchmark;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.vault.client.VaultResponses;
+import org.springframework.vault.support.JacksonCompat.ObjectMapperAccessor;
+import org.springframework.vault.support.VaultResponse;
+import org.springframework.vault.support.VaultResponseSupport;
+
+/**
+ * Benchmarks for decoding Vault responses.
+ *
+ * @author Mark Paluch
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class VaultResponsesBenchmark {
+
+	@Param({ "10", "100" })
+	int properties;
+
+	ObjectMapperAccessor accessor;
+
+	String json;
+
+	byte[] bytes;
+
+	@Setup
+	public void setUp() {
+
+		this.accessor = ObjectMapperAccessor.create();
+		this.json = this.accessor.writeValueAsString(Map.of("request_id", "c6a6cb67", "lease_id", "",
+				"lease_duration", 0, "renewable", false, "data", FakeVaultServer.createSecret(this.properties)));
+		this.bytes = this.json.getBytes(StandardCharsets.UTF_8);
+	}
+
+	@Benchmark
+	public ParameterizedTypeReference<VaultResponseSupport<Secret>> typeReference() {
+		return VaultResponses.getTypeReference(Secret.class);
+	}
+
+	@Benchmark
+	public VaultResponse decodeVaultResponse() {
+		return this.accessor.deserialize(this.bytes, VaultResponse.class);
+	}
+
+	@Benchmark
+	public Map<?, ?> decodeMap() {
+		return this.accessor.deserialize(this.bytes, Map.class);
+	}
+
+	@Benchmark
+	public VaultResponse unwrap() {
+		return VaultResponses.unwrap(this.json, VaultResponse.class);
+	}
+
+	public record Secret(String value) {
+	}
+
+}
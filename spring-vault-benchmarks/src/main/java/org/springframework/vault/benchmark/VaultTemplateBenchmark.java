@@ -0,0 +1,131 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.vault.benchmark;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.vault.core.ReactiveVaultKeyValueOperations;
+import org.springframework.vault.core.ReactiveVaultTemplate;
+import org.springframework.vault.core.VaultKeyValueOperations;
+import org.springframework.vault.core.VaultKeyValueOperationsSupport.KeyValueBackend;
+import org.springframework.vault.core.VaultTemplate;
+import org.springframework.vault.support.VaultResponse;
+
+/**
+ * Benchmarks for key-value reads and writes through {@link VaultTemplate} and
+ * {@link ReactiveVaultTemplate} against {@link FakeVaultServer}.
+ *
+ * @author Mark Paluch
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class VaultTemplateBenchmark {
+
+	@Param("0")
+	int latencyMillis;
+
+	@Param({ "10", "100" })
+	int properties;
+
+	FakeVaultServer server;
+
+	VaultKeyValueOperations kv1;
+
+	VaultKeyValueOperations kv2;
+
+	ReactiveVaultKeyValueOperations reactiveKv1;
+
+	ReactiveVaultKeyValueOperations reactiveKv2;
+
+	Map<String, Object> secret;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+
+		this.server = FakeVaultServer.start(this.latencyMillis);
+		this.secret = FakeVaultServer.createSecret(this.properties);
+		this.server.setSecret(this.secret);
+
+		VaultTemplate template = this.server.createVaultTemplate();
+		this.kv1 = template.opsForKeyValue("kv", KeyValueBackend.KV_1);
+		this.kv2 = template.opsForKeyValue("secret", KeyValueBackend.KV_2);
+
+		ReactiveVaultTemplate reactiveTemplate = this.server.createReactiveVaultTemplate();
+		this.reactiveKv1 = reactiveTemplate.opsForKeyValue("kv", KeyValueBackend.KV_1);
+		this.reactiveKv2 = reactiveTemplate.opsForKeyValue("secret", KeyValueBackend.KV_2);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		this.server.close();
+	}
+
+	@Benchmark
+	public VaultResponse readKv1() {
+		return this.kv1.get("app");
+	}
+
+	@Benchmark
+	public VaultResponse readKv2() {
+		return this.kv2.get("app");
+	}
+
+	@Benchmark
+	public void writeKv1() {
+		this.kv1.put("app", this.secret);
+	}
+
+	@Benchmark
+	public void writeKv2() {
+		this.kv2.put("app", this.secret);
+	}
+
+	@Benchmark
+	public VaultResponse reactiveReadKv1() {
+		return this.reactiveKv1.get("app").block();
+	}
+
+	@Benchmark
+	public VaultResponse reactiveReadKv2() {
+		return this.reactiveKv2.get("app").block();
+	}
+
+	@Benchmark
+	public void reactiveWriteKv2() {
+		this.reactiveKv2.put("app", this.secret).block();
+	}
+
+}
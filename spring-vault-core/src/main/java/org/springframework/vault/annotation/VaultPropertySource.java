@@ -61,6 +61,10 @@ import org.springframework.context.annotation.Import;
  * into the configuration class and then used when populating the
  * {@code TestBean} object. Given the configuration above, a call to
  * {@code testBean.getPassword()} will return "mysecretpassword".
+ * <p>Multiple non-renewable property sources are loaded concurrently on
+ * startup. The {@code vault.property-sources.parallelism} property limits the
+ * number of concurrently loaded property sources (defaults to {@code 8}). Set
+ * it to {@code 1} to load property sources sequentially.
  * <p>In certain situations, it may not be possible or practical to tightly
  * control property source ordering when using {@code @VaultPropertySource}
  * annotations. For example, if the {@code @Configuration} classes above were
@@ -116,6 +120,16 @@ public @interface VaultPropertySource {
 	 */
 	Renewal renewal() default Renewal.OFF;
 
+	/**
+	 * Configure the name of a
+	 * {@link org.springframework.vault.core.env.PropertySourceSnapshot} bean to
+	 * serve properties from an encrypted local snapshot on startup while
+	 * refreshing these from Vault in the background. Snapshots are disabled by
+	 * default and are only supported with {@link Renewal#OFF}.
+	 * @since 4.2
+	 */
+	String snapshotRef() default "";
+
 	enum Renewal {
 
 		/**
@@ -18,19 +18,29 @@ package org.springframework.vault.annotation;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
 
 import org.jspecify.annotations.Nullable;
 
 import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
 import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
 import org.springframework.beans.factory.support.AbstractBeanDefinition;
 import org.springframework.beans.factory.support.BeanDefinitionBuilder;
 import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.beans.factory.support.InstanceSupplier;
 import org.springframework.context.EnvironmentAware;
 import org.springframework.context.annotation.ImportBeanDefinitionRegistrar;
 import org.springframework.core.annotation.AnnotationAttributes;
@@ -39,9 +49,13 @@ import org.springframework.core.env.Environment;
 import org.springframework.core.env.MutablePropertySources;
 import org.springframework.core.env.PropertySource;
 import org.springframework.core.type.AnnotationMetadata;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
+import org.springframework.vault.VaultException;
 import org.springframework.vault.annotation.VaultPropertySource.Renewal;
+import org.springframework.vault.core.VaultOperations;
+import org.springframework.vault.core.env.PropertySourceSnapshot;
 import org.springframework.vault.core.lease.domain.RequestedSecret;
 import org.springframework.vault.core.util.PropertyTransformer;
 import org.springframework.vault.core.util.PropertyTransformers;
@@ -56,12 +70,34 @@ import org.springframework.vault.core.util.PropertyTransformers;
  * and added to {@link ConfigurableEnvironment} once the bean factory is
  * post-processed. This allows injection of Vault properties and and lookup
  * using the {@link org.springframework.core.env.Environment}.
+ * <p>Multiple non-renewable property sources declared on the same class are
+ * loaded concurrently using up to {@code vault.property-sources.parallelism}
+ * threads (defaults to {@code 8}) so that startup time does not grow with the
+ * number of declared paths. Property sources are still regular beans: the
+ * first property source bean to be created loads all of its siblings through
+ * a shared {@link PropertySourceLoader}. Loading fails fast once a path that
+ * must not be ignored cannot be resolved. A single property source or a
+ * parallelism of {@code 1} loads property sources sequentially on the calling
+ * thread.
  *
  * @author Mark Paluch
  */
 class VaultPropertySourceRegistrar
 		implements ImportBeanDefinitionRegistrar, BeanFactoryPostProcessor, EnvironmentAware {
 
+	/**
+	 * Property to configure the maximum number of property sources loaded
+	 * concurrently.
+	 */
+	static final String PARALLELISM_PROPERTY = "vault.property-sources.parallelism";
+
+	/**
+	 * Default maximum number of property sources loaded concurrently.
+	 */
+	static final int DEFAULT_PARALLELISM = 8;
+
+	private static final String BEAN_NAME_PREFIX = "vaultPropertySource#";
+
 	private @Nullable Environment environment;
 
 
@@ -116,6 +152,7 @@ class VaultPropertySourceRegistrar
 				VaultPropertySources.class.getName(), VaultPropertySource.class.getName());
 
 		int counter = 0;
+		PropertySourceLoader loader = new PropertySourceLoader(getParallelism());
 
 		for (AnnotationAttributes propertySource : propertySources) {
 
@@ -124,11 +161,15 @@ class VaultPropertySourceRegistrar
 			String propertyNamePrefix = propertySource.getString("propertyNamePrefix");
 			Renewal renewal = propertySource.getEnum("renewal");
 			boolean ignoreSecretNotFound = propertySource.getBoolean("ignoreSecretNotFound");
+			String snapshotRef = propertySource.getString("snapshotRef");
 
 			Assert.isTrue(paths.length > 0, "At least one @VaultPropertySource(value) location is required");
 
 			Assert.hasText(ref, "'vaultTemplateRef' in @EnableVaultPropertySource must not be empty");
 
+			Assert.isTrue(!StringUtils.hasText(snapshotRef) || !isRenewable(renewal),
+					"'snapshotRef' in @VaultPropertySource is not supported with renewal");
+
 			PropertyTransformer propertyTransformer = StringUtils.hasText(propertyNamePrefix)
 					? PropertyTransformers.propertyNamePrefix(propertyNamePrefix)
 					: PropertyTransformers.noop();
@@ -139,14 +180,22 @@ class VaultPropertySourceRegistrar
 					continue;
 				}
 
+				String resolvedPath = potentiallyResolveRequiredPlaceholders(propertyPath);
 				AbstractBeanDefinition beanDefinition = createBeanDefinition(ref, renewal, propertyTransformer,
-						ignoreSecretNotFound, potentiallyResolveRequiredPlaceholders(propertyPath));
+						ignoreSecretNotFound, snapshotRef, resolvedPath);
 				beanDefinition.setSource(annotationMetadata.getClassName());
 
 				do {
-					String beanName = "vaultPropertySource#" + counter;
+					String beanName = BEAN_NAME_PREFIX + counter;
 
 					if (!registry.isBeanNameInUse(beanName)) {
+
+						if (!isRenewable(renewal)) {
+							beanDefinition.setInstanceSupplier(loader.register(beanName,
+									new PropertySourceFactory(resolvedPath, ref, propertyTransformer,
+											ignoreSecretNotFound, StringUtils.hasText(snapshotRef) ? snapshotRef : null)));
+						}
+
 						registry.registerBeanDefinition(beanName, beanDefinition);
 						break;
 					}
@@ -157,12 +206,24 @@ class VaultPropertySourceRegistrar
 		}
 	}
 
+	private int getParallelism() {
+
+		if (this.environment == null) {
+			return DEFAULT_PARALLELISM;
+		}
+
+		Integer parallelism = this.environment.getProperty(PARALLELISM_PROPERTY, Integer.class, DEFAULT_PARALLELISM);
+		Assert.isTrue(parallelism > 0, "'%s' must be greater than zero".formatted(PARALLELISM_PROPERTY));
+		return parallelism;
+	}
+
 	private String potentiallyResolveRequiredPlaceholders(String expression) {
 		return this.environment != null ? this.environment.resolveRequiredPlaceholders(expression) : expression;
 	}
 
 	private AbstractBeanDefinition createBeanDefinition(String ref, Renewal renewal,
-			PropertyTransformer propertyTransformer, boolean ignoreResourceNotFound, String propertyPath) {
+			PropertyTransformer propertyTransformer, boolean ignoreResourceNotFound, String snapshotRef,
+			String propertyPath) {
 
 		BeanDefinitionBuilder builder;
 
@@ -187,6 +248,10 @@ class VaultPropertySourceRegistrar
 
 		builder.addConstructorArgValue(propertyTransformer);
 		builder.addConstructorArgValue(ignoreResourceNotFound);
+
+		if (StringUtils.hasText(snapshotRef)) {
+			builder.addConstructorArgReference(snapshotRef);
+		}
 		builder.setRole(BeanDefinition.ROLE_INFRASTRUCTURE);
 
 		return builder.getBeanDefinition();
@@ -219,4 +284,165 @@ class VaultPropertySourceRegistrar
 		}
 	}
 
+
+	/**
+	 * Loader for non-renewable property sources registered through a single
+	 * {@link #registerBeanDefinitions} invocation. The first property source bean
+	 * to be created loads all registered property sources concurrently, honoring
+	 * their {@code dependsOn} declarations. Remaining beans obtain their already
+	 * loaded property source.
+	 */
+	static class PropertySourceLoader {
+
+		private final int parallelism;
+
+		private final Map<String, PropertySourceFactory> factories = new LinkedHashMap<>();
+
+		private @Nullable Map<String, org.springframework.vault.core.env.VaultPropertySource> loaded;
+
+
+		PropertySourceLoader(int parallelism) {
+			this.parallelism = parallelism;
+		}
+
+
+		/**
+		 * Register a property source and return the {@link InstanceSupplier} for its
+		 * bean definition.
+		 */
+		InstanceSupplier<org.springframework.vault.core.env.VaultPropertySource> register(String beanName,
+				PropertySourceFactory factory) {
+
+			this.factories.put(beanName, factory);
+			return registeredBean -> get(registeredBean.getBeanFactory(), beanName);
+		}
+
+		synchronized org.springframework.vault.core.env.VaultPropertySource get(
+				ConfigurableListableBeanFactory beanFactory, String beanName) {
+
+			PropertySourceFactory factory = this.factories.get(beanName);
+			Assert.state(factory != null, "No property source registered for '%s'".formatted(beanName));
+
+			if (this.parallelism < 2 || this.factories.size() < 2) {
+				return factory.resolve(beanFactory).get();
+			}
+
+			if (this.loaded == null) {
+				this.loaded = load(beanFactory, beanName);
+			}
+
+			org.springframework.vault.core.env.VaultPropertySource propertySource = this.loaded.get(beanName);
+			Assert.state(propertySource != null, "No property source loaded for '%s'".formatted(beanName));
+			return propertySource;
+		}
+
+		private Map<String, org.springframework.vault.core.env.VaultPropertySource> load(
+				ConfigurableListableBeanFactory beanFactory, String requestingBeanName) {
+
+			Map<String, Supplier<org.springframework.vault.core.env.VaultPropertySource>> loaders
+					= new LinkedHashMap<>();
+			this.factories.forEach((beanName, factory) -> {
+
+				if (!beanName.equals(requestingBeanName) && beanFactory.containsBeanDefinition(beanName)) {
+					initializeDependencies(beanFactory, beanName);
+				}
+
+				loaders.put(beanName, factory.resolve(beanFactory));
+			});
+
+			CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("vault-property-source-");
+			threadFactory.setDaemon(true);
+			ExecutorService executor = Executors.newFixedThreadPool(Math.min(loaders.size(), this.parallelism),
+					threadFactory);
+
+			try {
+
+				CompletionService<org.springframework.vault.core.env.VaultPropertySource> completionService
+						= new ExecutorCompletionService<>(executor);
+				Map<String, Future<org.springframework.vault.core.env.VaultPropertySource>> futures
+						= new LinkedHashMap<>();
+				loaders.forEach((beanName, loader) -> futures.put(beanName, completionService.submit(loader::get)));
+
+				// fail fast on the first failure
+				for (int i = 0; i < futures.size(); i++) {
+					await(completionService.take());
+				}
+
+				Map<String, org.springframework.vault.core.env.VaultPropertySource> result = new LinkedHashMap<>();
+				for (Map.Entry<String, Future<org.springframework.vault.core.env.VaultPropertySource>> entry : futures
+						.entrySet()) {
+					result.put(entry.getKey(), await(entry.getValue()));
+				}
+
+				return result;
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new VaultException("Interrupted while loading Vault property sources", e);
+			} finally {
+				executor.shutdownNow();
+			}
+		}
+
+		/**
+		 * Initialize beans that the property source {@code beanName} depends on
+		 * before loading it ahead of its own bean creation.
+		 */
+		private static void initializeDependencies(ConfigurableListableBeanFactory beanFactory, String beanName) {
+
+			String[] dependsOn = beanFactory.getMergedBeanDefinition(beanName).getDependsOn();
+			if (dependsOn == null) {
+				return;
+			}
+
+			for (String dependency : dependsOn) {
+				beanFactory.registerDependentBean(dependency, beanName);
+				beanFactory.getBean(dependency);
+			}
+		}
+
+		private static <T> T await(Future<T> future) throws InterruptedException {
+
+			try {
+				return future.get();
+			} catch (ExecutionException e) {
+
+				if (e.getCause() instanceof RuntimeException re) {
+					throw re;
+				}
+
+				if (e.getCause() instanceof Error error) {
+					throw error;
+				}
+
+				throw new VaultException("Cannot load Vault property source", e.getCause());
+			}
+		}
+
+	}
+
+
+	/**
+	 * Attributes of a non-renewable
+	 * {@link org.springframework.vault.core.env.VaultPropertySource} as declared
+	 * through {@link VaultPropertySource}.
+	 */
+	record PropertySourceFactory(String path, String vaultOperationsRef, PropertyTransformer propertyTransformer,
+			boolean ignoreSecretNotFound, @Nullable String snapshotRef) {
+
+		/**
+		 * Resolve referenced beans on the calling thread and return a
+		 * {@link Supplier} loading the property source.
+		 */
+		Supplier<org.springframework.vault.core.env.VaultPropertySource> resolve(BeanFactory beanFactory) {
+
+			VaultOperations vaultOperations = beanFactory.getBean(this.vaultOperationsRef, VaultOperations.class);
+			PropertySourceSnapshot snapshot = this.snapshotRef != null
+					? beanFactory.getBean(this.snapshotRef, PropertySourceSnapshot.class) : null;
+
+			return () -> new org.springframework.vault.core.env.VaultPropertySource(this.path, vaultOperations,
+					this.path, this.propertyTransformer, this.ignoreSecretNotFound, snapshot);
+		}
+
+	}
+
 }
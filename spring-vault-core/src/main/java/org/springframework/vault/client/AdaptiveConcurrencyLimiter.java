@@ -0,0 +1,393 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.vault.client;
+
+import java.net.URI;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+import org.springframework.vault.VaultException;
+
+/**
+ * Adaptive client-side concurrency limit for Vault requests. Concurrency is
+ * limited per mount (the first path segment after {@code /v1/}, qualified by
+ * the {@code X-Vault-Namespace} header, if present) using additive increase,
+ * multiplicative decrease (AIMD): successful responses grow the limit by about
+ * one per round trip while the limit is utilized, {@code 429 Too Many Requests}
+ * and {@code 503 Service Unavailable} responses halve it.
+ * <p>A {@code 429} or {@code 503} response additionally pauses the mount until
+ * the delay indicated by the {@code Retry-After} header has passed (or an
+ * exponential backoff if the header is absent) and the request is retried.
+ * Requests that cannot be started immediately wait in a bounded queue. Requests
+ * are rejected with a {@link VaultException} if the queue is full or if a
+ * request waits longer than {@link #setMaxWait(Duration) max wait}.
+ * <p>An instance can be shared across multiple clients to limit the combined
+ * concurrency towards a Vault server. Configure the limiter before using it.
+ *
+ * @author Mark Paluch
+ * @since 4.2
+ * @see VaultClient.Builder#concurrencyLimiter(AdaptiveConcurrencyLimiter)
+ * @see ReactiveVaultClient.Builder#concurrencyLimiter(AdaptiveConcurrencyLimiter)
+ */
+public class AdaptiveConcurrencyLimiter {
+
+	static final Duration INITIAL_BACKOFF = Duration.ofMillis(100);
+
+	private static final double BACKOFF_RATIO = 0.5;
+
+	private final Map<String, Limit> limits = new ConcurrentHashMap<>();
+
+	private int initialLimit = 20;
+
+	private int minLimit = 1;
+
+	private int maxLimit = 200;
+
+	private int maxQueueSize = 100;
+
+	private Duration maxWait = Duration.ofSeconds(30);
+
+	private int maxRetries = 3;
+
+
+	/**
+	 * Set the concurrency limit to start with for each mount. Defaults to
+	 * {@code 20}.
+	 * @param initialLimit the initial limit, must be greater than zero.
+	 */
+	public void setInitialLimit(int initialLimit) {
+		Assert.isTrue(initialLimit > 0, "Initial limit must be greater than zero");
+		this.initialLimit = initialLimit;
+	}
+
+	/**
+	 * Set the lower bound of the concurrency limit. Defaults to {@code 1}.
+	 * @param minLimit the minimum limit, must be greater than zero.
+	 */
+	public void setMinLimit(int minLimit) {
+		Assert.isTrue(minLimit > 0, "Minimum limit must be greater than zero");
+		this.minLimit = minLimit;
+	}
+
+	/**
+	 * Set the upper bound of the concurrency limit. Defaults to {@code 200}.
+	 * @param maxLimit the maximum limit, must be greater than zero.
+	 */
+	public void setMaxLimit(int maxLimit) {
+		Assert.isTrue(maxLimit > 0, "Maximum limit must be greater than zero");
+		this.maxLimit = maxLimit;
+	}
+
+	/**
+	 * Set the maximum number of requests per mount waiting for the limit.
+	 * Further requests are rejected. Defaults to {@code 100}.
+	 * @param maxQueueSize the maximum queue size, must not be negative.
+	 */
+	public void setMaxQueueSize(int maxQueueSize) {
+		Assert.isTrue(maxQueueSize >= 0, "Maximum queue size must not be negative");
+		this.maxQueueSize = maxQueueSize;
+	}
+
+	/**
+	 * Set the maximum duration a request waits for the limit. Responses asking
+	 * to retry after a longer delay are not retried. Defaults to 30 seconds.
+	 * @param maxWait the maximum wait duration, must not be {@literal null} or
+	 * negative.
+	 */
+	public void setMaxWait(Duration maxWait) {
+		Assert.notNull(maxWait, "Maximum wait must not be null");
+		Assert.isTrue(!maxWait.isNegative(), "Maximum wait must not be negative");
+		this.maxWait = maxWait;
+	}
+
+	/**
+	 * Set the maximum number of retries for requests rejected with
+	 * {@code 429 Too Many Requests} or {@code 503 Service Unavailable}. Defaults
+	 * to {@code 3}.
+	 * @param maxRetries the maximum number of retries, must not be negative.
+	 */
+	public void setMaxRetries(int maxRetries) {
+		Assert.isTrue(maxRetries >= 0, "Maximum retries must not be negative");
+		this.maxRetries = maxRetries;
+	}
+
+	/**
+	 * Return the current concurrency limit for {@code mount}.
+	 * @param mount the mount path without leading and trailing slashes, prefixed
+	 * with the namespace followed by a slash if requests are namespaced.
+	 * @return the current concurrency limit.
+	 */
+	public int getLimit(String mount) {
+
+		Assert.notNull(mount, "Mount must not be null");
+
+		Limit limit = this.limits.get(mount);
+		if (limit == null) {
+			return this.initialLimit;
+		}
+		synchronized (limit) {
+			return limit.current();
+		}
+	}
+
+	/**
+	 * Acquire a {@link Permit} for {@code mount}. The returned future completes
+	 * once the request may proceed, or exceptionally with a
+	 * {@link VaultException} if the request is rejected. Cancelling the future
+	 * withdraws the request from the queue.
+	 */
+	CompletableFuture<Permit> acquire(String mount) {
+
+		Limit limit = this.limits.computeIfAbsent(mount, key -> new Limit(this.initialLimit));
+		CompletableFuture<Permit> future = new CompletableFuture<>();
+
+		synchronized (limit) {
+
+			if (limit.waiters.isEmpty() && limit.canAcquire(System.nanoTime())) {
+				limit.inFlight++;
+				future.complete(new Permit(limit));
+				return future;
+			}
+
+			if (limit.waiters.size() >= this.maxQueueSize) {
+				limit.waiters.removeIf(CompletableFuture::isDone);
+			}
+			if (limit.waiters.size() >= this.maxQueueSize) {
+				return CompletableFuture.failedFuture(new VaultException(
+						"Too many requests waiting for mount '%s' (%d)".formatted(mount, limit.waiters.size())));
+			}
+			limit.waiters.add(future);
+		}
+
+		CompletableFuture.delayedExecutor(this.maxWait.toNanos(), TimeUnit.NANOSECONDS)
+			.execute(() -> future.completeExceptionally(new VaultException(
+					"Timed out after %d ms waiting for mount '%s'".formatted(this.maxWait.toMillis(), mount))));
+
+		return future;
+	}
+
+	private void drain(Limit limit) {
+
+		List<CompletableFuture<Permit>> granted = new ArrayList<>();
+		synchronized (limit) {
+
+			long now = System.nanoTime();
+			while (!limit.waiters.isEmpty() && limit.canAcquire(now)) {
+				CompletableFuture<Permit> waiter = limit.waiters.poll();
+				if (!waiter.isDone()) {
+					limit.inFlight++;
+					granted.add(waiter);
+				}
+			}
+		}
+
+		for (CompletableFuture<Permit> waiter : granted) {
+			Permit permit = new Permit(limit);
+			if (!waiter.complete(permit)) {
+				permit.release();
+			}
+		}
+	}
+
+	/**
+	 * Determine the mount of a request from its {@code uri} and
+	 * {@code X-Vault-Namespace} header.
+	 */
+	static String getMount(URI uri, HttpHeaders headers) {
+
+		String path = uri.getRawPath();
+		if (path == null) {
+			path = "";
+		}
+
+		int start = path.indexOf("/v1/");
+		start = start != -1 ? start + 4 : (path.startsWith("/") ? 1 : 0);
+		int end = path.indexOf('/', start);
+		String mount = end != -1 ? path.substring(start, end) : path.substring(start);
+
+		String namespace = headers.getFirst(VaultHttpHeaders.VAULT_NAMESPACE);
+		return StringUtils.hasText(namespace) ? namespace + "/" + mount : mount;
+	}
+
+	/**
+	 * Determine the delay in nanoseconds before retrying a rejected request from
+	 * the {@code Retry-After} header, falling back to exponential backoff.
+	 */
+	static long getRetryDelay(HttpHeaders headers, int overloads, Duration maxWait) {
+
+		String retryAfter = headers.getFirst(HttpHeaders.RETRY_AFTER);
+		if (StringUtils.hasText(retryAfter)) {
+			try {
+				return Duration.ofSeconds(Math.max(0, Long.parseLong(retryAfter.trim()))).toNanos();
+			} catch (NumberFormatException e) {
+				try {
+					ZonedDateTime date = ZonedDateTime.parse(retryAfter.trim(), DateTimeFormatter.RFC_1123_DATE_TIME);
+					return Math.max(0, Duration.between(ZonedDateTime.now(date.getZone()), date).toNanos());
+				} catch (DateTimeParseException ignore) {
+					// fall through to exponential backoff
+				}
+			}
+		}
+
+		Duration backoff = INITIAL_BACKOFF.multipliedBy(1L << Math.min(overloads, 16));
+		return (backoff.compareTo(maxWait) > 0 ? maxWait : backoff).toNanos();
+	}
+
+
+	/**
+	 * Concurrency limit state of a single mount. Guarded by its own monitor.
+	 */
+	private class Limit {
+
+		final Deque<CompletableFuture<Permit>> waiters = new ArrayDeque<>();
+
+		double limit;
+
+		int inFlight;
+
+		int overloads;
+
+		long backoffUntil = System.nanoTime();
+
+
+		Limit(int initialLimit) {
+			this.limit = initialLimit;
+		}
+
+
+		int current() {
+			return (int) this.limit;
+		}
+
+		boolean canAcquire(long now) {
+			return this.inFlight < current() && now - this.backoffUntil >= 0;
+		}
+
+		void onSuccess() {
+
+			if (this.inFlight >= this.limit / 2) {
+				this.limit = Math.min(maxLimit, this.limit + 1 / this.limit);
+			}
+			this.overloads = 0;
+		}
+
+		long onOverload(HttpHeaders headers) {
+
+			long now = System.nanoTime();
+			long delay = getRetryDelay(headers, this.overloads, maxWait);
+
+			// decrease once per backoff period to not collapse the limit on responses
+			// of requests that were in flight concurrently.
+			if (now - this.backoffUntil >= 0) {
+				this.limit = Math.max(minLimit, this.limit * BACKOFF_RATIO);
+				this.overloads++;
+			}
+			// requests waiting longer than maxWait time out, so never pause the mount
+			// for longer even if the server asks for it.
+			long pause = Math.min(delay, maxWait.toNanos());
+			if (now + pause - this.backoffUntil > 0) {
+				this.backoffUntil = now + pause;
+			}
+			return delay;
+		}
+
+	}
+
+
+	/**
+	 * Permission to execute a single request. A permit must be released exactly
+	 * once, either through {@link #onResponse(int, HttpHeaders, int)} or
+	 * {@link #release()}. Subsequent calls are no-ops.
+	 */
+	final class Permit {
+
+		private final Limit limit;
+
+		private final AtomicBoolean released = new AtomicBoolean();
+
+
+		private Permit(Limit limit) {
+			this.limit = limit;
+		}
+
+
+		/**
+		 * Release the permit adjusting the limit to the response status.
+		 * @return {@literal true} if the request should be retried.
+		 */
+		boolean onResponse(int statusCode, HttpHeaders headers, int attempt) {
+
+			if (!this.released.compareAndSet(false, true)) {
+				return false;
+			}
+
+			boolean overloaded = statusCode == HttpStatus.TOO_MANY_REQUESTS.value()
+					|| statusCode == HttpStatus.SERVICE_UNAVAILABLE.value();
+			long delay = 0;
+
+			synchronized (this.limit) {
+				if (overloaded) {
+					delay = this.limit.onOverload(headers);
+				} else if (statusCode < 500) {
+					this.limit.onSuccess();
+				}
+				this.limit.inFlight--;
+			}
+
+			if (delay > 0) {
+				CompletableFuture.delayedExecutor(Math.min(delay, maxWait.toNanos()), TimeUnit.NANOSECONDS)
+					.execute(() -> drain(this.limit));
+			}
+			drain(this.limit);
+
+			return overloaded && attempt < maxRetries && delay <= maxWait.toNanos();
+		}
+
+		/**
+		 * Release the permit without adjusting the limit, typically because the
+		 * request failed with an I/O error or was cancelled.
+		 */
+		void release() {
+
+			if (!this.released.compareAndSet(false, true)) {
+				return;
+			}
+
+			synchronized (this.limit) {
+				this.limit.inFlight--;
+			}
+			drain(this.limit);
+		}
+
+	}
+
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.vault.client;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.util.Assert;
+import org.springframework.vault.client.AdaptiveConcurrencyLimiter.Permit;
+
+/**
+ * {@link ClientHttpRequestInterceptor} limiting the concurrency of requests per
+ * mount through {@link AdaptiveConcurrencyLimiter}. Callers block until the
+ * request may proceed. Requests rejected with {@code 429 Too Many Requests} or
+ * {@code 503 Service Unavailable} are retried once the delay requested by the
+ * server has passed.
+ *
+ * @author Mark Paluch
+ * @since 4.2
+ */
+class ConcurrencyLimitingClientHttpRequestInterceptor implements ClientHttpRequestInterceptor {
+
+	private final AdaptiveConcurrencyLimiter limiter;
+
+
+	ConcurrencyLimitingClientHttpRequestInterceptor(AdaptiveConcurrencyLimiter limiter) {
+		Assert.notNull(limiter, "AdaptiveConcurrencyLimiter must not be null");
+		this.limiter = limiter;
+	}
+
+
+	@Override
+	public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+			throws IOException {
+
+		String mount = AdaptiveConcurrencyLimiter.getMount(request.getURI(), request.getHeaders());
+
+		for (int attempt = 0;; attempt++) {
+
+			Permit permit = await(this.limiter.acquire(mount));
+			ClientHttpResponse response;
+			boolean retry;
+			try {
+				response = execution.execute(request, body);
+				retry = permit.onResponse(response.getStatusCode().value(), response.getHeaders(), attempt);
+			} catch (IOException | RuntimeException e) {
+				permit.release();
+				throw e;
+			}
+
+			if (!retry) {
+				return response;
+			}
+			response.close();
+		}
+	}
+
+	private static Permit await(CompletableFuture<Permit> future) throws IOException {
+
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			if (!future.cancel(false)) {
+				future.thenAccept(Permit::release);
+			}
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Interrupted while waiting for concurrency limit");
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw new IllegalStateException(e.getCause());
+		}
+	}
+
+}
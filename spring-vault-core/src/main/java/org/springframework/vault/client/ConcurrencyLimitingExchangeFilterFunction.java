@@ -0,0 +1,73 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.vault.client;
+
+import reactor.core.publisher.Mono;
+
+import org.springframework.util.Assert;
+import org.springframework.vault.client.AdaptiveConcurrencyLimiter.Permit;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+
+/**
+ * {@link ExchangeFilterFunction} limiting the concurrency of requests per mount
+ * through {@link AdaptiveConcurrencyLimiter}. Requests are subscribed to once
+ * they may proceed without blocking the caller. Requests rejected with
+ * {@code 429 Too Many Requests} or {@code 503 Service Unavailable} are retried
+ * once the delay requested by the server has passed.
+ *
+ * @author Mark Paluch
+ * @since 4.2
+ * @see ConcurrencyLimitingClientHttpRequestInterceptor
+ */
+class ConcurrencyLimitingExchangeFilterFunction implements ExchangeFilterFunction {
+
+	private final AdaptiveConcurrencyLimiter limiter;
+
+
+	ConcurrencyLimitingExchangeFilterFunction(AdaptiveConcurrencyLimiter limiter) {
+		Assert.notNull(limiter, "AdaptiveConcurrencyLimiter must not be null");
+		this.limiter = limiter;
+	}
+
+
+	@Override
+	public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+		return Mono.defer(() -> exchange(request, next,
+				AdaptiveConcurrencyLimiter.getMount(request.url(), request.headers()), 0));
+	}
+
+	private Mono<ClientResponse> exchange(ClientRequest request, ExchangeFunction next, String mount, int attempt) {
+
+		return Mono.fromFuture(() -> this.limiter.acquire(mount))
+			.flatMap(permit -> next.exchange(request)
+				.doFinally(signal -> permit.release())
+				.flatMap(response -> {
+
+					if (!permit.onResponse(response.statusCode().value(), response.headers().asHttpHeaders(),
+							attempt)) {
+						return Mono.just(response);
+					}
+
+					return response.releaseBody().then(Mono.defer(() -> exchange(request, next, mount, attempt + 1)));
+				}))
+			.doOnDiscard(Permit.class, Permit::release);
+	}
+
+}
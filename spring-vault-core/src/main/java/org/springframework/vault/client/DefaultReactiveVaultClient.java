@@ -18,6 +18,8 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatusCode;
@@ -25,6 +27,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.http.client.reactive.ClientHttpRequest;
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
+import org.springframework.vault.support.JacksonCompat;
 import org.springframework.vault.support.VaultResponse;
 import org.springframework.vault.support.WrappedMetadata;
 import org.springframework.web.reactive.function.BodyInserter;
@@ -45,6 +48,10 @@ import org.springframework.web.util.UriBuilderFactory;
  */
 class DefaultReactiveVaultClient implements ReactiveVaultClient {
 
+	private static final List<String> DATA = List.of("data");
+
+	private static final List<String> DATA_KEYS = List.of("data", "keys");
+
 	private final WebClient client;
 
 	private final @Nullable ReactiveVaultEndpointProvider endpointProvider;
@@ -312,6 +319,22 @@ class DefaultReactiveVaultClient implements ReactiveVaultClient {
 			return toFlux(it -> it.bodyToFlux(elementTypeRef));
 		}
 
+		@Override
+		public Flux<String> keys() {
+			return read(() -> JacksonCompat.instance()
+					.getObjectMapperAccessor()
+					.createArrayReader(DATA_KEYS, String.class));
+		}
+
+		@Override
+		public <T> Mono<T> data(Class<T> dataType) {
+
+			Assert.notNull(dataType, "Data type must not be null");
+
+			return read(() -> JacksonCompat.instance().getObjectMapperAccessor().createValueReader(DATA, dataType))
+					.singleOrEmpty();
+		}
+
 		@Override
 		public <T> Mono<ResponseEntity<T>> toEntity(Class<T> bodyClass) {
 			return toMono(it -> it.toEntity(bodyClass));
@@ -347,6 +370,28 @@ class DefaultReactiveVaultClient implements ReactiveVaultClient {
 			return toMono(WebClient.ResponseSpec::toBodilessEntity);
 		}
 
+		/**
+		 * Read the response body chunk by chunk as it arrives without joining it into
+		 * a single buffer.
+		 */
+		private <T> Flux<T> read(Supplier<JacksonCompat.NonBlockingReader<T>> readerFactory) {
+
+			return Flux.defer(() -> {
+
+				JacksonCompat.NonBlockingReader<T> reader = readerFactory.get();
+
+				return toFlux(it -> it.bodyToFlux(DataBuffer.class)).concatMapIterable(buffer -> {
+					try {
+						byte[] chunk = new byte[buffer.readableByteCount()];
+						buffer.read(chunk);
+						return reader.feed(chunk);
+					} finally {
+						DataBufferUtils.release(buffer);
+					}
+				}).concatWith(Flux.defer(() -> Flux.fromIterable(reader.endOfInput())));
+			});
+		}
+
 		private <T> Mono<T> toMono(Function<WebClient.ResponseSpec, ? extends Mono<T>> bodyExtractor) {
 			return retrieve.flatMap(it -> {
 				WebClient.ResponseSpec retrieve = it.retrieve();
@@ -18,6 +18,7 @@ package org.springframework.vault.client;
 
 import java.util.function.Consumer;
 
+import io.micrometer.observation.ObservationRegistry;
 import org.jspecify.annotations.Nullable;
 
 import org.springframework.http.client.reactive.ClientHttpConnector;
@@ -42,6 +43,16 @@ class DefaultReactiveVaultClientBuilder implements ReactiveVaultClient.Builder {
 
 	private @Nullable UriBuilderFactory uriBuilderFactory;
 
+	private ObservationRegistry observationRegistry = ObservationRegistry.NOOP;
+
+	private @Nullable VaultClientObservationConvention observationConvention;
+
+	private @Nullable VaultIndexState indexState;
+
+	private @Nullable HedgingPolicy hedgingPolicy;
+
+	private @Nullable AdaptiveConcurrencyLimiter concurrencyLimiter;
+
 
 	DefaultReactiveVaultClientBuilder(WebClient webClient) {
 		this.builder = webClient.mutate();
@@ -61,6 +72,11 @@ class DefaultReactiveVaultClientBuilder implements ReactiveVaultClient.Builder {
 		this.builder = other.builder.clone();
 		this.endpointProvider = other.endpointProvider;
 		this.uriBuilderFactory = other.uriBuilderFactory;
+		this.observationRegistry = other.observationRegistry;
+		this.observationConvention = other.observationConvention;
+		this.indexState = other.indexState;
+		this.hedgingPolicy = other.hedgingPolicy;
+		this.concurrencyLimiter = other.concurrencyLimiter;
 	}
 
 
@@ -115,6 +131,41 @@ class DefaultReactiveVaultClientBuilder implements ReactiveVaultClient.Builder {
 		return this;
 	}
 
+	@Override
+	public ReactiveVaultClient.Builder observationRegistry(ObservationRegistry observationRegistry) {
+		Assert.notNull(observationRegistry, "ObservationRegistry must not be null");
+		this.observationRegistry = observationRegistry;
+		return this;
+	}
+
+	@Override
+	public ReactiveVaultClient.Builder observationConvention(VaultClientObservationConvention observationConvention) {
+		Assert.notNull(observationConvention, "VaultClientObservationConvention must not be null");
+		this.observationConvention = observationConvention;
+		return this;
+	}
+
+	@Override
+	public ReactiveVaultClient.Builder readYourWrites(VaultIndexState indexState) {
+		Assert.notNull(indexState, "VaultIndexState must not be null");
+		this.indexState = indexState;
+		return this;
+	}
+
+	@Override
+	public ReactiveVaultClient.Builder hedging(HedgingPolicy hedgingPolicy) {
+		Assert.notNull(hedgingPolicy, "HedgingPolicy must not be null");
+		this.hedgingPolicy = hedgingPolicy;
+		return this;
+	}
+
+	@Override
+	public ReactiveVaultClient.Builder concurrencyLimiter(AdaptiveConcurrencyLimiter concurrencyLimiter) {
+		Assert.notNull(concurrencyLimiter, "AdaptiveConcurrencyLimiter must not be null");
+		this.concurrencyLimiter = concurrencyLimiter;
+		return this;
+	}
+
 	@Override
 	public ReactiveVaultClient.Builder configureWebClient(Consumer<WebClient.Builder> restClientBuilderConsumer) {
 		restClientBuilderConsumer.accept(builder);
@@ -134,8 +185,31 @@ class DefaultReactiveVaultClientBuilder implements ReactiveVaultClient.Builder {
 
 	@Override
 	public ReactiveVaultClient build() {
-		return new DefaultReactiveVaultClient(this.builder.build(), this.endpointProvider,
+		WebClient.Builder builder = this.builder;
+		if (!this.observationRegistry.isNoop()) {
+			builder = this.builder.clone()
+					.filter(new ObservationExchangeFilterFunction(this.observationRegistry,
+							this.observationConvention));
+		}
+		if (this.indexState != null) {
+			builder = (builder == this.builder ? builder.clone() : builder)
+					.filter(new ReadYourWritesExchangeFilterFunction(this.indexState));
+		}
+		if (this.hedgingPolicy != null) {
+			builder = (builder == this.builder ? builder.clone() : builder)
+					.filter(new HedgingExchangeFilterFunction(this.hedgingPolicy, getEndpointProvider()));
+		}
+		if (this.concurrencyLimiter != null) {
+			builder = (builder == this.builder ? builder.clone() : builder)
+					.filter(new ConcurrencyLimitingExchangeFilterFunction(this.concurrencyLimiter));
+		}
+		return new DefaultReactiveVaultClient(builder.build(), this.endpointProvider,
 				this.uriBuilderFactory, this);
 	}
 
+	private @Nullable VaultEndpointProvider getEndpointProvider() {
+		return this.endpointProvider instanceof ReactiveVaultClients.VaultEndpointProviderAdapter adapter
+				? adapter.getSource() : null;
+	}
+
 }
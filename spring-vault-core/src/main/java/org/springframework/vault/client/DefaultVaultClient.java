@@ -16,9 +16,14 @@
 
 package org.springframework.vault.client;
 
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
 import java.net.URI;
 import java.nio.charset.Charset;
 import java.time.Duration;
+import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.function.Consumer;
@@ -31,10 +36,15 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.util.Assert;
+import org.springframework.util.StreamUtils;
 import org.springframework.util.StringUtils;
+import org.springframework.vault.support.JacksonCompat;
 import org.springframework.vault.support.VaultResponse;
 import org.springframework.vault.support.WrappedMetadata;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
 import org.springframework.web.client.HttpStatusCodeException;
 import org.springframework.web.client.RestClient;
 import org.springframework.web.client.RestClientResponseException;
@@ -52,6 +62,10 @@ import org.springframework.web.util.UriBuilderFactory;
  */
 class DefaultVaultClient implements VaultClient {
 
+	private static final List<String> DATA = List.of("data");
+
+	private static final List<String> DATA_KEYS = List.of("data", "keys");
+
 	private final RestClient client;
 
 	private final @Nullable UriBuilderFactory uriBuilderFactory;
@@ -298,6 +312,95 @@ class DefaultVaultClient implements VaultClient {
 			}
 		}
 
+		@Override
+		@SuppressWarnings("NullAway") // See https://github.com/uber/NullAway/issues/1290
+		public void forEachKey(Consumer<? super String> action) {
+
+			Assert.notNull(action, "Action must not be null");
+
+			requestHeadersSpec.spec.exchange((request, response) -> {
+				JacksonCompat.instance()
+						.getObjectMapperAccessor()
+						.readArray(getBody(response), DATA_KEYS, String.class, action);
+				return null;
+			});
+		}
+
+		@Override
+		@SuppressWarnings("NullAway") // See https://github.com/uber/NullAway/issues/1290
+		public <T> @Nullable T data(Class<T> dataType) {
+
+			Assert.notNull(dataType, "Data type must not be null");
+
+			return requestHeadersSpec.spec.exchange((request, response) -> JacksonCompat.instance()
+					.getObjectMapperAccessor()
+					.readValue(getBody(response), DATA, dataType));
+		}
+
+		@Override
+		@SuppressWarnings("NullAway") // See https://github.com/uber/NullAway/issues/1290
+		public @Nullable InputStream bodyStream() {
+
+			return requestHeadersSpec.spec.exchange((request, response) -> {
+
+				PushbackInputStream body;
+				try {
+					body = new PushbackInputStream(getBody(response));
+					int first = body.read();
+					if (first == -1) {
+						response.close();
+						return null;
+					}
+					body.unread(first);
+				} catch (IOException | RuntimeException e) {
+					response.close();
+					throw e;
+				}
+
+				return new FilterInputStream(body) {
+
+					@Override
+					public void close() throws IOException {
+						try {
+							super.close();
+						} finally {
+							response.close();
+						}
+					}
+
+				};
+			}, false);
+		}
+
+		@Override
+		@SuppressWarnings("NullAway") // See https://github.com/uber/NullAway/issues/1290
+		public <T> @Nullable T exchange(ResponseFunction<T> function) {
+
+			Assert.notNull(function, "ResponseFunction must not be null");
+
+			return requestHeadersSpec.spec.exchange((request, response) -> {
+				InputStream body = getBody(response);
+				return function.apply(response.getStatusCode(), response.getHeaders(), body);
+			});
+		}
+
+		private InputStream getBody(ClientHttpResponse response) throws IOException {
+
+			HttpStatusCode statusCode = response.getStatusCode();
+			if (statusCode.isError()) {
+
+				byte[] body = StreamUtils.copyToByteArray(response.getBody());
+				HttpStatusCodeException e = statusCode.is4xxClientError()
+						? HttpClientErrorException.create(statusCode, response.getStatusText(), response.getHeaders(),
+								body, null)
+						: HttpServerErrorException.create(statusCode, response.getStatusText(), response.getHeaders(),
+								body, null);
+				throw buildException(e, requestHeadersSpec.path);
+			}
+
+			return response.getBody();
+		}
+
 		private static VaultClientResponseException buildException(HttpStatusCodeException e, @Nullable String path) {
 			Assert.notNull(e, "HttpStatusCodeException must not be null");
 			String message = VaultResponses.getError(e.getResponseBodyAsString());
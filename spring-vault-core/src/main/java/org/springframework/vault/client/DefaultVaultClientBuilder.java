@@ -18,6 +18,7 @@ package org.springframework.vault.client;
 
 import java.util.function.Consumer;
 
+import io.micrometer.observation.ObservationRegistry;
 import org.jspecify.annotations.Nullable;
 
 import org.springframework.http.client.ClientHttpRequestFactory;
@@ -42,6 +43,16 @@ class DefaultVaultClientBuilder implements VaultClient.Builder {
 
 	private @Nullable UriBuilderFactory uriBuilderFactory;
 
+	private ObservationRegistry observationRegistry = ObservationRegistry.NOOP;
+
+	private @Nullable VaultClientObservationConvention observationConvention;
+
+	private @Nullable VaultIndexState indexState;
+
+	private @Nullable HedgingPolicy hedgingPolicy;
+
+	private @Nullable AdaptiveConcurrencyLimiter concurrencyLimiter;
+
 
 	DefaultVaultClientBuilder(RestTemplate restTemplate) {
 		this.builder = RestClient.builder(restTemplate);
@@ -69,6 +80,11 @@ class DefaultVaultClientBuilder implements VaultClient.Builder {
 		this.builder = other.builder.clone();
 		this.endpointProvider = other.endpointProvider;
 		this.uriBuilderFactory = other.uriBuilderFactory;
+		this.observationRegistry = other.observationRegistry;
+		this.observationConvention = other.observationConvention;
+		this.indexState = other.indexState;
+		this.hedgingPolicy = other.hedgingPolicy;
+		this.concurrencyLimiter = other.concurrencyLimiter;
 	}
 
 
@@ -104,6 +120,41 @@ class DefaultVaultClientBuilder implements VaultClient.Builder {
 		return this;
 	}
 
+	@Override
+	public VaultClient.Builder observationRegistry(ObservationRegistry observationRegistry) {
+		Assert.notNull(observationRegistry, "ObservationRegistry must not be null");
+		this.observationRegistry = observationRegistry;
+		return this;
+	}
+
+	@Override
+	public VaultClient.Builder observationConvention(VaultClientObservationConvention observationConvention) {
+		Assert.notNull(observationConvention, "VaultClientObservationConvention must not be null");
+		this.observationConvention = observationConvention;
+		return this;
+	}
+
+	@Override
+	public VaultClient.Builder readYourWrites(VaultIndexState indexState) {
+		Assert.notNull(indexState, "VaultIndexState must not be null");
+		this.indexState = indexState;
+		return this;
+	}
+
+	@Override
+	public VaultClient.Builder hedging(HedgingPolicy hedgingPolicy) {
+		Assert.notNull(hedgingPolicy, "HedgingPolicy must not be null");
+		this.hedgingPolicy = hedgingPolicy;
+		return this;
+	}
+
+	@Override
+	public VaultClient.Builder concurrencyLimiter(AdaptiveConcurrencyLimiter concurrencyLimiter) {
+		Assert.notNull(concurrencyLimiter, "AdaptiveConcurrencyLimiter must not be null");
+		this.concurrencyLimiter = concurrencyLimiter;
+		return this;
+	}
+
 	@Override
 	public VaultClient.Builder configureRestClient(Consumer<RestClient.Builder> restClientBuilderConsumer) {
 		restClientBuilderConsumer.accept(builder);
@@ -123,7 +174,26 @@ class DefaultVaultClientBuilder implements VaultClient.Builder {
 
 	@Override
 	public VaultClient build() {
-		return new DefaultVaultClient(this.builder.build(), this.uriBuilderFactory, this);
+		RestClient.Builder builder = this.builder;
+		if (!this.observationRegistry.isNoop()) {
+			builder = this.builder.clone()
+					.requestInterceptor(new ObservationClientHttpRequestInterceptor(this.observationRegistry,
+							this.observationConvention));
+		}
+		if (this.indexState != null) {
+			builder = (builder == this.builder ? builder.clone() : builder)
+					.requestInterceptor(new ReadYourWritesClientHttpRequestInterceptor(this.indexState));
+		}
+		if (this.hedgingPolicy != null) {
+			builder = (builder == this.builder ? builder.clone() : builder)
+					.requestInterceptor(
+							new HedgingClientHttpRequestInterceptor(this.hedgingPolicy, this.endpointProvider));
+		}
+		if (this.concurrencyLimiter != null) {
+			builder = (builder == this.builder ? builder.clone() : builder)
+					.requestInterceptor(new ConcurrencyLimitingClientHttpRequestInterceptor(this.concurrencyLimiter));
+		}
+		return new DefaultVaultClient(builder.build(), this.uriBuilderFactory, this);
 	}
 
 }
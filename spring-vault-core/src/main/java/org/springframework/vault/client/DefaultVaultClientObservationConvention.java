@@ -0,0 +1,218 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.vault.client;
+
+import java.net.URI;
+import java.util.Locale;
+import java.util.Set;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.common.KeyValues;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.http.HttpStatusCode;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+import org.springframework.vault.client.VaultClientObservationDocumentation.HighCardinalityKeyNames;
+import org.springframework.vault.client.VaultClientObservationDocumentation.LowCardinalityKeyNames;
+
+/**
+ * Default {@link VaultClientObservationConvention} implementation.
+ * <p>Request paths are normalized to avoid high cardinality and to not leak
+ * secret names into metrics. A normalized path consists of the mount and, if
+ * present, a well-known operation segment (such as {@code data},
+ * {@code encrypt} or {@code issue}). Remaining path segments are replaced with
+ * a {@code {path}} placeholder: {@code secret/data/my-app/config} is
+ * normalized to {@code secret/data/{path}}, {@code transit/encrypt/my-key} to
+ * {@code transit/encrypt/{path}}. Paths below {@code sys/} and {@code auth/}
+ * retain the additional segment identifying the endpoint respective the
+ * authentication mount.
+ *
+ * @author Mark Paluch
+ * @since 4.2
+ */
+public class DefaultVaultClientObservationConvention implements VaultClientObservationConvention {
+
+	/**
+	 * Default observation name.
+	 */
+	public static final String DEFAULT_NAME = "vault.client.requests";
+
+	static final String PATH_PLACEHOLDER = "{path}";
+
+	private static final Set<String> OPERATIONS = Set.of("alphabets", "backup", "ca", "ca_chain", "cert", "certs",
+			"config", "creds", "crl", "data", "datakey", "decode", "decrypt", "delete", "destroy", "encode", "encrypt",
+			"export", "hash", "hmac", "issue", "issuer", "issuers", "keys", "login", "lookup", "metadata", "random",
+			"renew", "restore", "revoke", "rewrap", "role", "roles", "rotate", "sign", "sign-intermediate",
+			"sign-verbatim", "subkeys", "templates", "tidy", "transformations", "trim", "undelete", "verify");
+
+	private static final KeyValue NAMESPACE_NONE = KeyValue.of(LowCardinalityKeyNames.NAMESPACE, KeyValue.NONE_VALUE);
+
+	private static final KeyValue EXCEPTION_NONE = KeyValue.of(LowCardinalityKeyNames.EXCEPTION, KeyValue.NONE_VALUE);
+
+	private static final KeyValue STATUS_CLIENT_ERROR = KeyValue.of(LowCardinalityKeyNames.STATUS, "CLIENT_ERROR");
+
+	private static final KeyValue OUTCOME_UNKNOWN = KeyValue.of(LowCardinalityKeyNames.OUTCOME, "UNKNOWN");
+
+	private final String name;
+
+
+	/**
+	 * Create a convention with the default name {@value #DEFAULT_NAME}.
+	 */
+	public DefaultVaultClientObservationConvention() {
+		this(DEFAULT_NAME);
+	}
+
+	/**
+	 * Create a convention with a custom name.
+	 * @param name the observation name, must not be empty.
+	 */
+	public DefaultVaultClientObservationConvention(String name) {
+		Assert.hasText(name, "Name must not be empty");
+		this.name = name;
+	}
+
+
+	@Override
+	public String getName() {
+		return this.name;
+	}
+
+	@Override
+	public String getContextualName(VaultClientObservationContext context) {
+		return "vault " + context.getMethod().name().toLowerCase(Locale.ROOT);
+	}
+
+	@Override
+	public KeyValues getLowCardinalityKeyValues(VaultClientObservationContext context) {
+		return KeyValues.of(method(context), path(context), status(context), namespace(context), outcome(context),
+				exception(context));
+	}
+
+	@Override
+	public KeyValues getHighCardinalityKeyValues(VaultClientObservationContext context) {
+		return KeyValues.of(
+				KeyValue.of(HighCardinalityKeyNames.REQUEST_SIZE, Long.toString(context.getRequestSize())),
+				KeyValue.of(HighCardinalityKeyNames.RESPONSE_SIZE, Long.toString(context.getResponseSize())));
+	}
+
+	protected KeyValue method(VaultClientObservationContext context) {
+		return KeyValue.of(LowCardinalityKeyNames.METHOD, context.getMethod().name());
+	}
+
+	protected KeyValue path(VaultClientObservationContext context) {
+		return KeyValue.of(LowCardinalityKeyNames.PATH, normalizePath(context.getUri()));
+	}
+
+	protected KeyValue status(VaultClientObservationContext context) {
+		HttpStatusCode statusCode = context.getStatusCode();
+		if (statusCode == null) {
+			return STATUS_CLIENT_ERROR;
+		}
+		return KeyValue.of(LowCardinalityKeyNames.STATUS, Integer.toString(statusCode.value()));
+	}
+
+	protected KeyValue namespace(VaultClientObservationContext context) {
+		String namespace = context.getNamespace();
+		return StringUtils.hasText(namespace) ? KeyValue.of(LowCardinalityKeyNames.NAMESPACE, namespace)
+				: NAMESPACE_NONE;
+	}
+
+	protected KeyValue outcome(VaultClientObservationContext context) {
+		HttpStatusCode statusCode = context.getStatusCode();
+		if (statusCode == null) {
+			return OUTCOME_UNKNOWN;
+		}
+		String outcome;
+		if (statusCode.is1xxInformational()) {
+			outcome = "INFORMATIONAL";
+		} else if (statusCode.is2xxSuccessful()) {
+			outcome = "SUCCESS";
+		} else if (statusCode.is3xxRedirection()) {
+			outcome = "REDIRECTION";
+		} else if (statusCode.is4xxClientError()) {
+			outcome = "CLIENT_ERROR";
+		} else if (statusCode.is5xxServerError()) {
+			outcome = "SERVER_ERROR";
+		} else {
+			return OUTCOME_UNKNOWN;
+		}
+		return KeyValue.of(LowCardinalityKeyNames.OUTCOME, outcome);
+	}
+
+	protected KeyValue exception(VaultClientObservationContext context) {
+		Throwable error = context.getError();
+		if (error == null) {
+			return EXCEPTION_NONE;
+		}
+		String simpleName = error.getClass().getSimpleName();
+		return KeyValue.of(LowCardinalityKeyNames.EXCEPTION,
+				StringUtils.hasText(simpleName) ? simpleName : error.getClass().getName());
+	}
+
+	/**
+	 * Normalize the request {@link URI} into a low-cardinality path template that
+	 * does not contain secret names.
+	 * @param uri the request URI.
+	 * @return the normalized path.
+	 */
+	static String normalizePath(@Nullable URI uri) {
+
+		if (uri == null || uri.getRawPath() == null) {
+			return KeyValue.NONE_VALUE;
+		}
+
+		String path = uri.getRawPath();
+		int versionPrefix = path.indexOf("/v1/");
+		if (versionPrefix != -1) {
+			path = path.substring(versionPrefix + 4);
+		}
+		path = VaultEndpoint.stripLeadingSlashes(path);
+
+		if (!StringUtils.hasText(path)) {
+			return "/";
+		}
+
+		String[] segments = StringUtils.delimitedListToStringArray(path, "/");
+		int retain = 1;
+		if (segments.length > 1) {
+			if (segments[0].equals("sys")) {
+				retain = 2;
+			} else if (segments[0].equals("auth")) {
+				retain = segments.length > 2 && OPERATIONS.contains(segments[2]) ? 3 : 2;
+			} else if (OPERATIONS.contains(segments[1])) {
+				retain = 2;
+			}
+		}
+
+		StringBuilder normalized = new StringBuilder(path.length());
+		for (int i = 0; i < Math.min(retain, segments.length); i++) {
+			if (i > 0) {
+				normalized.append('/');
+			}
+			normalized.append(segments[i]);
+		}
+
+		if (segments.length > retain && StringUtils.hasText(segments[retain])) {
+			normalized.append('/').append(PATH_PLACEHOLDER);
+		}
+
+		return normalized.toString();
+	}
+
+}
@@ -0,0 +1,208 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.vault.client;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.support.HttpRequestWrapper;
+import org.springframework.util.Assert;
+
+/**
+ * {@link ClientHttpRequestInterceptor} sending a hedged request to an alternate
+ * endpoint if a hedgeable request does not complete within the hedging delay of
+ * {@link HedgingPolicy}. Requests are executed on the
+ * {@link HedgingPolicy#getExecutor() policy executor} while the calling thread
+ * awaits the first successful response. A request is executed on the calling
+ * thread without hedging if the executor rejects it. The response of the slower
+ * request is closed once it arrives. The call fails only if all requests sent
+ * failed.
+ *
+ * @author Mark Paluch
+ * @since 4.2
+ */
+class HedgingClientHttpRequestInterceptor implements ClientHttpRequestInterceptor {
+
+	private final HedgingPolicy policy;
+
+	private final @Nullable VaultEndpointProvider endpointProvider;
+
+
+	HedgingClientHttpRequestInterceptor(HedgingPolicy policy, @Nullable VaultEndpointProvider endpointProvider) {
+		Assert.notNull(policy, "HedgingPolicy must not be null");
+		this.policy = policy;
+		this.endpointProvider = endpointProvider;
+	}
+
+
+	@Override
+	public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+			throws IOException {
+
+		if (!this.policy.isHedgeable(request.getMethod(), request.getURI())) {
+			return execution.execute(request, body);
+		}
+
+		Duration delay = this.policy.onRequest();
+		long start = System.nanoTime();
+		CompletableFuture<ClientHttpResponse> primary;
+		try {
+			primary = execute(request, body, execution);
+		} catch (RejectedExecutionException e) {
+			return execution.execute(request, body);
+		}
+		primary.thenRun(() -> this.policy.recordResponseTime(System.nanoTime() - start));
+
+		try {
+			return primary.get(delay.toNanos(), TimeUnit.NANOSECONDS);
+		} catch (TimeoutException e) {
+			// hedge below
+		} catch (InterruptedException e) {
+			return interrupted(primary);
+		} catch (ExecutionException e) {
+			throw unwrap(e);
+		}
+
+		boolean hedge = this.policy.tryHedge();
+		CompletableFuture<ClientHttpResponse> result = new CompletableFuture<>();
+		BiConsumer<@Nullable ClientHttpResponse, @Nullable Throwable> onComplete = completeOnFirstResponse(result,
+				hedge ? 2 : 1);
+		primary.whenComplete(onComplete);
+
+		if (hedge) {
+
+			URI uri = HedgingPolicy.getAlternateUri(request.getURI(), this.endpointProvider);
+			HttpRequest hedgedRequest = new HttpRequestWrapper(request) {
+				@Override
+				public URI getURI() {
+					return uri;
+				}
+			};
+
+			try {
+				execute(hedgedRequest, body, execution).whenComplete(onComplete);
+			} catch (RejectedExecutionException e) {
+				onComplete.accept(null, e);
+			}
+		}
+
+		try {
+			return result.get();
+		} catch (InterruptedException e) {
+			return interrupted(result);
+		} catch (ExecutionException e) {
+			throw unwrap(e);
+		}
+	}
+
+	private CompletableFuture<ClientHttpResponse> execute(HttpRequest request, byte[] body,
+			ClientHttpRequestExecution execution) {
+
+		return CompletableFuture.supplyAsync(() -> {
+			try {
+				ClientHttpResponse response = execution.execute(request, body);
+				// Await the response status: executing a request with a body may return
+				// once the body is written.
+				response.getStatusCode();
+				return response;
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}, this.policy.getExecutor());
+	}
+
+	/**
+	 * Create a callback completing {@code result} with the first response.
+	 * {@code result} completes exceptionally with the first failure once all
+	 * {@code requests} have failed.
+	 */
+	private static BiConsumer<@Nullable ClientHttpResponse, @Nullable Throwable> completeOnFirstResponse(
+			CompletableFuture<ClientHttpResponse> result, int requests) {
+
+		AtomicInteger pending = new AtomicInteger(requests);
+		AtomicReference<@Nullable Throwable> failure = new AtomicReference<>();
+
+		return (response, e) -> {
+
+			if (response != null) {
+				complete(result, response);
+				return;
+			}
+
+			Throwable error = e != null ? e : new IOException("No response");
+			Throwable first = failure.compareAndExchange(null, error);
+			if (first != null) {
+				first.addSuppressed(error);
+			}
+			if (pending.decrementAndGet() == 0) {
+				result.completeExceptionally(first != null ? first : error);
+			}
+		};
+	}
+
+	private static void complete(CompletableFuture<ClientHttpResponse> result, ClientHttpResponse response) {
+		if (!result.complete(response)) {
+			response.close();
+		}
+	}
+
+	private static ClientHttpResponse interrupted(CompletableFuture<ClientHttpResponse> future)
+			throws InterruptedIOException {
+
+		future.thenAccept(ClientHttpResponse::close);
+		Thread.currentThread().interrupt();
+		throw new InterruptedIOException("Interrupted while awaiting response");
+	}
+
+	private static IOException unwrap(ExecutionException e) {
+
+		Throwable cause = e.getCause() != null ? e.getCause() : e;
+		if (cause instanceof CompletionException && cause.getCause() != null) {
+			cause = cause.getCause();
+		}
+		if (cause instanceof UncheckedIOException io) {
+			IOException ioException = io.getCause();
+			return ioException != null ? ioException : new IOException(io);
+		}
+		if (cause instanceof RuntimeException runtime) {
+			throw runtime;
+		}
+		if (cause instanceof Error error) {
+			throw error;
+		}
+		return new IOException(cause);
+	}
+
+}
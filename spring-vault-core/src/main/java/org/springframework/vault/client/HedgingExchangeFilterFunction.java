@@ -0,0 +1,100 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.vault.client;
+
+import java.time.Duration;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.jspecify.annotations.Nullable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import org.springframework.util.Assert;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+
+/**
+ * {@link ExchangeFilterFunction} sending a hedged request to an alternate
+ * endpoint if a hedgeable request does not complete within the hedging delay of
+ * {@link HedgingPolicy}. The first response wins and the other request is
+ * cancelled. The exchange fails only if all requests sent failed.
+ *
+ * @author Mark Paluch
+ * @since 4.2
+ * @see HedgingClientHttpRequestInterceptor
+ */
+class HedgingExchangeFilterFunction implements ExchangeFilterFunction {
+
+	private final HedgingPolicy policy;
+
+	private final @Nullable VaultEndpointProvider endpointProvider;
+
+
+	HedgingExchangeFilterFunction(HedgingPolicy policy, @Nullable VaultEndpointProvider endpointProvider) {
+		Assert.notNull(policy, "HedgingPolicy must not be null");
+		this.policy = policy;
+		this.endpointProvider = endpointProvider;
+	}
+
+
+	@Override
+	public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+
+		if (!this.policy.isHedgeable(request.method(), request.url())) {
+			return next.exchange(request);
+		}
+
+		return Mono.defer(() -> {
+
+			Duration delay = this.policy.onRequest();
+			long start = System.nanoTime();
+
+			AtomicReference<@Nullable Throwable> failure = new AtomicReference<>();
+			Sinks.One<Boolean> primaryFailed = Sinks.one();
+
+			// a cancelled request took at least until cancellation
+			Mono<ClientResponse> primary = next.exchange(request)
+				.doOnNext(response -> this.policy.recordResponseTime(System.nanoTime() - start))
+				.doOnCancel(() -> this.policy.recordResponseTime(System.nanoTime() - start))
+				.doOnError(e -> {
+					failure.set(e);
+					primaryFailed.tryEmitValue(true);
+				});
+
+			// do not hedge a request that failed before the hedging delay
+			Mono<ClientResponse> hedged = Mono.delay(delay)
+				.takeUntilOther(primaryFailed.asMono())
+				.filter(it -> this.policy.tryHedge())
+				.map(it -> ClientRequest.from(request)
+					.url(HedgingPolicy.getAlternateUri(request.url(), this.endpointProvider))
+					.build())
+				.flatMap(next::exchange)
+				.onErrorResume(e -> Mono.empty());
+
+			return Mono.firstWithValue(primary, hedged)
+				.onErrorMap(NoSuchElementException.class, e -> {
+					Throwable cause = failure.get();
+					return cause != null ? cause : e;
+				})
+				.doOnDiscard(ClientResponse.class, response -> response.releaseBody().subscribe());
+		});
+	}
+
+}
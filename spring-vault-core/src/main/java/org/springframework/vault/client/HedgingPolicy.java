@@ -0,0 +1,247 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.vault.client;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.Executor;
+import java.util.function.BiPredicate;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.util.Assert;
+import org.springframework.web.util.UriComponentsBuilder;
+
+/**
+ * Policy for hedged requests. A hedged request is a duplicate of a request that
+ * did not complete within the hedging delay. It is sent to an
+ * {@link VaultEndpointProvider#getAlternateEndpoint(URI) alternate
+ * endpoint}. The first response wins, the other request is cancelled (or its
+ * response is discarded). A request fails only if both the original and the
+ * hedged request failed.
+ * <p>The hedging delay is the {@link #setPercentile(double) 95th percentile}
+ * of recently observed response times unless a {@link #setDelay(Duration)
+ * fixed delay} is configured. The {@link #setBudget(double) hedge budget} caps
+ * the additional load to a fraction of hedgeable requests (10% by default).
+ * <p>Only {@code GET} requests are hedged by default. Use
+ * {@link #setHedgeable(BiPredicate)} to hedge other idempotent requests such as
+ * Transit decryption.
+ * <p>An instance can be shared across multiple clients to share response time
+ * statistics and the hedge budget. Configure the policy before using it.
+ *
+ * @author Mark Paluch
+ * @since 4.2
+ * @see VaultClient.Builder#hedging(HedgingPolicy)
+ * @see ReactiveVaultClient.Builder#hedging(HedgingPolicy)
+ */
+public class HedgingPolicy {
+
+	/**
+	 * Hedging delay to use until enough response times were observed.
+	 */
+	static final Duration INITIAL_DELAY = Duration.ofMillis(50);
+
+	private static final int WINDOW_SIZE = 128;
+
+	private static final int MIN_SAMPLES = 20;
+
+	private static final int RECALCULATE_INTERVAL = 16;
+
+	private static final double MAX_CREDITS = 10;
+
+	private static final int DEFAULT_EXECUTOR_THREADS = 32;
+
+	private final long[] samples = new long[WINDOW_SIZE];
+
+	private int sampleCount;
+
+	private long adaptiveDelay = INITIAL_DELAY.toNanos();
+
+	private double credits;
+
+	private @Nullable Duration delay;
+
+	private double percentile = 0.95;
+
+	private double budget = 0.1;
+
+	private BiPredicate<HttpMethod, URI> hedgeable = (method, uri) -> HttpMethod.GET.equals(method);
+
+	private @Nullable Executor executor;
+
+
+	/**
+	 * Set a fixed hedging delay. Disables the adaptive delay.
+	 * @param delay the delay after which to send a hedged request, must not be
+	 * {@literal null} or negative.
+	 */
+	public void setDelay(Duration delay) {
+		Assert.notNull(delay, "Delay must not be null");
+		Assert.isTrue(!delay.isNegative(), "Delay must not be negative");
+		this.delay = delay;
+	}
+
+	/**
+	 * Set the percentile of recently observed response times to use as adaptive
+	 * hedging delay. Defaults to {@code 0.95}.
+	 * @param percentile the percentile, must be greater than zero and less than
+	 * one.
+	 */
+	public void setPercentile(double percentile) {
+		Assert.isTrue(percentile > 0 && percentile < 1, "Percentile must be between 0 and 1 (exclusive)");
+		this.percentile = percentile;
+	}
+
+	/**
+	 * Set the maximum ratio of hedged requests to hedgeable requests. Defaults to
+	 * {@code 0.1}.
+	 * @param budget the hedge budget, must be between zero and one.
+	 */
+	public void setBudget(double budget) {
+		Assert.isTrue(budget >= 0 && budget <= 1, "Budget must be between 0 and 1");
+		this.budget = budget;
+	}
+
+	/**
+	 * Set the predicate determining which requests can be hedged. Requests must
+	 * be idempotent to be hedged. Defaults to {@code GET} requests.
+	 * @param hedgeable the predicate accepting the HTTP method and the request
+	 * URI, must not be {@literal null}.
+	 */
+	public void setHedgeable(BiPredicate<HttpMethod, URI> hedgeable) {
+		Assert.notNull(hedgeable, "Hedgeable predicate must not be null");
+		this.hedgeable = hedgeable;
+	}
+
+	/**
+	 * Set the {@link Executor} to run requests of {@link VaultClient} on while
+	 * the calling thread awaits the first response. Requests rejected by the
+	 * executor run on the calling thread without hedging. Thread-bound state of
+	 * the calling thread is not available to requests unless the executor
+	 * propagates it, for example through a
+	 * {@link org.springframework.core.task.TaskDecorator}. Defaults to a
+	 * {@link ThreadPoolTaskExecutor} using up to 32 daemon threads without
+	 * queueing. Not used by {@link ReactiveVaultClient}.
+	 * @param executor must not be {@literal null}.
+	 */
+	public void setExecutor(Executor executor) {
+		Assert.notNull(executor, "Executor must not be null");
+		this.executor = executor;
+	}
+
+	/**
+	 * Return the current hedging delay.
+	 * @return the fixed delay if configured, otherwise the adaptive delay.
+	 */
+	public Duration getDelay() {
+
+		Duration delay = this.delay;
+		if (delay != null) {
+			return delay;
+		}
+
+		synchronized (this.samples) {
+			return Duration.ofNanos(this.adaptiveDelay);
+		}
+	}
+
+	boolean isHedgeable(HttpMethod method, URI uri) {
+		return this.hedgeable.test(method, uri);
+	}
+
+	/**
+	 * Record a hedgeable request and return the hedging delay to apply.
+	 */
+	Duration onRequest() {
+
+		synchronized (this.samples) {
+			this.credits = Math.min(MAX_CREDITS, this.credits + this.budget);
+		}
+		return getDelay();
+	}
+
+	/**
+	 * Attempt to spend the hedge budget on a hedged request.
+	 * @return {@literal true} if the request can be hedged.
+	 */
+	boolean tryHedge() {
+
+		synchronized (this.samples) {
+			// tolerate rounding errors of accumulated fractional credits
+			if (this.credits < 1 - 1e-9) {
+				return false;
+			}
+			this.credits--;
+			return true;
+		}
+	}
+
+	void recordResponseTime(long nanos) {
+
+		synchronized (this.samples) {
+
+			this.samples[this.sampleCount % WINDOW_SIZE] = nanos;
+			this.sampleCount++;
+
+			if (this.sampleCount >= MIN_SAMPLES && this.sampleCount % RECALCULATE_INTERVAL == 0) {
+				long[] window = Arrays.copyOf(this.samples, Math.min(this.sampleCount, WINDOW_SIZE));
+				Arrays.sort(window);
+				int index = (int) Math.ceil(this.percentile * window.length) - 1;
+				this.adaptiveDelay = window[Math.min(window.length - 1, index)];
+			}
+		}
+	}
+
+	synchronized Executor getExecutor() {
+
+		Executor executor = this.executor;
+		if (executor == null) {
+			ThreadPoolTaskExecutor taskExecutor = new ThreadPoolTaskExecutor();
+			taskExecutor.setCorePoolSize(DEFAULT_EXECUTOR_THREADS);
+			taskExecutor.setMaxPoolSize(DEFAULT_EXECUTOR_THREADS);
+			taskExecutor.setQueueCapacity(0);
+			taskExecutor.setAllowCoreThreadTimeOut(true);
+			taskExecutor.setDaemon(true);
+			taskExecutor.setThreadNamePrefix("vault-hedging-");
+			taskExecutor.initialize();
+			this.executor = executor = taskExecutor;
+		}
+		return executor;
+	}
+
+	/**
+	 * Determine the URI of a hedged request for {@code uri}.
+	 */
+	static URI getAlternateUri(URI uri, @Nullable VaultEndpointProvider endpointProvider) {
+
+		if (endpointProvider == null) {
+			return uri;
+		}
+
+		VaultEndpoint endpoint = endpointProvider.getAlternateEndpoint(uri);
+		return UriComponentsBuilder.fromUri(uri)
+				.scheme(endpoint.getScheme())
+				.host(endpoint.getHost())
+				.port(endpoint.getPort())
+				.build(true)
+				.toUri();
+	}
+
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.vault.client;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.util.Assert;
+
+/**
+ * {@link ClientHttpRequestInterceptor} that records a
+ * {@link VaultClientObservationDocumentation#VAULT_CLIENT_REQUEST observation}
+ * for each request. The observation is stopped when the response is closed so
+ * that the observation covers reading the response body. Response headers
+ * arriving are signalled through
+ * {@link VaultClientObservationDocumentation.Events#RESPONSE_RECEIVED}.
+ *
+ * @author Mark Paluch
+ * @since 4.2
+ */
+class ObservationClientHttpRequestInterceptor implements ClientHttpRequestInterceptor {
+
+	private static final VaultClientObservationConvention DEFAULT_CONVENTION = new DefaultVaultClientObservationConvention();
+
+	private final ObservationRegistry observationRegistry;
+
+	private final @Nullable VaultClientObservationConvention observationConvention;
+
+
+	ObservationClientHttpRequestInterceptor(ObservationRegistry observationRegistry,
+			@Nullable VaultClientObservationConvention observationConvention) {
+		Assert.notNull(observationRegistry, "ObservationRegistry must not be null");
+		this.observationRegistry = observationRegistry;
+		this.observationConvention = observationConvention;
+	}
+
+
+	@Override
+	public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+			throws IOException {
+
+		VaultClientObservationContext context = new VaultClientObservationContext(request.getMethod(),
+				request.getURI(), request.getHeaders().getFirst(VaultHttpHeaders.VAULT_NAMESPACE));
+		context.setRequestSize(body.length);
+
+		Observation observation = VaultClientObservationDocumentation.VAULT_CLIENT_REQUEST
+				.observation(this.observationConvention, DEFAULT_CONVENTION, () -> context, this.observationRegistry)
+				.start();
+
+		try {
+			ClientHttpResponse response = observation.scopedChecked(() -> execution.execute(request, body));
+			context.setStatusCode(response.getStatusCode());
+			observation.event(VaultClientObservationDocumentation.Events.RESPONSE_RECEIVED);
+			return new ObservedClientHttpResponse(response, observation, context);
+		} catch (IOException | RuntimeException e) {
+			observation.error(e);
+			observation.stop();
+			throw e;
+		}
+	}
+
+
+	/**
+	 * {@link ClientHttpResponse} wrapper counting consumed response bytes and
+	 * stopping the observation on {@link #close()}.
+	 */
+	static class ObservedClientHttpResponse implements ClientHttpResponse {
+
+		private final ClientHttpResponse delegate;
+
+		private final Observation observation;
+
+		private final VaultClientObservationContext context;
+
+		private @Nullable CountingInputStream body;
+
+		private boolean closed;
+
+
+		ObservedClientHttpResponse(ClientHttpResponse delegate, Observation observation,
+				VaultClientObservationContext context) {
+			this.delegate = delegate;
+			this.observation = observation;
+			this.context = context;
+		}
+
+
+		@Override
+		public HttpStatusCode getStatusCode() throws IOException {
+			return this.delegate.getStatusCode();
+		}
+
+		@Override
+		public String getStatusText() throws IOException {
+			return this.delegate.getStatusText();
+		}
+
+		@Override
+		public HttpHeaders getHeaders() {
+			return this.delegate.getHeaders();
+		}
+
+		@Override
+		public InputStream getBody() throws IOException {
+			if (this.body == null) {
+				this.body = new CountingInputStream(this.delegate.getBody());
+			}
+			return this.body;
+		}
+
+		@Override
+		public void close() {
+
+			if (this.closed) {
+				return;
+			}
+
+			this.closed = true;
+			try {
+				this.delegate.close();
+			} finally {
+				this.context.setResponseSize(
+						this.body != null ? this.body.count : this.delegate.getHeaders().getContentLength());
+				this.observation.stop();
+			}
+		}
+
+	}
+
+
+	static class CountingInputStream extends FilterInputStream {
+
+		long count;
+
+
+		CountingInputStream(InputStream in) {
+			super(in);
+		}
+
+
+		@Override
+		public int read() throws IOException {
+			int result = super.read();
+			if (result != -1) {
+				this.count++;
+			}
+			return result;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			int result = super.read(b, off, len);
+			if (result > 0) {
+				this.count += result;
+			}
+			return result;
+		}
+
+		@Override
+		public long skip(long n) throws IOException {
+			long result = super.skip(n);
+			this.count += result;
+			return result;
+		}
+
+	}
+
+}
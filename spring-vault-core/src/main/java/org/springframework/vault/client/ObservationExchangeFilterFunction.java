@@ -0,0 +1,151 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.vault.client;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.jspecify.annotations.Nullable;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.client.reactive.ClientHttpRequest;
+import org.springframework.http.client.reactive.ClientHttpRequestDecorator;
+import org.springframework.util.Assert;
+import org.springframework.web.reactive.function.BodyInserter;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+
+/**
+ * {@link ExchangeFilterFunction} that records a
+ * {@link VaultClientObservationDocumentation#VAULT_CLIENT_REQUEST observation}
+ * for each request. Request and response sizes are determined by counting the
+ * bytes written respective read. The observation is stopped once the response
+ * body is consumed, consistent with {@link ObservationClientHttpRequestInterceptor}.
+ *
+ * @author Mark Paluch
+ * @since 4.2
+ */
+class ObservationExchangeFilterFunction implements ExchangeFilterFunction {
+
+	/**
+	 * Reactor Context key of the current observation, see
+	 * {@code ObservationThreadLocalAccessor.KEY}.
+	 */
+	private static final String OBSERVATION_KEY = "micrometer.observation";
+
+	private static final VaultClientObservationConvention DEFAULT_CONVENTION = new DefaultVaultClientObservationConvention();
+
+	private final ObservationRegistry observationRegistry;
+
+	private final @Nullable VaultClientObservationConvention observationConvention;
+
+
+	ObservationExchangeFilterFunction(ObservationRegistry observationRegistry,
+			@Nullable VaultClientObservationConvention observationConvention) {
+		Assert.notNull(observationRegistry, "ObservationRegistry must not be null");
+		this.observationRegistry = observationRegistry;
+		this.observationConvention = observationConvention;
+	}
+
+
+	@Override
+	public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+
+		return Mono.deferContextual(contextView -> {
+
+			VaultClientObservationContext context = new VaultClientObservationContext(request.method(),
+					request.url(), request.headers().getFirst(VaultHttpHeaders.VAULT_NAMESPACE));
+
+			Observation parent = contextView.getOrDefault(OBSERVATION_KEY, null);
+			Observation observation = VaultClientObservationDocumentation.VAULT_CLIENT_REQUEST
+					.observation(this.observationConvention, DEFAULT_CONVENTION, () -> context,
+							this.observationRegistry)
+					.parentObservation(parent)
+					.start();
+
+			AtomicLong requestSize = new AtomicLong();
+			AtomicLong responseSize = new AtomicLong();
+			AtomicBoolean responded = new AtomicBoolean();
+			AtomicBoolean stopped = new AtomicBoolean();
+			Runnable stop = () -> {
+				if (stopped.compareAndSet(false, true)) {
+					context.setRequestSize(requestSize.get());
+					context.setResponseSize(responseSize.get());
+					observation.stop();
+				}
+			};
+
+			ClientRequest requestToUse = ClientRequest.from(request)
+					.body(countingInserter(request.body(), requestSize))
+					.build();
+
+			return next.exchange(requestToUse) //
+					.map(response -> {
+
+						responded.set(true);
+						context.setStatusCode(response.statusCode());
+						observation.event(VaultClientObservationDocumentation.Events.RESPONSE_RECEIVED);
+
+						return response.mutate()
+								.body(body -> body
+										.doOnNext(buffer -> responseSize.addAndGet(buffer.readableByteCount()))
+										.doOnError(observation::error)
+										.doOnTerminate(stop)
+										.doOnCancel(stop))
+								.build();
+					})
+					.doOnError(e -> {
+						observation.error(e);
+						stop.run();
+					})
+					.doOnCancel(() -> {
+						if (!responded.get()) {
+							stop.run();
+						}
+					})
+					.contextWrite(it -> it.put(OBSERVATION_KEY, observation));
+		});
+	}
+
+	private static BodyInserter<?, ? super ClientHttpRequest> countingInserter(
+			BodyInserter<?, ? super ClientHttpRequest> inserter, AtomicLong count) {
+
+		return (outputMessage, context) -> inserter.insert(new ClientHttpRequestDecorator(outputMessage) {
+
+			@Override
+			public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+				return super.writeWith(Flux.from(body).doOnNext(buffer -> count.addAndGet(buffer.readableByteCount())));
+			}
+
+			@Override
+			public Mono<Void> writeAndFlushWith(Publisher<? extends Publisher<? extends DataBuffer>> body) {
+				return super.writeAndFlushWith(Flux.from(body)
+						.map(publisher -> Flux.from(publisher)
+								.doOnNext(buffer -> count.addAndGet(buffer.readableByteCount()))));
+			}
+
+		}, context);
+	}
+
+}
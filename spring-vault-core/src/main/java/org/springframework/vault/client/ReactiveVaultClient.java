@@ -24,6 +24,7 @@ import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
+import io.micrometer.observation.ObservationRegistry;
 import org.jspecify.annotations.Nullable;
 import org.reactivestreams.Publisher;
 import reactor.core.publisher.Flux;
@@ -264,6 +265,102 @@ public interface ReactiveVaultClient {
 		 */
 		Builder clientConnector(ClientHttpConnector connector);
 
+		/**
+		 * Configure the {@link ObservationRegistry} to record observations for HTTP
+		 * requests. Observations are tagged by HTTP method, normalized Vault path,
+		 * status code and namespace. Observations are not recorded by default.
+		 * @param observationRegistry the observation registry to use.
+		 * @return this builder.
+		 * @since 4.2
+		 * @see VaultClientObservationDocumentation
+		 */
+		Builder observationRegistry(ObservationRegistry observationRegistry);
+
+		/**
+		 * Configure a custom {@link VaultClientObservationConvention} to use for
+		 * observations. Defaults to {@link DefaultVaultClientObservationConvention}.
+		 * @param observationConvention the observation convention to use.
+		 * @return this builder.
+		 * @since 4.2
+		 * @see #observationRegistry(ObservationRegistry)
+		 */
+		Builder observationConvention(VaultClientObservationConvention observationConvention);
+
+		/**
+		 * Enable read-your-writes consistency using a new {@link VaultIndexState}.
+		 * Clients built from this builder (and its clones) share the same
+		 * {@link VaultIndexState}.
+		 * @return this builder.
+		 * @since 4.2
+		 * @see #readYourWrites(VaultIndexState)
+		 */
+		default Builder readYourWrites() {
+			return readYourWrites(new VaultIndexState());
+		}
+
+		/**
+		 * Enable read-your-writes consistency for Vault Enterprise performance
+		 * standby nodes. Replication states returned through the
+		 * {@code X-Vault-Index} header are recorded in the given
+		 * {@link VaultIndexState} and sent along with subsequent {@code GET}
+		 * requests. Requests rejected with {@code 412 Precondition Failed} are
+		 * retried with a short exponential backoff.
+		 * @param indexState the index state to use, must not be {@literal null}.
+		 * @return this builder.
+		 * @since 4.2
+		 * @see VaultHttpHeaders#VAULT_INDEX
+		 */
+		Builder readYourWrites(VaultIndexState indexState);
+
+		/**
+		 * Enable hedged requests using a new {@link HedgingPolicy} with default
+		 * settings.
+		 * @return this builder.
+		 * @since 4.2
+		 * @see #hedging(HedgingPolicy)
+		 */
+		default Builder hedging() {
+			return hedging(new HedgingPolicy());
+		}
+
+		/**
+		 * Enable hedged requests to reduce tail latency. If a hedgeable request
+		 * does not complete within the hedging delay, a duplicate request is sent
+		 * to an {@link VaultEndpointProvider#getAlternateEndpoint(java.net.URI)
+		 * alternate endpoint}. The first response wins and the other request is
+		 * cancelled. The hedge budget of {@link HedgingPolicy} caps the additional
+		 * load.
+		 * @param hedgingPolicy the hedging policy to use, must not be
+		 * {@literal null}.
+		 * @return this builder.
+		 * @since 4.2
+		 */
+		Builder hedging(HedgingPolicy hedgingPolicy);
+
+		/**
+		 * Enable adaptive concurrency limiting using a new
+		 * {@link AdaptiveConcurrencyLimiter} with default settings. Clients built
+		 * from this builder (and its clones) share the same limiter.
+		 * @return this builder.
+		 * @since 4.2
+		 * @see #concurrencyLimiter(AdaptiveConcurrencyLimiter)
+		 */
+		default Builder concurrencyLimiter() {
+			return concurrencyLimiter(new AdaptiveConcurrencyLimiter());
+		}
+
+		/**
+		 * Enable adaptive concurrency limiting. Concurrent requests are limited per
+		 * mount, the limit adapts to {@code 429 Too Many Requests} and
+		 * {@code 503 Service Unavailable} responses, and rejected requests are
+		 * retried honoring the {@code Retry-After} header. Requests exceeding the
+		 * limit wait in a bounded queue.
+		 * @param concurrencyLimiter the limiter to use, must not be {@literal null}.
+		 * @return this builder.
+		 * @since 4.2
+		 */
+		Builder concurrencyLimiter(AdaptiveConcurrencyLimiter concurrencyLimiter);
+
 		/**
 		 * Provide a consumer to access {@link WebClient.Builder} with the possibility
 		 * to override or augment its configuration.
@@ -676,6 +773,39 @@ public interface ReactiveVaultClient {
 		 */
 		<T> Flux<T> bodyToFlux(ParameterizedTypeReference<T> elementTypeRef);
 
+		/**
+		 * Decode the {@code data.keys} array of a list response using a streaming
+		 * parser and emit each key without materializing the response as
+		 * {@code Map}. For an error response (status code of 4xx or 5xx), the
+		 * {@code Flux} emits a {@link VaultClientResponseException}. Use
+		 * {@link #onStatus(Predicate, Function)} to customize error response handling.
+		 * <p>The response body is decoded incrementally as it arrives using a
+		 * non-blocking parser. Keys are emitted as soon as they have been read and
+		 * the body is not aggregated in memory, so the {@code maxInMemorySize} limit
+		 * of the configured codecs does not apply.
+		 * @return the keys.
+		 * @since 4.2
+		 */
+		Flux<String> keys();
+
+		/**
+		 * Decode the {@code data} object of the response directly into the given
+		 * type using a streaming parser, skipping all other response fields and
+		 * without an intermediate {@code Map} representation. For an error response
+		 * (status code of 4xx or 5xx), the {@code Mono} emits a
+		 * {@link VaultClientResponseException}. Use
+		 * {@link #onStatus(Predicate, Function)} to customize error response handling.
+		 * <p>The response body is decoded incrementally as it arrives using a
+		 * non-blocking parser. Only the {@code data} object is buffered until it has
+		 * been read completely; the body itself is not aggregated in memory.
+		 * @param dataType the type of the {@code data} object.
+		 * @param <T> the data type.
+		 * @return the decoded data. Completes empty if the response does not contain
+		 * a {@code data} object.
+		 * @since 4.2
+		 */
+		<T> Mono<T> data(Class<T> dataType);
+
 		/**
 		 * Return a {@code ResponseEntity} with the body decoded to an Object of the
 		 * given type. For an error response (status code of 4xx or 5xx), the
@@ -18,6 +18,7 @@ package org.springframework.vault.client;
 
 import java.net.URI;
 
+import io.micrometer.observation.ObservationRegistry;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Schedulers;
 
@@ -193,6 +194,87 @@ public class ReactiveVaultClients {
 		});
 	}
 
+	/**
+	 * Create a {@link ExchangeFilterFunction} that records an observation for each
+	 * request using {@link DefaultVaultClientObservationConvention}.
+	 * @param observationRegistry the observation registry to use, must not be
+	 * {@literal null}.
+	 * @return the {@link ExchangeFilterFunction} to register with
+	 * {@link WebClient}.
+	 * @since 4.2
+	 * @see VaultClientObservationDocumentation
+	 * @see ReactiveVaultClient.Builder#observationRegistry(ObservationRegistry)
+	 */
+	public static ExchangeFilterFunction observation(ObservationRegistry observationRegistry) {
+		return observation(observationRegistry, new DefaultVaultClientObservationConvention());
+	}
+
+	/**
+	 * Create a {@link ExchangeFilterFunction} that records an observation for each
+	 * request using the given {@link VaultClientObservationConvention}.
+	 * @param observationRegistry the observation registry to use, must not be
+	 * {@literal null}.
+	 * @param observationConvention the observation convention to use, must not be
+	 * {@literal null}.
+	 * @return the {@link ExchangeFilterFunction} to register with
+	 * {@link WebClient}.
+	 * @since 4.2
+	 */
+	public static ExchangeFilterFunction observation(ObservationRegistry observationRegistry,
+			VaultClientObservationConvention observationConvention) {
+		Assert.notNull(observationConvention, "VaultClientObservationConvention must not be null");
+		return new ObservationExchangeFilterFunction(observationRegistry, observationConvention);
+	}
+
+	/**
+	 * Create a {@link ExchangeFilterFunction} that provides read-your-writes
+	 * consistency by recording {@code X-Vault-Index} replication states in the
+	 * given {@link VaultIndexState}, sending them along with {@code GET} requests
+	 * and retrying requests rejected with {@code 412 Precondition Failed}.
+	 * @param indexState the index state to use, must not be {@literal null}.
+	 * @return the {@link ExchangeFilterFunction} to register with
+	 * {@link WebClient}.
+	 * @since 4.2
+	 * @see ReactiveVaultClient.Builder#readYourWrites(VaultIndexState)
+	 */
+	public static ExchangeFilterFunction readYourWrites(VaultIndexState indexState) {
+		return new ReadYourWritesExchangeFilterFunction(indexState);
+	}
+
+	/**
+	 * Create a {@link ExchangeFilterFunction} that sends hedged requests to an
+	 * {@link VaultEndpointProvider#getAlternateEndpoint(URI) alternate endpoint}
+	 * if a hedgeable request does not complete within the hedging delay of the
+	 * given {@link HedgingPolicy}.
+	 * @param hedgingPolicy the hedging policy to use, must not be
+	 * {@literal null}.
+	 * @param endpointProvider the endpoint provider to obtain alternate endpoints
+	 * from, must not be {@literal null}.
+	 * @return the {@link ExchangeFilterFunction} to register with
+	 * {@link WebClient}.
+	 * @since 4.2
+	 * @see ReactiveVaultClient.Builder#hedging(HedgingPolicy)
+	 */
+	public static ExchangeFilterFunction hedging(HedgingPolicy hedgingPolicy, VaultEndpointProvider endpointProvider) {
+		Assert.notNull(endpointProvider, "VaultEndpointProvider must not be null");
+		return new HedgingExchangeFilterFunction(hedgingPolicy, endpointProvider);
+	}
+
+	/**
+	 * Create a {@link ExchangeFilterFunction} that limits the concurrency of
+	 * requests per mount through the given {@link AdaptiveConcurrencyLimiter} and
+	 * retries requests rejected with {@code 429 Too Many Requests} or
+	 * {@code 503 Service Unavailable}.
+	 * @param concurrencyLimiter the limiter to use, must not be {@literal null}.
+	 * @return the {@link ExchangeFilterFunction} to register with
+	 * {@link WebClient}.
+	 * @since 4.2
+	 * @see ReactiveVaultClient.Builder#concurrencyLimiter(AdaptiveConcurrencyLimiter)
+	 */
+	public static ExchangeFilterFunction concurrencyLimiting(AdaptiveConcurrencyLimiter concurrencyLimiter) {
+		return new ConcurrencyLimitingExchangeFilterFunction(concurrencyLimiter);
+	}
+
 	/**
 	 * Wrap a {@link VaultEndpointProvider} into a
 	 * {@link ReactiveVaultEndpointProvider} to invoke
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.vault.client;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.util.Assert;
+
+/**
+ * {@link ClientHttpRequestInterceptor} providing read-your-writes consistency.
+ * Replication states received through the {@code X-Vault-Index} response
+ * header are recorded in {@link VaultIndexState}. Read requests carry the
+ * recorded states and are retried with exponential backoff if the server
+ * responds with {@code 412 Precondition Failed} because it has not yet caught
+ * up with the requested state.
+ *
+ * @author Mark Paluch
+ * @since 4.2
+ */
+class ReadYourWritesClientHttpRequestInterceptor implements ClientHttpRequestInterceptor {
+
+	static final int MAX_RETRIES = 5;
+
+	static final Duration INITIAL_BACKOFF = Duration.ofMillis(10);
+
+	private final VaultIndexState indexState;
+
+
+	ReadYourWritesClientHttpRequestInterceptor(VaultIndexState indexState) {
+		Assert.notNull(indexState, "VaultIndexState must not be null");
+		this.indexState = indexState;
+	}
+
+
+	@Override
+	public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+			throws IOException {
+
+		List<String> states = this.indexState.getStates();
+		if (!isRead(request.getMethod()) || states.isEmpty()
+				|| request.getHeaders().containsHeader(VaultHttpHeaders.VAULT_INDEX)) {
+			return record(execution.execute(request, body));
+		}
+
+		request.getHeaders().put(VaultHttpHeaders.VAULT_INDEX, states);
+
+		for (int attempt = 0;; attempt++) {
+
+			ClientHttpResponse response = record(execution.execute(request, body));
+			if (attempt >= MAX_RETRIES || !isPreconditionFailed(response)) {
+				return response;
+			}
+
+			response.close();
+			try {
+				Thread.sleep(backoff(attempt).toMillis());
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new InterruptedIOException("Interrupted while awaiting read-your-writes retry");
+			}
+		}
+	}
+
+	private ClientHttpResponse record(ClientHttpResponse response) {
+		record(this.indexState, response.getHeaders());
+		return response;
+	}
+
+	private static boolean isPreconditionFailed(ClientHttpResponse response) throws IOException {
+		return response.getStatusCode().value() == HttpStatus.PRECONDITION_FAILED.value();
+	}
+
+	static void record(VaultIndexState indexState, HttpHeaders headers) {
+
+		List<String> values = headers.get(VaultHttpHeaders.VAULT_INDEX);
+		if (values != null) {
+			values.forEach(indexState::update);
+		}
+	}
+
+	static boolean isRead(HttpMethod method) {
+		return HttpMethod.GET.equals(method);
+	}
+
+	static Duration backoff(int attempt) {
+		return INITIAL_BACKOFF.multipliedBy(1L << attempt);
+	}
+
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.vault.client;
+
+import java.util.List;
+
+import reactor.core.publisher.Mono;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.util.Assert;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+
+/**
+ * {@link ExchangeFilterFunction} providing read-your-writes consistency.
+ * Replication states received through the {@code X-Vault-Index} response
+ * header are recorded in {@link VaultIndexState}. Read requests carry the
+ * recorded states and are retried with exponential backoff if the server
+ * responds with {@code 412 Precondition Failed}.
+ *
+ * @author Mark Paluch
+ * @since 4.2
+ * @see ReadYourWritesClientHttpRequestInterceptor
+ */
+class ReadYourWritesExchangeFilterFunction implements ExchangeFilterFunction {
+
+	private final VaultIndexState indexState;
+
+
+	ReadYourWritesExchangeFilterFunction(VaultIndexState indexState) {
+		Assert.notNull(indexState, "VaultIndexState must not be null");
+		this.indexState = indexState;
+	}
+
+
+	@Override
+	public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+
+		return Mono.defer(() -> {
+
+			List<String> states = this.indexState.getStates();
+			if (!ReadYourWritesClientHttpRequestInterceptor.isRead(request.method()) || states.isEmpty()
+					|| request.headers().containsHeader(VaultHttpHeaders.VAULT_INDEX)) {
+				return next.exchange(request).doOnNext(this::record);
+			}
+
+			ClientRequest requestToUse = ClientRequest.from(request)
+					.headers(headers -> headers.put(VaultHttpHeaders.VAULT_INDEX, states))
+					.build();
+
+			return exchange(requestToUse, next, 0);
+		});
+	}
+
+	private Mono<ClientResponse> exchange(ClientRequest request, ExchangeFunction next, int attempt) {
+
+		return next.exchange(request).flatMap(response -> {
+
+			record(response);
+			if (attempt >= ReadYourWritesClientHttpRequestInterceptor.MAX_RETRIES
+					|| response.statusCode().value() != HttpStatus.PRECONDITION_FAILED.value()) {
+				return Mono.just(response);
+			}
+
+			return response.releaseBody()
+					.then(Mono.delay(ReadYourWritesClientHttpRequestInterceptor.backoff(attempt)))
+					.then(Mono.defer(() -> exchange(request, next, attempt + 1)));
+		});
+	}
+
+	private void record(ClientResponse response) {
+		ReadYourWritesClientHttpRequestInterceptor.record(this.indexState, response.headers().asHttpHeaders());
+	}
+
+}
@@ -17,12 +17,14 @@
 package org.springframework.vault.client;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.time.Duration;
 import java.util.Map;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 
+import io.micrometer.observation.ObservationRegistry;
 import org.jspecify.annotations.Nullable;
 
 import org.springframework.core.ParameterizedTypeReference;
@@ -278,6 +280,102 @@ public interface VaultClient {
 		 */
 		Builder requestFactory(ClientHttpRequestFactory requestFactory);
 
+		/**
+		 * Configure the {@link ObservationRegistry} to record observations for HTTP
+		 * requests. Observations are tagged by HTTP method, normalized Vault path,
+		 * status code and namespace. Observations are not recorded by default.
+		 * @param observationRegistry the observation registry to use.
+		 * @return this builder.
+		 * @since 4.2
+		 * @see VaultClientObservationDocumentation
+		 */
+		VaultClient.Builder observationRegistry(ObservationRegistry observationRegistry);
+
+		/**
+		 * Configure a custom {@link VaultClientObservationConvention} to use for
+		 * observations. Defaults to {@link DefaultVaultClientObservationConvention}.
+		 * @param observationConvention the observation convention to use.
+		 * @return this builder.
+		 * @since 4.2
+		 * @see #observationRegistry(ObservationRegistry)
+		 */
+		VaultClient.Builder observationConvention(VaultClientObservationConvention observationConvention);
+
+		/**
+		 * Enable read-your-writes consistency using a new {@link VaultIndexState}.
+		 * Clients built from this builder (and its clones) share the same
+		 * {@link VaultIndexState}.
+		 * @return this builder.
+		 * @since 4.2
+		 * @see #readYourWrites(VaultIndexState)
+		 */
+		default VaultClient.Builder readYourWrites() {
+			return readYourWrites(new VaultIndexState());
+		}
+
+		/**
+		 * Enable read-your-writes consistency for Vault Enterprise performance
+		 * standby nodes. Replication states returned through the
+		 * {@code X-Vault-Index} header are recorded in the given
+		 * {@link VaultIndexState} and sent along with subsequent {@code GET}
+		 * requests. Requests rejected with {@code 412 Precondition Failed} are
+		 * retried with a short exponential backoff.
+		 * @param indexState the index state to use, must not be {@literal null}.
+		 * @return this builder.
+		 * @since 4.2
+		 * @see VaultHttpHeaders#VAULT_INDEX
+		 */
+		VaultClient.Builder readYourWrites(VaultIndexState indexState);
+
+		/**
+		 * Enable hedged requests using a new {@link HedgingPolicy} with default
+		 * settings.
+		 * @return this builder.
+		 * @since 4.2
+		 * @see #hedging(HedgingPolicy)
+		 */
+		default VaultClient.Builder hedging() {
+			return hedging(new HedgingPolicy());
+		}
+
+		/**
+		 * Enable hedged requests to reduce tail latency. If a hedgeable request
+		 * does not complete within the hedging delay, a duplicate request is sent
+		 * to an {@link VaultEndpointProvider#getAlternateEndpoint(java.net.URI)
+		 * alternate endpoint}. The first response wins and the other request is
+		 * cancelled. The hedge budget of {@link HedgingPolicy} caps the additional
+		 * load.
+		 * @param hedgingPolicy the hedging policy to use, must not be
+		 * {@literal null}.
+		 * @return this builder.
+		 * @since 4.2
+		 */
+		VaultClient.Builder hedging(HedgingPolicy hedgingPolicy);
+
+		/**
+		 * Enable adaptive concurrency limiting using a new
+		 * {@link AdaptiveConcurrencyLimiter} with default settings. Clients built
+		 * from this builder (and its clones) share the same limiter.
+		 * @return this builder.
+		 * @since 4.2
+		 * @see #concurrencyLimiter(AdaptiveConcurrencyLimiter)
+		 */
+		default VaultClient.Builder concurrencyLimiter() {
+			return concurrencyLimiter(new AdaptiveConcurrencyLimiter());
+		}
+
+		/**
+		 * Enable adaptive concurrency limiting. Concurrent requests are limited per
+		 * mount, the limit adapts to {@code 429 Too Many Requests} and
+		 * {@code 503 Service Unavailable} responses, and rejected requests are
+		 * retried honoring the {@code Retry-After} header. Requests exceeding the
+		 * limit wait in a bounded queue.
+		 * @param concurrencyLimiter the limiter to use, must not be {@literal null}.
+		 * @return this builder.
+		 * @since 4.2
+		 */
+		VaultClient.Builder concurrencyLimiter(AdaptiveConcurrencyLimiter concurrencyLimiter);
+
 		/**
 		 * Provide a consumer to access {@link RestClient.Builder} with the possibility
 		 * to override or augment its configuration.
@@ -547,6 +645,65 @@ public interface VaultClient {
 		 */
 		<T> @Nullable T body(ParameterizedTypeReference<T> bodyType);
 
+		/**
+		 * Decode the {@code data.keys} array of a list response incrementally and
+		 * pass each key to {@code action} while the response body is being read.
+		 * Keys are decoded using a streaming parser without materializing the
+		 * entire response which keeps memory usage flat for large listings.
+		 * <p>Note that status handlers registered through
+		 * {@link #onStatus(Predicate, ErrorHandler)} are not considered.
+		 * @param action callback receiving each key, must not be {@literal null}.
+		 * @throws VaultClientResponseException when receiving a response with a status
+		 * code of 4xx or 5xx.
+		 * @since 4.2
+		 */
+		void forEachKey(Consumer<? super String> action);
+
+		/**
+		 * Decode the {@code data} object of the response directly into the given
+		 * type using a streaming parser, skipping all other response fields and
+		 * without an intermediate {@code Map} representation.
+		 * <p>Note that status handlers registered through
+		 * {@link #onStatus(Predicate, ErrorHandler)} are not considered.
+		 * @param dataType the type of the {@code data} object.
+		 * @param <T> the data type.
+		 * @return the data, or {@code null} if no response body or {@code data}
+		 * object was available.
+		 * @throws VaultClientResponseException when receiving a response with a status
+		 * code of 4xx or 5xx.
+		 * @since 4.2
+		 */
+		<T> @Nullable T data(Class<T> dataType);
+
+		/**
+		 * Return the response body as {@link InputStream} without buffering it in
+		 * memory. The caller is responsible for closing the stream to release the
+		 * underlying connection.
+		 * <p>Note that status handlers registered through
+		 * {@link #onStatus(Predicate, ErrorHandler)} are not considered.
+		 * @return the response body, or {@code null} if the response has no body.
+		 * @throws VaultClientResponseException when receiving a response with a status
+		 * code of 4xx or 5xx.
+		 * @since 4.2
+		 */
+		@Nullable InputStream bodyStream();
+
+		/**
+		 * Consume the response status, headers, and body through the given
+		 * {@link ResponseFunction} without buffering the response body in memory.
+		 * The response is closed after {@code function} returns.
+		 * <p>Note that status handlers registered through
+		 * {@link #onStatus(Predicate, ErrorHandler)} are not considered.
+		 * @param function the function consuming the response, must not be
+		 * {@literal null}.
+		 * @param <T> the result type.
+		 * @return the result of {@code function}.
+		 * @throws VaultClientResponseException when receiving a response with a status
+		 * code of 4xx or 5xx.
+		 * @since 4.2
+		 */
+		<T> @Nullable T exchange(ResponseFunction<T> function);
+
 		/**
 		 * Return a {@code ResponseEntity} with the body decoded to VaultResponse.
 		 * @return the {@code ResponseEntity} with the decoded body.
@@ -587,6 +744,30 @@ public interface VaultClient {
 		 */
 		ResponseEntity<Void> toBodilessEntity();
 
+
+		/**
+		 * Function to consume a streamed response.
+		 *
+		 * @param <T> the result type.
+		 * @since 4.2
+		 */
+		@FunctionalInterface
+		interface ResponseFunction<T> {
+
+			/**
+			 * Consume the response.
+			 * @param statusCode the response status code.
+			 * @param headers the response headers.
+			 * @param body the response body. The stream is empty if the response
+			 * has no body.
+			 * @return the result, can be {@literal null}.
+			 * @throws IOException in case of I/O errors.
+			 */
+			@Nullable
+			T apply(HttpStatusCode statusCode, HttpHeaders headers, InputStream body) throws IOException;
+
+		}
+
 	}
 
 
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.vault.client;
+
+import java.time.Duration;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+
+import org.springframework.util.Assert;
+
+/**
+ * {@link ObservationHandler} recording Vault client specific meters in
+ * addition to the request timer and the active requests long task timer that
+ * are recorded by Micrometer's {@code DefaultMeterObservationHandler}:
+ * <ul>
+ * <li>{@code <name>.request.size}: distribution summary of the request body
+ * size in bytes.</li>
+ * <li>{@code <name>.response.size}: distribution summary of the response body
+ * size in bytes.</li>
+ * <li>{@code <name>.response.latency}: timer measuring the time until the
+ * response headers were received, excluding the time spent reading and
+ * decoding the response body.</li>
+ * </ul>
+ * Meters are tagged with the low cardinality key values of the observation.
+ * Requires Micrometer Core.
+ *
+ * @author Mark Paluch
+ * @since 4.2
+ */
+public class VaultClientMeterObservationHandler implements ObservationHandler<VaultClientObservationContext> {
+
+	private final MeterRegistry meterRegistry;
+
+
+	/**
+	 * Create a new {@code VaultClientMeterObservationHandler}.
+	 * @param meterRegistry must not be {@literal null}.
+	 */
+	public VaultClientMeterObservationHandler(MeterRegistry meterRegistry) {
+		Assert.notNull(meterRegistry, "MeterRegistry must not be null");
+		this.meterRegistry = meterRegistry;
+	}
+
+
+	@Override
+	public boolean supportsContext(Observation.Context context) {
+		return context instanceof VaultClientObservationContext;
+	}
+
+	@Override
+	public void onStop(VaultClientObservationContext context) {
+
+		String name = context.getName();
+		if (name == null) {
+			return;
+		}
+
+		Tags tags = Tags.empty();
+		for (KeyValue keyValue : context.getLowCardinalityKeyValues()) {
+			tags = tags.and(Tag.of(keyValue.getKey(), keyValue.getValue()));
+		}
+
+		if (context.getRequestSize() >= 0) {
+			DistributionSummary.builder(name + ".request.size")
+					.baseUnit("bytes")
+					.tags(tags)
+					.register(this.meterRegistry)
+					.record(context.getRequestSize());
+		}
+
+		if (context.getResponseSize() >= 0) {
+			DistributionSummary.builder(name + ".response.size")
+					.baseUnit("bytes")
+					.tags(tags)
+					.register(this.meterRegistry)
+					.record(context.getResponseSize());
+		}
+
+		Duration responseLatency = context.getResponseLatency();
+		if (responseLatency != null) {
+			Timer.builder(name + ".response.latency").tags(tags).register(this.meterRegistry).record(responseLatency);
+		}
+	}
+
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.vault.client;
+
+import java.net.URI;
+import java.time.Duration;
+
+import io.micrometer.observation.Observation;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.util.Assert;
+
+/**
+ * Context that holds information for metadata collection regarding
+ * {@link VaultClient} and {@link ReactiveVaultClient} HTTP requests.
+ * <p>The context captures request and response sizes as far as these are known
+ * along with the time it took to receive the response headers. The latter
+ * allows distinguishing Vault latency from the time spent reading and decoding
+ * the response body.
+ *
+ * @author Mark Paluch
+ * @since 4.2
+ * @see VaultClientObservationConvention
+ */
+public class VaultClientObservationContext extends Observation.Context {
+
+	private final HttpMethod method;
+
+	private final URI uri;
+
+	private final @Nullable String namespace;
+
+	private final long startNanos = System.nanoTime();
+
+	private @Nullable HttpStatusCode statusCode;
+
+	private @Nullable Duration responseLatency;
+
+	private long requestSize = -1;
+
+	private long responseSize = -1;
+
+
+	/**
+	 * Create a new {@code VaultClientObservationContext}.
+	 * @param method the HTTP method.
+	 * @param uri the request URI.
+	 * @param namespace the Vault namespace, can be {@literal null}.
+	 */
+	public VaultClientObservationContext(HttpMethod method, URI uri, @Nullable String namespace) {
+		Assert.notNull(method, "HttpMethod must not be null");
+		Assert.notNull(uri, "URI must not be null");
+		this.method = method;
+		this.uri = uri;
+		this.namespace = namespace;
+	}
+
+
+	/**
+	 * @return the HTTP method.
+	 */
+	public HttpMethod getMethod() {
+		return this.method;
+	}
+
+	/**
+	 * @return the request URI.
+	 */
+	public URI getUri() {
+		return this.uri;
+	}
+
+	/**
+	 * @return the Vault namespace (value of the {@code X-Vault-Namespace} header)
+	 * or {@literal null} if the request was not associated with a namespace.
+	 */
+	public @Nullable String getNamespace() {
+		return this.namespace;
+	}
+
+	/**
+	 * @return the response status code or {@literal null} if no response was
+	 * received.
+	 */
+	public @Nullable HttpStatusCode getStatusCode() {
+		return this.statusCode;
+	}
+
+	/**
+	 * Record the response status code. Also captures the response latency.
+	 * @param statusCode the response status code.
+	 */
+	public void setStatusCode(HttpStatusCode statusCode) {
+		this.statusCode = statusCode;
+		this.responseLatency = Duration.ofNanos(System.nanoTime() - this.startNanos);
+	}
+
+	/**
+	 * @return the duration from starting the request until receiving the response
+	 * headers or {@literal null} if no response was received.
+	 */
+	public @Nullable Duration getResponseLatency() {
+		return this.responseLatency;
+	}
+
+	/**
+	 * @return the request body size in bytes or {@literal -1} if unknown.
+	 */
+	public long getRequestSize() {
+		return this.requestSize;
+	}
+
+	public void setRequestSize(long requestSize) {
+		this.requestSize = requestSize;
+	}
+
+	/**
+	 * @return the response body size in bytes or {@literal -1} if unknown.
+	 */
+	public long getResponseSize() {
+		return this.responseSize;
+	}
+
+	public void setResponseSize(long responseSize) {
+		this.responseSize = responseSize;
+	}
+
+}
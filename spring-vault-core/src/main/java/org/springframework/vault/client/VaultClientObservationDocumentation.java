@@ -0,0 +1,170 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.vault.client;
+
+import io.micrometer.common.docs.KeyName;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationConvention;
+import io.micrometer.observation.docs.ObservationDocumentation;
+
+/**
+ * Documented {@link io.micrometer.common.KeyValue KeyValues} for Vault client
+ * HTTP observations.
+ *
+ * @author Mark Paluch
+ * @since 4.2
+ */
+public enum VaultClientObservationDocumentation implements ObservationDocumentation {
+
+	/**
+	 * Observation created for each HTTP request issued through the Vault client.
+	 */
+	VAULT_CLIENT_REQUEST {
+
+		@Override
+		public Class<? extends ObservationConvention<? extends Observation.Context>> getDefaultConvention() {
+			return DefaultVaultClientObservationConvention.class;
+		}
+
+		@Override
+		public KeyName[] getLowCardinalityKeyNames() {
+			return LowCardinalityKeyNames.values();
+		}
+
+		@Override
+		public KeyName[] getHighCardinalityKeyNames() {
+			return HighCardinalityKeyNames.values();
+		}
+
+		@Override
+		public Observation.Event[] getEvents() {
+			return Events.values();
+		}
+
+	};
+
+
+	public enum LowCardinalityKeyNames implements KeyName {
+
+		/**
+		 * Name of the HTTP request method.
+		 */
+		METHOD {
+			@Override
+			public String asString() {
+				return "method";
+			}
+		},
+
+		/**
+		 * Normalized Vault path consisting of the mount and the operation. Secret
+		 * names are replaced with a {@code {path}} placeholder.
+		 */
+		PATH {
+			@Override
+			public String asString() {
+				return "vault.path";
+			}
+		},
+
+		/**
+		 * HTTP response status code, or {@code "CLIENT_ERROR"} if no response was
+		 * received.
+		 */
+		STATUS {
+			@Override
+			public String asString() {
+				return "status";
+			}
+		},
+
+		/**
+		 * Vault namespace, or {@code "none"} if the request was not associated with a
+		 * namespace.
+		 */
+		NAMESPACE {
+			@Override
+			public String asString() {
+				return "vault.namespace";
+			}
+		},
+
+		/**
+		 * Outcome of the HTTP request based on the status series.
+		 */
+		OUTCOME {
+			@Override
+			public String asString() {
+				return "outcome";
+			}
+		},
+
+		/**
+		 * Name of the exception thrown during the exchange, or {@code "none"} if no
+		 * exception happened.
+		 */
+		EXCEPTION {
+			@Override
+			public String asString() {
+				return "exception";
+			}
+		}
+
+	}
+
+
+	public enum HighCardinalityKeyNames implements KeyName {
+
+		/**
+		 * Request body size in bytes.
+		 */
+		REQUEST_SIZE {
+			@Override
+			public String asString() {
+				return "vault.request.size";
+			}
+		},
+
+		/**
+		 * Response body size in bytes.
+		 */
+		RESPONSE_SIZE {
+			@Override
+			public String asString() {
+				return "vault.response.size";
+			}
+		}
+
+	}
+
+
+	public enum Events implements Observation.Event {
+
+		/**
+		 * Emitted once the response headers were received, before the response body
+		 * is consumed.
+		 */
+		RESPONSE_RECEIVED {
+			@Override
+			public String getName() {
+				return "vault.response.received";
+			}
+		}
+
+	}
+
+}
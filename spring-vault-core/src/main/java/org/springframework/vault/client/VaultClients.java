@@ -21,6 +21,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Consumer;
 
+import io.micrometer.observation.ObservationRegistry;
 import org.jspecify.annotations.Nullable;
 
 import org.springframework.http.HttpHeaders;
@@ -203,6 +204,93 @@ public class VaultClients {
 		};
 	}
 
+	/**
+	 * Create a {@link ClientHttpRequestInterceptor} that records an observation
+	 * for each request using {@link DefaultVaultClientObservationConvention}.
+	 * Register the interceptor with a {@link RestTemplate} (for example, created
+	 * through {@link #createRestTemplate(VaultEndpointProvider, ClientHttpRequestFactory)})
+	 * to instrument Vault requests. The interceptor should be registered last so
+	 * that the observation reflects the actual HTTP exchange.
+	 * @param observationRegistry the observation registry to use, must not be
+	 * {@literal null}.
+	 * @return the {@link ClientHttpRequestInterceptor} to register with
+	 * {@link RestTemplate}.
+	 * @since 4.2
+	 * @see VaultClientObservationDocumentation
+	 * @see VaultClient.Builder#observationRegistry(ObservationRegistry)
+	 */
+	public static ClientHttpRequestInterceptor createObservationInterceptor(ObservationRegistry observationRegistry) {
+		return createObservationInterceptor(observationRegistry, new DefaultVaultClientObservationConvention());
+	}
+
+	/**
+	 * Create a {@link ClientHttpRequestInterceptor} that records an observation
+	 * for each request using the given {@link VaultClientObservationConvention}.
+	 * @param observationRegistry the observation registry to use, must not be
+	 * {@literal null}.
+	 * @param observationConvention the observation convention to use, must not be
+	 * {@literal null}.
+	 * @return the {@link ClientHttpRequestInterceptor} to register with
+	 * {@link RestTemplate}.
+	 * @since 4.2
+	 */
+	public static ClientHttpRequestInterceptor createObservationInterceptor(ObservationRegistry observationRegistry,
+			VaultClientObservationConvention observationConvention) {
+		Assert.notNull(observationConvention, "VaultClientObservationConvention must not be null");
+		return new ObservationClientHttpRequestInterceptor(observationRegistry, observationConvention);
+	}
+
+	/**
+	 * Create a {@link ClientHttpRequestInterceptor} that provides read-your-writes
+	 * consistency by recording {@code X-Vault-Index} replication states in the
+	 * given {@link VaultIndexState}, sending them along with {@code GET} requests
+	 * and retrying requests rejected with {@code 412 Precondition Failed}.
+	 * @param indexState the index state to use, must not be {@literal null}.
+	 * @return the {@link ClientHttpRequestInterceptor} to register with
+	 * {@link RestTemplate}.
+	 * @since 4.2
+	 * @see VaultClient.Builder#readYourWrites(VaultIndexState)
+	 */
+	public static ClientHttpRequestInterceptor createReadYourWritesInterceptor(VaultIndexState indexState) {
+		return new ReadYourWritesClientHttpRequestInterceptor(indexState);
+	}
+
+	/**
+	 * Create a {@link ClientHttpRequestInterceptor} that sends hedged requests to
+	 * an {@link VaultEndpointProvider#getAlternateEndpoint(URI) alternate
+	 * endpoint} if a hedgeable request does not complete within the hedging delay
+	 * of the given {@link HedgingPolicy}.
+	 * @param hedgingPolicy the hedging policy to use, must not be
+	 * {@literal null}.
+	 * @param endpointProvider the endpoint provider to obtain alternate endpoints
+	 * from, must not be {@literal null}.
+	 * @return the {@link ClientHttpRequestInterceptor} to register with
+	 * {@link RestTemplate}.
+	 * @since 4.2
+	 * @see VaultClient.Builder#hedging(HedgingPolicy)
+	 */
+	public static ClientHttpRequestInterceptor createHedgingInterceptor(HedgingPolicy hedgingPolicy,
+			VaultEndpointProvider endpointProvider) {
+		Assert.notNull(endpointProvider, "VaultEndpointProvider must not be null");
+		return new HedgingClientHttpRequestInterceptor(hedgingPolicy, endpointProvider);
+	}
+
+	/**
+	 * Create a {@link ClientHttpRequestInterceptor} that limits the concurrency
+	 * of requests per mount through the given {@link AdaptiveConcurrencyLimiter}
+	 * and retries requests rejected with {@code 429 Too Many Requests} or
+	 * {@code 503 Service Unavailable}.
+	 * @param concurrencyLimiter the limiter to use, must not be {@literal null}.
+	 * @return the {@link ClientHttpRequestInterceptor} to register with
+	 * {@link RestTemplate}.
+	 * @since 4.2
+	 * @see VaultClient.Builder#concurrencyLimiter(AdaptiveConcurrencyLimiter)
+	 */
+	public static ClientHttpRequestInterceptor createConcurrencyLimitingInterceptor(
+			AdaptiveConcurrencyLimiter concurrencyLimiter) {
+		return new ConcurrencyLimitingClientHttpRequestInterceptor(concurrencyLimiter);
+	}
+
 	public static UriBuilderFactory createUriBuilderFactory(VaultEndpointProvider endpointProvider) {
 		return new PrefixAwareUriBuilderFactory(endpointProvider, true);
 	}
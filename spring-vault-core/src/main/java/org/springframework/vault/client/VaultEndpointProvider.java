@@ -16,6 +16,8 @@
 
 package org.springframework.vault.client;
 
+import java.net.URI;
+
 /**
  * Component that provides a {@link VaultEndpoint}. Allows to use a different
  * {@link VaultEndpoint} for each Vault request for service registry or load
@@ -33,4 +35,19 @@ public interface VaultEndpointProvider {
 	 */
 	VaultEndpoint getVaultEndpoint();
 
+	/**
+	 * Provides access to an alternate {@link VaultEndpoint} to send a hedged
+	 * (duplicate) request to if the request to {@code uri} is slow to respond.
+	 * Implementations distributing requests across multiple nodes should return
+	 * a node that is different from the one {@code uri} points to.
+	 * @param uri the URI of the original request.
+	 * @return the alternate {@link VaultEndpoint}. Defaults to
+	 * {@link #getVaultEndpoint()}.
+	 * @since 4.2
+	 * @see HedgingPolicy
+	 */
+	default VaultEndpoint getAlternateEndpoint(URI uri) {
+		return getVaultEndpoint();
+	}
+
 }
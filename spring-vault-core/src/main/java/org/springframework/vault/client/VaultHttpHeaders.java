@@ -53,6 +53,14 @@ public abstract class VaultHttpHeaders {
 	 */
 	public static final String VAULT_WRAP_TTL = "X-Vault-Wrap-TTL";
 
+	/**
+	 * The HTTP {@code X-Vault-Index} header carrying the replication state of a
+	 * write operation on Vault Enterprise.
+	 * @since 4.2
+	 * @see VaultIndexState
+	 */
+	public static final String VAULT_INDEX = "X-Vault-Index";
+
 
 	private VaultHttpHeaders() {
 	}
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.vault.client;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * Thread-safe holder for Vault Enterprise replication states received through
+ * the {@link VaultHttpHeaders#VAULT_INDEX X-Vault-Index} header. Replication
+ * states are merged per cluster so that only the most recent state of each
+ * cluster is retained.
+ * <p>Sending the retained states with subsequent read requests allows
+ * performance standby nodes to serve reads that observe previous writes
+ * (read-your-writes consistency). A node that has not yet caught up responds
+ * with {@code 412 Precondition Failed}.
+ * <p>An instance represents a consistency session and can be shared across
+ * multiple clients.
+ *
+ * @author Mark Paluch
+ * @since 4.2
+ * @see VaultClient.Builder#readYourWrites(VaultIndexState)
+ * @see ReactiveVaultClient.Builder#readYourWrites(VaultIndexState)
+ */
+public final class VaultIndexState {
+
+	private final Map<String, ReplicationState> states = new LinkedHashMap<>();
+
+
+	/**
+	 * Record a replication state received through the {@code X-Vault-Index}
+	 * header. The state replaces a previously recorded state of the same cluster
+	 * if it is more recent.
+	 * @param state the raw header value, must not be {@literal null}.
+	 */
+	public void update(String state) {
+
+		Assert.notNull(state, "State must not be null");
+
+		if (!StringUtils.hasText(state)) {
+			return;
+		}
+
+		ReplicationState replicationState = ReplicationState.parse(state);
+		synchronized (this.states) {
+			this.states.merge(replicationState.clusterId(), replicationState,
+					(previous, current) -> previous.isAtLeast(current) ? previous : current);
+		}
+	}
+
+	/**
+	 * @return the raw replication states to send with the {@code X-Vault-Index}
+	 * header. Can be empty if no state was recorded yet.
+	 */
+	public List<String> getStates() {
+
+		synchronized (this.states) {
+
+			List<String> result = new ArrayList<>(this.states.size());
+			for (ReplicationState state : this.states.values()) {
+				result.add(state.value());
+			}
+			return result;
+		}
+	}
+
+	/**
+	 * @return {@literal true} if no replication state was recorded yet.
+	 */
+	public boolean isEmpty() {
+		synchronized (this.states) {
+			return this.states.isEmpty();
+		}
+	}
+
+	/**
+	 * Discard all recorded replication states.
+	 */
+	public void clear() {
+		synchronized (this.states) {
+			this.states.clear();
+		}
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + " " + getStates();
+	}
+
+
+	/**
+	 * Replication state consisting of the cluster identifier and local respective
+	 * replicated WAL index. The raw value is a Base64-encoded
+	 * {@code v1:<cluster-id>:<local-index>:<replicated-index>:<hmac>} string.
+	 * States that cannot be parsed are retained as-is, replacing other
+	 * unparseable states.
+	 */
+	record ReplicationState(String value, String clusterId, long localIndex, long replicatedIndex) {
+
+		static ReplicationState parse(String value) {
+
+			String[] pieces = decode(value);
+			if (pieces == null || pieces.length < 4 || !"v1".equals(pieces[0])) {
+				return new ReplicationState(value, "", -1, -1);
+			}
+
+			try {
+				return new ReplicationState(value, pieces[1], Long.parseLong(pieces[2]), Long.parseLong(pieces[3]));
+			} catch (NumberFormatException e) {
+				return new ReplicationState(value, "", -1, -1);
+			}
+		}
+
+		private static String @Nullable [] decode(String value) {
+			try {
+				return new String(Base64.getDecoder().decode(value), StandardCharsets.UTF_8).split(":");
+			} catch (IllegalArgumentException e) {
+				return null;
+			}
+		}
+
+		boolean isAtLeast(ReplicationState other) {
+			return this.localIndex >= other.localIndex && this.replicatedIndex >= other.replicatedIndex
+					&& this.localIndex != -1;
+		}
+
+	}
+
+}
@@ -21,6 +21,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Map;
 
@@ -32,6 +33,7 @@ import org.springframework.http.HttpInputMessage;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.converter.AbstractHttpMessageConverter;
 import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
 import org.springframework.util.StringUtils;
 import org.springframework.vault.VaultException;
 import org.springframework.vault.support.JacksonCompat;
@@ -48,6 +50,8 @@ public abstract class VaultResponses {
 	private static final AbstractHttpMessageConverter<Object> converter = JacksonCompat.instance()
 			.createHttpMessageConverter();
 
+	private static final Map<Class<?>, ParameterizedTypeReference<?>> typeReferences = new ConcurrentReferenceHashMap<>();
+
 
 	/**
 	 * Build a {@link VaultException} given {@link HttpStatusCodeException}.
@@ -101,42 +105,22 @@ public abstract class VaultResponses {
 
 
 	/**
-	 * Create a {@link ParameterizedTypeReference} for {@code responseType}.
+	 * Return the {@link ParameterizedTypeReference} for
+	 * {@code VaultResponseSupport<responseType>}. Type references are cached per
+	 * response type and implement {@code equals}/{@code hashCode} consistently
+	 * with JDK {@link ParameterizedType parameterized types} so that type caches
+	 * of message converters recognize repeated response types.
 	 * @param responseType must not be {@literal null}.
 	 * @return the {@link ParameterizedTypeReference} for {@code responseType}.
 	 */
+	@SuppressWarnings("unchecked")
 	public static <T> ParameterizedTypeReference<VaultResponseSupport<T>> getTypeReference(
 			final Class<T> responseType) {
 
 		Assert.notNull(responseType, "Response type must not be null");
 
-		final Type supportType = new ParameterizedType() {
-
-			@Override
-			public Type[] getActualTypeArguments() {
-				return new Type[] {responseType};
-			}
-
-			@Override
-			public Type getRawType() {
-				return VaultResponseSupport.class;
-			}
-
-			@Override
-			public Type getOwnerType() {
-				return VaultResponseSupport.class;
-			}
-
-		};
-
-		return new ParameterizedTypeReference<>() {
-
-			@Override
-			public Type getType() {
-				return supportType;
-			}
-
-		};
+		return (ParameterizedTypeReference<VaultResponseSupport<T>>) typeReferences.computeIfAbsent(responseType,
+				it -> ParameterizedTypeReference.forType(new VaultResponseSupportType(it)));
 	}
 
 	/**
@@ -201,4 +185,58 @@ public abstract class VaultResponses {
 		return s.value();
 	}
 
+
+	/**
+	 * {@link ParameterizedType} for {@code VaultResponseSupport<T>} following the
+	 * {@code equals}/{@code hashCode} contract of the JDK implementation.
+	 */
+	private static final class VaultResponseSupportType implements ParameterizedType {
+
+		private final Type[] typeArguments;
+
+
+		VaultResponseSupportType(Type typeArgument) {
+			this.typeArguments = new Type[] { typeArgument };
+		}
+
+
+		@Override
+		public Type[] getActualTypeArguments() {
+			return this.typeArguments.clone();
+		}
+
+		@Override
+		public Type getRawType() {
+			return VaultResponseSupport.class;
+		}
+
+		@Override
+		public @Nullable Type getOwnerType() {
+			return null;
+		}
+
+		@Override
+		public String getTypeName() {
+			return VaultResponseSupport.class.getName() + "<" + this.typeArguments[0].getTypeName() + ">";
+		}
+
+		@Override
+		public boolean equals(@Nullable Object other) {
+			return this == other || (other instanceof ParameterizedType that && that.getOwnerType() == null
+					&& VaultResponseSupport.class.equals(that.getRawType())
+					&& Arrays.equals(this.typeArguments, that.getActualTypeArguments()));
+		}
+
+		@Override
+		public int hashCode() {
+			return Arrays.hashCode(this.typeArguments) ^ VaultResponseSupport.class.hashCode();
+		}
+
+		@Override
+		public String toString() {
+			return getTypeName();
+		}
+
+	}
+
 }
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.vault.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+
+import org.jspecify.annotations.Nullable;
+import reactor.core.publisher.Flux;
+
+/**
+ * Utility methods to split batch requests into chunks and to dispatch chunks
+ * with bounded parallelism. Results are reassembled in the order of the batch
+ * request.
+ *
+ * @author Mark Paluch
+ * @since 4.2
+ */
+class BatchUtil {
+
+	static <T> List<List<T>> partition(List<T> items, int maxBatchSize) {
+
+		List<List<T>> chunks = new ArrayList<>((items.size() + maxBatchSize - 1) / maxBatchSize);
+		for (int i = 0; i < items.size(); i += maxBatchSize) {
+			chunks.add(items.subList(i, Math.min(items.size(), i + maxBatchSize)));
+		}
+		return chunks;
+	}
+
+	/**
+	 * Execute {@code function} for chunks of {@code items}. Chunks are dispatched
+	 * on {@code executor} if an executor is provided, otherwise sequentially on
+	 * the calling thread. Chunks that cannot be dispatched because the executor
+	 * rejects further tasks are executed on the calling thread. Fails with the
+	 * first exception thrown by {@code function} and stops dispatching further
+	 * chunks.
+	 */
+	static <T, R> List<R> execute(List<T> items, int maxBatchSize, int parallelism, @Nullable Executor executor,
+			Function<List<T>, List<R>> function) {
+
+		if (items.size() <= maxBatchSize) {
+			return function.apply(items);
+		}
+
+		List<List<T>> chunks = partition(items, maxBatchSize);
+		AtomicReferenceArray<List<R>> results = new AtomicReferenceArray<>(chunks.size());
+
+		if (executor == null || parallelism == 1) {
+			for (int i = 0; i < chunks.size(); i++) {
+				results.set(i, function.apply(chunks.get(i)));
+			}
+		} else {
+
+			AtomicInteger next = new AtomicInteger();
+			AtomicBoolean failed = new AtomicBoolean();
+			Runnable worker = () -> {
+				int index;
+				while (!failed.get() && (index = next.getAndIncrement()) < chunks.size()) {
+					try {
+						results.set(index, function.apply(chunks.get(index)));
+					} catch (RuntimeException e) {
+						failed.set(true);
+						throw e;
+					}
+				}
+			};
+
+			int workerCount = Math.min(parallelism, chunks.size());
+			List<CompletableFuture<Void>> workers = new ArrayList<>(workerCount);
+			boolean rejected = false;
+			for (int i = 0; i < workerCount && !rejected; i++) {
+				try {
+					workers.add(CompletableFuture.runAsync(worker, executor));
+				} catch (RejectedExecutionException e) {
+					// saturated executor: process remaining chunks on the calling thread
+					rejected = true;
+				}
+			}
+
+			if (rejected) {
+				worker.run();
+			}
+
+			try {
+				CompletableFuture.allOf(workers.toArray(new CompletableFuture<?>[0])).join();
+			} catch (CompletionException e) {
+				if (e.getCause() instanceof RuntimeException cause) {
+					throw cause;
+				}
+				throw e;
+			}
+		}
+
+		List<R> result = new ArrayList<>(items.size());
+		for (int i = 0; i < results.length(); i++) {
+			result.addAll(results.get(i));
+		}
+		return result;
+	}
+
+	/**
+	 * Execute {@code function} for chunks of {@code items} subscribing to at most
+	 * {@code parallelism} chunks concurrently. Results are emitted in the order of
+	 * {@code items}.
+	 */
+	static <T, R> Flux<R> execute(List<T> items, int maxBatchSize, int parallelism,
+			Function<List<T>, Flux<R>> function) {
+
+		if (items.size() <= maxBatchSize) {
+			return function.apply(items);
+		}
+
+		return Flux.fromIterable(partition(items, maxBatchSize)).flatMapSequential(function, parallelism);
+	}
+
+}
@@ -0,0 +1,456 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.vault.core;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.jspecify.annotations.Nullable;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import org.springframework.util.Assert;
+import org.springframework.vault.VaultException;
+import org.springframework.vault.authentication.ReactiveSessionManager;
+import org.springframework.vault.core.VaultKeyValueOperationsSupport.KeyValueBackend;
+import org.springframework.vault.support.VaultMetadataRequest;
+import org.springframework.vault.support.VaultMetadataResponse;
+import org.springframework.vault.support.VaultResponse;
+import org.springframework.vault.support.VaultResponseSupport;
+import org.springframework.vault.support.Versioned;
+import org.springframework.vault.support.Versioned.Metadata;
+import org.springframework.vault.support.Versioned.Version;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientException;
+
+/**
+ * {@link ReactiveVaultOperations} decorator caching read responses in memory.
+ * <p>Responses obtained through {@link #read(String)},
+ * {@link #read(String, Class)} and the {@link ReactiveVaultKeyValueOperations}
+ * returned by {@link #opsForKeyValue(String, KeyValueBackend)} are cached for
+ * the duration of their {@code lease_duration}, capped to a
+ * {@link #setMaximumTtl(Duration) maximum TTL}. Responses without a lease
+ * duration are cached for the {@link #setDefaultTtl(Duration) default TTL}.
+ * The cache is bounded to a {@link #setMaximumSize(int) maximum number of
+ * entries}. Key-Value responses are cached under their Vault path so that
+ * writing or deleting a path through this decorator, either directly or
+ * through {@link ReactiveVaultKeyValueOperations} and
+ * {@link ReactiveVaultVersionedKeyValueOperations}, invalidates cached responses
+ * for that path.
+ * <p>With {@link #setRefreshAhead(boolean) refresh-ahead} enabled, entries
+ * that have reached three quarters of their TTL are refreshed in the
+ * background while the cached response continues to be served.
+ * <p>The cache is scoped to this decorator, see {@link CachingVaultOperations}
+ * for details. Use
+ * {@link #CachingReactiveVaultOperations(ReactiveVaultOperations, String, ReactiveSessionManager)}
+ * to scope cache entries to a namespace and the identity of the current session
+ * token. Other operations are delegated without caching.
+ *
+ * @author Mark Paluch
+ * @since 4.2
+ * @see CachingVaultOperations
+ */
+public class CachingReactiveVaultOperations implements ReactiveVaultOperations {
+
+	private static final Log logger = LogFactory.getLog(CachingReactiveVaultOperations.class);
+
+	private final ReactiveVaultOperations delegate;
+
+	private final ResponseCache cache;
+
+	private final @Nullable String namespace;
+
+	private final @Nullable ReactiveSessionManager sessionManager;
+
+	private boolean refreshAhead;
+
+
+	/**
+	 * Create a new {@code CachingReactiveVaultOperations} decorating the given
+	 * {@link ReactiveVaultOperations}.
+	 * @param delegate must not be {@literal null}.
+	 */
+	public CachingReactiveVaultOperations(ReactiveVaultOperations delegate) {
+		this(delegate, new ResponseCache(), null, null);
+	}
+
+	/**
+	 * Create a new {@code CachingReactiveVaultOperations} decorating the given
+	 * {@link ReactiveVaultOperations} and scoping cache entries to
+	 * {@code namespace} and the session token obtained from
+	 * {@link ReactiveSessionManager}.
+	 * @param delegate must not be {@literal null}.
+	 * @param namespace the namespace used by {@code delegate}, can be
+	 * {@literal null}.
+	 * @param sessionManager the session manager used by {@code delegate}, must not
+	 * be {@literal null}.
+	 */
+	public CachingReactiveVaultOperations(ReactiveVaultOperations delegate, @Nullable String namespace,
+			ReactiveSessionManager sessionManager) {
+		this(delegate, new ResponseCache(), namespace, sessionManager);
+		Assert.notNull(sessionManager, "ReactiveSessionManager must not be null");
+	}
+
+	CachingReactiveVaultOperations(ReactiveVaultOperations delegate, ResponseCache cache,
+			@Nullable String namespace, @Nullable ReactiveSessionManager sessionManager) {
+		Assert.notNull(delegate, "ReactiveVaultOperations must not be null");
+		this.delegate = delegate;
+		this.cache = cache;
+		this.namespace = namespace;
+		this.sessionManager = sessionManager;
+	}
+
+
+	/**
+	 * Set the maximum number of cached responses. Defaults to {@code 1000}.
+	 * @param maximumSize must be greater than zero.
+	 */
+	public void setMaximumSize(int maximumSize) {
+		this.cache.setMaximumSize(maximumSize);
+	}
+
+	/**
+	 * Set the TTL for responses that do not report a {@code lease_duration}.
+	 * Defaults to 30 seconds. A zero duration disables caching of such
+	 * responses.
+	 * @param defaultTtl must not be {@literal null} or negative.
+	 */
+	public void setDefaultTtl(Duration defaultTtl) {
+		this.cache.setDefaultTtl(defaultTtl);
+	}
+
+	/**
+	 * Set the maximum TTL capping the {@code lease_duration} reported by Vault.
+	 * Defaults to 5 minutes.
+	 * @param maximumTtl must not be {@literal null} or negative.
+	 */
+	public void setMaximumTtl(Duration maximumTtl) {
+		this.cache.setMaximumTtl(maximumTtl);
+	}
+
+	/**
+	 * Configure whether to refresh entries in the background before they expire.
+	 * Disabled by default.
+	 * @param refreshAhead {@literal true} to enable background refresh.
+	 */
+	public void setRefreshAhead(boolean refreshAhead) {
+		this.refreshAhead = refreshAhead;
+	}
+
+	/**
+	 * Remove all cached responses for the given {@code path}.
+	 * @param path must not be {@literal null}.
+	 */
+	public void evict(String path) {
+		Assert.notNull(path, "Path must not be null");
+		this.cache.invalidate(path);
+	}
+
+	/**
+	 * Remove all cached responses.
+	 */
+	public void clear() {
+		this.cache.clear();
+	}
+
+
+	@Override
+	public ReactiveVaultKeyValueOperations opsForKeyValue(String path, KeyValueBackend apiVersion) {
+		return new CachingKeyValueOperations(this.delegate.opsForKeyValue(path, apiVersion), path);
+	}
+
+	@Override
+	public ReactiveVaultVersionedKeyValueOperations opsForVersionedKeyValue(String path) {
+		return new CachingVersionedKeyValueOperations(this.delegate.opsForVersionedKeyValue(path), path);
+	}
+
+	@Override
+	public ReactiveVaultTransitOperations opsForTransit() {
+		return this.delegate.opsForTransit();
+	}
+
+	@Override
+	public ReactiveVaultTransitOperations opsForTransit(String path) {
+		return this.delegate.opsForTransit(path);
+	}
+
+	@Override
+	public ReactiveVaultPkiOperations opsForPki() {
+		return this.delegate.opsForPki();
+	}
+
+	@Override
+	public ReactiveVaultPkiOperations opsForPki(String path) {
+		return this.delegate.opsForPki(path);
+	}
+
+	@Override
+	public ReactiveVaultSysOperations opsForSys() {
+		return this.delegate.opsForSys();
+	}
+
+	@Override
+	public Mono<VaultResponse> read(String path) {
+		return getOrLoad(path, VaultResponse.class, () -> this.delegate.read(path));
+	}
+
+	@Override
+	public <T> Mono<VaultResponseSupport<T>> read(String path, Class<T> responseType) {
+		return getOrLoad(path, responseType, () -> this.delegate.read(path, responseType));
+	}
+
+	@Override
+	public Flux<String> list(String path) {
+		return this.delegate.list(path);
+	}
+
+	@Override
+	public Mono<VaultResponse> write(String path, @Nullable Object body) {
+		return this.delegate.write(path, body).doFinally(signal -> this.cache.invalidate(path));
+	}
+
+	@Override
+	public Mono<Void> delete(String path) {
+		return this.delegate.delete(path).doFinally(signal -> this.cache.invalidate(path));
+	}
+
+	@Override
+	public <V, T extends Publisher<V>> T doWithVault(Function<WebClient, ? extends T> clientCallback)
+			throws VaultException, WebClientException {
+		return this.delegate.doWithVault(clientCallback);
+	}
+
+	@Override
+	public <V, T extends Publisher<V>> T doWithSession(Function<WebClient, ? extends T> sessionCallback)
+			throws VaultException, WebClientException {
+		return this.delegate.doWithSession(sessionCallback);
+	}
+
+	<T> Mono<T> getOrLoad(String path, Object discriminator, Supplier<Mono<T>> loader) {
+
+		ReactiveSessionManager sessionManager = this.sessionManager;
+		Mono<ResponseCache.Key> key = sessionManager != null ? sessionManager.getSessionToken()
+				.map(token -> createKey(path, ResponseCache.getIdentity(token), discriminator))
+				: Mono.fromSupplier(() -> createKey(path, null, discriminator));
+
+		return key.flatMap(it -> getOrLoad(it, loader));
+	}
+
+	private ResponseCache.Key createKey(String path, @Nullable String identity, Object discriminator) {
+		return new ResponseCache.Key(ResponseCache.normalize(path), this.namespace, identity, discriminator);
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> Mono<T> getOrLoad(ResponseCache.Key key, Supplier<Mono<T>> loader) {
+
+		return Mono.defer(() -> {
+
+			ResponseCache.Entry entry = this.cache.get(key);
+			if (entry != null) {
+
+				if (this.refreshAhead && this.cache.shouldRefresh(entry)) {
+					refresh(key, loader, this.cache.getGeneration());
+				}
+				return Mono.just((T) entry.getValue());
+			}
+
+			long generation = this.cache.getGeneration();
+			return loader.get().doOnNext(value -> this.cache.put(key, value, generation));
+		});
+	}
+
+	private <T> void refresh(ResponseCache.Key key, Supplier<Mono<T>> loader, long generation) {
+
+		loader.get()
+				.switchIfEmpty(Mono.fromRunnable(() -> this.cache.invalidate(key.path())))
+				.subscribe(value -> this.cache.put(key, value, generation), e -> {
+					if (logger.isDebugEnabled()) {
+						logger.debug("Cannot refresh cached response for %s".formatted(key.path()), e);
+					}
+				});
+	}
+
+
+	/**
+	 * {@link ReactiveVaultKeyValueOperations} decorator caching {@code get}
+	 * responses.
+	 */
+	class CachingKeyValueOperations implements ReactiveVaultKeyValueOperations {
+
+		private final ReactiveVaultKeyValueOperations delegate;
+
+		private final String mount;
+
+
+		CachingKeyValueOperations(ReactiveVaultKeyValueOperations delegate, String mount) {
+			this.delegate = delegate;
+			this.mount = ResponseCache.normalize(mount);
+		}
+
+
+		@Override
+		public Flux<String> list(String path) {
+			return this.delegate.list(path);
+		}
+
+		@Override
+		public Mono<VaultResponse> get(String path) {
+			return getOrLoad(cachePath(path), new ResponseCache.KeyValueDiscriminator(VaultResponse.class),
+					() -> this.delegate.get(path));
+		}
+
+		@Override
+		public <T> Mono<VaultResponseSupport<T>> get(String path, Class<T> responseType) {
+			return getOrLoad(cachePath(path), new ResponseCache.KeyValueDiscriminator(responseType),
+					() -> this.delegate.get(path, responseType));
+		}
+
+		@Override
+		public Mono<Boolean> patch(String path, Map<String, ?> patch) {
+			return this.delegate.patch(path, patch).doFinally(signal -> cache.invalidate(cachePath(path)));
+		}
+
+		@Override
+		public Mono<Void> put(String path, Object body) {
+			return this.delegate.put(path, body).doFinally(signal -> cache.invalidate(cachePath(path)));
+		}
+
+		@Override
+		public Mono<Void> delete(String path) {
+			return this.delegate.delete(path).doFinally(signal -> cache.invalidate(cachePath(path)));
+		}
+
+		@Override
+		public KeyValueBackend getApiVersion() {
+			return this.delegate.getApiVersion();
+		}
+
+		/**
+		 * Return the Vault path backing {@code path} so that invalidation through
+		 * {@link CachingReactiveVaultOperations#write(String, Object)} applies as
+		 * well.
+		 */
+		private String cachePath(String path) {
+			String relative = ResponseCache.normalize(path);
+			return getApiVersion() == KeyValueBackend.KV_2 ? this.mount + "/data/" + relative
+					: this.mount + "/" + relative;
+		}
+
+	}
+
+	/**
+	 * {@link ReactiveVaultVersionedKeyValueOperations} decorator invalidating
+	 * cached {@code <mount>/data/<path>} responses upon modification. Versioned
+	 * reads are not cached.
+	 */
+	class CachingVersionedKeyValueOperations implements ReactiveVaultVersionedKeyValueOperations {
+
+		private final ReactiveVaultVersionedKeyValueOperations delegate;
+
+		private final String mount;
+
+
+		CachingVersionedKeyValueOperations(ReactiveVaultVersionedKeyValueOperations delegate, String mount) {
+			this.delegate = delegate;
+			this.mount = ResponseCache.normalize(mount);
+		}
+
+
+		@Override
+		public Flux<String> list(String path) {
+			return this.delegate.list(path);
+		}
+
+		@Override
+		public <T> Mono<Versioned<T>> get(String path, Version version) {
+			return this.delegate.get(path, version);
+		}
+
+		@Override
+		public <T> Mono<Versioned<T>> get(String path, Version version, Class<T> responseType) {
+			return this.delegate.get(path, version, responseType);
+		}
+
+		@Override
+		public Mono<Metadata> put(String path, Object body) {
+			return this.delegate.put(path, body).doFinally(signal -> cache.invalidate(cachePath(path)));
+		}
+
+		@Override
+		public Mono<Void> delete(String path) {
+			return this.delegate.delete(path).doFinally(signal -> cache.invalidate(cachePath(path)));
+		}
+
+		@Override
+		public Mono<Void> delete(String path, Version... versionsToDelete) {
+			return this.delegate.delete(path, versionsToDelete)
+					.doFinally(signal -> cache.invalidate(cachePath(path)));
+		}
+
+		@Override
+		public Mono<Void> undelete(String path, Version... versionsToDelete) {
+			return this.delegate.undelete(path, versionsToDelete)
+					.doFinally(signal -> cache.invalidate(cachePath(path)));
+		}
+
+		@Override
+		public Mono<Void> destroy(String path, Version... versionsToDelete) {
+			return this.delegate.destroy(path, versionsToDelete)
+					.doFinally(signal -> cache.invalidate(cachePath(path)));
+		}
+
+		@Override
+		public ReactiveVaultKeyValueMetadataOperations opsForKeyValueMetadata() {
+
+			ReactiveVaultKeyValueMetadataOperations metadataOperations = this.delegate.opsForKeyValueMetadata();
+			return new ReactiveVaultKeyValueMetadataOperations() {
+
+				@Override
+				public Mono<VaultMetadataResponse> get(String path) {
+					return metadataOperations.get(path);
+				}
+
+				@Override
+				public Mono<Void> put(String path, VaultMetadataRequest body) {
+					return metadataOperations.put(path, body).doFinally(signal -> cache.invalidate(cachePath(path)));
+				}
+
+				@Override
+				public Mono<Void> delete(String path) {
+					return metadataOperations.delete(path).doFinally(signal -> cache.invalidate(cachePath(path)));
+				}
+
+			};
+		}
+
+		@Override
+		public KeyValueBackend getApiVersion() {
+			return this.delegate.getApiVersion();
+		}
+
+		private String cachePath(String path) {
+			return this.mount + "/data/" + ResponseCache.normalize(path);
+		}
+
+	}
+
+}
@@ -0,0 +1,529 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.vault.core;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.util.Assert;
+import org.springframework.vault.VaultException;
+import org.springframework.vault.authentication.SessionManager;
+import org.springframework.vault.core.VaultKeyValueOperationsSupport.KeyValueBackend;
+import org.springframework.vault.support.VaultMetadataRequest;
+import org.springframework.vault.support.VaultMetadataResponse;
+import org.springframework.vault.support.VaultResponse;
+import org.springframework.vault.support.VaultResponseSupport;
+import org.springframework.vault.support.Versioned;
+import org.springframework.vault.support.Versioned.Metadata;
+import org.springframework.vault.support.Versioned.Version;
+import org.springframework.web.client.RestClientException;
+
+/**
+ * {@link VaultOperations} decorator caching read responses in memory.
+ * <p>Responses obtained through {@link #read(String)},
+ * {@link #read(String, Class)} and the {@link VaultKeyValueOperations}
+ * returned by {@link #opsForKeyValue(String, KeyValueBackend)} are cached for
+ * the duration of their {@code lease_duration}, capped to a
+ * {@link #setMaximumTtl(Duration) maximum TTL}. Responses without a lease
+ * duration (such as Key-Value version 2 responses) are cached for the
+ * {@link #setDefaultTtl(Duration) default TTL}. The cache is bounded to a
+ * {@link #setMaximumSize(int) maximum number of entries}, evicting the least
+ * recently used entry first. Key-Value responses are cached under their
+ * Vault path ({@code <mount>/data/<path>} for Key-Value version 2) so that
+ * writing or deleting a path through this decorator, either directly or
+ * through {@link VaultKeyValueOperations} and
+ * {@link VaultVersionedKeyValueOperations}, invalidates cached responses for
+ * that path. Writes to Key-Value version 2 {@code metadata}, {@code delete},
+ * {@code destroy} and {@code undelete} paths invalidate the corresponding
+ * {@code data} path. Absent secrets are not cached.
+ * <p>If a {@link #setRefreshExecutor(Executor) refresh executor} is
+ * configured, entries that have reached three quarters of their TTL are
+ * refreshed in the background while the cached response continues to be
+ * served.
+ * <p>The cache is scoped to this decorator. Namespace and authentication are
+ * defined by the decorated {@link VaultOperations}. Use
+ * {@link #CachingVaultOperations(VaultOperations, String, SessionManager)} to
+ * scope cache entries to the namespace and the identity (token accessor or
+ * token digest) of the current session token so that responses are not served
+ * across namespaces or to a token with different policies. Without a
+ * {@link SessionManager}, each decorator should wrap a single
+ * {@link VaultOperations} instance whose namespace and token do not change
+ * identity. Cached response objects are shared between callers and must not be
+ * modified. Other operations are delegated without caching.
+ *
+ * @author Mark Paluch
+ * @since 4.2
+ */
+public class CachingVaultOperations implements VaultOperations {
+
+	private static final Log logger = LogFactory.getLog(CachingVaultOperations.class);
+
+	private final VaultOperations delegate;
+
+	private final ResponseCache cache;
+
+	private final @Nullable String namespace;
+
+	private final @Nullable SessionManager sessionManager;
+
+	private @Nullable Executor refreshExecutor;
+
+
+	/**
+	 * Create a new {@code CachingVaultOperations} decorating the given
+	 * {@link VaultOperations}.
+	 * @param delegate must not be {@literal null}.
+	 */
+	public CachingVaultOperations(VaultOperations delegate) {
+		this(delegate, new ResponseCache(), null, null);
+	}
+
+	/**
+	 * Create a new {@code CachingVaultOperations} decorating the given
+	 * {@link VaultOperations} and scoping cache entries to {@code namespace} and
+	 * the session token obtained from {@link SessionManager}.
+	 * @param delegate must not be {@literal null}.
+	 * @param namespace the namespace used by {@code delegate}, can be
+	 * {@literal null}.
+	 * @param sessionManager the session manager used by {@code delegate}, must not
+	 * be {@literal null}.
+	 */
+	public CachingVaultOperations(VaultOperations delegate, @Nullable String namespace,
+			SessionManager sessionManager) {
+		this(delegate, new ResponseCache(), namespace, sessionManager);
+		Assert.notNull(sessionManager, "SessionManager must not be null");
+	}
+
+	CachingVaultOperations(VaultOperations delegate, ResponseCache cache, @Nullable String namespace,
+			@Nullable SessionManager sessionManager) {
+		Assert.notNull(delegate, "VaultOperations must not be null");
+		this.delegate = delegate;
+		this.cache = cache;
+		this.namespace = namespace;
+		this.sessionManager = sessionManager;
+	}
+
+
+	/**
+	 * Set the maximum number of cached responses. Defaults to {@code 1000}.
+	 * @param maximumSize must be greater than zero.
+	 */
+	public void setMaximumSize(int maximumSize) {
+		this.cache.setMaximumSize(maximumSize);
+	}
+
+	/**
+	 * Set the TTL for responses that do not report a {@code lease_duration}.
+	 * Defaults to 30 seconds. A zero duration disables caching of such
+	 * responses.
+	 * @param defaultTtl must not be {@literal null} or negative.
+	 */
+	public void setDefaultTtl(Duration defaultTtl) {
+		this.cache.setDefaultTtl(defaultTtl);
+	}
+
+	/**
+	 * Set the maximum TTL capping the {@code lease_duration} reported by Vault.
+	 * Defaults to 5 minutes.
+	 * @param maximumTtl must not be {@literal null} or negative.
+	 */
+	public void setMaximumTtl(Duration maximumTtl) {
+		this.cache.setMaximumTtl(maximumTtl);
+	}
+
+	/**
+	 * Set the {@link Executor} to refresh entries in the background before they
+	 * expire. Entries are not refreshed if no executor is configured.
+	 * @param refreshExecutor the executor to use, can be {@literal null}.
+	 */
+	public void setRefreshExecutor(@Nullable Executor refreshExecutor) {
+		this.refreshExecutor = refreshExecutor;
+	}
+
+	/**
+	 * Remove all cached responses for the given {@code path}.
+	 * @param path must not be {@literal null}.
+	 */
+	public void evict(String path) {
+		Assert.notNull(path, "Path must not be null");
+		this.cache.invalidate(path);
+	}
+
+	/**
+	 * Remove all cached responses.
+	 */
+	public void clear() {
+		this.cache.clear();
+	}
+
+
+	@Override
+	public VaultKeyValueOperations opsForKeyValue(String path) {
+		return new CachingKeyValueOperations(this.delegate.opsForKeyValue(path), path);
+	}
+
+	@Override
+	public VaultKeyValueOperations opsForKeyValue(String path, KeyValueBackend apiVersion) {
+		return new CachingKeyValueOperations(this.delegate.opsForKeyValue(path, apiVersion), path);
+	}
+
+	@Override
+	public VaultVersionedKeyValueOperations opsForVersionedKeyValue(String path) {
+		return new CachingVersionedKeyValueOperations(this.delegate.opsForVersionedKeyValue(path), path);
+	}
+
+	@Override
+	public VaultPkiOperations opsForPki() {
+		return this.delegate.opsForPki();
+	}
+
+	@Override
+	public VaultPkiOperations opsForPki(String path) {
+		return this.delegate.opsForPki(path);
+	}
+
+	@Override
+	public VaultSysOperations opsForSys() {
+		return this.delegate.opsForSys();
+	}
+
+	@Override
+	public VaultTokenOperations opsForToken() {
+		return this.delegate.opsForToken();
+	}
+
+	@Override
+	public VaultTransformOperations opsForTransform() {
+		return this.delegate.opsForTransform();
+	}
+
+	@Override
+	public VaultTransformOperations opsForTransform(String path) {
+		return this.delegate.opsForTransform(path);
+	}
+
+	@Override
+	public VaultTransitOperations opsForTransit() {
+		return this.delegate.opsForTransit();
+	}
+
+	@Override
+	public VaultTransitOperations opsForTransit(String path) {
+		return this.delegate.opsForTransit(path);
+	}
+
+	@Override
+	public VaultWrappingOperations opsForWrapping() {
+		return this.delegate.opsForWrapping();
+	}
+
+	@Override
+	public @Nullable VaultResponse read(String path) {
+		return getOrLoad(path, VaultResponse.class, () -> this.delegate.read(path));
+	}
+
+	@Override
+	public <T extends @Nullable Object> @Nullable VaultResponseSupport<T> read(String path, Class<T> responseType) {
+		return getOrLoad(path, responseType, () -> this.delegate.read(path, responseType));
+	}
+
+	@Override
+	public @Nullable List<String> list(String path) {
+		return this.delegate.list(path);
+	}
+
+	@Override
+	public @Nullable VaultResponse write(String path, @Nullable Object body) {
+		try {
+			return this.delegate.write(path, body);
+		} finally {
+			this.cache.invalidate(path);
+		}
+	}
+
+	@Override
+	public void delete(String path) {
+		try {
+			this.delegate.delete(path);
+		} finally {
+			this.cache.invalidate(path);
+		}
+	}
+
+	@Override
+	public <T extends @Nullable Object> T doWithVault(RestOperationsCallback<T> clientCallback)
+			throws VaultException, RestClientException {
+		return this.delegate.doWithVault(clientCallback);
+	}
+
+	@Override
+	public <T extends @Nullable Object> T doWithSession(RestOperationsCallback<T> sessionCallback)
+			throws VaultException, RestClientException {
+		return this.delegate.doWithSession(sessionCallback);
+	}
+
+	@SuppressWarnings("unchecked")
+	<T> @Nullable T getOrLoad(String path, Object discriminator, Supplier<@Nullable T> loader) {
+
+		SessionManager sessionManager = this.sessionManager;
+		String identity = sessionManager != null ? ResponseCache.getIdentity(sessionManager.getSessionToken())
+				: null;
+		ResponseCache.Key key = new ResponseCache.Key(ResponseCache.normalize(path), this.namespace, identity,
+				discriminator);
+
+		ResponseCache.Entry entry = this.cache.get(key);
+		if (entry != null) {
+
+			Executor executor = this.refreshExecutor;
+			if (executor != null && this.cache.shouldRefresh(entry)) {
+				long generation = this.cache.getGeneration();
+				executor.execute(() -> refresh(key, loader, generation));
+			}
+			return (T) entry.getValue();
+		}
+
+		long generation = this.cache.getGeneration();
+		T value = loader.get();
+		if (value != null) {
+			this.cache.put(key, value, generation);
+		}
+		return value;
+	}
+
+	private <T> void refresh(ResponseCache.Key key, Supplier<@Nullable T> loader, long generation) {
+
+		try {
+			T value = loader.get();
+			if (value != null) {
+				this.cache.put(key, value, generation);
+			} else {
+				this.cache.invalidate(key.path());
+			}
+		} catch (RuntimeException e) {
+			if (logger.isDebugEnabled()) {
+				logger.debug("Cannot refresh cached response for %s".formatted(key.path()), e);
+			}
+		}
+	}
+
+
+	/**
+	 * {@link VaultKeyValueOperations} decorator caching {@code get} responses.
+	 */
+	class CachingKeyValueOperations implements VaultKeyValueOperations {
+
+		private final VaultKeyValueOperations delegate;
+
+		private final String mount;
+
+
+		CachingKeyValueOperations(VaultKeyValueOperations delegate, String mount) {
+			this.delegate = delegate;
+			this.mount = ResponseCache.normalize(mount);
+		}
+
+
+		@Override
+		public @Nullable List<String> list(String path) {
+			return this.delegate.list(path);
+		}
+
+		@Override
+		public @Nullable VaultResponse get(String path) {
+			return getOrLoad(cachePath(path), new ResponseCache.KeyValueDiscriminator(VaultResponse.class),
+					() -> this.delegate.get(path));
+		}
+
+		@Override
+		public <T> @Nullable VaultResponseSupport<T> get(String path, Class<T> responseType) {
+			return getOrLoad(cachePath(path), new ResponseCache.KeyValueDiscriminator(responseType),
+					() -> this.delegate.get(path, responseType));
+		}
+
+		@Override
+		public boolean patch(String path, Map<String, ?> patch) {
+			try {
+				return this.delegate.patch(path, patch);
+			} finally {
+				cache.invalidate(cachePath(path));
+			}
+		}
+
+		@Override
+		public void put(String path, Object body) {
+			try {
+				this.delegate.put(path, body);
+			} finally {
+				cache.invalidate(cachePath(path));
+			}
+		}
+
+		@Override
+		public void delete(String path) {
+			try {
+				this.delegate.delete(path);
+			} finally {
+				cache.invalidate(cachePath(path));
+			}
+		}
+
+		@Override
+		public KeyValueBackend getApiVersion() {
+			return this.delegate.getApiVersion();
+		}
+
+		/**
+		 * Return the Vault path backing {@code path} so that invalidation through
+		 * {@link CachingVaultOperations#write(String, Object)} applies as well.
+		 */
+		private String cachePath(String path) {
+			String relative = ResponseCache.normalize(path);
+			return getApiVersion() == KeyValueBackend.KV_2 ? this.mount + "/data/" + relative
+					: this.mount + "/" + relative;
+		}
+
+	}
+
+	/**
+	 * {@link VaultVersionedKeyValueOperations} decorator invalidating cached
+	 * {@code <mount>/data/<path>} responses upon modification. Versioned reads
+	 * are not cached.
+	 */
+	class CachingVersionedKeyValueOperations implements VaultVersionedKeyValueOperations {
+
+		private final VaultVersionedKeyValueOperations delegate;
+
+		private final String mount;
+
+
+		CachingVersionedKeyValueOperations(VaultVersionedKeyValueOperations delegate, String mount) {
+			this.delegate = delegate;
+			this.mount = ResponseCache.normalize(mount);
+		}
+
+
+		@Override
+		public @Nullable List<String> list(String path) {
+			return this.delegate.list(path);
+		}
+
+		@Override
+		public <T> @Nullable Versioned<T> get(String path, Version version) {
+			return this.delegate.get(path, version);
+		}
+
+		@Override
+		public <T> @Nullable Versioned<T> get(String path, Version version, Class<T> responseType) {
+			return this.delegate.get(path, version, responseType);
+		}
+
+		@Override
+		public Metadata put(String path, Object body) {
+			try {
+				return this.delegate.put(path, body);
+			} finally {
+				cache.invalidate(cachePath(path));
+			}
+		}
+
+		@Override
+		public void delete(String path) {
+			try {
+				this.delegate.delete(path);
+			} finally {
+				cache.invalidate(cachePath(path));
+			}
+		}
+
+		@Override
+		public void delete(String path, Version... versionsToDelete) {
+			try {
+				this.delegate.delete(path, versionsToDelete);
+			} finally {
+				cache.invalidate(cachePath(path));
+			}
+		}
+
+		@Override
+		public void undelete(String path, Version... versionsToDelete) {
+			try {
+				this.delegate.undelete(path, versionsToDelete);
+			} finally {
+				cache.invalidate(cachePath(path));
+			}
+		}
+
+		@Override
+		public void destroy(String path, Version... versionsToDelete) {
+			try {
+				this.delegate.destroy(path, versionsToDelete);
+			} finally {
+				cache.invalidate(cachePath(path));
+			}
+		}
+
+		@Override
+		public VaultKeyValueMetadataOperations opsForKeyValueMetadata() {
+
+			VaultKeyValueMetadataOperations metadataOperations = this.delegate.opsForKeyValueMetadata();
+			return new VaultKeyValueMetadataOperations() {
+
+				@Override
+				public @Nullable VaultMetadataResponse get(String path) {
+					return metadataOperations.get(path);
+				}
+
+				@Override
+				public void put(String path, VaultMetadataRequest body) {
+					try {
+						metadataOperations.put(path, body);
+					} finally {
+						cache.invalidate(cachePath(path));
+					}
+				}
+
+				@Override
+				public void delete(String path) {
+					try {
+						metadataOperations.delete(path);
+					} finally {
+						cache.invalidate(cachePath(path));
+					}
+				}
+
+			};
+		}
+
+		@Override
+		public KeyValueBackend getApiVersion() {
+			return this.delegate.getApiVersion();
+		}
+
+		private String cachePath(String path) {
+			return this.mount + "/data/" + ResponseCache.normalize(path);
+		}
+
+	}
+
+}
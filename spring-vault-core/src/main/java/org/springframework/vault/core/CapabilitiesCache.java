@@ -0,0 +1,242 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.vault.core;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.util.Assert;
+import org.springframework.vault.VaultException;
+import org.springframework.vault.authentication.LoginToken;
+import org.springframework.vault.authentication.event.AfterLoginEvent;
+import org.springframework.vault.authentication.event.AfterLoginTokenRevocationEvent;
+import org.springframework.vault.authentication.event.AuthenticationEvent;
+import org.springframework.vault.authentication.event.AuthenticationListener;
+import org.springframework.vault.authentication.event.LoginTokenExpiredEvent;
+import org.springframework.vault.support.Policy;
+import org.springframework.vault.support.Policy.Capability;
+
+/**
+ * Cache for capabilities of the current token to check permissions before
+ * accessing a path instead of handling {@code 403 Forbidden} responses.
+ * <p>Capabilities are obtained through
+ * {@link VaultSysOperations#getCapabilities(List)} querying all uncached paths
+ * of a {@link #getCapabilities(List) batch} with a single request. Cached
+ * capabilities expire after the {@link #setTtl(Duration) TTL} to pick up
+ * policy changes. If a {@link #setPolicy(Policy) policy} is configured,
+ * capabilities are evaluated locally from its rules without contacting Vault.
+ * <p>Capabilities are cached for the token accessor of the current login
+ * token. Register the {@link #getAuthenticationListener() authentication
+ * listener} with a
+ * {@link org.springframework.vault.authentication.AuthenticationEventMulticaster}
+ * such as {@link org.springframework.vault.authentication.LifecycleAwareSessionManager}
+ * to discard cached capabilities when a new token is obtained or the current
+ * token expires or is revoked.
+ *
+ * @author Mark Paluch
+ * @since 4.2
+ * @see VaultSysOperations#getCapabilities(List)
+ * @see Policy#getCapabilities(String)
+ */
+public class CapabilitiesCache {
+
+	private static final String ROOT = "root";
+
+	private final VaultSysOperations sysOperations;
+
+	private final LongSupplier nanoTime;
+
+	private final AuthenticationListener authenticationListener = this::onAuthenticationEvent;
+
+	private volatile Generation generation = new Generation(null);
+
+	private volatile long ttl = Duration.ofMinutes(5).toNanos();
+
+	private volatile @Nullable Policy policy;
+
+
+	/**
+	 * Create a new {@link CapabilitiesCache} given {@link VaultSysOperations}.
+	 * @param sysOperations must not be {@literal null}.
+	 */
+	public CapabilitiesCache(VaultSysOperations sysOperations) {
+		this(sysOperations, System::nanoTime);
+	}
+
+	CapabilitiesCache(VaultSysOperations sysOperations, LongSupplier nanoTime) {
+		Assert.notNull(sysOperations, "VaultSysOperations must not be null");
+		this.sysOperations = sysOperations;
+		this.nanoTime = nanoTime;
+	}
+
+
+	/**
+	 * Set the duration for which capabilities are cached. Defaults to 5 minutes.
+	 * @param ttl must not be {@literal null} or negative.
+	 */
+	public void setTtl(Duration ttl) {
+		Assert.notNull(ttl, "TTL must not be null");
+		Assert.isTrue(!ttl.isNegative(), "TTL must not be negative");
+		this.ttl = ttl.toNanos();
+	}
+
+	/**
+	 * Set the {@link Policy} that applies to the current token to evaluate
+	 * capabilities locally instead of querying Vault.
+	 * @param policy the policy, can be {@literal null} to query Vault.
+	 */
+	public void setPolicy(@Nullable Policy policy) {
+		this.policy = policy;
+	}
+
+	/**
+	 * Return the {@link AuthenticationListener} that discards cached capabilities
+	 * when a new login token is obtained or the login token expires or gets
+	 * revoked.
+	 * @return the {@link AuthenticationListener}.
+	 */
+	public AuthenticationListener getAuthenticationListener() {
+		return this.authenticationListener;
+	}
+
+	/**
+	 * Check whether the current token has the given {@link Capability} on
+	 * {@code path}. The {@code root} capability grants all capabilities.
+	 * @param path must not be {@literal null} or empty.
+	 * @param capability must not be {@literal null}.
+	 * @return {@literal true} if the capability is granted.
+	 */
+	public boolean hasCapability(String path, Capability capability) {
+		Assert.notNull(capability, "Capability must not be null");
+		for (Capability granted : getCapabilities(path)) {
+			if (granted.name().equalsIgnoreCase(capability.name()) || granted.name().equalsIgnoreCase(ROOT)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Return the capabilities of the current token on {@code path}.
+	 * @param path must not be {@literal null} or empty.
+	 * @return the capabilities.
+	 */
+	public List<Capability> getCapabilities(String path) {
+		Assert.hasText(path, "Path must not be empty");
+		List<Capability> capabilities = getCapabilities(List.of(path)).get(path);
+		Assert.state(capabilities != null, "Capabilities must not be null");
+		return capabilities;
+	}
+
+	/**
+	 * Return the capabilities of the current token on {@code paths}. Paths that
+	 * are not cached are queried with a single request.
+	 * @param paths must not be {@literal null} or empty.
+	 * @return the capabilities per path in the order of {@code paths}.
+	 * @throws VaultException if capabilities cannot be obtained from Vault.
+	 */
+	public Map<String, List<Capability>> getCapabilities(List<String> paths) throws VaultException {
+
+		Assert.notEmpty(paths, "Paths must not be empty");
+
+		Policy policy = this.policy;
+		Map<String, List<Capability>> result = new LinkedHashMap<>(paths.size(), 1);
+		if (policy != null) {
+			paths.forEach(path -> result.put(path, policy.getCapabilities(path)));
+			return result;
+		}
+
+		Generation generation = this.generation;
+		long now = this.nanoTime.getAsLong();
+		List<String> missing = new ArrayList<>();
+
+		for (String path : paths) {
+			CachedCapabilities cached = generation.capabilities.get(path);
+			if (cached != null && now - cached.cachedAt() < this.ttl) {
+				result.put(path, cached.capabilities());
+			} else {
+				result.put(path, List.of());
+				missing.add(path);
+			}
+		}
+
+		if (!missing.isEmpty()) {
+
+			Map<String, List<Capability>> queried = this.sysOperations.getCapabilities(missing);
+			queried.forEach((path, capabilities) -> {
+				generation.capabilities.put(path, new CachedCapabilities(capabilities, now));
+				result.put(path, capabilities);
+			});
+		}
+
+		return result;
+	}
+
+	/**
+	 * Discard all cached capabilities.
+	 */
+	public void invalidate() {
+		this.generation = new Generation(this.generation.accessor);
+	}
+
+	private void onAuthenticationEvent(AuthenticationEvent event) {
+
+		if (event instanceof AfterLoginEvent) {
+			String accessor = getAccessor(event);
+			if (accessor == null || !Objects.equals(accessor, this.generation.accessor)) {
+				this.generation = new Generation(accessor);
+			}
+		}
+
+		if (event instanceof AfterLoginTokenRevocationEvent || event instanceof LoginTokenExpiredEvent) {
+			this.generation = new Generation(null);
+		}
+	}
+
+	private static @Nullable String getAccessor(AuthenticationEvent event) {
+		return event.getSource() instanceof LoginToken loginToken ? loginToken.getAccessor() : null;
+	}
+
+
+	record CachedCapabilities(List<Capability> capabilities, long cachedAt) {
+
+	}
+
+	/**
+	 * Capabilities cached for a token accessor.
+	 */
+	static class Generation {
+
+		final @Nullable String accessor;
+
+		final Map<String, CachedCapabilities> capabilities = new ConcurrentHashMap<>();
+
+		Generation(@Nullable String accessor) {
+			this.accessor = accessor;
+		}
+
+	}
+
+}
@@ -0,0 +1,464 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.vault.core;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.math.BigInteger;
+import java.security.GeneralSecurityException;
+import java.security.cert.CRLReason;
+import java.security.cert.CertificateFactory;
+import java.security.cert.X509CRL;
+import java.security.cert.X509CRLEntry;
+import java.security.cert.X509Certificate;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.Assert;
+import org.springframework.vault.VaultException;
+
+/**
+ * Local cache of the certificate revocation list (CRL) of a Vault PKI secrets
+ * engine mount to check certificates for revocation without contacting Vault
+ * for each check.
+ * <p>The CRL is streamed from Vault and revoked serial numbers are indexed in a
+ * compact hash set so that {@link #isRevoked(BigInteger) revocation checks} are
+ * constant-time lookups. The parsed CRL is discarded after indexing, only the
+ * index and the metadata required for refreshing it are retained. The CRL is refreshed lazily upon access once its
+ * {@code nextUpdate} time is reached or the {@link #setRefreshInterval(Duration)
+ * refresh interval} has elapsed, whichever comes first. Refreshes are
+ * conditional requests using {@code If-None-Match} and
+ * {@code If-Modified-Since} if Vault reported an {@code ETag} respectively
+ * {@code Last-Modified} header. Threads checking for revocation while another
+ * thread refreshes the CRL continue to use the previous CRL.
+ * <p>{@link #setDeltaCrl(boolean) Delta CRLs} can be enabled to pick up
+ * revocations between complete CRL rebuilds. A delta CRL referencing a newer
+ * base CRL triggers a refresh of the base CRL.
+ * <p>If refreshing the CRL fails, the previously obtained CRL remains in use
+ * until the next refresh attempt.
+ *
+ * @author Mark Paluch
+ * @since 4.2
+ * @see VaultPkiOperations#getCrl(VaultPkiOperations.Encoding)
+ */
+public class CertificateRevocationListCache {
+
+	private static final Log logger = LogFactory.getLog(CertificateRevocationListCache.class);
+
+	private static final String CRL_NUMBER = "2.5.29.20";
+
+	private static final String DELTA_CRL_INDICATOR = "2.5.29.27";
+
+	private final VaultTemplate vaultOperations;
+
+	private final String path;
+
+	private final ReentrantLock lock = new ReentrantLock();
+
+	private Duration refreshInterval = Duration.ofMinutes(5);
+
+	private boolean deltaCrl = false;
+
+	private Clock clock = Clock.systemUTC();
+
+	private volatile @Nullable RevocationState state;
+
+
+	/**
+	 * Create a new {@link CertificateRevocationListCache} given
+	 * {@link VaultOperations} and the PKI mount {@code path}.
+	 * @param vaultOperations must not be {@literal null}.
+	 * @param path must not be empty or {@literal null}.
+	 */
+	public CertificateRevocationListCache(VaultOperations vaultOperations, String path) {
+		Assert.notNull(vaultOperations, "VaultOperations must not be null");
+		Assert.hasText(path, "Path must not be empty");
+		this.vaultOperations = VaultTemplate.from(vaultOperations);
+		this.path = path;
+	}
+
+
+	/**
+	 * Set the maximum time after which the CRL is revalidated with Vault,
+	 * regardless of its {@code nextUpdate} time. Defaults to 5 minutes.
+	 * @param refreshInterval must not be {@literal null} or negative.
+	 */
+	public void setRefreshInterval(Duration refreshInterval) {
+		Assert.notNull(refreshInterval, "Refresh interval must not be null");
+		Assert.isTrue(!refreshInterval.isNegative(), "Refresh interval must not be negative");
+		this.refreshInterval = refreshInterval;
+	}
+
+	/**
+	 * Configure whether to retrieve the delta CRL ({@code <path>/crl/delta}) in
+	 * addition to the complete CRL. Requires Vault 1.12 or newer with
+	 * {@code enable_delta} configured on the mount. Defaults to {@code false}.
+	 * @param deltaCrl {@code true} to apply the delta CRL.
+	 */
+	public void setDeltaCrl(boolean deltaCrl) {
+		this.deltaCrl = deltaCrl;
+	}
+
+	/**
+	 * Set the {@link Clock} used to determine whether the CRL is due for refresh.
+	 * @param clock must not be {@literal null}.
+	 */
+	public void setClock(Clock clock) {
+		Assert.notNull(clock, "Clock must not be null");
+		this.clock = clock;
+	}
+
+	/**
+	 * Check whether the given {@link X509Certificate} is revoked.
+	 * @param certificate must not be {@literal null}.
+	 * @return {@code true} if the certificate serial number is listed in the CRL.
+	 */
+	public boolean isRevoked(X509Certificate certificate) {
+		Assert.notNull(certificate, "Certificate must not be null");
+		return isRevoked(certificate.getSerialNumber());
+	}
+
+	/**
+	 * Check whether the certificate with the given serial number in Vault's
+	 * notation ({@code 17:67:16:b0:…}) is revoked.
+	 * @param serialNumber must not be empty or {@literal null}.
+	 * @return {@code true} if the serial number is listed in the CRL.
+	 */
+	public boolean isRevoked(String serialNumber) {
+		Assert.hasText(serialNumber, "Serial number must not be empty");
+		return isRevoked(new BigInteger(serialNumber.replace(":", "").replace("-", ""), 16));
+	}
+
+	/**
+	 * Check whether the certificate with the given serial number is revoked.
+	 * @param serialNumber must not be {@literal null}.
+	 * @return {@code true} if the serial number is listed in the CRL.
+	 */
+	public boolean isRevoked(BigInteger serialNumber) {
+		Assert.notNull(serialNumber, "Serial number must not be null");
+		return getState().isRevoked(serialNumber);
+	}
+
+	/**
+	 * Retrieve the complete CRL from Vault. The CRL is fetched on each call and
+	 * not retained by this cache.
+	 * @return the complete CRL.
+	 * @throws VaultException if the CRL cannot be retrieved.
+	 */
+	@SuppressWarnings("NullAway")
+	public X509CRL getCrl() throws VaultException {
+
+		X509CRL crl = this.vaultOperations.doWithSessionClient((VaultClientCallback<@Nullable X509CRL>) client -> {
+			return client.get()
+					.path("{path}/crl", this.path)
+					.retrieve()
+					.exchange((statusCode, headers, body) -> parse(body));
+		});
+
+		if (crl == null) {
+			throw new VaultException("No CRL available at %s/crl".formatted(this.path));
+		}
+		return crl;
+	}
+
+	/**
+	 * Revalidate the CRL with Vault.
+	 * @throws VaultException if the CRL cannot be retrieved.
+	 */
+	public void refresh() throws VaultException {
+		this.lock.lock();
+		try {
+			this.state = doRefresh(this.state);
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	private RevocationState getState() {
+
+		RevocationState state = this.state;
+		if (state != null && this.clock.instant().isBefore(state.refreshAt())) {
+			return state;
+		}
+
+		if (state == null) {
+			this.lock.lock();
+		} else if (!this.lock.tryLock()) {
+			return state;
+		}
+
+		try {
+			RevocationState current = this.state;
+			if (current != null && this.clock.instant().isBefore(current.refreshAt())) {
+				return current;
+			}
+
+			RevocationState refreshed;
+			try {
+				refreshed = doRefresh(current);
+			} catch (RuntimeException e) {
+				if (current == null) {
+					throw e;
+				}
+				logger.warn("Cannot refresh CRL from %s; Using previously obtained CRL".formatted(this.path), e);
+				refreshed = current.withRefreshAt(this.clock.instant().plus(this.refreshInterval));
+			}
+
+			this.state = refreshed;
+			return refreshed;
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	private RevocationState doRefresh(@Nullable RevocationState previous) {
+
+		CachedCrl base = fetch("{path}/crl", previous != null ? previous.crl() : null);
+		if (base == null) {
+			throw new VaultException("No CRL available at %s/crl".formatted(this.path));
+		}
+
+		CachedCrl delta = null;
+		if (this.deltaCrl) {
+
+			delta = fetch("{path}/crl/delta", previous != null ? previous.delta() : null);
+			if (delta != null) {
+
+				BigInteger baseNumber = base.number();
+				BigInteger deltaBase = delta.baseNumber();
+				if (baseNumber != null && deltaBase != null && deltaBase.compareTo(baseNumber) > 0) {
+					CachedCrl latest = fetch("{path}/crl", null);
+					base = latest != null ? latest : base;
+				}
+			}
+		}
+
+		return new RevocationState(base, delta, getRefreshAt(base, delta));
+	}
+
+	/**
+	 * Retrieve and index a CRL. Returns {@code cached} if Vault reports the CRL
+	 * as not modified.
+	 */
+	@SuppressWarnings("NullAway")
+	private @Nullable CachedCrl fetch(String requestPath, @Nullable CachedCrl cached) {
+
+		return this.vaultOperations.doWithSessionClient((VaultClientCallback<@Nullable CachedCrl>) client -> {
+			return client.get().path(requestPath, this.path).headers(headers -> {
+				if (cached != null && cached.etag() != null) {
+					headers.setIfNoneMatch(cached.etag());
+				}
+				if (cached != null && cached.lastModified() != null) {
+					headers.set(HttpHeaders.IF_MODIFIED_SINCE, cached.lastModified());
+				}
+			}).retrieve().exchange((statusCode, headers, body) -> {
+
+				if (cached != null && statusCode.isSameCodeAs(HttpStatus.NOT_MODIFIED)) {
+					return cached;
+				}
+
+				X509CRL crl = parse(body);
+				return crl != null ? CachedCrl.from(crl, headers.getETag(), headers.getFirst(HttpHeaders.LAST_MODIFIED))
+						: null;
+			});
+		});
+	}
+
+	private static @Nullable X509CRL parse(InputStream body) throws IOException {
+
+		PushbackInputStream stream = new PushbackInputStream(body);
+		int first = stream.read();
+		if (first == -1) {
+			return null;
+		}
+		stream.unread(first);
+
+		try {
+			return (X509CRL) CertificateFactory.getInstance("X.509").generateCRL(stream);
+		} catch (GeneralSecurityException e) {
+			throw new VaultException("Cannot parse CRL", e);
+		}
+	}
+
+	private Instant getRefreshAt(CachedCrl crl, @Nullable CachedCrl delta) {
+
+		Instant now = this.clock.instant();
+		Instant refreshAt = now.plus(this.refreshInterval);
+
+		for (CachedCrl candidate : delta != null ? new CachedCrl[] { crl, delta } : new CachedCrl[] { crl }) {
+			Instant nextUpdate = candidate.nextUpdate();
+			if (nextUpdate != null && nextUpdate.isAfter(now) && nextUpdate.isBefore(refreshAt)) {
+				refreshAt = nextUpdate;
+			}
+		}
+
+		return refreshAt;
+	}
+
+	/**
+	 * Decode a {@code CRLNumber} or {@code BaseCRLNumber} extension value which
+	 * is an {@code INTEGER} wrapped in an {@code OCTET STRING}.
+	 */
+	static @Nullable BigInteger getExtensionNumber(X509CRL crl, String oid) {
+
+		byte[] extension = crl.getExtensionValue(oid);
+		if (extension == null || extension.length < 4) {
+			return null;
+		}
+
+		int offset = 2 + ((extension[1] & 0x80) != 0 ? extension[1] & 0x7F : 0);
+		if (offset + 2 > extension.length || extension[offset] != 0x02) {
+			return null;
+		}
+
+		int length = extension[offset + 1] & 0xFF;
+		if (length == 0 || length > 0x7F || offset + 2 + length > extension.length) {
+			return null;
+		}
+
+		return new BigInteger(Arrays.copyOfRange(extension, offset + 2, offset + 2 + length));
+	}
+
+
+	/**
+	 * Index of a CRL along with the metadata required to refresh it. Serial
+	 * numbers of entries with the {@code removeFromCRL} reason (delta CRLs) are
+	 * indexed in {@code removed}.
+	 */
+	record CachedCrl(SerialNumberSet revoked, SerialNumberSet removed, @Nullable String etag,
+			@Nullable String lastModified, @Nullable Instant nextUpdate, @Nullable BigInteger number,
+			@Nullable BigInteger baseNumber) {
+
+		static CachedCrl from(X509CRL crl, @Nullable String etag, @Nullable String lastModified) {
+
+			Set<? extends X509CRLEntry> entries = crl.getRevokedCertificates();
+			int removals = 0;
+			if (entries != null) {
+				for (X509CRLEntry entry : entries) {
+					if (entry.getRevocationReason() == CRLReason.REMOVE_FROM_CRL) {
+						removals++;
+					}
+				}
+			}
+
+			SerialNumberSet revoked = new SerialNumberSet(entries != null ? entries.size() - removals : 0);
+			SerialNumberSet removed = new SerialNumberSet(removals);
+			if (entries != null) {
+				for (X509CRLEntry entry : entries) {
+					if (entry.getRevocationReason() == CRLReason.REMOVE_FROM_CRL) {
+						removed.add(entry.getSerialNumber());
+					} else {
+						revoked.add(entry.getSerialNumber());
+					}
+				}
+			}
+
+			Date nextUpdate = crl.getNextUpdate();
+			return new CachedCrl(revoked, removed, etag, lastModified,
+					nextUpdate != null ? nextUpdate.toInstant() : null, getExtensionNumber(crl, CRL_NUMBER),
+					getExtensionNumber(crl, DELTA_CRL_INDICATOR));
+		}
+
+	}
+
+	record RevocationState(CachedCrl crl, @Nullable CachedCrl delta, Instant refreshAt) {
+
+		boolean isRevoked(BigInteger serialNumber) {
+
+			if (this.delta != null) {
+				if (this.delta.revoked().contains(serialNumber)) {
+					return true;
+				}
+				if (this.delta.removed().contains(serialNumber)) {
+					return false;
+				}
+			}
+
+			return this.crl.revoked().contains(serialNumber);
+		}
+
+		RevocationState withRefreshAt(Instant refreshAt) {
+			return new RevocationState(crl, delta, refreshAt);
+		}
+
+	}
+
+	/**
+	 * Insert-only open-addressing hash set of serial numbers stored as their
+	 * two's-complement byte representation.
+	 */
+	static class SerialNumberSet {
+
+		private final byte[][] table;
+
+		private final int mask;
+
+		private int size;
+
+		SerialNumberSet(int expectedSize) {
+			int capacity = Integer.highestOneBit(Math.max(expectedSize, 2) * 2 - 1) << 1;
+			this.table = new byte[capacity][];
+			this.mask = capacity - 1;
+		}
+
+		void add(BigInteger serialNumber) {
+
+			byte[] key = serialNumber.toByteArray();
+			int index = indexOf(key);
+
+			if (this.table[index] == null) {
+				this.table[index] = key;
+				this.size++;
+			}
+		}
+
+		boolean contains(BigInteger serialNumber) {
+			return this.table[indexOf(serialNumber.toByteArray())] != null;
+		}
+
+		int size() {
+			return this.size;
+		}
+
+		private int indexOf(byte[] key) {
+
+			int hash = Arrays.hashCode(key);
+			int index = (hash ^ (hash >>> 16)) & this.mask;
+
+			byte[] candidate;
+			while ((candidate = this.table[index]) != null && !Arrays.equals(candidate, key)) {
+				index = (index + 1) & this.mask;
+			}
+
+			return index;
+		}
+
+	}
+
+}
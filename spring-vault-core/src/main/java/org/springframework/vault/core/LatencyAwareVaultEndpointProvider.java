@@ -0,0 +1,630 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.vault.core;
+
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.jspecify.annotations.Nullable;
+import reactor.core.publisher.Mono;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.support.HttpRequestWrapper;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.util.Assert;
+import org.springframework.vault.client.ReactiveVaultClient;
+import org.springframework.vault.client.VaultClient;
+import org.springframework.vault.client.VaultEndpoint;
+import org.springframework.vault.client.VaultEndpointProvider;
+import org.springframework.vault.support.VaultHealth;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.util.UriComponentsBuilder;
+
+/**
+ * {@link VaultEndpointProvider} distributing requests across the nodes of a
+ * Vault cluster. Nodes are health-checked periodically through
+ * {@link VaultSysOperations#health()} to discover the active node and
+ * performance standby nodes. Each node tracks an exponentially weighted moving
+ * average (EWMA) of its response latency.
+ * <p>{@link #getVaultEndpoint()} resolves to the active node and is used for
+ * all requests that are not routed otherwise. Read requests can be routed to
+ * the fastest healthy performance standby by registering
+ * {@link #readRoutingInterceptor()} with {@link VaultClient} respective
+ * {@link #readRoutingFilter()} with {@link ReactiveVaultClient}, see
+ * {@link #configure(VaultClient.Builder)} and
+ * {@link #configure(ReactiveVaultClient.Builder)}. {@code GET} requests are
+ * considered read requests.
+ * <p>Nodes are probed concurrently. Nodes failing a health check, not
+ * responding within the {@link #setHealthCheckTimeout(Duration) health check
+ * timeout} or failing a request with an I/O error are ejected immediately and
+ * considered again once a subsequent health check succeeds. If no node is
+ * healthy, requests are routed to the first configured endpoint.
+ * <p>Usage example:
+ *
+ * <pre class="code">
+ * LatencyAwareVaultEndpointProvider endpointProvider = new LatencyAwareVaultEndpointProvider(
+ * 		List.of(VaultEndpoint.create("vault-1", 8200), VaultEndpoint.create("vault-2", 8200)),
+ * 		requestFactory);
+ * endpointProvider.afterPropertiesSet();
+ *
+ * VaultClient client = VaultClient.builder()
+ * 		.requestFactory(requestFactory)
+ * 		.apply(endpointProvider::configure)
+ * 		.build();
+ * </pre>
+ *
+ * <p>Instances are thread-safe once {@link #afterPropertiesSet() initialized}.
+ *
+ * @author Mark Paluch
+ * @since 4.2
+ * @see VaultSysOperations#health()
+ */
+public class LatencyAwareVaultEndpointProvider implements VaultEndpointProvider, InitializingBean, DisposableBean {
+
+	private static final Log logger = LogFactory.getLog(LatencyAwareVaultEndpointProvider.class);
+
+	private static final AtomicInteger poolId = new AtomicInteger();
+
+	/**
+	 * Default interval between health checks.
+	 */
+	public static final Duration DEFAULT_HEALTH_CHECK_INTERVAL = Duration.ofSeconds(5);
+
+	/**
+	 * Default time to wait for a health check response.
+	 */
+	public static final Duration DEFAULT_HEALTH_CHECK_TIMEOUT = Duration.ofSeconds(2);
+
+	/**
+	 * Default EWMA smoothing factor.
+	 */
+	public static final double DEFAULT_SMOOTHING_FACTOR = 0.3;
+
+
+	private final List<Node> nodes;
+
+	private Duration healthCheckInterval = DEFAULT_HEALTH_CHECK_INTERVAL;
+
+	private Duration healthCheckTimeout = DEFAULT_HEALTH_CHECK_TIMEOUT;
+
+	private double smoothingFactor = DEFAULT_SMOOTHING_FACTOR;
+
+	private @Nullable TaskScheduler taskScheduler;
+
+	private boolean manageTaskScheduler;
+
+	private final List<ScheduledFuture<?>> healthChecks = new ArrayList<>();
+
+	private volatile boolean initialized;
+
+
+	/**
+	 * Create a new {@code LatencyAwareVaultEndpointProvider} for the given
+	 * {@link VaultEndpoint endpoints}. Health checks use a dedicated
+	 * {@link VaultClient} per endpoint created from
+	 * {@link ClientHttpRequestFactory}.
+	 * @param endpoints must not be {@literal null} or empty.
+	 * @param requestFactory must not be {@literal null}.
+	 */
+	public LatencyAwareVaultEndpointProvider(List<VaultEndpoint> endpoints, ClientHttpRequestFactory requestFactory) {
+		this(endpoints, createSysOperationsFactory(requestFactory));
+	}
+
+	/**
+	 * Create a new {@code LatencyAwareVaultEndpointProvider} for the given
+	 * {@link VaultEndpoint endpoints} using {@link VaultSysOperations} obtained
+	 * from {@code sysOperationsFactory} for health checks.
+	 * @param endpoints must not be {@literal null} or empty.
+	 * @param sysOperationsFactory must not be {@literal null}.
+	 */
+	public LatencyAwareVaultEndpointProvider(List<VaultEndpoint> endpoints,
+			Function<VaultEndpoint, VaultSysOperations> sysOperationsFactory) {
+
+		Assert.notEmpty(endpoints, "VaultEndpoints must not be empty");
+		Assert.noNullElements(endpoints, "VaultEndpoints must not contain null elements");
+		Assert.notNull(sysOperationsFactory, "SysOperations factory must not be null");
+
+		List<Node> nodes = new ArrayList<>(endpoints.size());
+		for (VaultEndpoint endpoint : endpoints) {
+			nodes.add(new Node(endpoint, sysOperationsFactory.apply(endpoint)));
+		}
+		this.nodes = Collections.unmodifiableList(nodes);
+	}
+
+	private static Function<VaultEndpoint, VaultSysOperations> createSysOperationsFactory(
+			ClientHttpRequestFactory requestFactory) {
+		Assert.notNull(requestFactory, "ClientHttpRequestFactory must not be null");
+		return endpoint -> new VaultTemplate(
+				VaultClient.builder().endpoint(endpoint).requestFactory(requestFactory).build()).opsForSys();
+	}
+
+
+	/**
+	 * Set the interval between health checks. Defaults to
+	 * {@link #DEFAULT_HEALTH_CHECK_INTERVAL 5 seconds}.
+	 * @param healthCheckInterval must not be {@literal null} and must be
+	 * positive.
+	 */
+	public void setHealthCheckInterval(Duration healthCheckInterval) {
+		Assert.notNull(healthCheckInterval, "Health check interval must not be null");
+		Assert.isTrue(!healthCheckInterval.isNegative() && !healthCheckInterval.isZero(),
+				"Health check interval must be positive");
+		this.healthCheckInterval = healthCheckInterval;
+	}
+
+	/**
+	 * Set the time to wait for a health check response. Nodes not responding in
+	 * time are ejected without waiting for the read timeout of the underlying
+	 * HTTP client. Defaults to {@link #DEFAULT_HEALTH_CHECK_TIMEOUT 2 seconds}.
+	 * @param healthCheckTimeout must not be {@literal null} and must be positive.
+	 */
+	public void setHealthCheckTimeout(Duration healthCheckTimeout) {
+		Assert.notNull(healthCheckTimeout, "Health check timeout must not be null");
+		Assert.isTrue(!healthCheckTimeout.isNegative() && !healthCheckTimeout.isZero(),
+				"Health check timeout must be positive");
+		this.healthCheckTimeout = healthCheckTimeout;
+	}
+
+	/**
+	 * Set the EWMA smoothing factor applied to latency samples. Higher values
+	 * weigh recent samples stronger. Defaults to
+	 * {@link #DEFAULT_SMOOTHING_FACTOR 0.3}.
+	 * @param smoothingFactor smoothing factor between {@code 0} (exclusive) and
+	 * {@code 1} (inclusive).
+	 */
+	public void setSmoothingFactor(double smoothingFactor) {
+		Assert.isTrue(smoothingFactor > 0 && smoothingFactor <= 1, "Smoothing factor must be within (0, 1]");
+		this.smoothingFactor = smoothingFactor;
+	}
+
+	/**
+	 * Set the {@link TaskScheduler} to run health checks. Each node is checked by
+	 * its own scheduled task. A dedicated scheduler with a thread per node is
+	 * created and managed by this provider if no scheduler is configured.
+	 * @param taskScheduler must not be {@literal null}.
+	 */
+	public void setTaskScheduler(TaskScheduler taskScheduler) {
+		Assert.notNull(taskScheduler, "TaskScheduler must not be null");
+		this.taskScheduler = taskScheduler;
+	}
+
+	/**
+	 * Run an initial health check and schedule periodic health checks.
+	 */
+	@Override
+	public void afterPropertiesSet() {
+
+		if (this.initialized) {
+			return;
+		}
+		this.initialized = true;
+
+		if (this.taskScheduler == null) {
+			ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+			scheduler.setDaemon(true);
+			scheduler.setPoolSize(this.nodes.size());
+			scheduler.setThreadNamePrefix("%s-%d-".formatted(getClass().getSimpleName(), poolId.incrementAndGet()));
+			scheduler.afterPropertiesSet();
+			this.taskScheduler = scheduler;
+			this.manageTaskScheduler = true;
+		}
+
+		checkHealth();
+
+		for (Node node : this.nodes) {
+			this.healthChecks.add(
+					this.taskScheduler.scheduleWithFixedDelay(() -> checkHealth(node), this.healthCheckInterval));
+		}
+	}
+
+	/**
+	 * Stop health checks and shut down the managed {@link TaskScheduler}, if any.
+	 */
+	@Override
+	public void destroy() throws Exception {
+
+		this.healthChecks.forEach(healthCheck -> healthCheck.cancel(false));
+		this.healthChecks.clear();
+
+		if (this.manageTaskScheduler && this.taskScheduler instanceof DisposableBean disposable) {
+			disposable.destroy();
+			this.taskScheduler = null;
+		}
+	}
+
+	/**
+	 * Check the health of all nodes concurrently and wait until all nodes have
+	 * responded or the {@link #setHealthCheckTimeout(Duration) health check
+	 * timeout} has elapsed. Nodes are checked periodically once
+	 * {@link #afterPropertiesSet() initialized}.
+	 */
+	public void checkHealth() {
+
+		SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(getClass().getSimpleName() + "-");
+		executor.setDaemon(true);
+
+		CompletableFuture<?>[] probes = new CompletableFuture<?>[this.nodes.size()];
+		AtomicBoolean[] done = new AtomicBoolean[probes.length];
+		for (int i = 0; i < probes.length; i++) {
+			Node node = this.nodes.get(i);
+			AtomicBoolean nodeDone = done[i] = new AtomicBoolean();
+			probes[i] = CompletableFuture.runAsync(() -> checkHealth(node, nodeDone), executor);
+		}
+
+		try {
+			CompletableFuture.allOf(probes).get(this.healthCheckTimeout.toNanos(), TimeUnit.NANOSECONDS);
+		} catch (TimeoutException | ExecutionException e) {
+			// eject nodes not responding in time before returning
+			for (int i = 0; i < probes.length; i++) {
+				onTimeout(this.nodes.get(i), done[i]);
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private void checkHealth(Node node) {
+		checkHealth(node, new AtomicBoolean());
+	}
+
+	private void checkHealth(Node node, AtomicBoolean done) {
+
+		CompletableFuture.delayedExecutor(this.healthCheckTimeout.toNanos(), TimeUnit.NANOSECONDS)
+				.execute(() -> onTimeout(node, done));
+
+		long start = System.nanoTime();
+		try {
+			VaultHealth health = node.sysOperations.health();
+			if (done.compareAndSet(false, true)) {
+				node.update(health);
+				recordLatency(node, System.nanoTime() - start);
+			}
+		} catch (RuntimeException e) {
+			if (done.compareAndSet(false, true)) {
+				if (logger.isDebugEnabled()) {
+					logger.debug("Health check of %s failed".formatted(node.endpoint), e);
+				}
+				node.eject();
+			}
+		}
+	}
+
+	private void onTimeout(Node node, AtomicBoolean done) {
+
+		if (done.compareAndSet(false, true)) {
+			if (logger.isDebugEnabled()) {
+				logger.debug("Health check of %s timed out after %d ms".formatted(node.endpoint,
+						this.healthCheckTimeout.toMillis()));
+			}
+			node.eject();
+		}
+	}
+
+	/**
+	 * Return the {@link VaultEndpoint} of the active node. Falls back to the
+	 * fastest healthy node if no active node is known.
+	 * @return the {@link VaultEndpoint} to use for write requests.
+	 */
+	@Override
+	public VaultEndpoint getVaultEndpoint() {
+
+		Node fastest = null;
+		for (Node node : this.nodes) {
+			if (!node.isAvailable()) {
+				continue;
+			}
+			if (node.active) {
+				return node.endpoint;
+			}
+			fastest = faster(fastest, node);
+		}
+
+		return fastest != null ? fastest.endpoint : this.nodes.get(0).endpoint;
+	}
+
+	/**
+	 * Return the {@link VaultEndpoint} of the fastest healthy performance standby
+	 * node. Falls back to {@link #getVaultEndpoint()} if no performance standby
+	 * is available.
+	 * @return the {@link VaultEndpoint} to use for read requests.
+	 */
+	public VaultEndpoint getReadEndpoint() {
+
+		Node fastest = null;
+		for (Node node : this.nodes) {
+			if (node.isAvailable() && node.performanceStandby) {
+				fastest = faster(fastest, node);
+			}
+		}
+
+		return fastest != null ? fastest.endpoint : getVaultEndpoint();
+	}
+
+	/**
+	 * Return the {@link VaultEndpoint} of the fastest healthy node other than the
+	 * node {@code uri} points to. Falls back to {@link #getVaultEndpoint()} if no
+	 * other node is available.
+	 * @param uri the URI of the original request.
+	 * @return the {@link VaultEndpoint} to send a hedged request to.
+	 */
+	@Override
+	public VaultEndpoint getAlternateEndpoint(URI uri) {
+
+		Node current = findNode(uri);
+		Node fastest = null;
+		for (Node node : this.nodes) {
+			if (node != current && node.isAvailable()) {
+				fastest = faster(fastest, node);
+			}
+		}
+
+		return fastest != null ? fastest.endpoint : getVaultEndpoint();
+	}
+
+	/**
+	 * Return the smoothed latency of the given {@link VaultEndpoint}.
+	 * @param endpoint must not be {@literal null}.
+	 * @return the smoothed latency or {@literal null} if the endpoint has no
+	 * latency samples yet.
+	 */
+	public @Nullable Duration getLatency(VaultEndpoint endpoint) {
+
+		Node node = findNode(endpoint);
+		Assert.notNull(node, () -> "Unknown VaultEndpoint %s".formatted(endpoint));
+
+		double latency = node.latency;
+		return Double.isNaN(latency) ? null : Duration.ofNanos((long) latency);
+	}
+
+	/**
+	 * Return whether the given {@link VaultEndpoint} is healthy and not ejected.
+	 * @param endpoint must not be {@literal null}.
+	 * @return {@literal true} if the endpoint is available.
+	 */
+	public boolean isAvailable(VaultEndpoint endpoint) {
+
+		Node node = findNode(endpoint);
+		Assert.notNull(node, () -> "Unknown VaultEndpoint %s".formatted(endpoint));
+
+		return node.isAvailable();
+	}
+
+	/**
+	 * Configure {@link VaultClient.Builder} to use this endpoint provider and to
+	 * route read requests through {@link #readRoutingInterceptor()}.
+	 * @param builder the builder to configure.
+	 */
+	public void configure(VaultClient.Builder builder) {
+		builder.endpoint(this).configureRestClient(it -> it.requestInterceptor(readRoutingInterceptor()));
+	}
+
+	/**
+	 * Configure {@link ReactiveVaultClient.Builder} to use this endpoint provider
+	 * and to route read requests through {@link #readRoutingFilter()}.
+	 * @param builder the builder to configure.
+	 */
+	public void configure(ReactiveVaultClient.Builder builder) {
+		builder.endpoint(this).configureWebClient(it -> it.filter(readRoutingFilter()));
+	}
+
+	/**
+	 * Create a {@link ClientHttpRequestInterceptor} that routes read requests to
+	 * {@link #getReadEndpoint()}, records request latencies and ejects nodes
+	 * failing with an I/O error.
+	 * @return the {@link ClientHttpRequestInterceptor}.
+	 */
+	public ClientHttpRequestInterceptor readRoutingInterceptor() {
+
+		return (request, body, execution) -> {
+
+			HttpRequest requestToUse = request;
+			Node node = findNode(request.getURI());
+
+			if (node != null && HttpMethod.GET.equals(request.getMethod())) {
+
+				VaultEndpoint readEndpoint = getReadEndpoint();
+				if (!readEndpoint.equals(node.endpoint)) {
+					URI uri = rewrite(request.getURI(), readEndpoint);
+					requestToUse = new HttpRequestWrapper(request) {
+						@Override
+						public URI getURI() {
+							return uri;
+						}
+					};
+					node = findNode(readEndpoint);
+				}
+			}
+
+			if (node == null) {
+				return execution.execute(requestToUse, body);
+			}
+
+			long start = System.nanoTime();
+			try {
+				ClientHttpResponse response = execution.execute(requestToUse, body);
+				recordLatency(node, System.nanoTime() - start);
+				return response;
+			} catch (IOException e) {
+				node.eject();
+				throw e;
+			}
+		};
+	}
+
+	/**
+	 * Create an {@link ExchangeFilterFunction} that routes read requests to
+	 * {@link #getReadEndpoint()}, records request latencies and ejects nodes
+	 * failing with an I/O error.
+	 * @return the {@link ExchangeFilterFunction}.
+	 */
+	public ExchangeFilterFunction readRoutingFilter() {
+
+		return (request, next) -> Mono.defer(() -> {
+
+			ClientRequest requestToUse = request;
+			Node node = findNode(request.url());
+
+			if (node != null && HttpMethod.GET.equals(request.method())) {
+
+				VaultEndpoint readEndpoint = getReadEndpoint();
+				if (!readEndpoint.equals(node.endpoint)) {
+					requestToUse = ClientRequest.from(request).url(rewrite(request.url(), readEndpoint)).build();
+					node = findNode(readEndpoint);
+				}
+			}
+
+			if (node == null) {
+				return next.exchange(requestToUse);
+			}
+
+			Node target = node;
+			long start = System.nanoTime();
+			return next.exchange(requestToUse)
+					.doOnNext(response -> recordLatency(target, System.nanoTime() - start))
+					.doOnError(WebClientRequestException.class, e -> target.eject());
+		});
+	}
+
+	private void recordLatency(Node node, long nanos) {
+		node.recordLatency(nanos, this.smoothingFactor);
+	}
+
+	private @Nullable Node findNode(VaultEndpoint endpoint) {
+
+		for (Node node : this.nodes) {
+			if (node.endpoint.equals(endpoint)) {
+				return node;
+			}
+		}
+		return null;
+	}
+
+	private @Nullable Node findNode(URI uri) {
+
+		for (Node node : this.nodes) {
+			if (node.endpoint.getHost().equalsIgnoreCase(uri.getHost()) && node.endpoint.getPort() == uri.getPort()) {
+				return node;
+			}
+		}
+		return null;
+	}
+
+	private static URI rewrite(URI uri, VaultEndpoint endpoint) {
+		return UriComponentsBuilder.fromUri(uri)
+				.scheme(endpoint.getScheme())
+				.host(endpoint.getHost())
+				.port(endpoint.getPort())
+				.build(true)
+				.toUri();
+	}
+
+	private static Node faster(@Nullable Node current, Node candidate) {
+
+		if (current == null) {
+			return candidate;
+		}
+
+		double candidateLatency = candidate.latency;
+		if (Double.isNaN(candidateLatency)) {
+			return current;
+		}
+
+		return Double.isNaN(current.latency) || candidateLatency < current.latency ? candidate : current;
+	}
+
+
+	/**
+	 * Health and latency state of a single node.
+	 */
+	static class Node {
+
+		final VaultEndpoint endpoint;
+
+		final VaultSysOperations sysOperations;
+
+		volatile boolean healthy = true;
+
+		volatile boolean ejected;
+
+		volatile boolean active;
+
+		volatile boolean performanceStandby;
+
+		volatile double latency = Double.NaN;
+
+
+		Node(VaultEndpoint endpoint, VaultSysOperations sysOperations) {
+			this.endpoint = endpoint;
+			this.sysOperations = sysOperations;
+		}
+
+
+		boolean isAvailable() {
+			return this.healthy && !this.ejected;
+		}
+
+		void update(VaultHealth health) {
+			this.healthy = health.isInitialized() && !health.isSealed();
+			this.active = this.healthy && !health.isStandby() && !health.isPerformanceStandby();
+			this.performanceStandby = this.healthy && health.isPerformanceStandby();
+			this.ejected = false;
+		}
+
+		void eject() {
+			if (!this.ejected && logger.isInfoEnabled()) {
+				logger.info("Ejecting Vault endpoint %s".formatted(this.endpoint));
+			}
+			this.ejected = true;
+		}
+
+		synchronized void recordLatency(long nanos, double smoothingFactor) {
+			double latency = this.latency;
+			this.latency = Double.isNaN(latency) ? nanos : smoothingFactor * nanos + (1 - smoothingFactor) * latency;
+		}
+
+		@Override
+		public String toString() {
+			return this.endpoint.toString();
+		}
+
+	}
+
+}
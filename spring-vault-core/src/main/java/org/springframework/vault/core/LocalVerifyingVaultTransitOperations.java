@@ -0,0 +1,511 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.vault.core;
+
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.MessageDigest;
+import java.security.PublicKey;
+import java.security.SignatureException;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.MGF1ParameterSpec;
+import java.security.spec.PSSParameterSpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+import org.springframework.vault.core.util.TransitVersions;
+import org.springframework.vault.support.*;
+
+/**
+ * {@link VaultTransitOperations} decorator verifying signatures of asymmetric
+ * keys locally.
+ * <p>Signatures created with {@code ecdsa-p256}, {@code ecdsa-p384},
+ * {@code ecdsa-p521}, {@code ed25519}, and {@code rsa-*} keys are verified
+ * in-process using the Java Cryptography Architecture. Public keys are obtained
+ * through {@link #getKey(String)} and cached per key name for the
+ * {@link #setKeyTtl(Duration) key TTL}. A signature referencing a version newer
+ * than the cached latest version refreshes the cached keys. Verification is
+ * delegated to Vault for HMACs, pre-hashed input, derived keys, unsupported
+ * algorithms, and key versions that are not available locally. Negative results
+ * of RSA-PSS verification are confirmed by Vault as the salt length used during
+ * signing is not encoded in the signature.
+ * <p>Other operations are delegated without modification.
+ *
+ * @author Mark Paluch
+ * @since 4.2
+ */
+public class LocalVerifyingVaultTransitOperations implements VaultTransitOperations {
+
+	private static final Log logger = LogFactory.getLog(LocalVerifyingVaultTransitOperations.class);
+
+	private static final byte[] ED25519_PREFIX = HexFormat.of().parseHex("302a300506032b6570032100");
+
+	private static final Map<String, HashAlgorithm> HASH_ALGORITHMS = Map.of("sha1",
+			new HashAlgorithm("SHA1", "SHA-1"), "sha2-224", new HashAlgorithm("SHA224", "SHA-224"), "sha2-256",
+			new HashAlgorithm("SHA256", "SHA-256"), "sha2-384", new HashAlgorithm("SHA384", "SHA-384"), "sha2-512",
+			new HashAlgorithm("SHA512", "SHA-512"), "sha3-224", new HashAlgorithm("SHA3-224", "SHA3-224"), "sha3-256",
+			new HashAlgorithm("SHA3-256", "SHA3-256"), "sha3-384", new HashAlgorithm("SHA3-384", "SHA3-384"),
+			"sha3-512", new HashAlgorithm("SHA3-512", "SHA3-512"));
+
+
+	private final VaultTransitOperations delegate;
+
+	private final LongSupplier clock;
+
+	private final Map<String, PublicKeys> keys = new ConcurrentHashMap<>();
+
+	private volatile long keyTtlNanos = Duration.ofMinutes(5).toNanos();
+
+
+	/**
+	 * Create a new {@code LocalVerifyingVaultTransitOperations} decorating the
+	 * given {@link VaultTransitOperations}.
+	 * @param delegate must not be {@literal null}.
+	 */
+	public LocalVerifyingVaultTransitOperations(VaultTransitOperations delegate) {
+		this(delegate, System::nanoTime);
+	}
+
+	LocalVerifyingVaultTransitOperations(VaultTransitOperations delegate, LongSupplier clock) {
+		Assert.notNull(delegate, "VaultTransitOperations must not be null");
+		this.delegate = delegate;
+		this.clock = clock;
+	}
+
+
+	/**
+	 * Set the duration for which public keys are cached before they are obtained
+	 * again from Vault. Defaults to 5 minutes. Refreshing cached keys applies
+	 * changes to {@code min_decryption_version} and key deletion.
+	 * @param keyTtl must not be {@literal null} or negative.
+	 */
+	public void setKeyTtl(Duration keyTtl) {
+		Assert.notNull(keyTtl, "Key TTL must not be null");
+		Assert.isTrue(!keyTtl.isNegative(), "Key TTL must not be negative");
+		this.keyTtlNanos = keyTtl.toNanos();
+	}
+
+	/**
+	 * Evict cached public keys for {@code keyName}.
+	 * @param keyName must not be empty or {@literal null}.
+	 */
+	public void evict(String keyName) {
+		Assert.hasText(keyName, "Key name must not be empty");
+		this.keys.remove(keyName);
+	}
+
+	@Override
+	public boolean verify(String keyName, Plaintext plaintext, Signature signature) {
+
+		Assert.hasText(keyName, "Key name must not be empty");
+		Assert.notNull(plaintext, "Plaintext must not be null");
+		Assert.notNull(signature, "Signature must not be null");
+
+		return verify(keyName, VaultSignatureVerificationRequest.create(plaintext, signature)).isValid();
+	}
+
+	@Override
+	public SignatureValidation verify(String keyName, VaultSignatureVerificationRequest request) {
+
+		Assert.hasText(keyName, "Key name must not be empty");
+		Assert.notNull(request, "Signature verification request must not be null");
+
+		Boolean valid = verifyLocally(keyName, request);
+		if (valid != null) {
+			return valid ? SignatureValidation.valid() : SignatureValidation.invalid();
+		}
+
+		return this.delegate.verify(keyName, request);
+	}
+
+	@Override
+	public List<VaultSignatureVerificationResult> verify(String keyName,
+			List<VaultSignatureVerificationRequest> batchRequest) {
+
+		Assert.hasText(keyName, "Key name must not be empty");
+		Assert.notEmpty(batchRequest, "BatchRequest must not be null and must have at least one entry");
+
+		VaultSignatureVerificationResult[] results = new VaultSignatureVerificationResult[batchRequest.size()];
+		List<Integer> pending = new ArrayList<>();
+
+		for (int i = 0; i < batchRequest.size(); i++) {
+
+			Boolean valid = verifyLocally(keyName, batchRequest.get(i));
+			if (valid != null) {
+				results[i] = new VaultSignatureVerificationResult(
+						valid ? SignatureValidation.valid() : SignatureValidation.invalid());
+			} else {
+				pending.add(i);
+			}
+		}
+
+		if (!pending.isEmpty()) {
+
+			List<VaultSignatureVerificationRequest> remaining = new ArrayList<>(pending.size());
+			pending.forEach(index -> remaining.add(batchRequest.get(index)));
+
+			List<VaultSignatureVerificationResult> verified = this.delegate.verify(keyName, remaining);
+			for (int i = 0; i < pending.size(); i++) {
+				results[pending.get(i)] = verified.get(i);
+			}
+		}
+
+		return List.of(results);
+	}
+
+	private @Nullable Boolean verifyLocally(String keyName, VaultSignatureVerificationRequest request) {
+
+		Signature signature = request.getSignature();
+		if (signature == null || request.getHmac() != null || request.isPrehashed()) {
+			return null;
+		}
+
+		String encoded = TransitVersions.removeVersionPrefix(signature.getSignature());
+		if (!StringUtils.hasText(encoded)) {
+			return null;
+		}
+
+		int version = TransitVersions.getKeyVersion(signature.getSignature());
+		VerificationKey key = getVerificationKey(keyName, version);
+		if (key == null) {
+			return null;
+		}
+
+		try {
+
+			java.security.Signature verifier = key.createVerifier(request.getHashAlgorithm(),
+					request.getSignatureAlgorithm());
+			if (verifier == null) {
+				return null;
+			}
+
+			verifier.update(request.getPlaintext().getPlaintext());
+			boolean valid = verifier.verify(Base64.getDecoder().decode(encoded));
+
+			return valid || !key.isRsaPss(request.getSignatureAlgorithm()) ? valid : null;
+		} catch (IllegalArgumentException | SignatureException e) {
+			return key.isRsaPss(request.getSignatureAlgorithm()) ? null : false;
+		} catch (GeneralSecurityException e) {
+
+			if (logger.isDebugEnabled()) {
+				logger.debug("Cannot verify signature locally for key [%s]".formatted(keyName), e);
+			}
+			return null;
+		}
+	}
+
+	private @Nullable VerificationKey getVerificationKey(String keyName, int version) {
+
+		long now = this.clock.getAsLong();
+		PublicKeys publicKeys = this.keys.get(keyName);
+
+		if (publicKeys == null || now - publicKeys.expiresAt >= 0 || version > publicKeys.latestVersion) {
+
+			VaultTransitKey key = this.delegate.getKey(keyName);
+			if (key == null) {
+				this.keys.remove(keyName);
+				return null;
+			}
+
+			publicKeys = PublicKeys.from(key, now + this.keyTtlNanos);
+			this.keys.put(keyName, publicKeys);
+		}
+
+		if (version < publicKeys.minVersion) {
+			return null;
+		}
+
+		return publicKeys.keys.get(version);
+	}
+
+	// -------------------------------------------------------------------------
+	// Delegating methods
+	// -------------------------------------------------------------------------
+
+	@Override
+	public void createKey(String keyName) {
+		this.delegate.createKey(keyName);
+	}
+
+	@Override
+	public void createKey(String keyName, VaultTransitKeyCreationRequest createKeyRequest) {
+		this.delegate.createKey(keyName, createKeyRequest);
+	}
+
+	@Override
+	public List<String> getKeys() {
+		return this.delegate.getKeys();
+	}
+
+	@Override
+	public void configureKey(String keyName, VaultTransitKeyConfiguration keyConfiguration) {
+		this.delegate.configureKey(keyName, keyConfiguration);
+		evict(keyName);
+	}
+
+	@Override
+	public @Nullable RawTransitKey exportKey(String keyName, TransitKeyType type) {
+		return this.delegate.exportKey(keyName, type);
+	}
+
+	@Override
+	public @Nullable VaultTransitKey getKey(String keyName) {
+		return this.delegate.getKey(keyName);
+	}
+
+	@Override
+	public void deleteKey(String keyName) {
+		this.delegate.deleteKey(keyName);
+		evict(keyName);
+	}
+
+	@Override
+	public void rotate(String keyName) {
+		this.delegate.rotate(keyName);
+	}
+
+	@Override
+	public String encrypt(String keyName, String plaintext) {
+		return this.delegate.encrypt(keyName, plaintext);
+	}
+
+	@Override
+	public Ciphertext encrypt(String keyName, Plaintext plaintext) {
+		return this.delegate.encrypt(keyName, plaintext);
+	}
+
+	@Override
+	public String encrypt(String keyName, byte[] plaintext, VaultTransitContext transitRequest) {
+		return this.delegate.encrypt(keyName, plaintext, transitRequest);
+	}
+
+	@Override
+	public List<VaultEncryptionResult> encrypt(String keyName, List<Plaintext> batchRequest) {
+		return this.delegate.encrypt(keyName, batchRequest);
+	}
+
+	@Override
+	public String decrypt(String keyName, String ciphertext) {
+		return this.delegate.decrypt(keyName, ciphertext);
+	}
+
+	@Override
+	public Plaintext decrypt(String keyName, Ciphertext ciphertext) {
+		return this.delegate.decrypt(keyName, ciphertext);
+	}
+
+	@Override
+	public byte[] decrypt(String keyName, String ciphertext, VaultTransitContext transitContext) {
+		return this.delegate.decrypt(keyName, ciphertext, transitContext);
+	}
+
+	@Override
+	public List<VaultDecryptionResult> decrypt(String keyName, List<Ciphertext> batchRequest) {
+		return this.delegate.decrypt(keyName, batchRequest);
+	}
+
+	@Override
+	public String rewrap(String keyName, String ciphertext) {
+		return this.delegate.rewrap(keyName, ciphertext);
+	}
+
+	@Override
+	public String rewrap(String keyName, String ciphertext, VaultTransitContext transitContext) {
+		return this.delegate.rewrap(keyName, ciphertext, transitContext);
+	}
+
+	@Override
+	public List<VaultEncryptionResult> rewrap(String keyName, List<Ciphertext> batchRequest) {
+		return this.delegate.rewrap(keyName, batchRequest);
+	}
+
+	@Override
+	public Hmac getHmac(String keyName, Plaintext plaintext) {
+		return this.delegate.getHmac(keyName, plaintext);
+	}
+
+	@Override
+	public Hmac getHmac(String keyName, VaultHmacRequest request) {
+		return this.delegate.getHmac(keyName, request);
+	}
+
+	@Override
+	public List<VaultHmacResult> getHmac(String keyName, List<VaultHmacRequest> batchRequest) {
+		return this.delegate.getHmac(keyName, batchRequest);
+	}
+
+	@Override
+	public Signature sign(String keyName, Plaintext plaintext) {
+		return this.delegate.sign(keyName, plaintext);
+	}
+
+	@Override
+	public Signature sign(String keyName, VaultSignRequest request) {
+		return this.delegate.sign(keyName, request);
+	}
+
+	@Override
+	public List<VaultSignResult> sign(String keyName, List<VaultSignRequest> batchRequest) {
+		return this.delegate.sign(keyName, batchRequest);
+	}
+
+
+	/**
+	 * Cached public keys of a transit key.
+	 */
+	static class PublicKeys {
+
+		final Map<Integer, VerificationKey> keys;
+
+		final int latestVersion;
+
+		final int minVersion;
+
+		final long expiresAt;
+
+
+		PublicKeys(Map<Integer, VerificationKey> keys, int latestVersion, int minVersion, long expiresAt) {
+			this.keys = keys;
+			this.latestVersion = latestVersion;
+			this.minVersion = minVersion;
+			this.expiresAt = expiresAt;
+		}
+
+
+		static PublicKeys from(VaultTransitKey key, long expiresAt) {
+
+			String type = key.getType();
+			if (key.isDerived() || !StringUtils.hasText(type)
+					|| !(type.startsWith("ecdsa-") || type.startsWith("rsa-") || type.equals("ed25519"))) {
+				return new PublicKeys(Collections.emptyMap(), key.getLatestVersion(), key.getMinDecryptionVersion(),
+						expiresAt);
+			}
+
+			Map<Integer, VerificationKey> keys = new HashMap<>();
+			key.getKeys().forEach((version, value) -> {
+
+				if (!(value instanceof Map<?, ?> map) || !(map.get("public_key") instanceof String publicKey)
+						|| !StringUtils.hasText(publicKey)) {
+					return;
+				}
+
+				try {
+					keys.put(Integer.parseInt(version), new VerificationKey(type, toPublicKey(type, publicKey)));
+				} catch (GeneralSecurityException | IllegalArgumentException e) {
+					if (logger.isDebugEnabled()) {
+						logger.debug("Cannot parse public key version %s of key [%s]".formatted(version, key.getName()),
+								e);
+					}
+				}
+			});
+
+			return new PublicKeys(keys, key.getLatestVersion(), key.getMinDecryptionVersion(), expiresAt);
+		}
+
+		private static PublicKey toPublicKey(String type, String publicKey) throws GeneralSecurityException {
+
+			if (type.equals("ed25519")) {
+
+				byte[] raw = Base64.getDecoder().decode(publicKey);
+				byte[] encoded = new byte[ED25519_PREFIX.length + raw.length];
+				System.arraycopy(ED25519_PREFIX, 0, encoded, 0, ED25519_PREFIX.length);
+				System.arraycopy(raw, 0, encoded, ED25519_PREFIX.length, raw.length);
+
+				return KeyFactory.getInstance("Ed25519").generatePublic(new X509EncodedKeySpec(encoded));
+			}
+
+			String base64 = publicKey.replaceAll("-----[A-Z ]+-----", "").replaceAll("\\s", "");
+			X509EncodedKeySpec spec = new X509EncodedKeySpec(Base64.getDecoder().decode(base64));
+
+			return KeyFactory.getInstance(type.startsWith("rsa-") ? "RSA" : "EC").generatePublic(spec);
+		}
+
+	}
+
+	/**
+	 * Public key of a single key version.
+	 */
+	record VerificationKey(String type, PublicKey publicKey) {
+
+		boolean isRsaPss(@Nullable String signatureAlgorithm) {
+			return this.type.startsWith("rsa-")
+					&& (!StringUtils.hasText(signatureAlgorithm) || "pss".equals(signatureAlgorithm));
+		}
+
+		java.security.@Nullable Signature createVerifier(@Nullable String hashAlgorithm,
+				@Nullable String signatureAlgorithm) throws GeneralSecurityException {
+
+			java.security.Signature verifier;
+
+			if (this.type.equals("ed25519")) {
+				verifier = java.security.Signature.getInstance("Ed25519");
+			} else {
+
+				HashAlgorithm hash = HASH_ALGORITHMS
+						.get(StringUtils.hasText(hashAlgorithm) ? hashAlgorithm : "sha2-256");
+				if (hash == null) {
+					return null;
+				}
+
+				if (this.type.startsWith("ecdsa-")) {
+					verifier = java.security.Signature.getInstance(hash.prefix() + "withECDSA");
+				} else if (isRsaPss(signatureAlgorithm)) {
+					verifier = java.security.Signature.getInstance("RSASSA-PSS");
+					verifier.setParameter(new PSSParameterSpec(hash.digest(), "MGF1",
+							new MGF1ParameterSpec(hash.digest()), getMaximumSaltLength(hash), 1));
+				} else if ("pkcs1v15".equals(signatureAlgorithm)) {
+					verifier = java.security.Signature.getInstance(hash.prefix() + "withRSA");
+				} else {
+					return null;
+				}
+			}
+
+			verifier.initVerify(this.publicKey);
+			return verifier;
+		}
+
+		/**
+		 * Vault signs RSA-PSS using the maximum salt length by default.
+		 */
+		private int getMaximumSaltLength(HashAlgorithm hash) throws GeneralSecurityException {
+
+			int emLength = (((RSAPublicKey) this.publicKey).getModulus().bitLength() - 1 + 7) / 8;
+			return emLength - MessageDigest.getInstance(hash.digest()).getDigestLength() - 2;
+		}
+
+	}
+
+	record HashAlgorithm(String prefix, String digest) {
+
+	}
+
+}
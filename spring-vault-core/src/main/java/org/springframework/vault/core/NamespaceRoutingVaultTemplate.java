@@ -0,0 +1,240 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.vault.core;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.util.Assert;
+import org.springframework.vault.authentication.SessionManager;
+import org.springframework.vault.client.VaultClient;
+import org.springframework.vault.client.VaultHttpHeaders;
+
+/**
+ * Routes Vault operations to
+ * <a href="https://developer.hashicorp.com/vault/docs/enterprise/namespaces">Vault
+ * Enterprise namespaces</a> over a single {@link VaultClient}.
+ * <p>{@link #withNamespace(String)} returns {@link VaultOperations} scoped to a
+ * namespace. Namespaced operations are created lazily upon first use and share
+ * the {@link org.springframework.http.client.ClientHttpRequestFactory} (and
+ * therefore the connection pool) of the {@link VaultClient} this template was
+ * created with. Each namespace obtains its own {@link SessionManager} from the
+ * {@link SessionManagerFactory}. Namespaces that were not used within the
+ * {@link #setIdleTimeout(Duration) idle timeout} are evicted and their
+ * {@link SessionManager} is {@link DisposableBean#destroy() destroyed} if it
+ * implements {@link DisposableBean}.
+ * <p>Obtain namespaced operations through {@link #withNamespace(String)} for
+ * each unit of work instead of retaining them as operations of an evicted
+ * namespace continue to use the destroyed {@link SessionManager}.
+ *
+ * @author Mark Paluch
+ * @since 4.2
+ * @see VaultHttpHeaders#VAULT_NAMESPACE
+ */
+public class NamespaceRoutingVaultTemplate implements DisposableBean {
+
+	private static final Log logger = LogFactory.getLog(NamespaceRoutingVaultTemplate.class);
+
+	private final VaultClient client;
+
+	private final SessionManagerFactory sessionManagerFactory;
+
+	private final LongSupplier nanoTime;
+
+	private final ConcurrentHashMap<String, NamespacedTemplate> templates = new ConcurrentHashMap<>();
+
+	private final AtomicLong lastEviction;
+
+	private volatile long idleTimeout = Duration.ofMinutes(30).toNanos();
+
+
+	/**
+	 * Create a new {@link NamespaceRoutingVaultTemplate} given {@link VaultClient}
+	 * and {@link SessionManagerFactory}.
+	 * @param client the client to derive namespaced clients from, must not be
+	 * {@literal null}.
+	 * @param sessionManagerFactory factory creating a {@link SessionManager} per
+	 * namespace, must not be {@literal null}.
+	 */
+	public NamespaceRoutingVaultTemplate(VaultClient client, SessionManagerFactory sessionManagerFactory) {
+		this(client, sessionManagerFactory, System::nanoTime);
+	}
+
+	NamespaceRoutingVaultTemplate(VaultClient client, SessionManagerFactory sessionManagerFactory,
+			LongSupplier nanoTime) {
+		Assert.notNull(client, "VaultClient must not be null");
+		Assert.notNull(sessionManagerFactory, "SessionManagerFactory must not be null");
+		this.client = client;
+		this.sessionManagerFactory = sessionManagerFactory;
+		this.nanoTime = nanoTime;
+		this.lastEviction = new AtomicLong(nanoTime.getAsLong());
+	}
+
+
+	/**
+	 * Set the duration after which unused namespaces are evicted. Defaults to 30
+	 * minutes.
+	 * @param idleTimeout must not be {@literal null}, must be positive.
+	 */
+	public void setIdleTimeout(Duration idleTimeout) {
+		Assert.notNull(idleTimeout, "Idle timeout must not be null");
+		Assert.isTrue(!idleTimeout.isNegative() && !idleTimeout.isZero(), "Idle timeout must be positive");
+		this.idleTimeout = idleTimeout.toNanos();
+	}
+
+	/**
+	 * Return {@link VaultOperations} scoped to the given {@code namespace}.
+	 * Requests issued through the returned operations carry the
+	 * {@link VaultHttpHeaders#VAULT_NAMESPACE namespace header} and authenticate
+	 * with the {@link SessionManager} of the namespace.
+	 * @param namespace the namespace, must not be empty or {@literal null}.
+	 * @return the namespaced {@link VaultOperations}.
+	 */
+	public VaultOperations withNamespace(String namespace) {
+
+		Assert.hasText(namespace, "Namespace must not be empty");
+
+		long now = this.nanoTime.getAsLong();
+		evictIfDue(now);
+
+		while (true) {
+
+			NamespacedTemplate template = this.templates.computeIfAbsent(namespace, this::createTemplate);
+			template.lastAccess = now;
+
+			// guard against concurrent eviction between lookup and recording access
+			if (this.templates.get(namespace) == template) {
+				return template.operations;
+			}
+		}
+	}
+
+	/**
+	 * Evict namespaces that were not used within the idle timeout. Eviction is
+	 * also performed as part of {@link #withNamespace(String)} once per idle
+	 * timeout.
+	 */
+	public void evictIdle() {
+		evictIdle(this.nanoTime.getAsLong());
+	}
+
+	/**
+	 * Return the number of namespaces currently held by this template.
+	 * @return the number of namespaces.
+	 */
+	public int size() {
+		return this.templates.size();
+	}
+
+	@Override
+	public void destroy() {
+		this.templates.keySet().forEach(namespace -> {
+			NamespacedTemplate template = this.templates.remove(namespace);
+			if (template != null) {
+				template.destroy();
+			}
+		});
+	}
+
+	private void evictIfDue(long now) {
+
+		long lastEviction = this.lastEviction.get();
+		if (now - lastEviction >= this.idleTimeout && this.lastEviction.compareAndSet(lastEviction, now)) {
+			evictIdle(now);
+		}
+	}
+
+	private void evictIdle(long now) {
+
+		long idleTimeout = this.idleTimeout;
+		this.templates.forEach((namespace, template) -> {
+			if (now - template.lastAccess >= idleTimeout && this.templates.remove(namespace, template)) {
+				if (logger.isDebugEnabled()) {
+					logger.debug("Evicting idle namespace %s".formatted(namespace));
+				}
+				template.destroy();
+			}
+		});
+	}
+
+	private NamespacedTemplate createTemplate(String namespace) {
+
+		VaultClient namespacedClient = this.client.mutate().clone().defaultNamespace(namespace).build();
+		SessionManager sessionManager = this.sessionManagerFactory.createSessionManager(namespace, namespacedClient);
+		Assert.state(sessionManager != null, "SessionManagerFactory must not return null");
+
+		return new NamespacedTemplate(namespace, new VaultTemplate(namespacedClient, sessionManager), sessionManager,
+				this.nanoTime.getAsLong());
+	}
+
+
+	/**
+	 * Factory to create a {@link SessionManager} for a namespace.
+	 */
+	@FunctionalInterface
+	public interface SessionManagerFactory {
+
+		/**
+		 * Create a {@link SessionManager} for the given {@code namespace}.
+		 * @param namespace the namespace.
+		 * @param client the {@link VaultClient} scoped to the namespace, for use with
+		 * {@link org.springframework.vault.authentication.ClientAuthentication}
+		 * methods that log in against Vault.
+		 * @return the {@link SessionManager}.
+		 */
+		SessionManager createSessionManager(String namespace, VaultClient client);
+
+	}
+
+	static class NamespacedTemplate {
+
+		private final String namespace;
+
+		private final VaultOperations operations;
+
+		private final SessionManager sessionManager;
+
+		volatile long lastAccess;
+
+		NamespacedTemplate(String namespace, VaultOperations operations, SessionManager sessionManager,
+				long lastAccess) {
+			this.namespace = namespace;
+			this.operations = operations;
+			this.sessionManager = sessionManager;
+			this.lastAccess = lastAccess;
+		}
+
+		void destroy() {
+
+			if (this.sessionManager instanceof DisposableBean disposable) {
+				try {
+					disposable.destroy();
+				} catch (Exception e) {
+					logger.warn("Cannot destroy SessionManager for namespace %s".formatted(this.namespace), e);
+				}
+			}
+		}
+
+	}
+
+}
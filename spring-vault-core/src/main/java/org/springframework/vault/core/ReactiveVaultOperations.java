@@ -101,6 +101,23 @@ public interface ReactiveVaultOperations {
 	 */
 	ReactiveVaultTransitOperations opsForTransit(String path);
 
+	/**
+	 * @return the operations interface to interact with the Vault PKI secrets
+	 * engine.
+	 * @since 4.2
+	 */
+	ReactiveVaultPkiOperations opsForPki();
+
+	/**
+	 * Return {@link ReactiveVaultPkiOperations} if the PKI secrets engine is
+	 * mounted on a different path than {@code pki}.
+	 * @param path the mount path
+	 * @return the operations interface to interact with the Vault PKI secrets
+	 * engine.
+	 * @since 4.2
+	 */
+	ReactiveVaultPkiOperations opsForPki(String path);
+
 	/**
 	 * @return the operations interface administrative Vault access.
 	 * @since 3.1
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.vault.core;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.vault.core.VaultPkiOperations.Encoding;
+import org.springframework.vault.support.CertificateBundle;
+import org.springframework.vault.support.VaultCertificateRequest;
+import org.springframework.vault.support.VaultCertificateResponse;
+import org.springframework.vault.support.VaultIssuerCertificateRequestResponse;
+import org.springframework.vault.support.VaultSignCertificateRequestResponse;
+
+/**
+ * Interface that specifies reactive PKI engine-related operations.
+ * <p>The PKI secrets engine for Vault generates X.509 certificates dynamically
+ * based on configured roles. This is the reactive counterpart of
+ * {@link VaultPkiOperations}.
+ *
+ * @author Mark Paluch
+ * @since 4.2
+ * @see VaultPkiOperations
+ * @see <a href=
+ * "https://www.vaultproject.io/docs/secrets/pki/index.html">https://www.vaultproject.io/docs/secrets/pki/index.html</a>
+ */
+public interface ReactiveVaultPkiOperations {
+
+	/**
+	 * Requests a certificate bundle (private key and certificate) from Vault's PKI
+	 * engine given a {@code roleName} and {@link VaultCertificateRequest}. The
+	 * issuing CA certificate is returned as well, so that only the root CA need be
+	 * in a client's trust store.
+	 * @param roleName must not be empty or {@literal null}.
+	 * @param certificateRequest must not be {@literal null}.
+	 * @return the {@link VaultCertificateResponse} containing a
+	 * {@link CertificateBundle}.
+	 * @see <a href=
+	 * "https://www.vaultproject.io/docs/secrets/pki/index.html#pki-issue">POST
+	 * /pki/issue/[role name]</a>
+	 */
+	Mono<VaultCertificateResponse> issueCertificate(String roleName, VaultCertificateRequest certificateRequest);
+
+	/**
+	 * Signs a CSR using Vault's PKI engine given a {@code roleName}, {@code csr}
+	 * and {@link VaultCertificateRequest}. The issuing CA certificate is returned
+	 * as well, so that only the root CA need be in a client's trust store.
+	 * @param roleName must not be empty or {@literal null}.
+	 * @param csr must not be empty or {@literal null}.
+	 * @param certificateRequest must not be {@literal null}.
+	 * @return the {@link VaultSignCertificateRequestResponse} containing a
+	 * {@link org.springframework.vault.support.Certificate}.
+	 * @see <a href=
+	 * "https://www.vaultproject.io/docs/secrets/pki/index.html#pki-issue">POST
+	 * /pki/sign/[role name]</a>
+	 */
+	Mono<VaultSignCertificateRequestResponse> signCertificateRequest(String roleName, String csr,
+			VaultCertificateRequest certificateRequest);
+
+	/**
+	 * Revokes a certificate using its serial number. This is an alternative option
+	 * to the standard method of revoking using Vault lease IDs. A successful
+	 * revocation will rotate the CRL.
+	 * @param serialNumber must not be empty or {@literal null}.
+	 * @see <a href=
+	 * "https://www.vaultproject.io/docs/secrets/pki/index.html#revoke-certificate">POST
+	 * /pki/revoke</a>
+	 */
+	Mono<Void> revoke(String serialNumber);
+
+	/**
+	 * Retrieves the current CRL in raw form. This endpoint is suitable for usage in
+	 * the CRL distribution points extension in a CA certificate. This is a bare
+	 * endpoint that does not return a standard Vault data structure. Returns data
+	 * {@link Encoding#DER} or {@link Encoding#PEM} encoded.
+	 * <p>The CRL is streamed as it is received without buffering the entire CRL
+	 * in memory. Subscribers must release emitted buffers, for example through
+	 * {@link DataBufferUtils#release(DataBuffer)}. The resulting {@link Flux}
+	 * completes empty if Vault responds with 204 No Content.
+	 * @param encoding must not be {@literal null}.
+	 * @return {@link Flux} of {@link DataBuffer} containing the encoded CRL.
+	 * @see <a href=
+	 * "https://www.vaultproject.io/api/secret/pki/index.html#read-crl">GET
+	 * /pki/crl</a>
+	 */
+	Flux<DataBuffer> getCrl(Encoding encoding);
+
+	/**
+	 * Retrieves the specified issuer's certificate. Includes the full
+	 * {@code ca_chain} of the issuer.
+	 * @param issuer reference to an existing issuer, either by Vault-generated
+	 * identifier, or the name assigned to an issuer. Pass the literal string
+	 * {@code default} to refer to the currently configured issuer.
+	 * @return the {@link VaultIssuerCertificateRequestResponse} containing a
+	 * {@link org.springframework.vault.support.Certificate}.
+	 * @see <a href=
+	 * "https://www.vaultproject.io/api/secret/pki/#read-issuer-certificate">GET
+	 * /pki/issuer/:issuer_ref/json</a>
+	 */
+	Mono<VaultIssuerCertificateRequestResponse> getIssuerCertificate(String issuer);
+
+	/**
+	 * Retrieves the specified issuer's certificate in raw form. Subscribers must
+	 * release emitted buffers.
+	 * @param issuer reference to an existing issuer, either by Vault-generated
+	 * identifier, or the name assigned to an issuer. Pass the literal string
+	 * {@code default} to refer to the currently configured issuer.
+	 * @param encoding must not be {@literal null}.
+	 * @return {@link Flux} of {@link DataBuffer} containing the encoded
+	 * certificate.
+	 * @see <a href=
+	 * "https://www.vaultproject.io/api/secret/pki/#read-issuer-certificate">GET
+	 * /pki/issuer/:issuer_ref/{der, pem}</a>
+	 */
+	Flux<DataBuffer> getIssuerCertificate(String issuer, Encoding encoding);
+
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.vault.core;
+
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Map;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.util.Assert;
+import org.springframework.vault.core.VaultPkiOperations.Encoding;
+import org.springframework.vault.support.VaultCertificateRequest;
+import org.springframework.vault.support.VaultCertificateResponse;
+import org.springframework.vault.support.VaultIssuerCertificateRequestResponse;
+import org.springframework.vault.support.VaultSignCertificateRequestResponse;
+
+import static org.springframework.vault.core.VaultPkiTemplate.*;
+
+/**
+ * Default implementation of {@link ReactiveVaultPkiOperations}.
+ *
+ * @author Mark Paluch
+ * @since 4.2
+ */
+public class ReactiveVaultPkiTemplate implements ReactiveVaultPkiOperations {
+
+	private final ReactiveVaultTemplate vaultOperations;
+
+	private final String path;
+
+
+	/**
+	 * Create a new {@link ReactiveVaultPkiTemplate} given
+	 * {@link ReactiveVaultTemplate} and the mount {@code path}.
+	 * @param vaultOperations must not be {@literal null}.
+	 * @param path must not be empty or {@literal null}.
+	 */
+	public ReactiveVaultPkiTemplate(ReactiveVaultTemplate vaultOperations, String path) {
+		Assert.notNull(vaultOperations, "ReactiveVaultOperations must not be null");
+		Assert.hasText(path, "Path must not be empty");
+		this.vaultOperations = vaultOperations;
+		this.path = path;
+	}
+
+
+	@Override
+	public Mono<VaultCertificateResponse> issueCertificate(String roleName,
+			VaultCertificateRequest certificateRequest) {
+		Assert.hasText(roleName, "Role name must not be empty");
+		Assert.notNull(certificateRequest, "Certificate request must not be null");
+		return requestCertificate(roleName, "{path}/issue/{roleName}", createIssueRequest(certificateRequest),
+				VaultCertificateResponse.class);
+	}
+
+	@Override
+	public Mono<VaultSignCertificateRequestResponse> signCertificateRequest(String roleName, String csr,
+			VaultCertificateRequest certificateRequest) {
+		Assert.hasText(roleName, "Role name must not be empty");
+		Assert.hasText(csr, "CSR name must not be empty");
+		Assert.notNull(certificateRequest, "Certificate request must not be null");
+		Map<String, Object> body = createIssueRequest(certificateRequest);
+		body.put("csr", csr);
+		return requestCertificate(roleName, "{path}/sign/{roleName}", body, VaultSignCertificateRequestResponse.class);
+	}
+
+	private <T> Mono<T> requestCertificate(String roleName, String requestPath, Map<String, Object> request,
+			Class<T> responseType) {
+		request.putIfAbsent("format", "der");
+		return this.vaultOperations.doWithSessionClient(client -> {
+			return client.post().path(requestPath, this.path, roleName).bodyValue(request).retrieve()
+					.bodyToMono(responseType);
+		});
+	}
+
+	@Override
+	public Mono<Void> revoke(String serialNumber) {
+		Assert.hasText(serialNumber, "Serial number must not be null or empty");
+		return this.vaultOperations.doWithSessionClient(client -> {
+			return client.post()
+					.path("{path}/revoke", this.path)
+					.bodyValue(Collections.singletonMap("serial_number", serialNumber))
+					.retrieve()
+					.toBodilessEntity()
+					.then();
+		});
+	}
+
+	@Override
+	public Flux<DataBuffer> getCrl(Encoding encoding) {
+		Assert.notNull(encoding, "Encoding must not be null");
+		String requestPath = encoding == Encoding.DER ? "{path}/crl" : "{path}/crl/pem";
+		return this.vaultOperations.doWithSessionClient(client -> {
+			return client.get().path(requestPath, this.path).retrieve().bodyToFlux(DataBuffer.class);
+		});
+	}
+
+	@Override
+	public Mono<VaultIssuerCertificateRequestResponse> getIssuerCertificate(String issuer) {
+		Assert.hasText(issuer, "Issuer must not be empty");
+		return this.vaultOperations.doWithSessionClient(client -> {
+			return client.get()
+					.path("{path}/issuer/{issuer}/json", this.path, issuer)
+					.retrieve()
+					.bodyToMono(VaultIssuerCertificateRequestResponse.class);
+		});
+	}
+
+	@Override
+	public Flux<DataBuffer> getIssuerCertificate(String issuer, Encoding encoding) {
+		Assert.hasText(issuer, "Issuer must not be empty");
+		Assert.notNull(encoding, "Encoding must not be null");
+		String requestPath = "{path}/issuer/{issuer}/%s".formatted(encoding.name().toLowerCase(Locale.ROOT));
+		return this.vaultOperations.doWithSessionClient(client -> {
+			return client.get().path(requestPath, this.path, issuer).retrieve().bodyToFlux(DataBuffer.class);
+		});
+	}
+
+}
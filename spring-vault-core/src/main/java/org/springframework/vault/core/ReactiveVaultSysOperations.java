@@ -16,9 +16,13 @@
 
 package org.springframework.vault.core;
 
+import java.util.List;
+import java.util.Map;
+
 import reactor.core.publisher.Mono;
 
 import org.springframework.vault.VaultException;
+import org.springframework.vault.support.Policy.Capability;
 import org.springframework.vault.support.VaultHealth;
 
 /**
@@ -37,6 +41,18 @@ public interface ReactiveVaultSysOperations {
 	 */
 	Mono<Boolean> isInitialized() throws VaultException;
 
+	/**
+	 * Query the capabilities of the current token on the given {@code paths}
+	 * using a single request.
+	 * @param paths the paths to query, must not be {@literal null} or empty.
+	 * @return the capabilities per path in the order of {@code paths}.
+	 * @since 4.2
+	 * @see <a href=
+	 * "https://developer.hashicorp.com/vault/api-docs/system/capabilities-self">POST
+	 * /sys/capabilities-self</a>
+	 */
+	Mono<Map<String, List<Capability>>> getCapabilities(List<String> paths) throws VaultException;
+
 	/**
 	 * Return the health status of Vault.
 	 * @return the {@link VaultHealth}.
@@ -16,6 +16,8 @@
 
 package org.springframework.vault.core;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 
 import reactor.core.publisher.Mono;
@@ -23,7 +25,9 @@ import reactor.core.publisher.Mono;
 import org.springframework.http.HttpEntity;
 import org.springframework.util.Assert;
 import org.springframework.vault.client.VaultHttpHeaders;
+import org.springframework.vault.support.Policy.Capability;
 import org.springframework.vault.support.VaultHealth;
+import org.springframework.vault.support.VaultResponse;
 
 /**
  * Default implementation of {@link ReactiveVaultSysOperations}.
@@ -60,6 +64,19 @@ public class ReactiveVaultSysTemplate implements ReactiveVaultSysOperations {
 		});
 	}
 
+	@Override
+	public Mono<Map<String, List<Capability>>> getCapabilities(List<String> paths) {
+		Assert.notEmpty(paths, "Paths must not be empty");
+		return this.vaultOperations.doWithSessionClient(client -> {
+			return client.post()
+					.path("sys/capabilities-self")
+					.bodyValue(Collections.singletonMap("paths", paths))
+					.retrieve()
+					.bodyToMono(VaultResponse.class)
+					.map(response -> VaultSysTemplate.toCapabilities(paths, response.getRequiredData()));
+		});
+	}
+
 	@Override
 	@SuppressWarnings("NullAway")
 	public Mono<VaultHealth> health() {
@@ -306,6 +306,16 @@ public class ReactiveVaultTemplate implements ReactiveVaultOperations {
 		return new ReactiveVaultTransitTemplate(this, path);
 	}
 
+	@Override
+	public ReactiveVaultPkiOperations opsForPki() {
+		return opsForPki("pki");
+	}
+
+	@Override
+	public ReactiveVaultPkiOperations opsForPki(String path) {
+		return new ReactiveVaultPkiTemplate(this, path);
+	}
+
 	@Override
 	public ReactiveVaultKeyValueOperations opsForKeyValue(String path, KeyValueBackend apiVersion) {
 		return switch (apiVersion) {
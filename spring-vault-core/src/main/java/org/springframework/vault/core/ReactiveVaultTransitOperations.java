@@ -242,6 +242,19 @@ public interface ReactiveVaultTransitOperations {
 	 */
 	Mono<Hmac> getHmac(String keyName, VaultHmacRequest request);
 
+	/**
+	 * Create HMACs using {@code keyName} for the given batch of
+	 * {@link VaultHmacRequest}s using transit engine's batch operation. Algorithm
+	 * and key version are applied to the whole batch and must therefore be the same
+	 * for all requests.
+	 * @param keyName must not be empty or {@literal null}.
+	 * @param batchRequest a list of {@link VaultHmacRequest}s, must not be
+	 * {@literal null} or empty.
+	 * @return the HMAC results in the order of {@code batchRequest}.
+	 * @since 4.2
+	 */
+	Flux<VaultHmacResult> getHmac(String keyName, List<VaultHmacRequest> batchRequest);
+
 	/**
 	 * Create a cryptographic signature using {@code keyName} of the given
 	 * {@link Plaintext} and the default hash algorithm. The key must be of a type
@@ -262,6 +275,19 @@ public interface ReactiveVaultTransitOperations {
 	 */
 	Mono<Signature> sign(String keyName, VaultSignRequest request);
 
+	/**
+	 * Create cryptographic signatures using {@code keyName} for the given batch of
+	 * {@link VaultSignRequest}s using transit engine's batch operation. Hash
+	 * algorithm, signature algorithm, and pre-hashing are applied to the whole
+	 * batch and must therefore be the same for all requests.
+	 * @param keyName must not be empty or {@literal null}.
+	 * @param batchRequest a list of {@link VaultSignRequest}s, must not be
+	 * {@literal null} or empty.
+	 * @return the signature results in the order of {@code batchRequest}.
+	 * @since 4.2
+	 */
+	Flux<VaultSignResult> sign(String keyName, List<VaultSignRequest> batchRequest);
+
 	/**
 	 * Verify the cryptographic signature using {@code keyName} of the given
 	 * {@link Plaintext} and {@link Signature}.
@@ -283,4 +309,18 @@ public interface ReactiveVaultTransitOperations {
 	 */
 	Mono<SignatureValidation> verify(String keyName, VaultSignatureVerificationRequest request);
 
+	/**
+	 * Verify cryptographic signatures or HMACs using {@code keyName} for the given
+	 * batch of {@link VaultSignatureVerificationRequest}s using transit engine's
+	 * batch operation. Hash algorithm, signature algorithm, and pre-hashing are
+	 * applied to the whole batch and must therefore be the same for all requests.
+	 * @param keyName must not be empty or {@literal null}.
+	 * @param batchRequest a list of {@link VaultSignatureVerificationRequest}s, must
+	 * not be {@literal null} or empty.
+	 * @return the verification results in the order of {@code batchRequest}.
+	 * @since 4.2
+	 */
+	Flux<VaultSignatureVerificationResult> verify(String keyName,
+			List<VaultSignatureVerificationRequest> batchRequest);
+
 }
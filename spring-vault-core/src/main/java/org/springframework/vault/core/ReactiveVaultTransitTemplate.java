@@ -16,12 +16,16 @@
 
 package org.springframework.vault.core;
 
+import java.time.Duration;
 import java.util.Base64;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -38,16 +42,81 @@ import static org.springframework.vault.core.VaultTransitTemplate.*;
  */
 public class ReactiveVaultTransitTemplate implements ReactiveVaultTransitOperations {
 
+	private static final Log logger = LogFactory.getLog(ReactiveVaultTransitTemplate.class);
+
 	private final ReactiveVaultOperations reactiveVaultOperations;
 
 	private final String path;
 
+	private int maxBatchSize = Integer.MAX_VALUE;
+
+	private int batchParallelism = 4;
+
+	private final TransitKeyCache keyCache;
+
 
 	public ReactiveVaultTransitTemplate(ReactiveVaultOperations reactiveVaultOperations, String path) {
+		this(reactiveVaultOperations, path, new TransitKeyCache());
+	}
+
+	ReactiveVaultTransitTemplate(ReactiveVaultOperations reactiveVaultOperations, String path,
+			TransitKeyCache keyCache) {
 		Assert.notNull(reactiveVaultOperations, "ReactiveVaultOperations must not be null");
 		Assert.hasText(path, "Path must not be empty");
 		this.reactiveVaultOperations = reactiveVaultOperations;
 		this.path = path;
+		this.keyCache = keyCache;
+	}
+
+
+	/**
+	 * Set the maximum number of items per batch request. Batch requests exceeding
+	 * the maximum batch size are split into chunks that are sent as individual
+	 * requests. Results are emitted in the order of the batch request. Batch
+	 * requests are not split by default.
+	 * @param maxBatchSize must be greater than zero.
+	 * @since 4.2
+	 */
+	public void setMaxBatchSize(int maxBatchSize) {
+		Assert.isTrue(maxBatchSize > 0, "Maximum batch size must be greater than zero");
+		this.maxBatchSize = maxBatchSize;
+	}
+
+	/**
+	 * Set the maximum number of chunks of a single batch request to send
+	 * concurrently. Defaults to {@code 4}.
+	 * @param batchParallelism must be greater than zero.
+	 * @since 4.2
+	 */
+	public void setBatchParallelism(int batchParallelism) {
+		Assert.isTrue(batchParallelism > 0, "Batch parallelism must be greater than zero");
+		this.batchParallelism = batchParallelism;
+	}
+
+	/**
+	 * Enable caching of {@link #getKey(String) key metadata} by setting the time
+	 * to live of cached keys. Cached keys are evicted when rotating, configuring
+	 * or deleting a key through this template and when encryption yields a
+	 * ciphertext for a key version newer than the cached latest version. Key
+	 * metadata is not cached by default.
+	 * @param keyCacheTtl must not be {@literal null} or negative.
+	 * {@link Duration#ZERO} disables caching.
+	 * @since 4.2
+	 */
+	public void setKeyCacheTtl(Duration keyCacheTtl) {
+		this.keyCache.setTtl(keyCacheTtl);
+	}
+
+	/**
+	 * Set the duration before expiry of a cached key in which accessing the key
+	 * triggers a refresh in the background. The cached key is emitted while the
+	 * refresh is in progress. Keys are refreshed on expiry by default.
+	 * @param refreshAhead must not be {@literal null} or negative.
+	 * @since 4.2
+	 * @see #setKeyCacheTtl(Duration)
+	 */
+	public void setKeyCacheRefreshAhead(Duration refreshAhead) {
+		this.keyCache.setRefreshAhead(refreshAhead);
 	}
 
 
@@ -67,7 +136,8 @@ public class ReactiveVaultTransitTemplate implements ReactiveVaultTransitOperati
 	@Override
 	public Mono<Void> rotate(String keyName) {
 		Assert.hasText(keyName, "Key name must not be empty");
-		return this.reactiveVaultOperations.write("%s/keys/%s/rotate".formatted(this.path, keyName), null).then();
+		return this.reactiveVaultOperations.write("%s/keys/%s/rotate".formatted(this.path, keyName), null)
+				.then(evict(keyName));
 	}
 
 	@Override
@@ -77,7 +147,8 @@ public class ReactiveVaultTransitTemplate implements ReactiveVaultTransitOperati
 		Map<String, String> request = new LinkedHashMap<>();
 		request.put("plaintext", Base64.getEncoder().encodeToString(plaintext.getBytes()));
 		return this.reactiveVaultOperations.write("%s/encrypt/%s".formatted(this.path, keyName), request)
-				.map(it -> (String) it.getRequiredData().get("ciphertext"));
+				.map(it -> (String) it.getRequiredData().get("ciphertext"))
+				.doOnNext(ciphertext -> this.keyCache.observe(keyName, ciphertext));
 	}
 
 	@Override
@@ -85,13 +156,13 @@ public class ReactiveVaultTransitTemplate implements ReactiveVaultTransitOperati
 		Assert.hasText(keyName, "Key name must not be empty");
 		Assert.notNull(keyConfiguration, "VaultKeyConfiguration must not be empty");
 		return this.reactiveVaultOperations.write("%s/keys/%s/config".formatted(this.path, keyName), keyConfiguration)
-				.then();
+				.then(evict(keyName));
 	}
 
 	@Override
 	public Mono<Void> deleteKey(String keyName) {
 		Assert.hasText(keyName, "Key name must not be empty");
-		return this.reactiveVaultOperations.delete("%s/keys/%s".formatted(this.path, keyName));
+		return this.reactiveVaultOperations.delete("%s/keys/%s".formatted(this.path, keyName)).then(evict(keyName));
 	}
 
 	@Override
@@ -110,7 +181,8 @@ public class ReactiveVaultTransitTemplate implements ReactiveVaultTransitOperati
 		request.put("plaintext", Base64.getEncoder().encodeToString(plaintext));
 		applyTransitOptions(transitContext, request);
 		return this.reactiveVaultOperations.write("%s/encrypt/%s".formatted(this.path, keyName), request)
-				.map(it -> (String) it.getRequiredData().get("ciphertext"));
+				.map(it -> (String) it.getRequiredData().get("ciphertext"))
+				.doOnNext(ciphertext -> this.keyCache.observe(keyName, ciphertext));
 	}
 
 	@Override
@@ -178,19 +250,19 @@ public class ReactiveVaultTransitTemplate implements ReactiveVaultTransitOperati
 	public Flux<VaultEncryptionResult> rewrap(String keyName, List<Ciphertext> batchRequest) {
 		Assert.hasText(keyName, "Key name must not be empty");
 		Assert.notEmpty(batchRequest, "BatchRequest must not be null and must have at least one entry");
-		return Flux.fromIterable(batchRequest)
+		return executeBatch(batchRequest, chunk -> Flux.fromIterable(chunk)
 				.map(VaultTransitTemplate::createRewrapRequest)
 				.collectList()
 				.flatMap(batch -> this.reactiveVaultOperations.write("%s/rewrap/%s".formatted(this.path, keyName),
 						Collections.singletonMap("batch_input", batch)))
-				.flatMapIterable(vaultResponse -> toBatchResults(vaultResponse, batchRequest, Ciphertext::getContext));
+				.flatMapIterable(vaultResponse -> toBatchResults(vaultResponse, chunk, Ciphertext::getContext)));
 	}
 
 	@Override
 	public Flux<VaultEncryptionResult> encrypt(String keyName, List<Plaintext> batchRequest) {
 		Assert.hasText(keyName, "Key name must not be empty");
 		Assert.notEmpty(batchRequest, "BatchRequest must not be null and must have at least one entry");
-		return Flux.fromIterable(batchRequest).map(request -> {
+		return executeBatch(batchRequest, chunk -> Flux.fromIterable(chunk).map(request -> {
 			Map<String, String> vaultRequest = new LinkedHashMap<>(2);
 			vaultRequest.put("plaintext", Base64.getEncoder().encodeToString(request.getPlaintext()));
 			applyTransitOptions(request.getContext(), vaultRequest);
@@ -199,14 +271,18 @@ public class ReactiveVaultTransitTemplate implements ReactiveVaultTransitOperati
 				.collectList()
 				.flatMap(batch -> this.reactiveVaultOperations.write("%s/encrypt/%s".formatted(this.path, keyName),
 						Collections.singletonMap("batch_input", batch)))
-				.flatMapIterable(vaultResponse -> toBatchResults(vaultResponse, batchRequest, Plaintext::getContext));
+				.flatMapIterable(vaultResponse -> toBatchResults(vaultResponse, chunk, Plaintext::getContext))
+				.doOnNext(result -> {
+					Ciphertext ciphertext = result.isSuccessful() ? result.get() : null;
+					this.keyCache.observe(keyName, ciphertext != null ? ciphertext.getCiphertext() : null);
+				}));
 	}
 
 	@Override
 	public Flux<VaultDecryptionResult> decrypt(String keyName, List<Ciphertext> batchRequest) {
 		Assert.hasText(keyName, "Key name must not be empty");
 		Assert.notEmpty(batchRequest, "BatchRequest must not be null and must have at least one entry");
-		return Flux.fromIterable(batchRequest).map(request -> {
+		return executeBatch(batchRequest, chunk -> Flux.fromIterable(chunk).map(request -> {
 			Map<String, String> vaultRequest = new LinkedHashMap<>(2);
 			vaultRequest.put("ciphertext", request.getCiphertext());
 			applyTransitOptions(request.getContext(), vaultRequest);
@@ -215,7 +291,7 @@ public class ReactiveVaultTransitTemplate implements ReactiveVaultTransitOperati
 				.collectList()
 				.flatMap(batch -> this.reactiveVaultOperations.write("%s/decrypt/%s".formatted(this.path, keyName),
 						Collections.singletonMap("batch_input", batch)))
-				.flatMapIterable(vaultResponse -> toDecryptionResults(vaultResponse, batchRequest));
+				.flatMapIterable(vaultResponse -> toDecryptionResults(vaultResponse, chunk)));
 	}
 
 	@Override
@@ -235,6 +311,17 @@ public class ReactiveVaultTransitTemplate implements ReactiveVaultTransitOperati
 				.map(Hmac::of);
 	}
 
+	@Override
+	public Flux<VaultHmacResult> getHmac(String keyName, List<VaultHmacRequest> batchRequest) {
+		Assert.hasText(keyName, "Key name must not be empty");
+		Assert.notEmpty(batchRequest, "BatchRequest must not be null and must have at least one entry");
+		return executeBatch(batchRequest,
+				chunk -> Mono.fromSupplier(() -> toBatchRequestBody(chunk, VaultTransitTemplate::toRequestBody))
+						.flatMap(request -> this.reactiveVaultOperations
+								.write("%s/hmac/%s".formatted(this.path, keyName), request))
+						.flatMapIterable(vaultResponse -> toHmacResults(vaultResponse, chunk.size())));
+	}
+
 	@Override
 	public Mono<Signature> sign(String keyName, Plaintext plaintext) {
 		Assert.hasText(keyName, "Key name must not be empty");
@@ -252,6 +339,17 @@ public class ReactiveVaultTransitTemplate implements ReactiveVaultTransitOperati
 				.map(Signature::of);
 	}
 
+	@Override
+	public Flux<VaultSignResult> sign(String keyName, List<VaultSignRequest> batchRequest) {
+		Assert.hasText(keyName, "Key name must not be empty");
+		Assert.notEmpty(batchRequest, "BatchRequest must not be null and must have at least one entry");
+		return executeBatch(batchRequest,
+				chunk -> Mono.fromSupplier(() -> toBatchRequestBody(chunk, VaultTransitTemplate::toRequestBody))
+						.flatMap(request -> this.reactiveVaultOperations
+								.write("%s/sign/%s".formatted(this.path, keyName), request))
+						.flatMapIterable(vaultResponse -> toSignResults(vaultResponse, chunk.size())));
+	}
+
 	@Override
 	public Mono<Boolean> verify(String keyName, Plaintext plaintext, Signature signature) {
 		Assert.hasText(keyName, "Key name must not be empty");
@@ -276,6 +374,18 @@ public class ReactiveVaultTransitTemplate implements ReactiveVaultTransitOperati
 				});
 	}
 
+	@Override
+	public Flux<VaultSignatureVerificationResult> verify(String keyName,
+			List<VaultSignatureVerificationRequest> batchRequest) {
+		Assert.hasText(keyName, "Key name must not be empty");
+		Assert.notEmpty(batchRequest, "BatchRequest must not be null and must have at least one entry");
+		return executeBatch(batchRequest,
+				chunk -> Mono.fromSupplier(() -> toBatchRequestBody(chunk, VaultTransitTemplate::toRequestBody))
+						.flatMap(request -> this.reactiveVaultOperations
+								.write("%s/verify/%s".formatted(this.path, keyName), request))
+						.flatMapIterable(vaultResponse -> toVerificationResults(vaultResponse, chunk.size())));
+	}
+
 	@Override
 	public Mono<RawTransitKey> exportKey(String keyName, TransitKeyType type) {
 		Assert.hasText(keyName, "Key name must not be empty");
@@ -288,8 +398,44 @@ public class ReactiveVaultTransitTemplate implements ReactiveVaultTransitOperati
 	@Override
 	public Mono<VaultTransitKey> getKey(String keyName) {
 		Assert.hasText(keyName, "Key name must not be empty");
+		if (!this.keyCache.isEnabled()) {
+			return doGetKey(keyName);
+		}
+		return Mono.defer(() -> {
+			VaultTransitKey key = this.keyCache.get(keyName, this::refreshKey);
+			return key != null ? Mono.just(key) : loadKey(keyName);
+		});
+	}
+
+	private Mono<VaultTransitKey> loadKey(String keyName) {
+		return Mono.defer(() -> {
+			long generation = this.keyCache.getGeneration();
+			return doGetKey(keyName).doOnNext(key -> this.keyCache.put(keyName, key, generation))
+					.switchIfEmpty(evict(keyName));
+		});
+	}
+
+	private void refreshKey(String keyName) {
+		loadKey(keyName).subscribe(key -> {
+		}, e -> {
+			this.keyCache.refreshFailed(keyName);
+			if (logger.isDebugEnabled()) {
+				logger.debug("Cannot refresh transit key [%s]".formatted(keyName), e);
+			}
+		});
+	}
+
+	private <T> Mono<T> evict(String keyName) {
+		return Mono.fromRunnable(() -> this.keyCache.evict(keyName));
+	}
+
+	private Mono<VaultTransitKey> doGetKey(String keyName) {
 		return this.reactiveVaultOperations.read("%s/keys/%s".formatted(this.path, keyName), VaultTransitKeyImpl.class)
 				.map(VaultResponseSupport::getRequiredData);
 	}
 
+	private <T, R> Flux<R> executeBatch(List<T> batchRequest, Function<List<T>, Flux<R>> function) {
+		return BatchUtil.execute(batchRequest, this.maxBatchSize, this.batchParallelism, function);
+	}
+
 }
@@ -0,0 +1,315 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.vault.core;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+import org.springframework.vault.authentication.LoginToken;
+import org.springframework.vault.support.VaultResponseSupport;
+import org.springframework.vault.support.VaultToken;
+
+/**
+ * Bounded, time-based cache for Vault responses used by
+ * {@link CachingVaultOperations} and {@link CachingReactiveVaultOperations}.
+ * Entries are evicted in least-recently-used order once the maximum size is
+ * exceeded and expire after a TTL derived from the response's
+ * {@code lease_duration}. Entries qualify for a refresh once they have reached
+ * three quarters of their TTL.
+ * <p>Entries are keyed by their Vault path. Invalidating a path also
+ * invalidates the Key-Value version 2 {@code data} path that is affected by
+ * writes to its {@code metadata}, {@code delete}, {@code destroy} and
+ * {@code undelete} paths. Invalidation advances a generation so that loads
+ * started before the invalidation do not cache stale values.
+ *
+ * @author Mark Paluch
+ * @since 4.2
+ */
+class ResponseCache {
+
+	static final int DEFAULT_MAXIMUM_SIZE = 1000;
+
+	static final Duration DEFAULT_TTL = Duration.ofSeconds(30);
+
+	static final Duration DEFAULT_MAXIMUM_TTL = Duration.ofMinutes(5);
+
+	private static final String[] KEY_VALUE_2_SEGMENTS = { "/metadata/", "/delete/", "/destroy/", "/undelete/" };
+
+	private final Map<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+	private final AtomicLong generation = new AtomicLong();
+
+	private final LongSupplier clock;
+
+	private volatile int maximumSize = DEFAULT_MAXIMUM_SIZE;
+
+	private volatile Duration defaultTtl = DEFAULT_TTL;
+
+	private volatile Duration maximumTtl = DEFAULT_MAXIMUM_TTL;
+
+
+	ResponseCache() {
+		this(System::nanoTime);
+	}
+
+	ResponseCache(LongSupplier clock) {
+		this.clock = clock;
+	}
+
+
+	void setMaximumSize(int maximumSize) {
+		Assert.isTrue(maximumSize > 0, "Maximum size must be greater than zero");
+		this.maximumSize = maximumSize;
+	}
+
+	void setDefaultTtl(Duration defaultTtl) {
+		Assert.notNull(defaultTtl, "Default TTL must not be null");
+		Assert.isTrue(!defaultTtl.isNegative(), "Default TTL must not be negative");
+		this.defaultTtl = defaultTtl;
+	}
+
+	void setMaximumTtl(Duration maximumTtl) {
+		Assert.notNull(maximumTtl, "Maximum TTL must not be null");
+		Assert.isTrue(!maximumTtl.isNegative(), "Maximum TTL must not be negative");
+		this.maximumTtl = maximumTtl;
+	}
+
+	/**
+	 * Return the cached entry for {@link Key} or {@literal null} if there is no
+	 * entry or the entry has expired.
+	 */
+	@Nullable
+	Entry get(Key key) {
+
+		long now = this.clock.getAsLong();
+		synchronized (this.entries) {
+
+			Entry entry = this.entries.get(key);
+			if (entry == null) {
+				return null;
+			}
+
+			if (now - entry.expiresAt >= 0) {
+				this.entries.remove(key);
+				return null;
+			}
+
+			return entry;
+		}
+	}
+
+	/**
+	 * Obtain a token to be passed to {@link #put(Key, Object, long)} before
+	 * loading a value.
+	 */
+	long getGeneration() {
+		return this.generation.get();
+	}
+
+	/**
+	 * Cache {@code value} using the TTL derived from the response unless an
+	 * invalidation happened after obtaining {@code generation}.
+	 */
+	void put(Key key, Object value, long generation) {
+
+		Duration ttl = getTtl(value);
+		if (ttl.isZero()) {
+			return;
+		}
+
+		long now = this.clock.getAsLong();
+		long ttlNanos = ttl.toNanos();
+		Entry entry = new Entry(value, now + ttlNanos, now + (ttlNanos / 4) * 3);
+
+		synchronized (this.entries) {
+
+			if (this.generation.get() != generation) {
+				return;
+			}
+
+			this.entries.put(key, entry);
+
+			int maximumSize = this.maximumSize;
+			while (this.entries.size() > maximumSize) {
+				Key eldest = this.entries.keySet().iterator().next();
+				this.entries.remove(eldest);
+			}
+		}
+	}
+
+	/**
+	 * Remove all entries cached for {@code path} and the paths affected by
+	 * writing to {@code path}.
+	 */
+	void invalidate(String path) {
+
+		Set<String> paths = getAffectedPaths(path);
+		synchronized (this.entries) {
+			this.generation.incrementAndGet();
+			this.entries.keySet().removeIf(key -> paths.contains(key.path()));
+		}
+	}
+
+	void clear() {
+		synchronized (this.entries) {
+			this.generation.incrementAndGet();
+			this.entries.clear();
+		}
+	}
+
+	int size() {
+		synchronized (this.entries) {
+			return this.entries.size();
+		}
+	}
+
+	/**
+	 * @return {@literal true} if the entry has reached its refresh threshold and
+	 * no refresh is in progress. Calling this method marks the entry as
+	 * refreshing.
+	 */
+	boolean shouldRefresh(Entry entry) {
+		return this.clock.getAsLong() - entry.refreshAt >= 0 && entry.markRefreshing();
+	}
+
+	Duration getTtl(Object value) {
+
+		long leaseDuration = value instanceof VaultResponseSupport<?> response ? response.getLeaseDuration() : 0;
+		if (leaseDuration <= 0) {
+			return this.defaultTtl;
+		}
+
+		Duration ttl = Duration.ofSeconds(leaseDuration);
+		return ttl.compareTo(this.maximumTtl) > 0 ? this.maximumTtl : ttl;
+	}
+
+
+	/**
+	 * Normalize a Vault path by removing leading and trailing slashes.
+	 */
+	static String normalize(String path) {
+		return StringUtils.trimTrailingCharacter(StringUtils.trimLeadingCharacter(path, '/'), '/');
+	}
+
+	/**
+	 * Return the normalized {@code path} along with the Key-Value version 2
+	 * {@code data} paths whose cached values are affected by writing to
+	 * {@code path}.
+	 */
+	static Set<String> getAffectedPaths(String path) {
+
+		String normalized = normalize(path);
+		Set<String> paths = new LinkedHashSet<>(2);
+		paths.add(normalized);
+
+		for (String segment : KEY_VALUE_2_SEGMENTS) {
+
+			int index = normalized.indexOf(segment);
+			while (index != -1) {
+				paths.add(normalized.substring(0, index) + "/data/" + normalized.substring(index + segment.length()));
+				index = normalized.indexOf(segment, index + 1);
+			}
+		}
+
+		return paths;
+	}
+
+	/**
+	 * Return an identity for {@code token} suitable to scope cache entries
+	 * without retaining the token itself. Uses the token accessor if available
+	 * and a SHA-256 digest of the token otherwise.
+	 */
+	static String getIdentity(VaultToken token) {
+
+		if (token instanceof LoginToken loginToken && StringUtils.hasText(loginToken.getAccessor())) {
+			return "accessor:" + loginToken.getAccessor();
+		}
+
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			byte[] hash = digest.digest(token.getToken().getBytes(StandardCharsets.UTF_8));
+			return "sha256:" + HexFormat.of().formatHex(hash);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 not available", e);
+		}
+	}
+
+
+	/**
+	 * Cache key consisting of the normalized Vault path, the namespace and token
+	 * identity the response was obtained with, and a discriminator (typically the
+	 * response type).
+	 */
+	record Key(String path, @Nullable String namespace, @Nullable String identity, Object discriminator) {
+	}
+
+	/**
+	 * Discriminator for responses obtained through Key-Value operations that
+	 * differ in their shape from responses read from the same path directly.
+	 */
+	record KeyValueDiscriminator(Class<?> responseType) {
+	}
+
+	/**
+	 * Cache entry.
+	 */
+	static class Entry {
+
+		private final Object value;
+
+		private final long expiresAt;
+
+		private final long refreshAt;
+
+		private boolean refreshing;
+
+
+		Entry(Object value, long expiresAt, long refreshAt) {
+			this.value = value;
+			this.expiresAt = expiresAt;
+			this.refreshAt = refreshAt;
+		}
+
+
+		Object getValue() {
+			return this.value;
+		}
+
+		synchronized boolean markRefreshing() {
+			if (this.refreshing) {
+				return false;
+			}
+			this.refreshing = true;
+			return true;
+		}
+
+	}
+
+}
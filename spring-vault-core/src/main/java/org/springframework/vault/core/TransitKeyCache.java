@@ -0,0 +1,192 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.vault.core;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.util.Assert;
+import org.springframework.vault.core.util.TransitVersions;
+import org.springframework.vault.support.VaultTransitKey;
+
+/**
+ * Cache for {@link VaultTransitKey} metadata used by the transit templates.
+ * Entries expire after their TTL and can be refreshed ahead of expiry. Entries
+ * are evicted when the template modifies a key or when a ciphertext references
+ * a key version newer than the cached latest version. Evictions invalidate
+ * loads that are in progress so that stale metadata is not cached.
+ *
+ * @author Mark Paluch
+ * @since 4.2
+ */
+class TransitKeyCache {
+
+
+	private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+	private final AtomicLong generation = new AtomicLong();
+
+	private final LongSupplier clock;
+
+	private volatile long ttlNanos;
+
+	private volatile long refreshAheadNanos;
+
+
+	TransitKeyCache() {
+		this(System::nanoTime);
+	}
+
+	TransitKeyCache(LongSupplier clock) {
+		this.clock = clock;
+	}
+
+
+	void setTtl(Duration ttl) {
+
+		Assert.notNull(ttl, "Key cache TTL must not be null");
+		Assert.isTrue(!ttl.isNegative(), "Key cache TTL must not be negative");
+
+		this.ttlNanos = ttl.toNanos();
+		clear();
+	}
+
+	void setRefreshAhead(Duration refreshAhead) {
+
+		Assert.notNull(refreshAhead, "Refresh ahead duration must not be null");
+		Assert.isTrue(!refreshAhead.isNegative(), "Refresh ahead duration must not be negative");
+
+		this.refreshAheadNanos = refreshAhead.toNanos();
+	}
+
+	boolean isEnabled() {
+		return this.ttlNanos > 0;
+	}
+
+	/**
+	 * Return the cached key if present and not expired. Notifies
+	 * {@code refreshAhead} once per entry if the entry is about to expire.
+	 */
+	@Nullable
+	VaultTransitKey get(String keyName, Consumer<String> refreshAhead) {
+
+		Entry entry = this.entries.get(keyName);
+		if (entry == null) {
+			return null;
+		}
+
+		long remaining = entry.expiresAt - this.clock.getAsLong();
+		if (remaining <= 0) {
+			this.entries.remove(keyName, entry);
+			return null;
+		}
+
+		if (remaining <= this.refreshAheadNanos && entry.refreshing.compareAndSet(false, true)) {
+			refreshAhead.accept(keyName);
+		}
+
+		return entry.key;
+	}
+
+	/**
+	 * Obtain a token to be passed to {@link #put(String, VaultTransitKey, long)}
+	 * before loading a key.
+	 */
+	long getGeneration() {
+		return this.generation.get();
+	}
+
+	/**
+	 * Cache {@code key} unless an eviction happened after obtaining
+	 * {@code generation}.
+	 */
+	void put(String keyName, VaultTransitKey key, long generation) {
+
+		if (!isEnabled()) {
+			return;
+		}
+
+		Entry entry = new Entry(key, this.clock.getAsLong() + this.ttlNanos);
+		this.entries.put(keyName, entry);
+
+		if (this.generation.get() != generation) {
+			this.entries.remove(keyName, entry);
+		}
+	}
+
+	/**
+	 * Allow a new refresh-ahead attempt after a failed refresh.
+	 */
+	void refreshFailed(String keyName) {
+
+		Entry entry = this.entries.get(keyName);
+		if (entry != null) {
+			entry.refreshing.set(false);
+		}
+	}
+
+	/**
+	 * Evict the cached key if {@code ciphertext} was produced by a key version
+	 * newer than the cached latest version.
+	 */
+	void observe(String keyName, @Nullable String ciphertext) {
+
+		Entry entry = this.entries.get(keyName);
+		if (entry == null || ciphertext == null) {
+			return;
+		}
+
+		if (TransitVersions.getKeyVersion(ciphertext) > entry.key.getLatestVersion()) {
+			evict(keyName);
+		}
+	}
+
+	void evict(String keyName) {
+		this.generation.incrementAndGet();
+		this.entries.remove(keyName);
+	}
+
+	void clear() {
+		this.generation.incrementAndGet();
+		this.entries.clear();
+	}
+
+
+	static class Entry {
+
+		final VaultTransitKey key;
+
+		final long expiresAt;
+
+		final AtomicBoolean refreshing = new AtomicBoolean();
+
+
+		Entry(VaultTransitKey key, long expiresAt) {
+			this.key = key;
+			this.expiresAt = expiresAt;
+		}
+
+	}
+
+}
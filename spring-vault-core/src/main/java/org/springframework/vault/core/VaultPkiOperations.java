@@ -96,6 +96,8 @@ public interface VaultPkiOperations {
 	 * {@link Encoding#DER} or {@link Encoding#PEM} encoded.
 	 * <p>If Vault reports no content under the CRL URL, then the result of this
 	 * method call is {@literal null}.
+	 * <p>The CRL is streamed from the response without buffering it in memory.
+	 * Callers must close the returned stream to release the underlying connection.
 	 * @return {@link java.io.InputStream} containing the encoded CRL or
 	 * {@literal null} if Vault responds with 204 No Content.
 	 * @see <a href=
@@ -124,6 +126,8 @@ public interface VaultPkiOperations {
 	/**
 	 * Retrieves the specified issuer's certificate. Includes the full
 	 * {@code ca_chain} of the issuer.
+	 * <p>The certificate is streamed from the response. Callers must close the
+	 * returned stream to release the underlying connection.
 	 * @param issuer reference to an existing issuer, either by Vault-generated
 	 * identifier, or the name assigned to an issuer. Pass the literal string
 	 * {@code default} to refer to the currently configured issuer.
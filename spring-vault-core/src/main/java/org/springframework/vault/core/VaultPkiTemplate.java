@@ -16,7 +16,6 @@
 
 package org.springframework.vault.core;
 
-import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
@@ -27,7 +26,6 @@ import java.util.Map;
 
 import org.jspecify.annotations.Nullable;
 
-import org.springframework.http.ResponseEntity;
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 import org.springframework.vault.VaultException;
@@ -107,19 +105,12 @@ public class VaultPkiTemplate implements VaultPkiOperations {
 	}
 
 	@Override
-	@SuppressWarnings({"NullAway", "DataFlowIssue"})
-	public InputStream getCrl(Encoding encoding) throws VaultException {
+	@SuppressWarnings("NullAway")
+	public @Nullable InputStream getCrl(Encoding encoding) throws VaultException {
 		Assert.notNull(encoding, "Encoding must not be null");
 		return this.vaultOperations.doWithSessionClient((VaultClientCallback<@Nullable InputStream>) client -> {
 			String requestPath = encoding == Encoding.DER ? "{path}/crl" : "{path}/crl/pem";
-			ResponseEntity<byte[]> response = client.get()
-					.path(requestPath, this.path)
-					.retrieve()
-					.toEntity(byte[].class);
-			if (response.getStatusCode().is2xxSuccessful() && response.hasBody()) {
-				return new ByteArrayInputStream(response.getBody());
-			}
-			return null;
+			return client.get().path(requestPath, this.path).retrieve().bodyStream();
 		});
 	}
 
@@ -142,14 +133,7 @@ public class VaultPkiTemplate implements VaultPkiOperations {
 		Assert.notNull(encoding, "Encoding must not be null");
 		return this.vaultOperations.doWithSessionClient(client -> {
 			String requestPath = "{path}/issuer/{issuer}/%s".formatted(encoding.name().toLowerCase(Locale.ROOT));
-			ResponseEntity<byte[]> response = client.get()
-					.path(requestPath, this.path, issuer)
-					.retrieve()
-					.toEntity(byte[].class);
-			if (response.getStatusCode().is2xxSuccessful() && response.hasBody()) {
-				return new ByteArrayInputStream(response.getBody());
-			}
-			return null;
+			return client.get().path(requestPath, this.path, issuer).retrieve().bodyStream();
 		});
 	}
 
@@ -159,7 +143,7 @@ public class VaultPkiTemplate implements VaultPkiOperations {
 	 * @param certificateRequest must not be {@literal null}.
 	 * @return the body as {@link Map}.
 	 */
-	private static Map<String, Object> createIssueRequest(VaultCertificateRequest certificateRequest) {
+	static Map<String, Object> createIssueRequest(VaultCertificateRequest certificateRequest) {
 		Assert.notNull(certificateRequest, "Certificate request must not be null");
 		Map<String, Object> request = new HashMap<>();
 		PropertyMapper mapper = PropertyMapper.get();
@@ -23,6 +23,7 @@ import org.jspecify.annotations.Nullable;
 
 import org.springframework.vault.VaultException;
 import org.springframework.vault.support.Policy;
+import org.springframework.vault.support.Policy.Capability;
 import org.springframework.vault.support.VaultHealth;
 import org.springframework.vault.support.VaultInitializationRequest;
 import org.springframework.vault.support.VaultInitializationResponse;
@@ -164,6 +165,19 @@ public interface VaultSysOperations {
 	 */
 	void deletePolicy(String name) throws VaultException;
 
+	/**
+	 * Query the capabilities of the current token on the given {@code paths}
+	 * using a single request.
+	 * @param paths the paths to query, must not be {@literal null} or empty.
+	 * @return the capabilities per path in the order of {@code paths}.
+	 * @since 4.2
+	 * @see Policy#getCapabilities(String)
+	 * @see <a href=
+	 * "https://developer.hashicorp.com/vault/api-docs/system/capabilities-self">POST
+	 * /sys/capabilities-self</a>
+	 */
+	Map<String, List<Capability>> getCapabilities(List<String> paths) throws VaultException;
+
 	/**
 	 * Return the health status of Vault.
 	 * @return the {@link VaultHealth}.
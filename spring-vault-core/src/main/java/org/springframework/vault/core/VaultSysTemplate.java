@@ -19,6 +19,7 @@ package org.springframework.vault.core;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -41,6 +42,8 @@ import org.springframework.vault.client.VaultClientResponseException;
 import org.springframework.vault.client.VaultHttpHeaders;
 import org.springframework.vault.client.VaultResponses;
 import org.springframework.vault.support.*;
+import org.springframework.vault.support.Policy.BuiltinCapabilities;
+import org.springframework.vault.support.Policy.Capability;
 import org.springframework.vault.support.VaultMount.VaultMountBuilder;
 
 /**
@@ -221,6 +224,14 @@ public class VaultSysTemplate implements VaultSysOperations {
 		this.vaultOperations.delete("sys/policy/%s".formatted(name));
 	}
 
+	@Override
+	public Map<String, List<Capability>> getCapabilities(List<String> paths) throws VaultException {
+		Assert.notEmpty(paths, "Paths must not be empty");
+		VaultResponse response = this.vaultOperations.write("sys/capabilities-self",
+				Collections.singletonMap("paths", paths));
+		return toCapabilities(paths, requireResponse(response).getRequiredData());
+	}
+
 	@Override
 	public VaultHealth health() {
 		return requireResponse(this.vaultOperations.doWithVaultClient(HEALTH));
@@ -231,11 +242,44 @@ public class VaultSysTemplate implements VaultSysOperations {
 		return response;
 	}
 
+	/**
+	 * Map a {@code sys/capabilities-self} response to capabilities per path.
+	 * Vault reports single-path queries through the {@code capabilities} key.
+	 */
+	@SuppressWarnings("unchecked")
+	static Map<String, List<Capability>> toCapabilities(List<String> paths, Map<String, Object> data) {
+		Map<String, List<Capability>> result = new LinkedHashMap<>(paths.size(), 1);
+		for (String path : paths) {
+			Object capabilities = data.get(path);
+			if (capabilities == null && paths.size() == 1) {
+				capabilities = data.get("capabilities");
+			}
+			List<Capability> mapped = new ArrayList<>();
+			if (capabilities instanceof List<?> list) {
+				for (String capability : (List<String>) list) {
+					Capability builtin = BuiltinCapabilities.find(capability);
+					mapped.add(builtin != null ? builtin : new NamedCapability(capability));
+				}
+			}
+			result.put(path, mapped.isEmpty() ? List.of(BuiltinCapabilities.DENY) : List.copyOf(mapped));
+		}
+		return result;
+	}
+
 	private static Consumer<HttpHeaders> emptyNamespace() {
 		return it -> it.add(VaultHttpHeaders.VAULT_NAMESPACE, "");
 	}
 
 
+	/**
+	 * {@link Capability} not covered by {@link BuiltinCapabilities}, such as
+	 * {@code root}.
+	 */
+	record NamedCapability(String name) implements Capability {
+
+	}
+
+
 	private static class GetUnsealStatus implements VaultClientCallback<VaultUnsealStatus> {
 
 		@Override
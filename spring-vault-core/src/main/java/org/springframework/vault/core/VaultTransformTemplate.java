@@ -22,6 +22,8 @@ import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
 
 import org.jspecify.annotations.Nullable;
 
@@ -49,6 +51,12 @@ public class VaultTransformTemplate implements VaultTransformOperations {
 
 	private final String path;
 
+	private int maxBatchSize = Integer.MAX_VALUE;
+
+	private int batchParallelism = 4;
+
+	private @Nullable Executor batchExecutor;
+
 
 	/**
 	 * Create a new {@link VaultTransformTemplate} given {@link VaultOperations} and
@@ -64,6 +72,44 @@ public class VaultTransformTemplate implements VaultTransformOperations {
 	}
 
 
+	/**
+	 * Set the maximum number of items per batch request. Batch requests exceeding
+	 * the maximum batch size are split into chunks that are sent as individual
+	 * requests. Results are returned in the order of the batch request. Batch
+	 * requests are not split by default.
+	 * @param maxBatchSize must be greater than zero.
+	 * @since 4.2
+	 */
+	public void setMaxBatchSize(int maxBatchSize) {
+		Assert.isTrue(maxBatchSize > 0, "Maximum batch size must be greater than zero");
+		this.maxBatchSize = maxBatchSize;
+	}
+
+	/**
+	 * Set the maximum number of chunks of a single batch request to send
+	 * concurrently when a {@link #setBatchExecutor(Executor) batch executor} is
+	 * configured. Defaults to {@code 4}.
+	 * @param batchParallelism must be greater than zero.
+	 * @since 4.2
+	 */
+	public void setBatchParallelism(int batchParallelism) {
+		Assert.isTrue(batchParallelism > 0, "Batch parallelism must be greater than zero");
+		this.batchParallelism = batchParallelism;
+	}
+
+	/**
+	 * Set the {@link Executor} to send chunks of a batch request concurrently.
+	 * Chunks are sent sequentially on the calling thread if no executor is
+	 * configured.
+	 * @param batchExecutor the executor to use, can be {@literal null}.
+	 * @since 4.2
+	 * @see #setMaxBatchSize(int)
+	 */
+	public void setBatchExecutor(@Nullable Executor batchExecutor) {
+		this.batchExecutor = batchExecutor;
+	}
+
+
 	@Override
 	@SuppressWarnings("NullAway")
 	public String encode(String roleName, String plaintext) {
@@ -92,6 +138,10 @@ public class VaultTransformTemplate implements VaultTransformOperations {
 	public List<VaultTransformEncodeResult> encode(String roleName, List<TransformPlaintext> batchRequest) {
 		Assert.hasText(roleName, "Role name must not be empty");
 		Assert.notEmpty(batchRequest, "BatchRequest must not be null and must have at least one entry");
+		return executeBatch(batchRequest, batch -> doEncode(roleName, batch));
+	}
+
+	private List<VaultTransformEncodeResult> doEncode(String roleName, List<TransformPlaintext> batchRequest) {
 		List<Map<String, String>> batch = new ArrayList<>(batchRequest.size());
 		for (TransformPlaintext request : batchRequest) {
 			Map<String, String> vaultRequest = new LinkedHashMap<>(2);
@@ -130,6 +180,10 @@ public class VaultTransformTemplate implements VaultTransformOperations {
 	public List<VaultTransformDecodeResult> decode(String roleName, List<TransformCiphertext> batchRequest) {
 		Assert.hasText(roleName, "Role name must not be empty");
 		Assert.notEmpty(batchRequest, "BatchRequest must not be null and must have at least one entry");
+		return executeBatch(batchRequest, batch -> doDecode(roleName, batch));
+	}
+
+	private List<VaultTransformDecodeResult> doDecode(String roleName, List<TransformCiphertext> batchRequest) {
 		List<Map<String, String>> batch = new ArrayList<>(batchRequest.size());
 		for (TransformCiphertext request : batchRequest) {
 			Map<String, String> vaultRequest = new LinkedHashMap<>(2);
@@ -142,6 +196,10 @@ public class VaultTransformTemplate implements VaultTransformOperations {
 		return toDecryptionResults(requireResponse(vaultResponse), batchRequest);
 	}
 
+	private <T, R> List<R> executeBatch(List<T> batchRequest, Function<List<T>, List<R>> function) {
+		return BatchUtil.execute(batchRequest, this.maxBatchSize, this.batchParallelism, this.batchExecutor, function);
+	}
+
 	private static void applyTransformOptions(VaultTransformContext context, Map<String, String> request) {
 		PropertyMapper mapper = PropertyMapper.get();
 		mapper.from(context.getTransformation()).whenNotEmpty().to("transformation", request);
@@ -16,6 +16,7 @@
 
 package org.springframework.vault.core;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Base64;
 import java.util.Collections;
@@ -23,11 +24,15 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
 import org.jspecify.annotations.Nullable;
 
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.util.Assert;
 import org.springframework.util.ObjectUtils;
 import org.springframework.util.StringUtils;
@@ -47,10 +52,24 @@ import org.springframework.vault.support.*;
  */
 public class VaultTransitTemplate implements VaultTransitOperations {
 
+	private static final Log logger = LogFactory.getLog(VaultTransitTemplate.class);
+
+	private static final List<String> BATCH_ITEM_FIELDS = List.of("input", "signature", "hmac");
+
 	private final VaultOperations vaultOperations;
 
 	private final String path;
 
+	private int maxBatchSize = Integer.MAX_VALUE;
+
+	private int batchParallelism = 4;
+
+	private @Nullable Executor batchExecutor;
+
+	private final TransitKeyCache keyCache;
+
+	private @Nullable Executor keyCacheRefreshExecutor;
+
 	/**
 	 * Create a new {@link VaultTransitTemplate} given {@link VaultOperations} and
 	 * the mount {@code path}.
@@ -58,12 +77,93 @@ public class VaultTransitTemplate implements VaultTransitOperations {
 	 * @param path must not be empty or {@literal null}.
 	 */
 	public VaultTransitTemplate(VaultOperations vaultOperations, String path) {
+		this(vaultOperations, path, new TransitKeyCache());
+	}
+
+	VaultTransitTemplate(VaultOperations vaultOperations, String path, TransitKeyCache keyCache) {
 
 		Assert.notNull(vaultOperations, "VaultOperations must not be null");
 		Assert.hasText(path, "Path must not be empty");
 
 		this.vaultOperations = vaultOperations;
 		this.path = path;
+		this.keyCache = keyCache;
+	}
+
+	/**
+	 * Set the maximum number of items per batch request. Batch requests exceeding
+	 * the maximum batch size are split into chunks that are sent as individual
+	 * requests. Results are returned in the order of the batch request. Batch
+	 * requests are not split by default.
+	 * @param maxBatchSize must be greater than zero.
+	 * @since 4.2
+	 */
+	public void setMaxBatchSize(int maxBatchSize) {
+		Assert.isTrue(maxBatchSize > 0, "Maximum batch size must be greater than zero");
+		this.maxBatchSize = maxBatchSize;
+	}
+
+	/**
+	 * Set the maximum number of chunks of a single batch request to send
+	 * concurrently when a {@link #setBatchExecutor(Executor) batch executor} is
+	 * configured. Defaults to {@code 4}.
+	 * @param batchParallelism must be greater than zero.
+	 * @since 4.2
+	 */
+	public void setBatchParallelism(int batchParallelism) {
+		Assert.isTrue(batchParallelism > 0, "Batch parallelism must be greater than zero");
+		this.batchParallelism = batchParallelism;
+	}
+
+	/**
+	 * Set the {@link Executor} to send chunks of a batch request concurrently.
+	 * Chunks are sent sequentially on the calling thread if no executor is
+	 * configured.
+	 * @param batchExecutor the executor to use, can be {@literal null}.
+	 * @since 4.2
+	 * @see #setMaxBatchSize(int)
+	 */
+	public void setBatchExecutor(@Nullable Executor batchExecutor) {
+		this.batchExecutor = batchExecutor;
+	}
+
+	/**
+	 * Enable caching of {@link #getKey(String) key metadata} by setting the time
+	 * to live of cached keys. Cached keys are evicted when rotating, configuring
+	 * or deleting a key through this template and when encryption yields a
+	 * ciphertext for a key version newer than the cached latest version. Key
+	 * metadata is not cached by default.
+	 * @param keyCacheTtl must not be {@literal null} or negative.
+	 * {@link Duration#ZERO} disables caching.
+	 * @since 4.2
+	 */
+	public void setKeyCacheTtl(Duration keyCacheTtl) {
+		this.keyCache.setTtl(keyCacheTtl);
+	}
+
+	/**
+	 * Set the duration before expiry of a cached key in which accessing the key
+	 * triggers a refresh in the background. The cached key is returned while the
+	 * refresh is in progress. Keys are refreshed on expiry by default.
+	 * @param refreshAhead must not be {@literal null} or negative.
+	 * @since 4.2
+	 * @see #setKeyCacheTtl(Duration)
+	 * @see #setKeyCacheRefreshExecutor(Executor)
+	 */
+	public void setKeyCacheRefreshAhead(Duration refreshAhead) {
+		this.keyCache.setRefreshAhead(refreshAhead);
+	}
+
+	/**
+	 * Set the {@link Executor} to refresh cached keys in the background. Defaults
+	 * to a {@link SimpleAsyncTaskExecutor} using daemon threads.
+	 * @param keyCacheRefreshExecutor must not be {@literal null}.
+	 * @since 4.2
+	 * @see #setKeyCacheRefreshAhead(Duration)
+	 */
+	public void setKeyCacheRefreshExecutor(Executor keyCacheRefreshExecutor) {
+		Assert.notNull(keyCacheRefreshExecutor, "Key cache refresh Executor must not be null");
+		this.keyCacheRefreshExecutor = keyCacheRefreshExecutor;
 	}
 
 	@Override
@@ -100,6 +200,7 @@ public class VaultTransitTemplate implements VaultTransitOperations {
 		Assert.notNull(keyConfiguration, "VaultKeyConfiguration must not be empty");
 
 		this.vaultOperations.write("%s/keys/%s/config".formatted(this.path, keyName), keyConfiguration);
+		this.keyCache.evict(keyName);
 	}
 
 	@Override
@@ -119,6 +220,62 @@ public class VaultTransitTemplate implements VaultTransitOperations {
 
 		Assert.hasText(keyName, "Key name must not be empty");
 
+		if (!this.keyCache.isEnabled()) {
+			return doGetKey(keyName);
+		}
+
+		VaultTransitKey key = this.keyCache.get(keyName, this::refreshKey);
+		return key != null ? key : loadKey(keyName);
+	}
+
+	private @Nullable VaultTransitKey loadKey(String keyName) {
+
+		long generation = this.keyCache.getGeneration();
+		VaultTransitKey key = doGetKey(keyName);
+
+		if (key != null) {
+			this.keyCache.put(keyName, key, generation);
+		} else {
+			this.keyCache.evict(keyName);
+		}
+
+		return key;
+	}
+
+	private void refreshKey(String keyName) {
+
+		try {
+			getKeyCacheRefreshExecutor().execute(() -> {
+				try {
+					loadKey(keyName);
+				} catch (RuntimeException e) {
+					this.keyCache.refreshFailed(keyName);
+					if (logger.isDebugEnabled()) {
+						logger.debug("Cannot refresh transit key [%s]".formatted(keyName), e);
+					}
+				}
+			});
+		} catch (RuntimeException e) {
+			this.keyCache.refreshFailed(keyName);
+			if (logger.isDebugEnabled()) {
+				logger.debug("Cannot schedule refresh of transit key [%s]".formatted(keyName), e);
+			}
+		}
+	}
+
+	private Executor getKeyCacheRefreshExecutor() {
+
+		Executor executor = this.keyCacheRefreshExecutor;
+		if (executor == null) {
+			SimpleAsyncTaskExecutor taskExecutor = new SimpleAsyncTaskExecutor("vault-transit-key-refresh-");
+			taskExecutor.setDaemon(true);
+			this.keyCacheRefreshExecutor = executor = taskExecutor;
+		}
+		return executor;
+	}
+
+	private @Nullable VaultTransitKey doGetKey(String keyName) {
+
 		VaultResponseSupport<VaultTransitKeyImpl> result = this.vaultOperations
 				.read("%s/keys/%s".formatted(this.path, keyName), VaultTransitKeyImpl.class);
 
@@ -135,6 +292,7 @@ public class VaultTransitTemplate implements VaultTransitOperations {
 		Assert.hasText(keyName, "Key name must not be empty");
 
 		this.vaultOperations.delete("%s/keys/%s".formatted(this.path, keyName));
+		this.keyCache.evict(keyName);
 	}
 
 	@Override
@@ -143,6 +301,7 @@ public class VaultTransitTemplate implements VaultTransitOperations {
 		Assert.hasText(keyName, "Key name must not be empty");
 
 		this.vaultOperations.write("%s/keys/%s/rotate".formatted(this.path, keyName), null);
+		this.keyCache.evict(keyName);
 	}
 
 	@Override
@@ -156,7 +315,8 @@ public class VaultTransitTemplate implements VaultTransitOperations {
 
 		request.put("plaintext", Base64.getEncoder().encodeToString(plaintext.getBytes()));
 
-		return (String) writeForData("%s/encrypt/%s".formatted(this.path, keyName), request).get("ciphertext");
+		return observe(keyName,
+				(String) writeForData("%s/encrypt/%s".formatted(this.path, keyName), request).get("ciphertext"));
 	}
 
 	@Override
@@ -184,7 +344,8 @@ public class VaultTransitTemplate implements VaultTransitOperations {
 
 		applyTransitOptions(transitContext, request);
 
-		return (String) writeForData("%s/encrypt/%s".formatted(this.path, keyName), request).get("ciphertext");
+		return observe(keyName,
+				(String) writeForData("%s/encrypt/%s".formatted(this.path, keyName), request).get("ciphertext"));
 	}
 
 	@Override
@@ -193,6 +354,11 @@ public class VaultTransitTemplate implements VaultTransitOperations {
 		Assert.hasText(keyName, "Key name must not be empty");
 		Assert.notEmpty(batchRequest, "BatchRequest must not be null and must have at least one entry");
 
+		return executeBatch(batchRequest, batch -> doEncrypt(keyName, batch));
+	}
+
+	private List<VaultEncryptionResult> doEncrypt(String keyName, List<Plaintext> batchRequest) {
+
 		List<Map<String, String>> batch = new ArrayList<>(batchRequest.size());
 
 		for (Plaintext request : batchRequest) {
@@ -208,7 +374,22 @@ public class VaultTransitTemplate implements VaultTransitOperations {
 		VaultResponse vaultResponse = writeForResponse("%s/encrypt/%s".formatted(this.path, keyName),
 				Collections.singletonMap("batch_input", batch));
 
-		return toBatchResults(vaultResponse, batchRequest, Plaintext::getContext);
+		List<VaultEncryptionResult> results = toBatchResults(vaultResponse, batchRequest, Plaintext::getContext);
+
+		for (VaultEncryptionResult result : results) {
+			if (result.isSuccessful()) {
+				Ciphertext ciphertext = result.get();
+				this.keyCache.observe(keyName, ciphertext != null ? ciphertext.getCiphertext() : null);
+				break;
+			}
+		}
+
+		return results;
+	}
+
+	private String observe(String keyName, String ciphertext) {
+		this.keyCache.observe(keyName, ciphertext);
+		return ciphertext;
 	}
 
 	@Override
@@ -263,6 +444,11 @@ public class VaultTransitTemplate implements VaultTransitOperations {
 		Assert.hasText(keyName, "Key name must not be empty");
 		Assert.notEmpty(batchRequest, "BatchRequest must not be null and must have at least one entry");
 
+		return executeBatch(batchRequest, batch -> doDecrypt(keyName, batch));
+	}
+
+	private List<VaultDecryptionResult> doDecrypt(String keyName, List<Ciphertext> batchRequest) {
+
 		List<Map<String, String>> batch = new ArrayList<>(batchRequest.size());
 
 		for (Ciphertext request : batchRequest) {
@@ -313,6 +499,11 @@ public class VaultTransitTemplate implements VaultTransitOperations {
 		Assert.hasText(keyName, "Key name must not be empty");
 		Assert.notEmpty(batchRequest, "BatchRequest must not be null and must have at least one entry");
 
+		return executeBatch(batchRequest, batch -> doRewrap(keyName, batch));
+	}
+
+	private List<VaultEncryptionResult> doRewrap(String keyName, List<Ciphertext> batchRequest) {
+
 		List<Map<String, String>> batch = new ArrayList<>(batchRequest.size());
 
 		for (Ciphertext request : batchRequest) {
@@ -352,6 +543,22 @@ public class VaultTransitTemplate implements VaultTransitOperations {
 		return Hmac.of(hmac);
 	}
 
+	@Override
+	public List<VaultHmacResult> getHmac(String keyName, List<VaultHmacRequest> batchRequest) {
+
+		Assert.hasText(keyName, "Key name must not be empty");
+		Assert.notEmpty(batchRequest, "BatchRequest must not be null and must have at least one entry");
+
+		return executeBatch(batchRequest, batch -> {
+
+			Map<String, Object> request = toBatchRequestBody(batch, VaultTransitTemplate::toRequestBody);
+
+			VaultResponse vaultResponse = writeForResponse("%s/hmac/%s".formatted(this.path, keyName), request);
+
+			return toHmacResults(vaultResponse, batch.size());
+		});
+	}
+
 	static Map<String, Object> toRequestBody(VaultHmacRequest hmacRequest) {
 
 		Map<String, Object> request = new LinkedHashMap<>(3);
@@ -391,6 +598,22 @@ public class VaultTransitTemplate implements VaultTransitOperations {
 		return Signature.of(signature);
 	}
 
+	@Override
+	public List<VaultSignResult> sign(String keyName, List<VaultSignRequest> batchRequest) {
+
+		Assert.hasText(keyName, "Key name must not be empty");
+		Assert.notEmpty(batchRequest, "BatchRequest must not be null and must have at least one entry");
+
+		return executeBatch(batchRequest, batch -> {
+
+			Map<String, Object> request = toBatchRequestBody(batch, VaultTransitTemplate::toRequestBody);
+
+			VaultResponse vaultResponse = writeForResponse("%s/sign/%s".formatted(this.path, keyName), request);
+
+			return toSignResults(vaultResponse, batch.size());
+		});
+	}
+
 	static Map<String, Object> toRequestBody(VaultSignRequest signRequest) {
 
 		Map<String, Object> request = new LinkedHashMap<>(4);
@@ -434,6 +657,27 @@ public class VaultTransitTemplate implements VaultTransitOperations {
 		return SignatureValidation.invalid();
 	}
 
+	@Override
+	public List<VaultSignatureVerificationResult> verify(String keyName,
+			List<VaultSignatureVerificationRequest> batchRequest) {
+
+		Assert.hasText(keyName, "Key name must not be empty");
+		Assert.notEmpty(batchRequest, "BatchRequest must not be null and must have at least one entry");
+
+		return executeBatch(batchRequest, batch -> {
+
+			Map<String, Object> request = toBatchRequestBody(batch, VaultTransitTemplate::toRequestBody);
+
+			VaultResponse vaultResponse = writeForResponse("%s/verify/%s".formatted(this.path, keyName), request);
+
+			return toVerificationResults(vaultResponse, batch.size());
+		});
+	}
+
+	private <T, R> List<R> executeBatch(List<T> batchRequest, Function<List<T>, List<R>> function) {
+		return BatchUtil.execute(batchRequest, this.maxBatchSize, this.batchParallelism, this.batchExecutor, function);
+	}
+
 	private Map<String, Object> writeForData(String path, @Nullable Object request) {
 		return writeForResponse(path, request).getRequiredData();
 	}
@@ -469,6 +713,99 @@ public class VaultTransitTemplate implements VaultTransitOperations {
 		return request;
 	}
 
+	/**
+	 * Create a batch request body from individual requests. Per-item fields
+	 * ({@code input}, {@code signature}, {@code hmac}) are collected into
+	 * {@code batch_input} while the remaining options apply to the whole batch.
+	 */
+	static <T> Map<String, Object> toBatchRequestBody(List<T> batchRequest,
+			Function<T, Map<String, Object>> requestBodyFunction) {
+
+		Map<String, Object> options = Collections.emptyMap();
+		List<Map<String, Object>> batch = new ArrayList<>(batchRequest.size());
+
+		for (int i = 0; i < batchRequest.size(); i++) {
+
+			Map<String, Object> body = requestBodyFunction.apply(batchRequest.get(i));
+			Map<String, Object> item = new LinkedHashMap<>(2);
+
+			for (String field : BATCH_ITEM_FIELDS) {
+				if (body.containsKey(field)) {
+					item.put(field, body.remove(field));
+				}
+			}
+
+			if (i == 0) {
+				options = body;
+			} else {
+				Assert.isTrue(options.equals(body), "All batch requests must use the same options");
+			}
+
+			batch.add(item);
+		}
+
+		Map<String, Object> request = new LinkedHashMap<>(options);
+		request.put("batch_input", batch);
+		return request;
+	}
+
+	static List<VaultSignResult> toSignResults(VaultResponse vaultResponse, int size) {
+		return toResults(vaultResponse, size, data -> new VaultSignResult(Signature.of(getRequiredString(data, "signature"))),
+				VaultSignResult::new);
+	}
+
+	static List<VaultHmacResult> toHmacResults(VaultResponse vaultResponse, int size) {
+		return toResults(vaultResponse, size, data -> new VaultHmacResult(Hmac.of(getRequiredString(data, "hmac"))),
+				VaultHmacResult::new);
+	}
+
+	static List<VaultSignatureVerificationResult> toVerificationResults(VaultResponse vaultResponse, int size) {
+		return toResults(vaultResponse, size,
+				data -> new VaultSignatureVerificationResult(Boolean.TRUE.equals(data.get("valid"))
+						? SignatureValidation.valid() : SignatureValidation.invalid()),
+				VaultSignatureVerificationResult::new);
+	}
+
+	@SuppressWarnings({"NullAway", "unchecked"})
+	private static <R> List<R> toResults(VaultResponse vaultResponse, int size,
+			Function<Map<String, Object>, R> resultFunction, Function<VaultException, R> errorFunction) {
+
+		List<R> result = new ArrayList<>(size);
+		List<Map<String, Object>> batchData = (List<Map<String, Object>>) vaultResponse.getRequiredData()
+				.get("batch_results");
+
+		for (int i = 0; i < size; i++) {
+
+			if (batchData == null || batchData.size() <= i) {
+				result.add(errorFunction.apply(new VaultException("No result for request #" + i)));
+				continue;
+			}
+
+			Map<String, Object> data = batchData.get(i);
+			if (data.get("error") instanceof String error && StringUtils.hasText(error)) {
+				result.add(errorFunction.apply(new VaultException(error)));
+				continue;
+			}
+
+			try {
+				result.add(resultFunction.apply(data));
+			} catch (VaultException e) {
+				result.add(errorFunction.apply(e));
+			}
+		}
+
+		return result;
+	}
+
+	private static String getRequiredString(Map<String, Object> data, String key) {
+
+		if (data.get(key) instanceof String value) {
+			return value;
+		}
+
+		throw new VaultException("No '%s' in batch result".formatted(key));
+	}
+
 	static void applyTransitOptions(VaultTransitContext context, Map<String, String> request) {
 
 		if (!ObjectUtils.isEmpty(context.getContext())) {
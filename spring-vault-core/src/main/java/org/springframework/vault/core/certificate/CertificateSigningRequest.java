@@ -0,0 +1,213 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.vault.core.certificate;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.Signature;
+import java.security.interfaces.ECKey;
+import java.security.interfaces.EdECKey;
+import java.util.Base64;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+import org.springframework.vault.VaultException;
+
+/**
+ * Utility to create PKCS#10 certificate signing requests for a {@link KeyPair}.
+ * The request subject carries the common name only. Subject alternative names
+ * are requested through {@link org.springframework.vault.support.VaultCertificateRequest}
+ * when signing the request.
+ * <p>The ASN.1 syntax of the certificate signing request is
+ *
+ * <pre>
+ * CertificationRequest ::= SEQUENCE {
+ *   certificationRequestInfo CertificationRequestInfo,
+ *   signatureAlgorithm       AlgorithmIdentifier,
+ *   signature                BIT STRING
+ * }
+ *
+ * CertificationRequestInfo ::= SEQUENCE {
+ *   version       INTEGER { v1(0) },
+ *   subject       Name,
+ *   subjectPKInfo SubjectPublicKeyInfo,
+ *   attributes    [0] Attributes
+ * }
+ * </pre>
+ *
+ * @author Mark Paluch
+ * @since 4.2
+ */
+final class CertificateSigningRequest {
+
+	private static final String COMMON_NAME = "2.5.4.3";
+
+	private static final int INTEGER = 0x02;
+
+	private static final int BIT_STRING = 0x03;
+
+	private static final int NULL = 0x05;
+
+	private static final int OBJECT_IDENTIFIER = 0x06;
+
+	private static final int UTF8_STRING = 0x0C;
+
+	private static final int SEQUENCE = 0x30;
+
+	private static final int SET = 0x31;
+
+	private static final int ATTRIBUTES = 0xA0;
+
+
+	private CertificateSigningRequest() {
+	}
+
+
+	/**
+	 * Create a PEM-encoded certificate signing request.
+	 * @param keyPair the key pair to sign the request with.
+	 * @param commonName the common name to use as subject.
+	 * @return the PEM-encoded certificate signing request.
+	 */
+	static String create(KeyPair keyPair, @Nullable String commonName) {
+		return "-----BEGIN CERTIFICATE REQUEST-----\n"
+				+ Base64.getMimeEncoder(64, "\n".getBytes(StandardCharsets.US_ASCII))
+					.encodeToString(encode(keyPair, commonName))
+				+ "\n-----END CERTIFICATE REQUEST-----\n";
+	}
+
+	/**
+	 * Create a DER-encoded certificate signing request.
+	 * @param keyPair the key pair to sign the request with.
+	 * @param commonName the common name to use as subject.
+	 * @return the DER-encoded certificate signing request.
+	 */
+	static byte[] encode(KeyPair keyPair, @Nullable String commonName) {
+
+		byte[] subject = commonName != null && StringUtils.hasText(commonName)
+				? tlv(SEQUENCE, tlv(SET, tlv(SEQUENCE, oid(COMMON_NAME),
+						tlv(UTF8_STRING, commonName.getBytes(StandardCharsets.UTF_8)))))
+				: tlv(SEQUENCE);
+
+		byte[] requestInfo = tlv(SEQUENCE, tlv(INTEGER, new byte[] { 0 }), subject, keyPair.getPublic().getEncoded(),
+				tlv(ATTRIBUTES));
+
+		SignatureAlgorithm algorithm = SignatureAlgorithm.of(keyPair);
+		try {
+			Signature signature = Signature.getInstance(algorithm.name);
+			signature.initSign(keyPair.getPrivate());
+			signature.update(requestInfo);
+
+			return tlv(SEQUENCE, requestInfo, algorithm.identifier, bitString(signature.sign()));
+		} catch (GeneralSecurityException e) {
+			throw new VaultException("Cannot sign certificate signing request", e);
+		}
+	}
+
+	private static byte[] bitString(byte[] value) {
+
+		byte[] content = new byte[value.length + 1];
+		System.arraycopy(value, 0, content, 1, value.length);
+		return tlv(BIT_STRING, content);
+	}
+
+	static byte[] oid(String oid) {
+
+		String[] arcs = oid.split("\\.");
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		out.write(Integer.parseInt(arcs[0]) * 40 + Integer.parseInt(arcs[1]));
+
+		for (int i = 2; i < arcs.length; i++) {
+
+			long arc = Long.parseLong(arcs[i]);
+			for (int bits = (63 - Long.numberOfLeadingZeros(arc | 1)) / 7 * 7; bits > 0; bits -= 7) {
+				out.write((int) ((arc >>> bits) & 0x7F) | 0x80);
+			}
+			out.write((int) (arc & 0x7F));
+		}
+
+		return tlv(OBJECT_IDENTIFIER, out.toByteArray());
+	}
+
+	static byte[] tlv(int tag, byte[]... values) {
+
+		int length = 0;
+		for (byte[] value : values) {
+			length += value.length;
+		}
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream(length + 6);
+		out.write(tag);
+		if (length < 0x80) {
+			out.write(length);
+		} else {
+			int bytes = (39 - Integer.numberOfLeadingZeros(length)) / 8;
+			out.write(0x80 | bytes);
+			for (int i = bytes - 1; i >= 0; i--) {
+				out.write(length >>> (i * 8));
+			}
+		}
+
+		for (byte[] value : values) {
+			out.writeBytes(value);
+		}
+		return out.toByteArray();
+	}
+
+
+	/**
+	 * Signature algorithm for a key pair along with its DER-encoded
+	 * {@code AlgorithmIdentifier}.
+	 */
+	record SignatureAlgorithm(String name, byte[] identifier) {
+
+		static SignatureAlgorithm of(KeyPair keyPair) {
+
+			return switch (keyPair.getPublic().getAlgorithm()) {
+			case "RSA" -> new SignatureAlgorithm("SHA256withRSA",
+					tlv(SEQUENCE, oid("1.2.840.113549.1.1.11"), tlv(NULL)));
+			case "EC" -> ecdsa(((ECKey) keyPair.getPublic()).getParams().getCurve().getField().getFieldSize());
+			case "EdDSA", "Ed25519" -> {
+				String curve = ((EdECKey) keyPair.getPublic()).getParams().getName();
+				Assert.isTrue("Ed25519".equalsIgnoreCase(curve), "EdDSA curve %s not supported".formatted(curve));
+				yield new SignatureAlgorithm("Ed25519", tlv(SEQUENCE, oid("1.3.101.112")));
+			}
+			default -> throw new IllegalArgumentException(
+					"Key algorithm %s not supported".formatted(keyPair.getPublic().getAlgorithm()));
+			};
+		}
+
+		private static SignatureAlgorithm ecdsa(int fieldSize) {
+
+			if (fieldSize > 384) {
+				return new SignatureAlgorithm("SHA512withECDSA", tlv(SEQUENCE, oid("1.2.840.10045.4.3.4")));
+			}
+
+			if (fieldSize > 256) {
+				return new SignatureAlgorithm("SHA384withECDSA", tlv(SEQUENCE, oid("1.2.840.10045.4.3.3")));
+			}
+
+			return new SignatureAlgorithm("SHA256withECDSA", tlv(SEQUENCE, oid("1.2.840.10045.4.3.2")));
+		}
+
+	}
+
+}
@@ -0,0 +1,248 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.vault.core.certificate;
+
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.spec.AlgorithmParameterSpec;
+import java.security.spec.ECGenParameterSpec;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.util.Assert;
+import org.springframework.vault.VaultException;
+
+/**
+ * Pool of pre-generated {@link KeyPair key pairs} to issue certificates from
+ * locally generated keys. The pool is refilled in the background after
+ * {@link #afterPropertiesSet() initialization} so that taking a key pair does
+ * not wait for key generation. Key pairs are generated on the calling thread if
+ * the pool is exhausted or not initialized.
+ * <p>Size the pool according to the number of certificates that are expected
+ * to be rotated within the time it takes to generate a key pair, for example
+ * when multiple certificates expire at the same time.
+ *
+ * @author Mark Paluch
+ * @since 4.2
+ * @see VaultCertificateAuthority
+ */
+public class KeyPairPool implements InitializingBean, DisposableBean {
+
+	private static final Log logger = LogFactory.getLog(KeyPairPool.class);
+
+	private final String algorithm;
+
+	private final String privateKeyType;
+
+	private final int keySize;
+
+	private final @Nullable AlgorithmParameterSpec parameterSpec;
+
+	private final Queue<KeyPair> pool = new ConcurrentLinkedQueue<>();
+
+	private final AtomicInteger size = new AtomicInteger();
+
+	private final AtomicBoolean refilling = new AtomicBoolean();
+
+	private int poolSize = 4;
+
+	private @Nullable Executor executor;
+
+	private volatile boolean running;
+
+
+	private KeyPairPool(String algorithm, String privateKeyType, int keySize,
+			@Nullable AlgorithmParameterSpec parameterSpec) {
+		this.algorithm = algorithm;
+		this.privateKeyType = privateKeyType;
+		this.keySize = keySize;
+		this.parameterSpec = parameterSpec;
+		createGenerator();
+	}
+
+
+	/**
+	 * Create a new {@link KeyPairPool} for RSA keys.
+	 * @param keySize RSA key size in bits, for example {@code 2048}.
+	 * @return the {@link KeyPairPool}.
+	 */
+	public static KeyPairPool rsa(int keySize) {
+		Assert.isTrue(keySize > 0, "Key size must be greater than zero");
+		return new KeyPairPool("RSA", "rsa", keySize, null);
+	}
+
+	/**
+	 * Create a new {@link KeyPairPool} for EC keys.
+	 * @param curveName standard name of the curve, for example
+	 * {@code secp256r1}.
+	 * @return the {@link KeyPairPool}.
+	 * @throws VaultException if the curve is not supported.
+	 */
+	public static KeyPairPool ec(String curveName) {
+		Assert.hasText(curveName, "Curve name must not be empty");
+		return new KeyPairPool("EC", "ec", 0, new ECGenParameterSpec(curveName));
+	}
+
+	/**
+	 * Create a new {@link KeyPairPool} for Ed25519 keys.
+	 * @return the {@link KeyPairPool}.
+	 */
+	public static KeyPairPool ed25519() {
+		return new KeyPairPool("Ed25519", "ed25519", 0, null);
+	}
+
+	/**
+	 * Set the number of key pairs to keep available. Defaults to {@code 4}.
+	 * @param poolSize must be greater than zero.
+	 */
+	public void setPoolSize(int poolSize) {
+		Assert.isTrue(poolSize > 0, "Pool size must be greater than zero");
+		this.poolSize = poolSize;
+	}
+
+	/**
+	 * Set the {@link Executor} to generate key pairs in the background. Defaults
+	 * to a {@link SimpleAsyncTaskExecutor} using daemon threads.
+	 * @param executor must not be {@literal null}.
+	 */
+	public void setExecutor(Executor executor) {
+		Assert.notNull(executor, "Executor must not be null");
+		this.executor = executor;
+	}
+
+	/**
+	 * Start filling the pool in the background.
+	 */
+	@Override
+	public void afterPropertiesSet() {
+		this.running = true;
+		refill();
+	}
+
+	/**
+	 * Stop refilling the pool and discard pooled key pairs.
+	 */
+	@Override
+	public void destroy() {
+		this.running = false;
+		this.pool.clear();
+		this.size.set(0);
+	}
+
+	/**
+	 * Take a key pair from the pool. Generates a key pair on the calling thread if
+	 * the pool is empty. Taking a key pair triggers refilling the pool.
+	 * @return the {@link KeyPair}.
+	 */
+	public KeyPair take() {
+
+		KeyPair keyPair = this.pool.poll();
+		if (keyPair != null) {
+			this.size.decrementAndGet();
+		} else {
+			keyPair = generateKeyPair();
+		}
+
+		refill();
+		return keyPair;
+	}
+
+	/**
+	 * @return the number of currently pooled key pairs.
+	 */
+	int getAvailable() {
+		return this.size.get();
+	}
+
+	/**
+	 * @return the private key type as used by Vault, {@code rsa}, {@code ec} or
+	 * {@code ed25519}.
+	 */
+	String getPrivateKeyType() {
+		return this.privateKeyType;
+	}
+
+	private void refill() {
+
+		if (!this.running || this.size.get() >= this.poolSize || !this.refilling.compareAndSet(false, true)) {
+			return;
+		}
+
+		getExecutor().execute(() -> {
+
+			boolean failed = false;
+			try {
+				while (this.running && this.size.get() < this.poolSize) {
+					this.pool.add(generateKeyPair());
+					this.size.incrementAndGet();
+				}
+			} catch (RuntimeException e) {
+				failed = true;
+				logger.warn("Cannot generate %s key pair".formatted(this.algorithm), e);
+			} finally {
+				this.refilling.set(false);
+			}
+
+			// key pairs taken after the loop exited require another refill
+			if (!failed) {
+				refill();
+			}
+		});
+	}
+
+	private Executor getExecutor() {
+
+		Executor executor = this.executor;
+		if (executor == null) {
+			SimpleAsyncTaskExecutor taskExecutor = new SimpleAsyncTaskExecutor("vault-key-pair-");
+			taskExecutor.setDaemon(true);
+			this.executor = executor = taskExecutor;
+		}
+		return executor;
+	}
+
+	KeyPair generateKeyPair() {
+		return createGenerator().generateKeyPair();
+	}
+
+	private KeyPairGenerator createGenerator() {
+
+		try {
+			KeyPairGenerator generator = KeyPairGenerator.getInstance(this.algorithm);
+			if (this.parameterSpec != null) {
+				generator.initialize(this.parameterSpec);
+			} else if (this.keySize > 0) {
+				generator.initialize(this.keySize);
+			}
+			return generator;
+		} catch (GeneralSecurityException e) {
+			throw new VaultException("Cannot create %s key pair generator".formatted(this.algorithm), e);
+		}
+	}
+
+}
@@ -16,6 +16,11 @@
 
 package org.springframework.vault.core.certificate;
 
+import java.security.KeyPair;
+import java.util.Base64;
+
+import org.jspecify.annotations.Nullable;
+
 import org.springframework.util.Assert;
 import org.springframework.vault.core.VaultPkiOperations;
 import org.springframework.vault.support.Certificate;
@@ -24,6 +29,12 @@ import org.springframework.vault.support.VaultCertificateRequest;
 
 /**
  * Vault PKI {@link CertificateAuthority} implementation.
+ * <p>By default, certificates are issued through Vault's {@code issue}
+ * endpoint and Vault generates the private key. When configured with a
+ * {@link KeyPairPool}, private keys are generated locally and certificates are
+ * issued by signing a certificate signing request through Vault's
+ * {@code sign} endpoint. The private key is not sent over the network and key
+ * generation does not consume Vault resources.
  *
  * @author Mark Paluch
  * @since 4.1
@@ -32,16 +43,45 @@ public class VaultCertificateAuthority implements CertificateAuthority {
 
 	private final VaultPkiOperations pki;
 
+	private final @Nullable KeyPairPool keyPairPool;
+
 
 	public VaultCertificateAuthority(VaultPkiOperations pki) {
 		Assert.notNull(pki, "VaultPkiOperations must not be null");
 		this.pki = pki;
+		this.keyPairPool = null;
+	}
+
+	/**
+	 * Create a new {@link VaultCertificateAuthority} that issues certificates by
+	 * signing certificate signing requests for key pairs obtained from
+	 * {@link KeyPairPool}.
+	 * @param pki must not be {@literal null}.
+	 * @param keyPairPool must not be {@literal null}.
+	 * @since 4.2
+	 */
+	public VaultCertificateAuthority(VaultPkiOperations pki, KeyPairPool keyPairPool) {
+		Assert.notNull(pki, "VaultPkiOperations must not be null");
+		Assert.notNull(keyPairPool, "KeyPairPool must not be null");
+		this.pki = pki;
+		this.keyPairPool = keyPairPool;
 	}
 
 
 	@Override
 	public CertificateBundle issueCertificate(String certificateName, String role, VaultCertificateRequest request) {
-		return pki.issueCertificate(role, request).getRequiredData();
+
+		KeyPairPool keyPairPool = this.keyPairPool;
+		if (keyPairPool == null) {
+			return pki.issueCertificate(role, request).getRequiredData();
+		}
+
+		KeyPair keyPair = keyPairPool.take();
+		String csr = CertificateSigningRequest.create(keyPair, request.getCommonName());
+		Certificate certificate = pki.signCertificateRequest(role, csr, request).getRequiredData();
+
+		return CertificateBundle.of(certificate, Base64.getEncoder().encodeToString(keyPair.getPrivate().getEncoded()),
+				keyPairPool.getPrivateKeyType());
 	}
 
 	@Override
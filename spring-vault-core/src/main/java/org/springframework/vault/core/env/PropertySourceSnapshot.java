@@ -0,0 +1,281 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.vault.core.env;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.util.Assert;
+import org.springframework.util.DigestUtils;
+import org.springframework.vault.support.JacksonCompat;
+
+/**
+ * Encrypted local snapshot of property source contents.
+ * <p>Snapshots allow a {@link VaultPropertySource} to serve properties from a
+ * local file immediately on startup and to refresh them from Vault in the
+ * background. Startup is then decoupled from Vault latency and availability.
+ * Each snapshot is stored in its own file within the snapshot
+ * {@code directory}, encrypted with AES-GCM using a data key obtained from the
+ * configured {@link SnapshotKeyProvider}. The property source name is bound to
+ * the ciphertext as additional authenticated data so snapshot files cannot be
+ * swapped between property sources.
+ * <p>Snapshots that cannot be read or decrypted are ignored and properties
+ * are loaded from Vault instead. Note that decrypting a snapshot on startup
+ * with {@link SnapshotKeyProvider#transit(org.springframework.vault.core.VaultOperations, String, String)
+ * Transit data keys} requires Vault to be available. Use a
+ * {@link SnapshotKeyProvider#local(byte[]) local key} to read snapshots while
+ * Vault is unavailable.
+ *
+ * @author Mark Paluch
+ * @since 4.2
+ * @see VaultPropertySource
+ * @see SnapshotKeyProvider
+ */
+public class PropertySourceSnapshot {
+
+	private static final Log logger = LogFactory.getLog(PropertySourceSnapshot.class);
+
+	private static final int MAGIC = 0x53565331; // SVS1
+
+	private static final int MAX_ENCRYPTED_KEY_LENGTH = 64 * 1024;
+
+	private static final int IV_LENGTH = 12;
+
+	private static final int TAG_LENGTH = 128;
+
+	private static final String CIPHER = "AES/GCM/NoPadding";
+
+	private static final SecureRandom RANDOM = new SecureRandom();
+
+
+	private final Path directory;
+
+	private final SnapshotKeyProvider keyProvider;
+
+	private Executor refreshExecutor;
+
+
+	/**
+	 * Create a new {@link PropertySourceSnapshot} storing snapshots in
+	 * {@code directory}.
+	 * @param directory the snapshot directory, must not be {@literal null}. Created
+	 * on first write if it does not exist.
+	 * @param keyProvider the provider for encryption keys, must not be
+	 * {@literal null}.
+	 */
+	public PropertySourceSnapshot(Path directory, SnapshotKeyProvider keyProvider) {
+
+		Assert.notNull(directory, "Directory must not be null");
+		Assert.notNull(keyProvider, "SnapshotKeyProvider must not be null");
+
+		this.directory = directory;
+		this.keyProvider = keyProvider;
+
+		SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("vault-snapshot-refresh-");
+		executor.setDaemon(true);
+		this.refreshExecutor = executor;
+	}
+
+
+	/**
+	 * Set the {@link Executor} used to refresh property sources from Vault after
+	 * properties were served from a snapshot. Defaults to a
+	 * {@link SimpleAsyncTaskExecutor} using daemon threads.
+	 * @param refreshExecutor must not be {@literal null}.
+	 */
+	public void setRefreshExecutor(Executor refreshExecutor) {
+		Assert.notNull(refreshExecutor, "Refresh Executor must not be null");
+		this.refreshExecutor = refreshExecutor;
+	}
+
+	/**
+	 * @return the {@link Executor} to refresh property sources in the background.
+	 */
+	public Executor getRefreshExecutor() {
+		return this.refreshExecutor;
+	}
+
+	/**
+	 * Read the snapshot for the property source {@code name}.
+	 * @param name the property source name, must not be {@literal null}.
+	 * @return the snapshot properties or {@literal null} if no snapshot exists or
+	 * the snapshot cannot be read.
+	 */
+	public @Nullable Map<String, Object> read(String name) {
+
+		Assert.notNull(name, "Name must not be null");
+
+		Path file = getFile(name);
+		if (!Files.isRegularFile(file)) {
+			return null;
+		}
+
+		try (DataInputStream in = new DataInputStream(Files.newInputStream(file))) {
+
+			if (in.readInt() != MAGIC) {
+				throw new IOException("Unrecognized snapshot format");
+			}
+
+			int encryptedKeyLength = in.readInt();
+			if (encryptedKeyLength < 0 || encryptedKeyLength > MAX_ENCRYPTED_KEY_LENGTH) {
+				throw new IOException("Invalid encrypted key length");
+			}
+
+			byte[] encryptedKey = new byte[encryptedKeyLength];
+			in.readFully(encryptedKey);
+			byte[] iv = new byte[IV_LENGTH];
+			in.readFully(iv);
+			byte[] ciphertext = in.readAllBytes();
+
+			byte[] key = this.keyProvider.decryptKey(encryptedKey);
+			try {
+				Cipher cipher = createCipher(Cipher.DECRYPT_MODE, key, iv, name);
+				byte[] json = cipher.doFinal(ciphertext);
+				return toProperties(json);
+			} finally {
+				Arrays.fill(key, (byte) 0);
+			}
+		} catch (IOException | GeneralSecurityException | RuntimeException e) {
+			if (logger.isWarnEnabled()) {
+				logger.warn("Cannot read property source snapshot %s: %s".formatted(file, e.getMessage()));
+			}
+			return null;
+		}
+	}
+
+	/**
+	 * Write a snapshot of {@code properties} for the property source {@code name}.
+	 * Replaces an existing snapshot atomically where supported by the file system.
+	 * @param name the property source name, must not be {@literal null}.
+	 * @param properties the properties to store, must not be {@literal null}.
+	 * @throws IOException if the snapshot cannot be written.
+	 */
+	public void write(String name, Map<String, Object> properties) throws IOException {
+
+		Assert.notNull(name, "Name must not be null");
+		Assert.notNull(properties, "Properties must not be null");
+
+		byte[] json = JacksonCompat.instance()
+				.getObjectMapperAccessor()
+				.writeValueAsString(properties)
+				.getBytes(StandardCharsets.UTF_8);
+
+		SnapshotKeyProvider.DataKey dataKey = this.keyProvider.generateKey();
+		byte[] iv = new byte[IV_LENGTH];
+		RANDOM.nextBytes(iv);
+
+		byte[] ciphertext;
+		try {
+			ciphertext = createCipher(Cipher.ENCRYPT_MODE, dataKey.plaintext(), iv, name).doFinal(json);
+		} catch (GeneralSecurityException e) {
+			throw new IOException("Cannot encrypt property source snapshot", e);
+		} finally {
+			Arrays.fill(dataKey.plaintext(), (byte) 0);
+			Arrays.fill(json, (byte) 0);
+		}
+
+		ByteArrayOutputStream buffer = new ByteArrayOutputStream(16 + dataKey.ciphertext().length + ciphertext.length);
+		try (DataOutputStream out = new DataOutputStream(buffer)) {
+			out.writeInt(MAGIC);
+			out.writeInt(dataKey.ciphertext().length);
+			out.write(dataKey.ciphertext());
+			out.write(iv);
+			out.write(ciphertext);
+		}
+
+		Files.createDirectories(this.directory);
+		Path file = getFile(name);
+		Path tempFile = Files.createTempFile(this.directory, file.getFileName().toString(), ".tmp");
+
+		try {
+			restrictPermissions(tempFile);
+			Files.write(tempFile, buffer.toByteArray());
+			try {
+				Files.move(tempFile, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+			} catch (AtomicMoveNotSupportedException e) {
+				Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+			}
+		} finally {
+			Files.deleteIfExists(tempFile);
+		}
+	}
+
+	/**
+	 * Delete the snapshot for the property source {@code name}.
+	 * @param name the property source name, must not be {@literal null}.
+	 * @throws IOException if the snapshot cannot be deleted.
+	 */
+	public void delete(String name) throws IOException {
+		Assert.notNull(name, "Name must not be null");
+		Files.deleteIfExists(getFile(name));
+	}
+
+	Path getFile(String name) {
+		return this.directory.resolve(DigestUtils.md5DigestAsHex(name.getBytes(StandardCharsets.UTF_8)) + ".snapshot");
+	}
+
+	private static Cipher createCipher(int mode, byte[] key, byte[] iv, String name)
+			throws GeneralSecurityException {
+
+		Cipher cipher = Cipher.getInstance(CIPHER);
+		cipher.init(mode, new SecretKeySpec(key, "AES"), new GCMParameterSpec(TAG_LENGTH, iv));
+		cipher.updateAAD(name.getBytes(StandardCharsets.UTF_8));
+		return cipher;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Map<String, Object> toProperties(byte[] json) {
+		try {
+			return new LinkedHashMap<String, Object>(
+					JacksonCompat.instance().getObjectMapperAccessor().deserialize(json, Map.class));
+		} finally {
+			Arrays.fill(json, (byte) 0);
+		}
+	}
+
+	private static void restrictPermissions(Path file) {
+		try {
+			Files.setPosixFilePermissions(file, PosixFilePermissions.fromString("rw-------"));
+		} catch (UnsupportedOperationException | IOException e) {
+			// not a POSIX file system
+		}
+	}
+
+}
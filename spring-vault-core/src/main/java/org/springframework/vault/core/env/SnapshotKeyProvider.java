@@ -0,0 +1,182 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.vault.core.env;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Map;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.util.Assert;
+import org.springframework.vault.VaultException;
+import org.springframework.vault.core.VaultOperations;
+import org.springframework.vault.support.Ciphertext;
+import org.springframework.vault.support.VaultResponse;
+
+/**
+ * Strategy to obtain the encryption key for a {@link PropertySourceSnapshot}.
+ * <p>A provider generates a {@link DataKey} consisting of the plaintext key
+ * used to encrypt a snapshot and an encrypted form of that key that is stored
+ * alongside the snapshot. Reading a snapshot recovers the plaintext key from
+ * its encrypted form through {@link #decryptKey(byte[])}.
+ *
+ * @author Mark Paluch
+ * @since 4.2
+ * @see PropertySourceSnapshot
+ */
+public interface SnapshotKeyProvider {
+
+	/**
+	 * Generate a new data key to encrypt a snapshot.
+	 * @return the data key.
+	 */
+	DataKey generateKey();
+
+	/**
+	 * Recover the plaintext key from its encrypted form.
+	 * @param encryptedKey the encrypted key as returned by {@link #generateKey()}.
+	 * @return the plaintext key.
+	 */
+	byte[] decryptKey(byte[] encryptedKey);
+
+	/**
+	 * Create a {@link SnapshotKeyProvider} using a static local AES key. The key is
+	 * used directly to encrypt snapshots.
+	 * @param key the AES key, must be 16, 24 or 32 bytes long.
+	 * @return the {@link SnapshotKeyProvider}.
+	 */
+	static SnapshotKeyProvider local(byte[] key) {
+
+		Assert.notNull(key, "Key must not be null");
+		Assert.isTrue(key.length == 16 || key.length == 24 || key.length == 32,
+				"Key must be 16, 24 or 32 bytes long");
+
+		byte[] keyToUse = Arrays.copyOf(key, key.length);
+
+		return new SnapshotKeyProvider() {
+
+			@Override
+			public DataKey generateKey() {
+				return new DataKey(Arrays.copyOf(keyToUse, keyToUse.length), new byte[0]);
+			}
+
+			@Override
+			public byte[] decryptKey(byte[] encryptedKey) {
+				return Arrays.copyOf(keyToUse, keyToUse.length);
+			}
+
+		};
+	}
+
+	/**
+	 * Create a {@link SnapshotKeyProvider} using data keys generated by Vault's
+	 * Transit secrets engine ({@code transit/datakey/plaintext}). The wrapped data
+	 * key is stored with the snapshot and decrypted through Transit when reading
+	 * the snapshot, so reading a snapshot requires a single Transit call.
+	 * <p><strong>Reading a snapshot requires a reachable Vault server</strong>
+	 * unless its data key is the one most recently generated or decrypted by the
+	 * same provider instance. Only that data key is retained in memory so that a
+	 * running application can fall back to its latest snapshot when Vault becomes
+	 * unavailable. Replaced keys are zeroed out. Use {@link #local(byte[])} if
+	 * snapshots must be readable on startup while Vault is unavailable.
+	 * @param vaultOperations must not be {@literal null}.
+	 * @param path the Transit mount path, for example {@code transit}.
+	 * @param keyName name of the Transit key used to wrap data keys.
+	 * @return the {@link SnapshotKeyProvider}.
+	 */
+	static SnapshotKeyProvider transit(VaultOperations vaultOperations, String path, String keyName) {
+
+		Assert.notNull(vaultOperations, "VaultOperations must not be null");
+		Assert.hasText(path, "Path must not be empty");
+		Assert.hasText(keyName, "Key name must not be empty");
+
+		return new SnapshotKeyProvider() {
+
+			private @Nullable String currentCiphertext;
+
+			private byte @Nullable [] currentKey;
+
+			@Override
+			public DataKey generateKey() {
+
+				String generatePath = "%s/datakey/plaintext/%s".formatted(path, keyName);
+				VaultResponse response = vaultOperations.write(generatePath, Map.of("bits", 256));
+
+				if (response == null || response.getData() == null) {
+					throw new VaultException("No data key returned from %s".formatted(generatePath));
+				}
+
+				Map<String, Object> data = response.getRequiredData();
+				if (!(data.get("plaintext") instanceof String plaintext)
+						|| !(data.get("ciphertext") instanceof String ciphertext)) {
+					throw new VaultException("Incomplete data key returned from %s".formatted(generatePath));
+				}
+
+				byte[] key = Base64.getDecoder().decode(plaintext);
+				retain(ciphertext, key);
+				return new DataKey(key, ciphertext.getBytes(StandardCharsets.UTF_8));
+			}
+
+			@Override
+			public byte[] decryptKey(byte[] encryptedKey) {
+
+				String ciphertext = new String(encryptedKey, StandardCharsets.UTF_8);
+
+				synchronized (this) {
+					if (ciphertext.equals(this.currentCiphertext) && this.currentKey != null) {
+						return Arrays.copyOf(this.currentKey, this.currentKey.length);
+					}
+				}
+
+				byte[] key = vaultOperations.opsForTransit(path)
+						.decrypt(keyName, Ciphertext.of(ciphertext))
+						.getPlaintext();
+				retain(ciphertext, key);
+				return key;
+			}
+
+			private synchronized void retain(String ciphertext, byte[] key) {
+
+				if (this.currentKey != null) {
+					Arrays.fill(this.currentKey, (byte) 0);
+				}
+				this.currentCiphertext = ciphertext;
+				this.currentKey = Arrays.copyOf(key, key.length);
+			}
+
+		};
+	}
+
+
+	/**
+	 * Data key consisting of the plaintext key and its encrypted form.
+	 *
+	 * @param plaintext the plaintext key used for encryption.
+	 * @param ciphertext the encrypted key stored with the snapshot.
+	 */
+	record DataKey(byte[] plaintext, byte[] ciphertext) {
+
+		public DataKey {
+			Assert.notNull(plaintext, "Plaintext key must not be null");
+			Assert.notNull(ciphertext, "Ciphertext key must not be null");
+		}
+
+	}
+
+}
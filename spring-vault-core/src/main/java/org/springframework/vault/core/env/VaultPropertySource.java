@@ -19,6 +19,7 @@ package org.springframework.vault.core.env;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.locks.ReentrantLock;
 
 import org.apache.commons.logging.Log;
@@ -41,11 +42,16 @@ import org.springframework.vault.support.VaultResponse;
  * {@link PropertySource} that reads keys and values from a
  * {@link VaultTemplate} and {@code path}. Transforms properties after
  * retrieving these from Vault using {@link PropertyTransformer}.
+ * <p>Property sources configured with a {@link PropertySourceSnapshot} serve
+ * properties from an encrypted local snapshot upon construction, if available,
+ * and refresh these from Vault in the background. A snapshot is written after
+ * each successful load from Vault.
  *
  * @author Mark Paluch
  * @see org.springframework.core.env.PropertiesPropertySource
  * @see PropertyTransformer
  * @see PropertyTransformers
+ * @see PropertySourceSnapshot
  */
 public class VaultPropertySource extends EnumerablePropertySource<VaultOperations> {
 
@@ -57,12 +63,14 @@ public class VaultPropertySource extends EnumerablePropertySource<VaultOperation
 
 	private final KeyValueDelegate keyValueDelegate;
 
-	private final Map<String, Object> properties = new LinkedHashMap<>();
+	private volatile Map<String, Object> properties = new LinkedHashMap<>();
 
 	private final PropertyTransformer propertyTransformer;
 
 	private final boolean ignoreSecretNotFound;
 
+	private final @Nullable PropertySourceSnapshot snapshot;
+
 	private final ReentrantLock lock = new ReentrantLock();
 
 
@@ -125,6 +133,31 @@ public class VaultPropertySource extends EnumerablePropertySource<VaultOperation
 	 */
 	public VaultPropertySource(String name, VaultOperations vaultOperations, String path,
 			PropertyTransformer propertyTransformer, boolean ignoreSecretNotFound) {
+		this(name, vaultOperations, path, propertyTransformer, ignoreSecretNotFound, null);
+	}
+
+	/**
+	 * Create a new {@link VaultPropertySource} given a {@code name},
+	 * {@link VaultTemplate} and {@code path} inside of Vault. This property source
+	 * serves properties from {@link PropertySourceSnapshot} upon construction if a
+	 * snapshot is available and refreshes these from Vault in the background.
+	 * Otherwise, properties are loaded from Vault upon construction. Properties
+	 * are transformed by applying {@link PropertyTransformer}.
+	 * @param name name of the property source, must not be {@literal null}.
+	 * @param vaultOperations must not be {@literal null}.
+	 * @param path the path inside Vault (e.g. {@code secret/myapp/myproperties}.
+	 * Must not be empty or {@literal null}.
+	 * @param propertyTransformer object to transform properties.
+	 * @param ignoreSecretNotFound indicate if failure to find a secret at
+	 * {@code path} should be ignored.
+	 * @param snapshot the snapshot to use, can be {@literal null} to disable
+	 * snapshots.
+	 * @since 4.2
+	 * @see PropertyTransformers
+	 */
+	public VaultPropertySource(String name, VaultOperations vaultOperations, String path,
+			PropertyTransformer propertyTransformer, boolean ignoreSecretNotFound,
+			@Nullable PropertySourceSnapshot snapshot) {
 		super(name, vaultOperations);
 		Assert.hasText(path, "Path name must contain at least one character");
 		Assert.isTrue(!path.startsWith("/"), "Path name must not start with a slash (/)");
@@ -133,7 +166,10 @@ public class VaultPropertySource extends EnumerablePropertySource<VaultOperation
 		this.keyValueDelegate = new KeyValueDelegate(vaultOperations, LinkedHashMap::new);
 		this.propertyTransformer = propertyTransformer.andThen(PropertyTransformers.removeNullProperties());
 		this.ignoreSecretNotFound = ignoreSecretNotFound;
-		loadProperties();
+		this.snapshot = snapshot;
+		if (snapshot == null || !loadSnapshot(snapshot)) {
+			loadProperties();
+		}
 	}
 
 	/**
@@ -165,13 +201,118 @@ public class VaultPropertySource extends EnumerablePropertySource<VaultOperation
 					throw new VaultPropertySourceNotFoundException(msg);
 				}
 			} else {
-				this.properties.putAll(doTransformProperties(properties));
+				Map<String, Object> updated = new LinkedHashMap<>(this.properties);
+				updated.putAll(doTransformProperties(properties));
+				this.properties = updated;
+				writeSnapshot(updated);
+			}
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * Serve properties from the snapshot and schedule a refresh from Vault.
+	 * @return {@literal true} if properties were obtained from the snapshot.
+	 */
+	private boolean loadSnapshot(PropertySourceSnapshot snapshot) {
+
+		Map<String, Object> properties = snapshot.read(getName());
+		if (properties == null) {
+			return false;
+		}
+
+		if (logger.isDebugEnabled()) {
+			logger.debug("Using snapshot of properties for Vault location %s".formatted(this.path));
+		}
+		this.properties = properties;
+
+		try {
+			snapshot.getRefreshExecutor().execute(this::refreshProperties);
+		} catch (RejectedExecutionException e) {
+			if (logger.isWarnEnabled()) {
+				logger.warn("Cannot schedule refresh of snapshot properties for Vault location %s"
+						.formatted(this.path), e);
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Replace properties served from a snapshot with properties read from Vault.
+	 * Retains the snapshot properties if Vault cannot be reached.
+	 */
+	private void refreshProperties() {
+		try {
+			refresh();
+		} catch (RuntimeException e) {
+			if (logger.isWarnEnabled()) {
+				logger.warn("Cannot refresh properties from Vault location [%s], retaining snapshot properties"
+						.formatted(this.path), e);
+			}
+		}
+	}
+
+	/**
+	 * Reload properties from Vault and atomically replace the properties of this
+	 * property source. Properties remain unchanged if the Vault location cannot be
+	 * resolved.
+	 * @return {@literal true} if the properties have changed.
+	 * @throws VaultPropertySourceNotFoundException if the Vault location cannot be
+	 * resolved.
+	 * @since 4.2
+	 */
+	public boolean refresh() {
+		this.lock.lock();
+		try {
+			if (logger.isDebugEnabled()) {
+				logger.debug("Refreshing properties from Vault at %s".formatted(this.path));
+			}
+			Map<String, Object> properties;
+			try {
+				properties = doGetProperties(this.path);
+			} catch (RuntimeException e) {
+				throw new VaultPropertySourceNotFoundException(
+						"Vault location [%s] not resolvable".formatted(this.path), e);
+			}
+			if (properties == null) {
+				throw new VaultPropertySourceNotFoundException(
+						"Vault location [%s] not resolvable".formatted(this.path));
+			}
+			Map<String, Object> refreshed = new LinkedHashMap<>(doTransformProperties(properties));
+			if (refreshed.equals(this.properties)) {
+				return false;
 			}
+			this.properties = refreshed;
+			writeSnapshot(refreshed);
+			return true;
 		} finally {
 			this.lock.unlock();
 		}
 	}
 
+	private void writeSnapshot(Map<String, Object> properties) {
+		PropertySourceSnapshot snapshot = this.snapshot;
+		if (snapshot == null) {
+			return;
+		}
+		try {
+			snapshot.write(getName(), properties);
+		} catch (Exception e) {
+			if (logger.isWarnEnabled()) {
+				logger.warn("Cannot write snapshot of properties for Vault location [%s]".formatted(this.path), e);
+			}
+		}
+	}
+
+
+	/**
+	 * @return the path inside Vault.
+	 * @since 4.2
+	 */
+	public String getPath() {
+		return this.path;
+	}
 
 	@Override
 	public @Nullable Object getProperty(String name) {
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.vault.core.env;
+
+import java.io.Serial;
+import java.util.Set;
+
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * Event published after the properties of a {@link VaultPropertySource} have
+ * changed as result of a refresh.
+ *
+ * @author Mark Paluch
+ * @since 4.2
+ * @see VaultPropertySourceRefresher
+ */
+public class VaultPropertySourceRefreshedEvent extends ApplicationEvent {
+
+	@Serial
+	private static final long serialVersionUID = 1L;
+
+	private final Set<String> changedPropertyNames;
+
+
+	/**
+	 * Create a new {@code VaultPropertySourceRefreshedEvent} given
+	 * {@link VaultPropertySource} and the names of changed properties.
+	 * @param propertySource must not be {@literal null}.
+	 * @param changedPropertyNames names of added, changed, and removed properties.
+	 */
+	public VaultPropertySourceRefreshedEvent(VaultPropertySource propertySource, Set<String> changedPropertyNames) {
+		super(propertySource);
+		this.changedPropertyNames = Set.copyOf(changedPropertyNames);
+	}
+
+
+	@Override
+	public VaultPropertySource getSource() {
+		return (VaultPropertySource) super.getSource();
+	}
+
+	/**
+	 * @return names of properties that were added, changed, or removed.
+	 */
+	public Set<String> getChangedPropertyNames() {
+		return this.changedPropertyNames;
+	}
+
+}
@@ -0,0 +1,383 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.vault.core.env;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.ApplicationEventPublisherAware;
+import org.springframework.context.ApplicationListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.util.Assert;
+import org.springframework.vault.core.VaultOperations;
+import org.springframework.vault.core.util.KeyValueDelegate;
+import org.springframework.vault.support.VaultResponse;
+
+/**
+ * Refresher for static {@link VaultPropertySource}s that does not require
+ * lease handling.
+ * <p>The refresher polls registered property sources in regular intervals.
+ * Property sources backed by a versioned Key-Value secrets engine are checked
+ * by reading the secret's {@code metadata} and comparing its
+ * {@code current_version} with the version observed previously. Secrets are
+ * re-read only if their version has changed. The first check of a property
+ * source re-reads its secret to establish the version baseline. Property
+ * sources backed by other secrets engines do not expose a version and are
+ * re-read on each check.
+ * <p>Each check covers up to {@link #setBatchSize(int) batch size} property
+ * sources, continuing with the next property sources on the subsequent check
+ * so that the load on Vault is spread across intervals. Property sources can
+ * be refreshed on demand, for example in response to an external notification,
+ * through {@link #refresh(VaultPropertySource)} and {@link #checkForUpdates()}.
+ * <p>Changed properties are swapped atomically and announced through a
+ * {@link VaultPropertySourceRefreshedEvent} that is published to the
+ * {@link ApplicationEventPublisher} and registered listeners.
+ *
+ * @author Mark Paluch
+ * @since 4.2
+ * @see VaultPropertySource#refresh()
+ * @see VaultPropertySourceRefreshedEvent
+ */
+public class VaultPropertySourceRefresher
+		implements InitializingBean, DisposableBean, ApplicationEventPublisherAware {
+
+	private static final Log logger = LogFactory.getLog(VaultPropertySourceRefresher.class);
+
+	private static final AtomicInteger poolId = new AtomicInteger();
+
+	private static final int UNKNOWN_VERSION = -1;
+
+
+	private final VaultOperations vaultOperations;
+
+	private final KeyValueDelegate keyValueDelegate;
+
+	private final List<TrackedPropertySource> propertySources = new CopyOnWriteArrayList<>();
+
+	private final List<ApplicationListener<VaultPropertySourceRefreshedEvent>> listeners = new CopyOnWriteArrayList<>();
+
+	private Duration refreshInterval = Duration.ofMinutes(1);
+
+	private int batchSize = 100;
+
+	private int position;
+
+	private @Nullable TaskScheduler taskScheduler;
+
+	private boolean manageTaskScheduler;
+
+	private @Nullable ScheduledFuture<?> scheduledCheck;
+
+	private @Nullable ApplicationEventPublisher eventPublisher;
+
+
+	/**
+	 * Create a new {@code VaultPropertySourceRefresher} given
+	 * {@link VaultOperations}.
+	 * @param vaultOperations must not be {@literal null}.
+	 */
+	public VaultPropertySourceRefresher(VaultOperations vaultOperations) {
+		Assert.notNull(vaultOperations, "VaultOperations must not be null");
+		this.vaultOperations = vaultOperations;
+		this.keyValueDelegate = new KeyValueDelegate(vaultOperations);
+	}
+
+
+	/**
+	 * Set the interval between checks for updated secrets. Defaults to one
+	 * minute.
+	 * @param refreshInterval must not be {@literal null} and must be positive.
+	 */
+	public void setRefreshInterval(Duration refreshInterval) {
+		Assert.notNull(refreshInterval, "Refresh interval must not be null");
+		Assert.isTrue(!refreshInterval.isZero() && !refreshInterval.isNegative(),
+				"Refresh interval must be positive");
+		this.refreshInterval = refreshInterval;
+	}
+
+	/**
+	 * Set the maximum number of property sources to check for updates per
+	 * interval. Defaults to {@code 100}.
+	 * @param batchSize must be greater than zero.
+	 */
+	public void setBatchSize(int batchSize) {
+		Assert.isTrue(batchSize > 0, "Batch size must be greater than zero");
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * Set the {@link TaskScheduler} to schedule update checks. A managed
+	 * scheduler is created if no scheduler is configured.
+	 * @param taskScheduler must not be {@literal null}.
+	 */
+	public void setTaskScheduler(TaskScheduler taskScheduler) {
+		Assert.notNull(taskScheduler, "TaskScheduler must not be null");
+		this.taskScheduler = taskScheduler;
+	}
+
+	@Override
+	public void setApplicationEventPublisher(ApplicationEventPublisher applicationEventPublisher) {
+		this.eventPublisher = applicationEventPublisher;
+	}
+
+	/**
+	 * Add a listener to be notified about refreshed property sources.
+	 * @param listener must not be {@literal null}.
+	 */
+	public void addListener(ApplicationListener<VaultPropertySourceRefreshedEvent> listener) {
+		Assert.notNull(listener, "Listener must not be null");
+		this.listeners.add(listener);
+	}
+
+	/**
+	 * Remove a listener.
+	 * @param listener must not be {@literal null}.
+	 */
+	public void removeListener(ApplicationListener<VaultPropertySourceRefreshedEvent> listener) {
+		this.listeners.remove(listener);
+	}
+
+	/**
+	 * Register a {@link VaultPropertySource} to be refreshed.
+	 * @param propertySource must not be {@literal null}.
+	 */
+	public void register(VaultPropertySource propertySource) {
+		Assert.notNull(propertySource, "VaultPropertySource must not be null");
+		this.propertySources.add(new TrackedPropertySource(propertySource));
+	}
+
+	/**
+	 * Remove a {@link VaultPropertySource} from being refreshed.
+	 * @param propertySource must not be {@literal null}.
+	 */
+	public void unregister(VaultPropertySource propertySource) {
+		this.propertySources.removeIf(it -> it.propertySource == propertySource);
+	}
+
+	@Override
+	public void afterPropertiesSet() {
+
+		if (this.taskScheduler == null) {
+			ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+			scheduler.setDaemon(true);
+			scheduler.setThreadNamePrefix("%s-%d-".formatted(getClass().getSimpleName(), poolId.incrementAndGet()));
+			scheduler.afterPropertiesSet();
+			this.taskScheduler = scheduler;
+			this.manageTaskScheduler = true;
+		}
+
+		this.scheduledCheck = this.taskScheduler.scheduleWithFixedDelay(this::checkNextBatch,
+				this.taskScheduler.getClock().instant().plus(this.refreshInterval), this.refreshInterval);
+	}
+
+	@Override
+	public void destroy() throws Exception {
+
+		ScheduledFuture<?> scheduledCheck = this.scheduledCheck;
+		if (scheduledCheck != null) {
+			scheduledCheck.cancel(false);
+			this.scheduledCheck = null;
+		}
+
+		if (this.manageTaskScheduler && this.taskScheduler instanceof DisposableBean disposable) {
+			disposable.destroy();
+			this.taskScheduler = null;
+		}
+	}
+
+	/**
+	 * Check all registered property sources for updates and refresh property
+	 * sources whose secrets have changed.
+	 */
+	public void checkForUpdates() {
+		for (TrackedPropertySource propertySource : this.propertySources) {
+			check(propertySource);
+		}
+	}
+
+	/**
+	 * Refresh the given property source regardless of its version.
+	 * @param propertySource must not be {@literal null}.
+	 * @return {@literal true} if the properties have changed.
+	 */
+	public boolean refresh(VaultPropertySource propertySource) {
+
+		Assert.notNull(propertySource, "VaultPropertySource must not be null");
+
+		for (TrackedPropertySource tracked : this.propertySources) {
+			if (tracked.propertySource == propertySource) {
+				return doRefresh(tracked, UNKNOWN_VERSION);
+			}
+		}
+
+		return doRefresh(new TrackedPropertySource(propertySource), UNKNOWN_VERSION);
+	}
+
+	/**
+	 * Check the next batch of property sources.
+	 */
+	void checkNextBatch() {
+
+		List<TrackedPropertySource> propertySources = new ArrayList<>(this.propertySources);
+		if (propertySources.isEmpty()) {
+			return;
+		}
+
+		int count = Math.min(this.batchSize, propertySources.size());
+		int start = this.position % propertySources.size();
+		for (int i = 0; i < count; i++) {
+			check(propertySources.get((start + i) % propertySources.size()));
+		}
+		this.position = (start + count) % propertySources.size();
+	}
+
+	private void check(TrackedPropertySource tracked) {
+
+		try {
+			String metadataPath = tracked.getMetadataPath(this.keyValueDelegate);
+			if (metadataPath == null) {
+				doRefresh(tracked, UNKNOWN_VERSION);
+				return;
+			}
+
+			int currentVersion = getCurrentVersion(metadataPath);
+			if (currentVersion == UNKNOWN_VERSION || currentVersion != tracked.version) {
+				doRefresh(tracked, currentVersion);
+			}
+		} catch (RuntimeException e) {
+			if (logger.isWarnEnabled()) {
+				logger.warn("Cannot check Vault location [%s] for updates".formatted(tracked.propertySource.getPath()),
+						e);
+			}
+		}
+	}
+
+	private int getCurrentVersion(String metadataPath) {
+
+		VaultResponse response = this.vaultOperations.read(metadataPath);
+		if (response == null || response.getData() == null
+				|| !(response.getRequiredData().get("current_version") instanceof Number version)) {
+			return UNKNOWN_VERSION;
+		}
+		return version.intValue();
+	}
+
+	private boolean doRefresh(TrackedPropertySource tracked, int version) {
+
+		VaultPropertySource propertySource = tracked.propertySource;
+		Map<String, @Nullable Object> before = getProperties(propertySource);
+
+		boolean changed = propertySource.refresh();
+		tracked.version = version;
+
+		if (!changed) {
+			return false;
+		}
+
+		Map<String, @Nullable Object> after = getProperties(propertySource);
+		Set<String> changedPropertyNames = new LinkedHashSet<>();
+		before.forEach((name, value) -> {
+			if (!Objects.equals(value, after.get(name))) {
+				changedPropertyNames.add(name);
+			}
+		});
+		after.keySet().forEach(name -> {
+			if (!before.containsKey(name)) {
+				changedPropertyNames.add(name);
+			}
+		});
+
+		if (logger.isDebugEnabled()) {
+			logger.debug("Refreshed properties from Vault location [%s]".formatted(propertySource.getPath()));
+		}
+
+		publish(new VaultPropertySourceRefreshedEvent(propertySource, changedPropertyNames));
+		return true;
+	}
+
+	private void publish(VaultPropertySourceRefreshedEvent event) {
+
+		ApplicationEventPublisher eventPublisher = this.eventPublisher;
+		if (eventPublisher != null) {
+			eventPublisher.publishEvent(event);
+		}
+
+		for (ApplicationListener<VaultPropertySourceRefreshedEvent> listener : this.listeners) {
+			listener.onApplicationEvent(event);
+		}
+	}
+
+	private static Map<String, @Nullable Object> getProperties(VaultPropertySource propertySource) {
+
+		Map<String, @Nullable Object> properties = new HashMap<>();
+		for (String name : propertySource.getPropertyNames()) {
+			properties.put(name, propertySource.getProperty(name));
+		}
+		return properties;
+	}
+
+
+	/**
+	 * Registered property source along with its last observed version.
+	 */
+	static class TrackedPropertySource {
+
+		final VaultPropertySource propertySource;
+
+		volatile int version = UNKNOWN_VERSION;
+
+		private volatile boolean metadataPathResolved;
+
+		private volatile @Nullable String metadataPath;
+
+
+		TrackedPropertySource(VaultPropertySource propertySource) {
+			this.propertySource = propertySource;
+		}
+
+
+		@Nullable
+		String getMetadataPath(KeyValueDelegate keyValueDelegate) {
+
+			if (!this.metadataPathResolved) {
+				this.metadataPath = keyValueDelegate.getMetadataPath(this.propertySource.getPath());
+				this.metadataPathResolved = true;
+			}
+
+			return this.metadataPath;
+		}
+
+	}
+
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.vault.core.transit;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import org.springframework.util.Assert;
+import org.springframework.vault.core.ReactiveVaultTransitOperations;
+import org.springframework.vault.core.transit.TransitRewrapPipeline.RewrapBatch;
+import org.springframework.vault.support.Ciphertext;
+
+/**
+ * Reactive pipeline to rewrap a dataset of transit-encrypted items to the
+ * latest version of a transit key after key rotation.
+ * <p>Items are consumed from a source {@link Flux} and their ciphertext is
+ * extracted through a {@link Function}. Ciphertexts that are already encrypted
+ * with the latest key version are skipped. Remaining items are rewrapped in
+ * batches of {@link #setBatchSize(int) batch size} with up to
+ * {@link #setParallelism(int) parallelism} batch requests in flight. Results
+ * are emitted in source order. After each batch, the {@link RewrapProgress} is
+ * reported to the {@link #setProgressListener(Consumer) progress listener}.
+ *
+ * @author Mark Paluch
+ * @since 4.2
+ * @param <T> item type.
+ * @see TransitRewrapPipeline
+ * @see ReactiveVaultTransitOperations#rewrap(String, List)
+ */
+public class ReactiveTransitRewrapPipeline<T> {
+
+	private final ReactiveVaultTransitOperations transitOperations;
+
+	private final String keyName;
+
+	private final Function<? super T, Ciphertext> ciphertextFunction;
+
+	private int batchSize = 250;
+
+	private int parallelism = 4;
+
+	private Consumer<RewrapProgress> progressListener = progress -> {
+	};
+
+
+	/**
+	 * Create a new {@link ReactiveTransitRewrapPipeline}.
+	 * @param transitOperations must not be {@literal null}.
+	 * @param keyName must not be empty.
+	 * @param ciphertextFunction function to extract the {@link Ciphertext} from
+	 * an item, must not be {@literal null}.
+	 */
+	public ReactiveTransitRewrapPipeline(ReactiveVaultTransitOperations transitOperations, String keyName,
+			Function<? super T, Ciphertext> ciphertextFunction) {
+
+		Assert.notNull(transitOperations, "ReactiveVaultTransitOperations must not be null");
+		Assert.hasText(keyName, "Key name must not be empty");
+		Assert.notNull(ciphertextFunction, "Ciphertext function must not be null");
+
+		this.transitOperations = transitOperations;
+		this.keyName = keyName;
+		this.ciphertextFunction = ciphertextFunction;
+	}
+
+
+	/**
+	 * Set the number of items to rewrap with a single batch request. Defaults to
+	 * {@code 250}.
+	 * @param batchSize must be greater than zero.
+	 */
+	public void setBatchSize(int batchSize) {
+		Assert.isTrue(batchSize > 0, "Batch size must be greater than zero");
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * Set the maximum number of batch requests in flight. Defaults to {@code 4}.
+	 * @param parallelism must be greater than zero.
+	 */
+	public void setParallelism(int parallelism) {
+		Assert.isTrue(parallelism > 0, "Parallelism must be greater than zero");
+		this.parallelism = parallelism;
+	}
+
+	/**
+	 * Set the listener to be notified with the {@link RewrapProgress} after each
+	 * batch.
+	 * @param progressListener must not be {@literal null}.
+	 */
+	public void setProgressListener(Consumer<RewrapProgress> progressListener) {
+		Assert.notNull(progressListener, "Progress listener must not be null");
+		this.progressListener = progressListener;
+	}
+
+	/**
+	 * Rewrap all items from {@code source}.
+	 * @param source must not be {@literal null}.
+	 * @return results for rewrapped and failed items in source order.
+	 */
+	public Flux<RewrapResult<T>> rewrap(Flux<? extends T> source) {
+		return resume(source, RewrapProgress.initial());
+	}
+
+	/**
+	 * Resume rewrapping items from {@code source} at the
+	 * {@link RewrapProgress#getPosition() position} of {@code checkpoint}. Items
+	 * before the position are skipped without further processing. Counters
+	 * continue from {@code checkpoint}.
+	 * @param source must not be {@literal null}.
+	 * @param checkpoint must not be {@literal null}.
+	 * @return results for rewrapped and failed items in source order.
+	 */
+	public Flux<RewrapResult<T>> resume(Flux<? extends T> source, RewrapProgress checkpoint) {
+
+		Assert.notNull(source, "Source must not be null");
+		Assert.notNull(checkpoint, "Checkpoint must not be null");
+
+		return this.transitOperations.getKey(this.keyName)
+			.switchIfEmpty(Mono.error(
+					() -> new IllegalStateException("Transit key %s not found".formatted(this.keyName))))
+			.flatMapMany(key -> {
+
+				int latestVersion = key.getLatestVersion();
+				AtomicReference<RewrapProgress> progress = new AtomicReference<>(checkpoint);
+
+				return source.skip(checkpoint.getPosition())
+					.buffer(this.batchSize)
+					.map(items -> RewrapBatch.<T>of(items, this.ciphertextFunction, latestVersion))
+					.flatMapSequential(this::rewrap, this.parallelism)
+					.concatMap(results -> Flux.fromIterable(results.results())
+						.concatWith(Mono.fromRunnable(() -> onBatchCompleted(progress, results))));
+			});
+	}
+
+	private Mono<BatchResults<T>> rewrap(RewrapBatch<T> batch) {
+
+		if (batch.ciphertexts().isEmpty()) {
+			return Mono.just(new BatchResults<>(batch, List.of()));
+		}
+
+		return this.transitOperations.rewrap(this.keyName, batch.ciphertexts())
+			.collectList()
+			.map(results -> new BatchResults<>(batch, batch.toResults(results)));
+	}
+
+	private void onBatchCompleted(AtomicReference<RewrapProgress> progress, BatchResults<T> results) {
+
+		long failed = results.results().stream().filter(it -> !it.isSuccessful()).count();
+		this.progressListener.accept(progress.updateAndGet(it -> it.advance(results.batch().size(),
+				results.results().size() - failed, results.batch().skipped(), failed)));
+	}
+
+
+	record BatchResults<T>(RewrapBatch<T> batch, List<RewrapResult<T>> results) {
+
+	}
+
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.vault.core.transit;
+
+import java.util.Objects;
+
+import org.springframework.util.Assert;
+
+/**
+ * Progress of a rewrap run. The {@link #getPosition() position} is a
+ * checkpoint: all source items before the position have been processed and
+ * their results have been emitted. A run can be resumed from a checkpoint by
+ * providing the same source again.
+ *
+ * @author Mark Paluch
+ * @since 4.2
+ * @see TransitRewrapPipeline#resume
+ * @see ReactiveTransitRewrapPipeline#resume
+ */
+public final class RewrapProgress {
+
+	private static final RewrapProgress INITIAL = new RewrapProgress(0, 0, 0, 0);
+
+
+	private final long position;
+
+	private final long rewrapped;
+
+	private final long skipped;
+
+	private final long failed;
+
+
+	private RewrapProgress(long position, long rewrapped, long skipped, long failed) {
+		this.position = position;
+		this.rewrapped = rewrapped;
+		this.skipped = skipped;
+		this.failed = failed;
+	}
+
+
+	/**
+	 * @return progress representing the start of a run.
+	 */
+	public static RewrapProgress initial() {
+		return INITIAL;
+	}
+
+	/**
+	 * Create a checkpoint at {@code position}, for example to resume a run from a
+	 * persisted position.
+	 * @param position number of processed source items, must not be negative.
+	 * @return the checkpoint.
+	 */
+	public static RewrapProgress checkpoint(long position) {
+		Assert.isTrue(position >= 0, "Position must not be negative");
+		return new RewrapProgress(position, 0, 0, 0);
+	}
+
+	RewrapProgress advance(long items, long rewrapped, long skipped, long failed) {
+		return new RewrapProgress(this.position + items, this.rewrapped + rewrapped, this.skipped + skipped,
+				this.failed + failed);
+	}
+
+
+	/**
+	 * @return number of source items that have been processed.
+	 */
+	public long getPosition() {
+		return this.position;
+	}
+
+	/**
+	 * @return number of items that were rewrapped.
+	 */
+	public long getRewrapped() {
+		return this.rewrapped;
+	}
+
+	/**
+	 * @return number of items that were skipped because they were already
+	 * encrypted with the latest key version.
+	 */
+	public long getSkipped() {
+		return this.skipped;
+	}
+
+	/**
+	 * @return number of items that could not be rewrapped.
+	 */
+	public long getFailed() {
+		return this.failed;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o)
+			return true;
+		if (!(o instanceof RewrapProgress that))
+			return false;
+		return this.position == that.position && this.rewrapped == that.rewrapped && this.skipped == that.skipped
+				&& this.failed == that.failed;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(this.position, this.rewrapped, this.skipped, this.failed);
+	}
+
+	@Override
+	public String toString() {
+		StringBuffer sb = new StringBuffer();
+		sb.append(getClass().getSimpleName());
+		sb.append(" [position=").append(this.position);
+		sb.append(", rewrapped=").append(this.rewrapped);
+		sb.append(", skipped=").append(this.skipped);
+		sb.append(", failed=").append(this.failed);
+		sb.append(']');
+		return sb.toString();
+	}
+
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.vault.core.transit;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.vault.VaultException;
+import org.springframework.vault.support.AbstractResult;
+import org.springframework.vault.support.Ciphertext;
+
+/**
+ * Result of rewrapping a single item. Holds the item along with either the
+ * rewrapped {@link Ciphertext} or the error that occurred while rewrapping.
+ *
+ * @author Mark Paluch
+ * @since 4.2
+ * @param <T> item type.
+ */
+public class RewrapResult<T> extends AbstractResult<Ciphertext> {
+
+	private final T item;
+
+	private final @Nullable Ciphertext ciphertext;
+
+
+	/**
+	 * Create a {@link RewrapResult} for a successfully rewrapped item.
+	 * @param item must not be {@literal null}.
+	 * @param ciphertext must not be {@literal null}.
+	 */
+	public RewrapResult(T item, Ciphertext ciphertext) {
+		this.item = item;
+		this.ciphertext = ciphertext;
+	}
+
+	/**
+	 * Create a {@link RewrapResult} for an item that could not be rewrapped.
+	 * @param item must not be {@literal null}.
+	 * @param exception must not be {@literal null}.
+	 */
+	public RewrapResult(T item, VaultException exception) {
+		super(exception);
+		this.item = item;
+		this.ciphertext = null;
+	}
+
+
+	/**
+	 * @return the item.
+	 */
+	public T getItem() {
+		return this.item;
+	}
+
+	@Override
+	protected @Nullable Ciphertext get0() {
+		return this.ciphertext;
+	}
+
+}
@@ -0,0 +1,303 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.vault.core.transit;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.util.Assert;
+import org.springframework.vault.VaultException;
+import org.springframework.vault.core.VaultTransitOperations;
+import org.springframework.vault.core.util.TransitVersions;
+import org.springframework.vault.support.Ciphertext;
+import org.springframework.vault.support.VaultEncryptionResult;
+import org.springframework.vault.support.VaultTransitKey;
+
+/**
+ * Pipeline to rewrap a dataset of transit-encrypted items to the latest version
+ * of a transit key after key rotation.
+ * <p>Items are read from a source {@link Iterator} and their ciphertext is
+ * extracted through a {@link Function}. Ciphertexts that are already encrypted
+ * with the latest key version (as indicated by the {@code vault:v<version>:}
+ * prefix) are skipped. Remaining items are rewrapped in batches of
+ * {@link #setBatchSize(int) batch size}. Batches are dispatched on an
+ * {@link #setExecutor(Executor) executor} with up to
+ * {@link #setParallelism(int) parallelism} batches in flight. Without an
+ * executor, batches are rewrapped sequentially on the calling thread.
+ * <p>Results are emitted to the sink on the calling thread in source order.
+ * Items that could not be rewrapped are emitted as failed
+ * {@link RewrapResult}. After each batch, the {@link RewrapProgress} is
+ * reported to the {@link #setProgressListener(Consumer) progress listener}.
+ * The progress is a checkpoint that can be used to {@link #resume resume} an
+ * interrupted run.
+ *
+ * @author Mark Paluch
+ * @since 4.2
+ * @param <T> item type.
+ * @see VaultTransitOperations#rewrap(String, List)
+ */
+public class TransitRewrapPipeline<T> {
+
+	private final VaultTransitOperations transitOperations;
+
+	private final String keyName;
+
+	private final Function<? super T, Ciphertext> ciphertextFunction;
+
+	private int batchSize = 250;
+
+	private int parallelism = 4;
+
+	private @Nullable Executor executor;
+
+	private Consumer<RewrapProgress> progressListener = progress -> {
+	};
+
+
+	/**
+	 * Create a new {@link TransitRewrapPipeline}.
+	 * @param transitOperations must not be {@literal null}.
+	 * @param keyName must not be empty.
+	 * @param ciphertextFunction function to extract the {@link Ciphertext} from
+	 * an item, must not be {@literal null}.
+	 */
+	public TransitRewrapPipeline(VaultTransitOperations transitOperations, String keyName,
+			Function<? super T, Ciphertext> ciphertextFunction) {
+
+		Assert.notNull(transitOperations, "VaultTransitOperations must not be null");
+		Assert.hasText(keyName, "Key name must not be empty");
+		Assert.notNull(ciphertextFunction, "Ciphertext function must not be null");
+
+		this.transitOperations = transitOperations;
+		this.keyName = keyName;
+		this.ciphertextFunction = ciphertextFunction;
+	}
+
+
+	/**
+	 * Set the number of items to rewrap with a single batch request. Defaults to
+	 * {@code 250}.
+	 * @param batchSize must be greater than zero.
+	 */
+	public void setBatchSize(int batchSize) {
+		Assert.isTrue(batchSize > 0, "Batch size must be greater than zero");
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * Set the maximum number of batches in flight when using an
+	 * {@link #setExecutor(Executor) executor}. Defaults to {@code 4}.
+	 * @param parallelism must be greater than zero.
+	 */
+	public void setParallelism(int parallelism) {
+		Assert.isTrue(parallelism > 0, "Parallelism must be greater than zero");
+		this.parallelism = parallelism;
+	}
+
+	/**
+	 * Set the {@link Executor} to dispatch batches. Batches are rewrapped
+	 * sequentially on the calling thread if no executor is configured.
+	 * @param executor the executor, can be {@literal null}.
+	 */
+	public void setExecutor(@Nullable Executor executor) {
+		this.executor = executor;
+	}
+
+	/**
+	 * Set the listener to be notified with the {@link RewrapProgress} after each
+	 * batch.
+	 * @param progressListener must not be {@literal null}.
+	 */
+	public void setProgressListener(Consumer<RewrapProgress> progressListener) {
+		Assert.notNull(progressListener, "Progress listener must not be null");
+		this.progressListener = progressListener;
+	}
+
+	/**
+	 * Rewrap all items from {@code source} and emit results to {@code sink}.
+	 * @param source must not be {@literal null}.
+	 * @param sink must not be {@literal null}.
+	 * @return the final progress.
+	 */
+	public RewrapProgress run(Iterator<? extends T> source, Consumer<? super RewrapResult<T>> sink) {
+		return resume(source, sink, RewrapProgress.initial());
+	}
+
+	/**
+	 * Resume rewrapping items from {@code source} at the
+	 * {@link RewrapProgress#getPosition() position} of {@code checkpoint}. Items
+	 * before the position are skipped without further processing. Counters
+	 * continue from {@code checkpoint}.
+	 * @param source must not be {@literal null}.
+	 * @param sink must not be {@literal null}.
+	 * @param checkpoint must not be {@literal null}.
+	 * @return the final progress.
+	 */
+	public RewrapProgress resume(Iterator<? extends T> source, Consumer<? super RewrapResult<T>> sink,
+			RewrapProgress checkpoint) {
+
+		Assert.notNull(source, "Source must not be null");
+		Assert.notNull(sink, "Sink must not be null");
+		Assert.notNull(checkpoint, "Checkpoint must not be null");
+
+		for (long i = 0; i < checkpoint.getPosition() && source.hasNext(); i++) {
+			source.next();
+		}
+
+		VaultTransitKey key = this.transitOperations.getKey(this.keyName);
+		Assert.state(key != null, () -> "Transit key %s not found".formatted(this.keyName));
+
+		int latestVersion = key.getLatestVersion();
+		int maxInFlight = this.executor != null ? this.parallelism : 1;
+		Deque<PendingBatch<T>> pending = new ArrayDeque<>(maxInFlight);
+		RewrapProgress progress = checkpoint;
+
+		while (source.hasNext()) {
+
+			List<T> items = new ArrayList<>(this.batchSize);
+			while (items.size() < this.batchSize && source.hasNext()) {
+				items.add(source.next());
+			}
+
+			pending.add(submit(RewrapBatch.of(items, this.ciphertextFunction, latestVersion)));
+
+			if (pending.size() >= maxInFlight) {
+				progress = complete(pending.poll(), sink, progress);
+			}
+		}
+
+		while (!pending.isEmpty()) {
+			progress = complete(pending.poll(), sink, progress);
+		}
+
+		return progress;
+	}
+
+	private PendingBatch<T> submit(RewrapBatch<T> batch) {
+
+		if (batch.ciphertexts().isEmpty()) {
+			return new PendingBatch<>(batch, CompletableFuture.completedFuture(Collections.emptyList()));
+		}
+
+		if (this.executor == null) {
+			return new PendingBatch<>(batch, CompletableFuture.completedFuture(rewrap(batch)));
+		}
+
+		return new PendingBatch<>(batch, CompletableFuture.supplyAsync(() -> rewrap(batch), this.executor));
+	}
+
+	private List<VaultEncryptionResult> rewrap(RewrapBatch<T> batch) {
+		return this.transitOperations.rewrap(this.keyName, batch.ciphertexts());
+	}
+
+	private RewrapProgress complete(PendingBatch<T> pending, Consumer<? super RewrapResult<T>> sink,
+			RewrapProgress progress) {
+
+		List<VaultEncryptionResult> results;
+		try {
+			results = pending.results().join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw e;
+		}
+
+		List<RewrapResult<T>> rewrapResults = pending.batch().toResults(results);
+		long failed = 0;
+		for (RewrapResult<T> result : rewrapResults) {
+			if (!result.isSuccessful()) {
+				failed++;
+			}
+			sink.accept(result);
+		}
+
+		RewrapProgress next = progress.advance(pending.batch().size(), rewrapResults.size() - failed,
+				pending.batch().skipped(), failed);
+		this.progressListener.accept(next);
+		return next;
+	}
+
+
+	/**
+	 * A batch of source items split into items that require rewrapping and the
+	 * number of skipped items.
+	 */
+	record RewrapBatch<T>(int size, long skipped, List<T> items, List<Ciphertext> ciphertexts) {
+
+		static <T> RewrapBatch<T> of(List<? extends T> source, Function<? super T, Ciphertext> ciphertextFunction,
+				int latestVersion) {
+
+			List<T> items = new ArrayList<>(source.size());
+			List<Ciphertext> ciphertexts = new ArrayList<>(source.size());
+
+			for (T item : source) {
+
+				Ciphertext ciphertext = ciphertextFunction.apply(item);
+				if (TransitVersions.getKeyVersion(ciphertext.getCiphertext()) >= latestVersion) {
+					continue;
+				}
+
+				items.add(item);
+				ciphertexts.add(ciphertext);
+			}
+
+			return new RewrapBatch<>(source.size(), source.size() - items.size(), items, ciphertexts);
+		}
+
+		List<RewrapResult<T>> toResults(List<VaultEncryptionResult> results) {
+
+			Assert.state(results.size() == this.items.size(),
+					() -> "Expected %d rewrap results, got %d".formatted(this.items.size(), results.size()));
+
+			List<RewrapResult<T>> rewrapResults = new ArrayList<>(results.size());
+			for (int i = 0; i < results.size(); i++) {
+
+				VaultEncryptionResult result = results.get(i);
+				T item = this.items.get(i);
+				Ciphertext ciphertext = result.isSuccessful() ? result.get() : null;
+
+				if (ciphertext != null) {
+					rewrapResults.add(new RewrapResult<>(item, ciphertext));
+				} else {
+					Exception cause = result.getCause();
+					rewrapResults.add(new RewrapResult<>(item,
+							cause instanceof VaultException vaultException ? vaultException
+									: new VaultException("Cannot rewrap ciphertext", cause)));
+				}
+			}
+			return rewrapResults;
+		}
+
+	}
+
+	record PendingBatch<T>(RewrapBatch<T> batch, CompletableFuture<List<VaultEncryptionResult>> results) {
+
+	}
+
+}
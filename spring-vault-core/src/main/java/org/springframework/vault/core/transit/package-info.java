@@ -0,0 +1,5 @@
+/**
+ * Support for bulk operations using Vault's {@code transit} secrets engine.
+ */
+@org.jspecify.annotations.NullMarked
+package org.springframework.vault.core.transit;
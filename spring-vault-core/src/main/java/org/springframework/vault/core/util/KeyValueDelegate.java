@@ -90,6 +90,22 @@ public class KeyValueDelegate {
 		return response;
 	}
 
+	/**
+	 * Return the metadata path of a secret stored in a versioned Key-Value secrets
+	 * engine.
+	 * @param path the path of the secret.
+	 * @return the metadata path or {@literal null} if the {@code path} does not
+	 * belong to a versioned Key-Value mount.
+	 * @since 4.2
+	 */
+	public @Nullable String getMetadataPath(String path) {
+		MountInfo mountInfo = getMountInfo(path);
+		if (!mountInfo.isKeyValue(KeyValueBackend.versioned()) || !path.startsWith(mountInfo.getPath())) {
+			return null;
+		}
+		return "%smetadata/%s".formatted(mountInfo.getPath(), path.substring(mountInfo.getPath().length()));
+	}
+
 	static String getKeyValue2Path(String mountPath, String requestedSecret) {
 		if (!requestedSecret.startsWith(mountPath)) {
 			return requestedSecret;
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.vault.core.util;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Utility methods to parse the {@code vault:v<version>:} prefix of values
+ * produced by the Transit secrets engine, such as ciphertexts, signatures and
+ * HMACs. For internal use within the framework.
+ *
+ * @author Mark Paluch
+ * @since 4.2
+ */
+public abstract class TransitVersions {
+
+	private static final Pattern VERSION_PREFIX = Pattern.compile("^vault:v(\\d{1,9}):");
+
+
+	private TransitVersions() {
+	}
+
+
+	/**
+	 * Parse the key version from the {@code vault:v<version>:} prefix.
+	 * @param value the Transit value, for example a ciphertext.
+	 * @return the key version or {@code -1} if {@code value} does not carry a
+	 * version prefix.
+	 */
+	public static int getKeyVersion(String value) {
+
+		Matcher matcher = VERSION_PREFIX.matcher(value);
+		return matcher.find() ? Integer.parseInt(matcher.group(1)) : -1;
+	}
+
+	/**
+	 * Return the part of {@code value} that follows the
+	 * {@code vault:v<version>:} prefix.
+	 * @param value the Transit value, for example a signature.
+	 * @return the value without its version prefix or {@literal null} if
+	 * {@code value} does not carry a version prefix.
+	 */
+	public static @Nullable String removeVersionPrefix(String value) {
+
+		Matcher matcher = VERSION_PREFIX.matcher(value);
+		return matcher.find() ? value.substring(matcher.end()) : null;
+	}
+
+}
@@ -24,6 +24,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.jspecify.annotations.Nullable;
 
@@ -36,6 +37,7 @@ import org.springframework.data.mapping.PersistentPropertyAccessor;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.mapping.model.ConvertingPropertyAccessor;
 import org.springframework.data.mapping.model.EntityInstantiator;
+import org.springframework.data.mapping.model.EntityInstantiators;
 import org.springframework.data.mapping.model.ParameterValueProvider;
 import org.springframework.data.mapping.model.PersistentEntityParameterValueProvider;
 import org.springframework.data.mapping.model.PropertyValueProvider;
@@ -53,6 +55,9 @@ import org.springframework.vault.repository.mapping.VaultPersistentProperty;
  * between Map-typed representations and domain objects without use of a JSON
  * library. {@link SecretDocument} is the input to JSON mapping to exchange
  * secrets with Vault.
+ * <p>Property metadata and the {@link EntityInstantiator} required to read and
+ * write an entity are resolved once per {@link VaultPersistentEntity} and
+ * cached as {@link EntityPlan}.
  *
  * @author Mark Paluch
  * @since 2.0
@@ -63,6 +68,8 @@ public class MappingVaultConverter extends AbstractVaultConverter {
 
 	private VaultTypeMapper typeMapper;
 
+	private final Map<VaultPersistentEntity<?>, EntityPlan> plans = new ConcurrentHashMap<>();
+
 
 	public MappingVaultConverter(
 			MappingContext<? extends VaultPersistentEntity<?>, VaultPersistentProperty> mappingContext) {
@@ -91,6 +98,12 @@ public class MappingVaultConverter extends AbstractVaultConverter {
 		this.typeMapper = typeMapper;
 	}
 
+	@Override
+	public void setInstantiators(EntityInstantiators instantiators) {
+		super.setInstantiators(instantiators);
+		this.plans.clear();
+	}
+
 	@Override
 	public MappingContext<? extends VaultPersistentEntity<?>, VaultPersistentProperty> getMappingContext() {
 		return this.mappingContext;
@@ -178,34 +191,40 @@ public class MappingVaultConverter extends AbstractVaultConverter {
 
 	private <S> S read(VaultPersistentEntity<S> entity, SecretDocument source) {
 
+		EntityPlan plan = getPlan(entity);
 		ParameterValueProvider<VaultPersistentProperty> provider = getParameterProvider(entity, source);
-		EntityInstantiator instantiator = this.instantiators.getInstantiatorFor(entity);
-		S instance = instantiator.createInstance(entity, provider);
+		S instance = plan.instantiator.createInstance(entity, provider);
+
+		if (!plan.requiresPropertyPopulation) {
+			return instance;
+		}
 
 		PersistentPropertyAccessor accessor = new ConvertingPropertyAccessor(entity.getPropertyAccessor(instance),
 				this.conversionService);
-
-		VaultPersistentProperty idProperty = entity.getIdProperty();
 		SecretDocumentAccessor documentAccessor = new SecretDocumentAccessor(source);
 
 		// make sure id property is set before all other properties
-		Object idValue;
+		VaultPersistentProperty idProperty = plan.readIdProperty;
+		if (idProperty != null && documentAccessor.hasValue(idProperty)) {
+			accessor.setProperty(idProperty, readIdValue(idProperty, documentAccessor));
+		}
 
-		if (entity.requiresPropertyPopulation()) {
-			if (idProperty != null && !entity.isCreatorArgument(idProperty) && documentAccessor.hasValue(idProperty)) {
+		VaultPropertyValueProvider valueProvider = new VaultPropertyValueProvider(documentAccessor);
 
-				idValue = readIdValue(idProperty, documentAccessor);
-				accessor.setProperty(idProperty, idValue);
+		for (VaultPersistentProperty property : plan.readProperties) {
+			if (documentAccessor.hasValue(property)) {
+				accessor.setProperty(property, valueProvider.getPropertyValue(property));
 			}
-
-			VaultPropertyValueProvider valueProvider = new VaultPropertyValueProvider(documentAccessor);
-
-			readProperties(entity, accessor, idProperty, documentAccessor, valueProvider);
 		}
 
 		return instance;
 	}
 
+	EntityPlan getPlan(VaultPersistentEntity<?> entity) {
+		return this.plans.computeIfAbsent(entity,
+				it -> new EntityPlan(it, this.instantiators.getInstantiatorFor(it)));
+	}
+
 	private @Nullable Object readIdValue(VaultPersistentProperty idProperty, SecretDocumentAccessor documentAccessor) {
 
 		Object resolvedValue = documentAccessor.get(idProperty);
@@ -213,25 +232,6 @@ public class MappingVaultConverter extends AbstractVaultConverter {
 		return resolvedValue != null ? readValue(resolvedValue, idProperty.getTypeInformation()) : null;
 	}
 
-	private void readProperties(VaultPersistentEntity<?> entity, PersistentPropertyAccessor accessor,
-			@Nullable VaultPersistentProperty idProperty, SecretDocumentAccessor documentAccessor,
-			VaultPropertyValueProvider valueProvider) {
-
-		for (VaultPersistentProperty prop : entity) {
-
-			// we skip the id property since it was already set
-			if (idProperty != null && idProperty.equals(prop)) {
-				continue;
-			}
-
-			if (entity.isCreatorArgument(prop) || !documentAccessor.hasValue(prop)) {
-				continue;
-			}
-
-			accessor.setProperty(prop, valueProvider.getPropertyValue(prop));
-		}
-	}
-
 	@Nullable
 	@SuppressWarnings("unchecked")
 	private <T> T readValue(Object value, TypeInformation<?> type) {
@@ -418,9 +418,10 @@ public class MappingVaultConverter extends AbstractVaultConverter {
 
 	protected void writeInternal(Object obj, SecretDocumentAccessor sink, VaultPersistentEntity<?> entity) {
 
+		EntityPlan plan = getPlan(entity);
 		PersistentPropertyAccessor<?> accessor = entity.getPropertyAccessor(obj);
 
-		VaultPersistentProperty idProperty = entity.getIdProperty();
+		VaultPersistentProperty idProperty = plan.idProperty;
 		if (idProperty != null && !sink.hasValue(idProperty)) {
 
 			Object value = accessor.getProperty(idProperty);
@@ -429,18 +430,9 @@ public class MappingVaultConverter extends AbstractVaultConverter {
 				sink.put(idProperty, value instanceof String ? value : conversionService.convert(value, String.class));
 			}
 		}
-		writeProperties(entity, accessor, sink, idProperty);
-	}
-
-	private void writeProperties(VaultPersistentEntity<?> entity, PersistentPropertyAccessor<?> accessor,
-			SecretDocumentAccessor sink, @Nullable VaultPersistentProperty idProperty) {
 
 		// Write the properties
-		for (VaultPersistentProperty prop : entity) {
-
-			if (prop.equals(idProperty) || !prop.isWritable()) {
-				continue;
-			}
+		for (VaultPersistentProperty prop : plan.writeProperties) {
 
 			Object value = accessor.getProperty(prop);
 
@@ -709,4 +701,65 @@ public class MappingVaultConverter extends AbstractVaultConverter {
 
 	}
 
+	/**
+	 * Precomputed metadata to read and write a {@link VaultPersistentEntity}.
+	 * Resolves the {@link EntityInstantiator} and partitions properties into
+	 * properties populated after instantiation and properties to write so that
+	 * reading and writing documents does not need to inspect the entity.
+	 */
+	static class EntityPlan {
+
+		final EntityInstantiator instantiator;
+
+		final boolean requiresPropertyPopulation;
+
+		final @Nullable VaultPersistentProperty idProperty;
+
+		/**
+		 * The id property if it must be set after instantiation.
+		 */
+		final @Nullable VaultPersistentProperty readIdProperty;
+
+		/**
+		 * Properties that are set after instantiation, excluding the id property.
+		 */
+		final VaultPersistentProperty[] readProperties;
+
+		/**
+		 * Writable properties, excluding the id property.
+		 */
+		final VaultPersistentProperty[] writeProperties;
+
+
+		EntityPlan(VaultPersistentEntity<?> entity, EntityInstantiator instantiator) {
+
+			List<VaultPersistentProperty> readProperties = new ArrayList<>();
+			List<VaultPersistentProperty> writeProperties = new ArrayList<>();
+			VaultPersistentProperty idProperty = entity.getIdProperty();
+
+			for (VaultPersistentProperty property : entity) {
+
+				if (property.equals(idProperty)) {
+					continue;
+				}
+
+				if (!entity.isCreatorArgument(property)) {
+					readProperties.add(property);
+				}
+
+				if (property.isWritable()) {
+					writeProperties.add(property);
+				}
+			}
+
+			this.instantiator = instantiator;
+			this.requiresPropertyPopulation = entity.requiresPropertyPopulation();
+			this.idProperty = idProperty;
+			this.readIdProperty = idProperty != null && !entity.isCreatorArgument(idProperty) ? idProperty : null;
+			this.readProperties = readProperties.toArray(new VaultPersistentProperty[0]);
+			this.writeProperties = writeProperties.toArray(new VaultPersistentProperty[0]);
+		}
+
+	}
+
 }
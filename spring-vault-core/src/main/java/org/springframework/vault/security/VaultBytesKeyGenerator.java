@@ -16,9 +16,21 @@
 
 package org.springframework.vault.security;
 
+import java.util.Arrays;
 import java.util.Base64;
 import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.security.crypto.keygen.BytesKeyGenerator;
 import org.springframework.util.Assert;
 import org.springframework.vault.core.VaultOperations;
@@ -29,11 +41,21 @@ import org.springframework.vault.support.VaultResponse;
  * generate high-quality random bytes of the configured length.
  * <p>Using Vault ensures to use a high-entropy source preventing to consume
  * entropy of the local machine.
+ * <p>By default, each call to {@link #generateKey()} requests random bytes from
+ * Vault. Configuring a {@link #setBufferSize(int) buffer size} enables buffered
+ * mode: random bytes are obtained from Vault in blocks of the buffer size and
+ * keys are sliced from the current block. The next block is fetched
+ * asynchronously once the remaining bytes fall below the
+ * {@link #setLowWatermark(int) low watermark}. Bytes are wiped from the buffer
+ * once they have been handed out.
  *
  * @author Mark Paluch
  * @since 2.0
  */
-public class VaultBytesKeyGenerator implements BytesKeyGenerator {
+public class VaultBytesKeyGenerator implements BytesKeyGenerator, DisposableBean {
+
+	private static final Log logger = LogFactory.getLog(VaultBytesKeyGenerator.class);
+
 
 	private final VaultOperations vaultOperations;
 
@@ -41,6 +63,10 @@ public class VaultBytesKeyGenerator implements BytesKeyGenerator {
 
 	private final String transitPath;
 
+	private Executor refillExecutor;
+
+	private volatile @Nullable RandomBytesBuffer buffer;
+
 
 	/**
 	 * Create a new {@code VaultBytesKeyGenerator} initialized to generate
@@ -66,6 +92,65 @@ public class VaultBytesKeyGenerator implements BytesKeyGenerator {
 		this.vaultOperations = vaultOperations;
 		this.transitPath = transitPath;
 		this.length = length;
+
+		SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("vault-random-bytes-");
+		executor.setDaemon(true);
+		this.refillExecutor = executor;
+	}
+
+
+	/**
+	 * Enable buffered mode by setting the number of random bytes to obtain from
+	 * Vault per request. The buffer size must be greater or equal to the
+	 * {@link #getKeyLength() key length} and should not exceed the maximum number
+	 * of bytes accepted by Vault's {@code random} endpoint. The low watermark
+	 * defaults to a quarter of the buffer size. Setting the buffer size to
+	 * {@literal 0} disables buffering.
+	 * @param bufferSize number of bytes to buffer.
+	 * @since 4.2
+	 */
+	public void setBufferSize(int bufferSize) {
+
+		Assert.isTrue(bufferSize == 0 || bufferSize >= this.length,
+				"Buffer size must be zero or greater or equal to the key length");
+
+		RandomBytesBuffer previous = this.buffer;
+		this.buffer = bufferSize == 0 ? null : new RandomBytesBuffer(bufferSize, Math.max(this.length, bufferSize / 4));
+
+		if (previous != null) {
+			previous.clear();
+		}
+	}
+
+	/**
+	 * Set the number of remaining buffered bytes below which the next block of
+	 * random bytes is fetched asynchronously. Requires buffered mode.
+	 * @param lowWatermark number of remaining bytes, must not be negative and not
+	 * exceed the buffer size.
+	 * @since 4.2
+	 * @see #setBufferSize(int)
+	 */
+	public void setLowWatermark(int lowWatermark) {
+
+		RandomBytesBuffer buffer = this.buffer;
+
+		Assert.state(buffer != null, "Low watermark requires a buffer size");
+		Assert.isTrue(lowWatermark >= 0 && lowWatermark <= buffer.size,
+				"Low watermark must not be negative and must not exceed the buffer size");
+
+		buffer.lowWatermark = lowWatermark;
+	}
+
+	/**
+	 * Set the {@link Executor} used to fetch random bytes in the background when
+	 * using buffered mode. Defaults to a {@link SimpleAsyncTaskExecutor} using
+	 * daemon threads.
+	 * @param refillExecutor must not be {@literal null}.
+	 * @since 4.2
+	 */
+	public void setRefillExecutor(Executor refillExecutor) {
+		Assert.notNull(refillExecutor, "Refill Executor must not be null");
+		this.refillExecutor = refillExecutor;
 	}
 
 
@@ -76,10 +161,138 @@ public class VaultBytesKeyGenerator implements BytesKeyGenerator {
 
 	@Override
 	public byte[] generateKey() {
-		VaultResponse response = this.vaultOperations.invoke("%s/random/%d".formatted(this.transitPath, getKeyLength()),
+
+		RandomBytesBuffer buffer = this.buffer;
+		if (buffer != null) {
+			return buffer.take(getKeyLength());
+		}
+
+		return getRandomBytes(getKeyLength());
+	}
+
+	/**
+	 * Wipe buffered random bytes.
+	 */
+	@Override
+	public void destroy() {
+
+		RandomBytesBuffer buffer = this.buffer;
+		if (buffer != null) {
+			buffer.clear();
+		}
+	}
+
+	private byte[] getRandomBytes(int count) {
+		VaultResponse response = this.vaultOperations.invoke("%s/random/%d".formatted(this.transitPath, count),
 				Collections.singletonMap("format", "base64"));
 		String randomBytes = (String) response.getRequiredData().get("random_bytes");
 		return Base64.getDecoder().decode(randomBytes);
 	}
 
+
+	/**
+	 * Block of random bytes along with the next block being fetched in the
+	 * background.
+	 */
+	class RandomBytesBuffer {
+
+		private final Lock lock = new ReentrantLock();
+
+		final int size;
+
+		volatile int lowWatermark;
+
+		private byte[] block = new byte[0];
+
+		private int position;
+
+		private @Nullable CompletableFuture<byte[]> next;
+
+
+		RandomBytesBuffer(int size, int lowWatermark) {
+			this.size = size;
+			this.lowWatermark = lowWatermark;
+		}
+
+
+		byte[] take(int count) {
+
+			byte[] key = new byte[count];
+
+			this.lock.lock();
+			try {
+
+				int offset = 0;
+				while (offset < count) {
+
+					if (this.position == this.block.length) {
+						this.block = nextBlock();
+						this.position = 0;
+						Assert.state(this.block.length > 0, "Vault returned no random bytes");
+					}
+
+					int chunk = Math.min(count - offset, this.block.length - this.position);
+					System.arraycopy(this.block, this.position, key, offset, chunk);
+					Arrays.fill(this.block, this.position, this.position + chunk, (byte) 0);
+					this.position += chunk;
+					offset += chunk;
+				}
+
+				if (this.next == null && this.block.length - this.position <= this.lowWatermark) {
+					prefetch();
+				}
+			} finally {
+				this.lock.unlock();
+			}
+
+			return key;
+		}
+
+		private void prefetch() {
+			try {
+				this.next = CompletableFuture.supplyAsync(() -> getRandomBytes(this.size), refillExecutor);
+			} catch (RuntimeException e) {
+				if (logger.isDebugEnabled()) {
+					logger.debug("Cannot schedule prefetch of random bytes", e);
+				}
+			}
+		}
+
+		private byte[] nextBlock() {
+
+			CompletableFuture<byte[]> next = this.next;
+			this.next = null;
+
+			if (next != null) {
+				try {
+					return next.join();
+				} catch (CompletionException e) {
+					if (logger.isDebugEnabled()) {
+						logger.debug("Cannot prefetch random bytes, retrying synchronously", e.getCause());
+					}
+				}
+			}
+
+			return getRandomBytes(this.size);
+		}
+
+		void clear() {
+
+			this.lock.lock();
+			try {
+				Arrays.fill(this.block, (byte) 0);
+				this.position = this.block.length;
+
+				CompletableFuture<byte[]> next = this.next;
+				this.next = null;
+				if (next != null) {
+					next.thenAccept(bytes -> Arrays.fill(bytes, (byte) 0));
+				}
+			} finally {
+				this.lock.unlock();
+			}
+		}
+
+	}
+
 }
@@ -21,6 +21,8 @@ import java.security.GeneralSecurityException;
 import java.security.KeyStore;
 import java.security.cert.X509Certificate;
 import java.security.spec.KeySpec;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Base64;
 import java.util.Collections;
@@ -145,6 +147,27 @@ public class CertificateBundle extends Certificate {
 	}
 
 
+	/**
+	 * Create a {@link CertificateBundle} from a {@link Certificate} and a private
+	 * key that was generated outside of Vault, for example when signing a
+	 * certificate signing request.
+	 * @param certificate must not be {@literal null}.
+	 * @param privateKey must not be empty or {@literal null}.
+	 * @param privateKeyType must not be empty or {@literal null}.
+	 * @return the {@link CertificateBundle}.
+	 * @since 4.2
+	 */
+	public static CertificateBundle of(Certificate certificate, String privateKey, String privateKeyType) {
+		Assert.notNull(certificate, "Certificate must not be null");
+		Assert.hasText(privateKey, "Private key must not be empty");
+		Assert.hasText(privateKeyType, "Private key type must not be empty");
+		Instant revocationTime = certificate.getRevocationTime();
+		return new CertificateBundle(certificate.getSerialNumber(), certificate.getCertificate(),
+				certificate.getIssuingCaCertificate(), certificate.getCaChain(), privateKey, privateKeyType,
+				revocationTime != null ? revocationTime.getEpochSecond() : null);
+	}
+
+
 	/**
 	 * @return the private key (decrypted form, PEM or DER-encoded)
 	 */
@@ -309,11 +332,29 @@ public class CertificateBundle extends Certificate {
 			throws GeneralSecurityException, IOException {
 		return switch (keyType.toLowerCase(Locale.ROOT)) {
 		case "rsa" -> KeyFactories.RSA_PRIVATE.getKey(privateKey);
-		case "ec" -> KeyFactories.EC.getKey(privateKey);
+		case "ec" -> isPkcs8(privateKey) ? new PKCS8EncodedKeySpec(privateKey, "EC")
+				: KeyFactories.EC.getKey(privateKey);
+		case "ed25519" -> new PKCS8EncodedKeySpec(privateKey, "Ed25519");
 		default -> throw new IllegalArgumentException(
-				"Key type %s not supported. Supported types are: rsa, ec.".formatted(keyType));
+				"Key type %s not supported. Supported types are: rsa, ec, ed25519.".formatted(keyType));
 		};
 
 	}
 
+	/**
+	 * Check whether {@code privateKey} is a PKCS#8 {@code PrivateKeyInfo}
+	 * structure that wraps the key along with its algorithm identifier.
+	 */
+	private static boolean isPkcs8(byte[] privateKey) throws IOException {
+
+		DerParser.Asn1Object sequence = new DerParser(privateKey).read();
+		if (sequence.getType() != DerParser.SEQUENCE) {
+			return false;
+		}
+
+		DerParser parser = sequence.createNestedParser();
+		parser.read(); // skip version
+		return parser.read().getType() == DerParser.SEQUENCE;
+	}
+
 }
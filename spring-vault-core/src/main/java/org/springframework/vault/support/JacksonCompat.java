@@ -17,7 +17,10 @@
 package org.springframework.vault.support;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Consumer;
@@ -29,6 +32,7 @@ import com.fasterxml.jackson.databind.SerializationFeature;
 import org.jspecify.annotations.Nullable;
 import tools.jackson.core.ObjectReadContext;
 import tools.jackson.core.json.JsonWriteFeature;
+import tools.jackson.databind.DeserializationFeature;
 import tools.jackson.databind.ObjectReader;
 import tools.jackson.databind.json.JsonMapper;
 
@@ -43,6 +47,7 @@ import org.springframework.http.converter.json.AbstractJackson2HttpMessageConver
 import org.springframework.http.converter.json.JacksonJsonHttpMessageConverter;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.util.ClassUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
 import org.springframework.vault.VaultException;
 import org.springframework.vault.core.VaultOperations;
 import org.springframework.web.client.RestTemplate;
@@ -64,6 +69,12 @@ public abstract class JacksonCompat {
 
 	static final @Nullable Class JACKSON_3_JSON_NODE;
 
+	/**
+	 * Frequently read types whose readers are resolved upfront.
+	 */
+	static final List<Class<?>> PRERESOLVED_TYPES = List.of(VaultResponse.class, VaultTokenResponse.class,
+			Map.class);
+
 	static final JacksonCompat compat;
 
 
@@ -208,6 +219,296 @@ public abstract class JacksonCompat {
 		 */
 		String writeValueAsString(Object object);
 
+		/**
+		 * Read the JSON document incrementally and deserialize the value at the given
+		 * field {@code path} without materializing the remaining document.
+		 * @param json the JSON input, must not be {@literal null}.
+		 * @param path field names leading to the value, for example
+		 * {@code ["data"]}.
+		 * @param type must not be {@literal null}.
+		 * @return the deserialized value or {@literal null} if the path does not
+		 * exist or holds {@code null}.
+		 * @since 4.2
+		 */
+		<I> @Nullable I readValue(InputStream json, List<String> path, Class<I> type);
+
+		/**
+		 * Read the JSON document incrementally and pass each element of the array at
+		 * the given field {@code path} to {@code action} as soon as it has been read.
+		 * Does not invoke {@code action} if the path does not exist or does not hold
+		 * an array.
+		 * @param json the JSON input, must not be {@literal null}.
+		 * @param path field names leading to the array, for example
+		 * {@code ["data", "keys"]}.
+		 * @param elementType must not be {@literal null}.
+		 * @param action callback receiving each element.
+		 * @since 4.2
+		 */
+		<I> void readArray(InputStream json, List<String> path, Class<I> elementType, Consumer<? super I> action);
+
+		/**
+		 * Create a {@link NonBlockingReader} that reads the JSON document
+		 * incrementally from the chunks it is fed and emits the deserialized value at
+		 * the given field {@code path} once it has been read. Emits nothing if the
+		 * path does not exist or holds {@code null}.
+		 * @param path field names leading to the value, for example
+		 * {@code ["data"]}.
+		 * @param type must not be {@literal null}.
+		 * @return a new {@link NonBlockingReader}.
+		 * @since 4.2
+		 */
+		<I> NonBlockingReader<I> createValueReader(List<String> path, Class<I> type);
+
+		/**
+		 * Create a {@link NonBlockingReader} that reads the JSON document
+		 * incrementally from the chunks it is fed and emits each element of the array
+		 * at the given field {@code path} as soon as it has been read. Emits nothing
+		 * if the path does not exist or does not hold an array.
+		 * @param path field names leading to the array, for example
+		 * {@code ["data", "keys"]}.
+		 * @param elementType must not be {@literal null}.
+		 * @return a new {@link NonBlockingReader}.
+		 * @since 4.2
+		 */
+		<I> NonBlockingReader<I> createArrayReader(List<String> path, Class<I> elementType);
+
+	}
+
+
+	/**
+	 * Reader consuming a JSON document in chunks using a non-blocking parser.
+	 * Values are emitted as soon as they have been read so that the document is
+	 * never materialized as a whole. Instances are stateful and must be used for
+	 * a single document only.
+	 *
+	 * @param <I> value type.
+	 * @since 4.2
+	 */
+	public interface NonBlockingReader<I> {
+
+		/**
+		 * Feed the next chunk of the JSON document.
+		 * @param chunk the next chunk.
+		 * @return values that have been read completely with this chunk.
+		 */
+		List<I> feed(byte[] chunk);
+
+		/**
+		 * Signal the end of the JSON document.
+		 * @return values that have been read completely at the end of the document.
+		 */
+		List<I> endOfInput();
+
+	}
+
+
+	/**
+	 * {@link NonBlockingReader} navigating to the value at a field {@code path}.
+	 * Values are captured as tokens and deserialized once complete. Subclasses
+	 * adapt the Jackson version-specific parser.
+	 */
+	abstract static class AbstractNonBlockingReader<I> implements NonBlockingReader<I> {
+
+		enum Token {
+			START_OBJECT, END_OBJECT, START_ARRAY, END_ARRAY, FIELD_NAME, VALUE_NULL, VALUE
+		}
+
+		private final List<String> path;
+
+		private final boolean array;
+
+		private int depth;
+
+		private int matched;
+
+		private boolean fieldMatched;
+
+		private boolean inArray;
+
+		private int captureDepth;
+
+		private boolean done;
+
+
+		AbstractNonBlockingReader(List<String> path, boolean array) {
+			this.path = path;
+			this.array = array;
+		}
+
+
+		@Override
+		public List<I> feed(byte[] chunk) {
+
+			if (this.done) {
+				return List.of();
+			}
+
+			try {
+				feedInput(chunk);
+				return read();
+			} catch (IOException e) {
+				throw new VaultException("Cannot deserialize response", e);
+			}
+		}
+
+		@Override
+		public List<I> endOfInput() {
+
+			if (this.done) {
+				return List.of();
+			}
+
+			try {
+				endInput();
+				return read();
+			} catch (IOException e) {
+				throw new VaultException("Cannot deserialize response", e);
+			}
+		}
+
+		private List<I> read() throws IOException {
+
+			List<I> values = new ArrayList<>();
+			Token token;
+			while (!this.done && (token = nextToken()) != null) {
+				onToken(token, values);
+			}
+
+			return values;
+		}
+
+		private void onToken(Token token, List<I> values) throws IOException {
+
+			if (this.captureDepth > 0) {
+
+				capture();
+				if (token == Token.START_OBJECT || token == Token.START_ARRAY) {
+					this.captureDepth++;
+				} else if (token == Token.END_OBJECT || token == Token.END_ARRAY) {
+					this.captureDepth--;
+				}
+
+				if (this.captureDepth == 0) {
+					complete(values);
+				}
+				return;
+			}
+
+			if (this.inArray) {
+
+				if (token == Token.END_ARRAY) {
+					this.done = true;
+				} else {
+					startCapture(token, values);
+				}
+				return;
+			}
+
+			if (this.fieldMatched) {
+
+				this.fieldMatched = false;
+				this.matched++;
+
+				if (this.matched < this.path.size()) {
+					if (token == Token.START_OBJECT) {
+						this.depth++;
+					} else {
+						this.done = true;
+					}
+				} else if (this.array) {
+					this.inArray = token == Token.START_ARRAY;
+					this.done = !this.inArray;
+				} else if (token == Token.VALUE_NULL) {
+					this.done = true;
+				} else {
+					startCapture(token, values);
+				}
+				return;
+			}
+
+			switch (token) {
+				case START_OBJECT, START_ARRAY -> {
+					if (this.depth == 0 && token != Token.START_OBJECT) {
+						this.done = true;
+					}
+					this.depth++;
+				}
+				case END_OBJECT, END_ARRAY -> {
+					// the object holding the next field closed without a match
+					this.depth--;
+					if (this.depth <= this.matched) {
+						this.done = true;
+					}
+				}
+				case FIELD_NAME -> {
+					if (this.depth == this.matched + 1 && this.path.get(this.matched).equals(currentName())) {
+						this.fieldMatched = true;
+					}
+				}
+				default -> {
+					if (this.depth == 0) {
+						this.done = true;
+					}
+				}
+			}
+		}
+
+		private void startCapture(Token token, List<I> values) throws IOException {
+
+			startCapture();
+			if (token == Token.START_OBJECT || token == Token.START_ARRAY) {
+				this.captureDepth = 1;
+			} else {
+				complete(values);
+			}
+		}
+
+		private void complete(List<I> values) throws IOException {
+
+			I value = readCaptured();
+			if (value != null) {
+				values.add(value);
+			}
+
+			if (!this.array) {
+				this.done = true;
+			}
+		}
+
+		/**
+		 * Feed {@code chunk} to the parser.
+		 */
+		abstract void feedInput(byte[] chunk) throws IOException;
+
+		/**
+		 * Signal the end of input to the parser.
+		 */
+		abstract void endInput() throws IOException;
+
+		/**
+		 * Advance the parser.
+		 * @return the next token or {@literal null} if more input is required or the
+		 * end of input has been reached.
+		 */
+		abstract @Nullable Token nextToken() throws IOException;
+
+		abstract @Nullable String currentName() throws IOException;
+
+		/**
+		 * Start capturing a value with the current token.
+		 */
+		abstract void startCapture() throws IOException;
+
+		/**
+		 * Capture the current token.
+		 */
+		abstract void capture() throws IOException;
+
+		/**
+		 * Deserialize the captured value and reset the capture.
+		 */
+		abstract @Nullable I readCaptured() throws IOException;
+
 	}
 
 
@@ -229,6 +530,10 @@ public abstract class JacksonCompat {
 		private static final Jackson2ObjectMapperAccessor PRETTY_PRINT_MAPPER_ACCESSOR = new Jackson2ObjectMapperAccessor(
 				PRETTY_PRINT_OBJECT_MAPPER);
 
+		static {
+			PRERESOLVED_TYPES.forEach(ACCESSOR::getReader);
+		}
+
 
 		public static boolean isAvailable() {
 			return JACKSON_2_JSON_NODE != null;
@@ -283,12 +588,24 @@ public abstract class JacksonCompat {
 
 			private final com.fasterxml.jackson.databind.ObjectMapper mapper;
 
+			private final Map<Class<?>, com.fasterxml.jackson.databind.ObjectReader> readers = //
+					new ConcurrentReferenceHashMap<>();
+
 
 			Jackson2ObjectMapperAccessor(ObjectMapper mapper) {
 				this.mapper = mapper;
 			}
 
 
+			/**
+			 * Return a cached {@code ObjectReader} for {@code type} to avoid resolving the
+			 * type and its root deserializer for each read.
+			 */
+			com.fasterxml.jackson.databind.ObjectReader getReader(Class<?> type) {
+				return this.readers.computeIfAbsent(type, this.mapper::readerFor);
+			}
+
+
 			public com.fasterxml.jackson.core.TreeNode getJsonNode(Object jsonNode) {
 				return (com.fasterxml.jackson.databind.JsonNode) jsonNode;
 			}
@@ -296,13 +613,14 @@ public abstract class JacksonCompat {
 			@Override
 			public <I> I deserialize(Object json, Class<I> type) {
 				try {
+					com.fasterxml.jackson.databind.ObjectReader reader = getReader(type);
 					if (json instanceof String s) {
-						return this.mapper.reader().readValue(s, type);
+						return reader.readValue(s);
 					}
 					if (json instanceof byte[] bs) {
-						return this.mapper.reader().readValue(bs, type);
+						return reader.readValue(bs);
 					}
-					return this.mapper.reader().readValue(getJsonNode(json).traverse(), type);
+					return reader.readValue(getJsonNode(json).traverse());
 				} catch (IOException e) {
 					throw new VaultException("Cannot deserialize response", e);
 				}
@@ -317,6 +635,160 @@ public abstract class JacksonCompat {
 				}
 			}
 
+			@Override
+			public <I> @Nullable I readValue(InputStream json, List<String> path, Class<I> type) {
+				try (com.fasterxml.jackson.core.JsonParser parser = this.mapper.createParser(json)) {
+					if (!seek(parser, path) || parser.currentToken() == com.fasterxml.jackson.core.JsonToken.VALUE_NULL) {
+						return null;
+					}
+					return getReader(type).readValue(parser);
+				} catch (IOException e) {
+					throw new VaultException("Cannot deserialize response", e);
+				}
+			}
+
+			@Override
+			public <I> void readArray(InputStream json, List<String> path, Class<I> elementType,
+					Consumer<? super I> action) {
+				try (com.fasterxml.jackson.core.JsonParser parser = this.mapper.createParser(json)) {
+					if (!seek(parser, path) || parser.currentToken() != com.fasterxml.jackson.core.JsonToken.START_ARRAY) {
+						return;
+					}
+					com.fasterxml.jackson.databind.ObjectReader reader = getReader(elementType);
+					while (parser.nextToken() != com.fasterxml.jackson.core.JsonToken.END_ARRAY) {
+						action.accept(reader.readValue(parser));
+					}
+				} catch (IOException e) {
+					throw new VaultException("Cannot deserialize response", e);
+				}
+			}
+
+			@Override
+			public <I> NonBlockingReader<I> createValueReader(List<String> path, Class<I> type) {
+				return new Jackson2NonBlockingReader<>(this.mapper, getReader(type), path, false);
+			}
+
+			@Override
+			public <I> NonBlockingReader<I> createArrayReader(List<String> path, Class<I> elementType) {
+				return new Jackson2NonBlockingReader<>(this.mapper, getReader(elementType), path, true);
+			}
+
+			/**
+			 * Advance the parser to the value of the field {@code path}.
+			 */
+			private static boolean seek(com.fasterxml.jackson.core.JsonParser parser, List<String> path)
+					throws IOException {
+
+				for (String field : path) {
+
+					if (parser.currentToken() != com.fasterxml.jackson.core.JsonToken.START_OBJECT
+							&& parser.nextToken() != com.fasterxml.jackson.core.JsonToken.START_OBJECT) {
+						return false;
+					}
+
+					boolean found = false;
+					while (parser.nextToken() == com.fasterxml.jackson.core.JsonToken.FIELD_NAME) {
+						String name = parser.currentName();
+						parser.nextToken();
+						if (field.equals(name)) {
+							found = true;
+							break;
+						}
+						parser.skipChildren();
+					}
+
+					if (!found) {
+						return false;
+					}
+				}
+
+				return true;
+			}
+
+		}
+
+
+		static class Jackson2NonBlockingReader<I> extends AbstractNonBlockingReader<I> {
+
+			private final com.fasterxml.jackson.core.JsonParser parser;
+
+			private final com.fasterxml.jackson.databind.ObjectReader reader;
+
+			private com.fasterxml.jackson.databind.util.@Nullable TokenBuffer buffer;
+
+
+			Jackson2NonBlockingReader(ObjectMapper mapper, com.fasterxml.jackson.databind.ObjectReader reader,
+					List<String> path, boolean array) {
+
+				super(path, array);
+				try {
+					this.parser = mapper.createNonBlockingByteArrayParser();
+				} catch (IOException e) {
+					throw new VaultException("Cannot create JSON parser", e);
+				}
+				this.reader = reader;
+			}
+
+
+			@Override
+			void feedInput(byte[] chunk) throws IOException {
+				((com.fasterxml.jackson.core.async.ByteArrayFeeder) this.parser.getNonBlockingInputFeeder())
+						.feedInput(chunk, 0, chunk.length);
+			}
+
+			@Override
+			void endInput() {
+				this.parser.getNonBlockingInputFeeder().endOfInput();
+			}
+
+			@Override
+			@Nullable
+			Token nextToken() throws IOException {
+
+				com.fasterxml.jackson.core.JsonToken token = this.parser.nextToken();
+				if (token == null || token == com.fasterxml.jackson.core.JsonToken.NOT_AVAILABLE) {
+					return null;
+				}
+
+				return switch (token) {
+					case START_OBJECT -> Token.START_OBJECT;
+					case END_OBJECT -> Token.END_OBJECT;
+					case START_ARRAY -> Token.START_ARRAY;
+					case END_ARRAY -> Token.END_ARRAY;
+					case FIELD_NAME -> Token.FIELD_NAME;
+					case VALUE_NULL -> Token.VALUE_NULL;
+					default -> Token.VALUE;
+				};
+			}
+
+			@Override
+			@Nullable
+			String currentName() throws IOException {
+				return this.parser.currentName();
+			}
+
+			@Override
+			void startCapture() throws IOException {
+				this.buffer = new com.fasterxml.jackson.databind.util.TokenBuffer(this.parser);
+				this.buffer.copyCurrentEvent(this.parser);
+			}
+
+			@Override
+			void capture() throws IOException {
+				Objects.requireNonNull(this.buffer).copyCurrentEvent(this.parser);
+			}
+
+			@Override
+			@Nullable
+			I readCaptured() throws IOException {
+
+				com.fasterxml.jackson.databind.util.TokenBuffer buffer = Objects.requireNonNull(this.buffer);
+				this.buffer = null;
+				try (com.fasterxml.jackson.core.JsonParser captured = buffer.asParser(this.parser)) {
+					return this.reader.readValue(captured);
+				}
+			}
+
 		}
 
 	}
@@ -342,6 +814,10 @@ public abstract class JacksonCompat {
 		private static final Jackson3ObjectMapperAccessor PRETTY_PRINT_MAPPER_ACCESSOR = new Jackson3ObjectMapperAccessor(
 				PRETTY_PRINT_OBJECT_MAPPER);
 
+		static {
+			PRERESOLVED_TYPES.forEach(ACCESSOR::getReader);
+		}
+
 
 		public static boolean isAvailable() {
 			return JACKSON_3_JSON_NODE != null;
@@ -396,19 +872,41 @@ public abstract class JacksonCompat {
 
 			private final tools.jackson.databind.ObjectMapper mapper;
 
+			private final Map<Class<?>, ObjectReader> readers = new ConcurrentReferenceHashMap<>();
+
+			private final Map<Class<?>, ObjectReader> streamingReaders = new ConcurrentReferenceHashMap<>();
+
 
 			Jackson3ObjectMapperAccessor(tools.jackson.databind.ObjectMapper mapper) {
 				this.mapper = mapper;
 			}
 
 
+			/**
+			 * Return a cached {@link ObjectReader} for {@code type} to avoid resolving the
+			 * type and its root deserializer for each read.
+			 */
+			ObjectReader getReader(Class<?> type) {
+				return this.readers.computeIfAbsent(type, this.mapper::readerFor);
+			}
+
+			/**
+			 * Return a cached {@link ObjectReader} for {@code type} to read values in the
+			 * middle of a document. Jackson 3 fails on trailing tokens by default.
+			 */
+			ObjectReader getStreamingReader(Class<?> type) {
+				return this.streamingReaders.computeIfAbsent(type,
+						it -> getReader(it).without(DeserializationFeature.FAIL_ON_TRAILING_TOKENS));
+			}
+
+
 			public tools.jackson.databind.JsonNode getJsonNode(Object jsonNode) {
 				return (tools.jackson.databind.JsonNode) jsonNode;
 			}
 
 			@Override
 			public <I> I deserialize(Object json, Class<I> type) {
-				ObjectReader reader = this.mapper.readerFor(type);
+				ObjectReader reader = getReader(type);
 				if (json instanceof String s) {
 					return reader.readValue(s);
 				}
@@ -423,6 +921,173 @@ public abstract class JacksonCompat {
 				return mapper.writeValueAsString(object);
 			}
 
+			@Override
+			public <I> @Nullable I readValue(InputStream json, List<String> path, Class<I> type) {
+				try (tools.jackson.core.JsonParser parser = this.mapper.createParser(json)) {
+					if (!seek(parser, path) || parser.currentToken() == tools.jackson.core.JsonToken.VALUE_NULL) {
+						return null;
+					}
+					return getStreamingReader(type).readValue(parser);
+				} catch (tools.jackson.core.JacksonException e) {
+					throw new VaultException("Cannot deserialize response", e);
+				}
+			}
+
+			@Override
+			public <I> void readArray(InputStream json, List<String> path, Class<I> elementType,
+					Consumer<? super I> action) {
+				try (tools.jackson.core.JsonParser parser = this.mapper.createParser(json)) {
+					if (!seek(parser, path) || parser.currentToken() != tools.jackson.core.JsonToken.START_ARRAY) {
+						return;
+					}
+					ObjectReader reader = getStreamingReader(elementType);
+					while (parser.nextToken() != tools.jackson.core.JsonToken.END_ARRAY) {
+						action.accept(reader.readValue(parser));
+					}
+				} catch (tools.jackson.core.JacksonException e) {
+					throw new VaultException("Cannot deserialize response", e);
+				}
+			}
+
+			@Override
+			public <I> NonBlockingReader<I> createValueReader(List<String> path, Class<I> type) {
+				return new Jackson3NonBlockingReader<>(this.mapper, getReader(type), path, false);
+			}
+
+			@Override
+			public <I> NonBlockingReader<I> createArrayReader(List<String> path, Class<I> elementType) {
+				return new Jackson3NonBlockingReader<>(this.mapper, getReader(elementType), path, true);
+			}
+
+			/**
+			 * Advance the parser to the value of the field {@code path}.
+			 */
+			private static boolean seek(tools.jackson.core.JsonParser parser, List<String> path) {
+
+				for (String field : path) {
+
+					if (parser.currentToken() != tools.jackson.core.JsonToken.START_OBJECT
+							&& parser.nextToken() != tools.jackson.core.JsonToken.START_OBJECT) {
+						return false;
+					}
+
+					boolean found = false;
+					while (parser.nextToken() == tools.jackson.core.JsonToken.PROPERTY_NAME) {
+						String name = parser.currentName();
+						parser.nextToken();
+						if (field.equals(name)) {
+							found = true;
+							break;
+						}
+						parser.skipChildren();
+					}
+
+					if (!found) {
+						return false;
+					}
+				}
+
+				return true;
+			}
+
+		}
+
+
+		static class Jackson3NonBlockingReader<I> extends AbstractNonBlockingReader<I> {
+
+			private final tools.jackson.core.JsonParser parser;
+
+			private final ObjectReader reader;
+
+			private tools.jackson.databind.util.@Nullable TokenBuffer buffer;
+
+
+			Jackson3NonBlockingReader(tools.jackson.databind.ObjectMapper mapper, ObjectReader reader,
+					List<String> path, boolean array) {
+				super(path, array);
+				this.parser = mapper.createNonBlockingByteArrayParser();
+				this.reader = reader;
+			}
+
+
+			@Override
+			public List<I> feed(byte[] chunk) {
+				try {
+					return super.feed(chunk);
+				} catch (tools.jackson.core.JacksonException e) {
+					throw new VaultException("Cannot deserialize response", e);
+				}
+			}
+
+			@Override
+			public List<I> endOfInput() {
+				try {
+					return super.endOfInput();
+				} catch (tools.jackson.core.JacksonException e) {
+					throw new VaultException("Cannot deserialize response", e);
+				}
+			}
+
+			@Override
+			void feedInput(byte[] chunk) {
+				((tools.jackson.core.async.ByteArrayFeeder) this.parser.nonBlockingInputFeeder()).feedInput(chunk, 0,
+						chunk.length);
+			}
+
+			@Override
+			void endInput() {
+				this.parser.nonBlockingInputFeeder().endOfInput();
+			}
+
+			@Override
+			@Nullable
+			Token nextToken() {
+
+				tools.jackson.core.JsonToken token = this.parser.nextToken();
+				if (token == null || token == tools.jackson.core.JsonToken.NOT_AVAILABLE) {
+					return null;
+				}
+
+				return switch (token) {
+					case START_OBJECT -> Token.START_OBJECT;
+					case END_OBJECT -> Token.END_OBJECT;
+					case START_ARRAY -> Token.START_ARRAY;
+					case END_ARRAY -> Token.END_ARRAY;
+					case PROPERTY_NAME -> Token.FIELD_NAME;
+					case VALUE_NULL -> Token.VALUE_NULL;
+					default -> Token.VALUE;
+				};
+			}
+
+			@Override
+			@Nullable
+			String currentName() {
+				return this.parser.currentName();
+			}
+
+			@Override
+			void startCapture() {
+				this.buffer = tools.jackson.databind.util.TokenBuffer.forBuffering(this.parser,
+						this.parser.objectReadContext());
+				this.buffer.copyCurrentEvent(this.parser);
+			}
+
+			@Override
+			void capture() {
+				Objects.requireNonNull(this.buffer).copyCurrentEvent(this.parser);
+			}
+
+			@Override
+			@Nullable
+			I readCaptured() {
+
+				tools.jackson.databind.util.TokenBuffer buffer = Objects.requireNonNull(this.buffer);
+				this.buffer = null;
+				try (tools.jackson.core.JsonParser captured = buffer.asParser(this.parser.objectReadContext())) {
+					return this.reader.readValue(captured);
+				}
+			}
+
 		}
 
 	}
@@ -16,12 +16,18 @@
 
 package org.springframework.vault.support;
 
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.function.Function;
-import java.util.function.UnaryOperator;
+import java.util.NoSuchElementException;
+import java.util.Set;
 
 import org.jspecify.annotations.Nullable;
 
@@ -51,10 +57,30 @@ import org.springframework.util.StringUtils;
  *  another.key[1]=two
  * </pre>
  *
+ * <p>Property names are assembled in a single buffer per flattening run so that
+ * only the resulting property names are allocated. {@link #flattenedView(Map)}
+ * provides a lazily evaluated flat view that does not copy the hierarchical
+ * structure at all. {@link #unflatten(Map)} reverses flattening.
+ *
  * @author Mark Paluch
  */
 public abstract class JsonMapFlattener {
 
+	private static final String[] INDEXES = new String[64];
+
+	/**
+	 * Maximum list index accepted by {@link #unflatten(Map)} to bound the
+	 * {@literal null} padding of list gaps.
+	 */
+	static final int MAX_LIST_INDEX = 10_000;
+
+	static {
+		for (int i = 0; i < INDEXES.length; i++) {
+			INDEXES[i] = "[" + i + "]";
+		}
+	}
+
+
 	private JsonMapFlattener() {
 	}
 
@@ -66,9 +92,15 @@ public abstract class JsonMapFlattener {
 	 * @return the resulting {@link Map}.
 	 */
 	public static Map<String, Object> flatten(Map<String, ? extends Object> inputMap) {
+
 		Assert.notNull(inputMap, "Input Map must not be null");
+
 		Map<String, Object> resultMap = new LinkedHashMap<>();
-		doFlatten("", inputMap.entrySet().iterator(), resultMap, UnaryOperator.identity());
+		FlatteningIterator iterator = new FlatteningIterator(inputMap);
+		while (iterator.hasNext()) {
+			Entry<String, @Nullable Object> entry = iterator.next();
+			resultMap.put(entry.getKey(), entry.getValue());
+		}
 		return resultMap;
 	}
 
@@ -80,45 +112,435 @@ public abstract class JsonMapFlattener {
 	 * @since 2.0
 	 */
 	public static Map<String, String> flattenToStringMap(Map<String, ? extends Object> inputMap) {
+
 		Assert.notNull(inputMap, "Input Map must not be null");
+
 		Map<String, String> resultMap = new LinkedHashMap<>();
-		doFlatten("", inputMap.entrySet().iterator(), resultMap, it -> it == null ? null : it.toString());
+		FlatteningIterator iterator = new FlatteningIterator(inputMap);
+		while (iterator.hasNext()) {
+			Entry<String, @Nullable Object> entry = iterator.next();
+			Object value = entry.getValue();
+			resultMap.put(entry.getKey(), value == null ? null : value.toString());
+		}
 		return resultMap;
 	}
 
-	private static void doFlatten(String propertyPrefix, Iterator<? extends Entry<String, ?>> inputMap,
-			Map<String, ? extends Object> resultMap, Function<Object, Object> valueTransformer) {
-		if (StringUtils.hasText(propertyPrefix)) {
-			propertyPrefix = propertyPrefix + ".";
+	/**
+	 * Create a lazily evaluated, read-only flat view of a hierarchical
+	 * {@link Map} with key names using property dot notation. The view reflects
+	 * changes to {@code inputMap}.
+	 * <p>Lookups through {@link Map#get(Object)} and
+	 * {@link Map#containsKey(Object)} navigate the hierarchical structure without
+	 * materializing other properties. Iteration assembles property names on
+	 * demand. {@link Map#size()} requires a full traversal.
+	 * @param inputMap must not be {@literal null}.
+	 * @return the flat view of {@code inputMap}.
+	 * @since 4.2
+	 */
+	public static Map<String, Object> flattenedView(Map<String, ? extends Object> inputMap) {
+
+		Assert.notNull(inputMap, "Input Map must not be null");
+
+		return new FlattenedView(inputMap);
+	}
+
+	/**
+	 * Reverse flattening by turning a flat {@link Map} using property dot
+	 * notation into a hierarchical {@link Map}. Dots denote nested maps and
+	 * {@code [index]} denotes list elements. Gaps in list indexes are filled with
+	 * {@literal null}, list indexes must not exceed {@code 10000}. Note that key
+	 * names containing dots cannot be distinguished from nested maps and are
+	 * therefore unflattened into nested maps.
+	 * @param flattenedMap must not be {@literal null}.
+	 * @return the resulting hierarchical {@link Map}.
+	 * @throws IllegalArgumentException if property names describe conflicting
+	 * structures, such as {@code key=value} and {@code key.nested=value}, or
+	 * if a list index exceeds {@code 10000}.
+	 * @since 4.2
+	 */
+	public static Map<String, Object> unflatten(Map<String, ? extends @Nullable Object> flattenedMap) {
+
+		Assert.notNull(flattenedMap, "Flattened Map must not be null");
+
+		Map<String, Object> resultMap = new LinkedHashMap<>();
+		for (Entry<String, ? extends @Nullable Object> entry : flattenedMap.entrySet()) {
+
+			List<Object> segments = parsePropertyName(entry.getKey());
+			@Nullable Object container = resultMap;
+
+			for (int i = 0; i < segments.size(); i++) {
+
+				boolean last = i == segments.size() - 1;
+				Object child = last ? entry.getValue() : segments.get(i + 1) instanceof Integer ? new ArrayList<>()
+						: new LinkedHashMap<>();
+				container = setOrGet(container, segments.get(i), child, last, entry.getKey());
+			}
 		}
-		while (inputMap.hasNext()) {
 
-			Entry<String, ? extends Object> entry = inputMap.next();
-			flattenElement(propertyPrefix.concat(entry.getKey()), entry.getValue(), resultMap, valueTransformer);
+		return resultMap;
+	}
+
+	private static void appendIndex(StringBuilder buffer, int index) {
+
+		if (index < INDEXES.length) {
+			buffer.append(INDEXES[index]);
+		} else {
+			buffer.append('[').append(index).append(']');
 		}
 	}
 
+	/**
+	 * Resolve the value for {@code propertyName} starting at {@code offset}
+	 * within {@code source}. Property names may contain dots so every dot
+	 * following a matching map key is considered as candidate.
+	 */
 	@SuppressWarnings("unchecked")
-	private static void flattenElement(String propertyPrefix, @Nullable Object source, Map<String, ?> resultMap,
-			Function<Object, Object> valueTransformer) {
-		if (source instanceof Iterable) {
-			flattenCollection(propertyPrefix, (Iterable<Object>) source, resultMap, valueTransformer);
-			return;
+	private static @Nullable Object resolve(@Nullable Object source, String propertyName, int offset) {
+
+		if (source instanceof Iterable<?> iterable) {
+
+			if (offset >= propertyName.length() || propertyName.charAt(offset) != '[') {
+				return NotFound.INSTANCE;
+			}
+
+			int close = getIndexEnd(propertyName, offset);
+			if (close == -1) {
+				return NotFound.INSTANCE;
+			}
+
+			int index = Integer.parseInt(propertyName, offset + 1, close, 10);
+			if (iterable instanceof List<?> list) {
+				return index < list.size() ? resolve(list.get(index), propertyName, close + 1) : NotFound.INSTANCE;
+			}
+
+			int counter = 0;
+			for (Object element : iterable) {
+				if (counter++ == index) {
+					return resolve(element, propertyName, close + 1);
+				}
+			}
+			return NotFound.INSTANCE;
+		}
+
+		if (source instanceof Map<?, ?> map) {
+
+			int start = offset;
+			if (hasText(propertyName, offset)) {
+				if (offset >= propertyName.length() || propertyName.charAt(offset) != '.') {
+					return NotFound.INSTANCE;
+				}
+				start++;
+			}
+
+			for (int end = start; end <= propertyName.length(); end++) {
+
+				if (end != propertyName.length() && propertyName.charAt(end) != '.' && propertyName.charAt(end) != '[') {
+					continue;
+				}
+
+				String key = propertyName.substring(start, end);
+				if (map.containsKey(key)) {
+					Object result = resolve(((Map<String, ?>) map).get(key), propertyName, end);
+					if (result != NotFound.INSTANCE) {
+						return result;
+					}
+				}
+			}
+			return NotFound.INSTANCE;
 		}
-		if (source instanceof Map) {
-			doFlatten(propertyPrefix, ((Map<String, ?>) source).entrySet().iterator(), resultMap, valueTransformer);
-			return;
+
+		return offset == propertyName.length() ? source : NotFound.INSTANCE;
+	}
+
+	/**
+	 * Return the position of the closing bracket if {@code propertyName} contains
+	 * a list index at {@code offset} or {@code -1}.
+	 */
+	private static int getIndexEnd(String propertyName, int offset) {
+
+		int close = propertyName.indexOf(']', offset);
+		if (close <= offset + 1 || close - offset > 10) {
+			return -1;
+		}
+
+		for (int i = offset + 1; i < close; i++) {
+			char c = propertyName.charAt(i);
+			if (c < '0' || c > '9') {
+				return -1;
+			}
+		}
+		return close;
+	}
+
+	private static boolean hasText(String propertyName, int end) {
+
+		for (int i = 0; i < end; i++) {
+			if (!Character.isWhitespace(propertyName.charAt(i))) {
+				return true;
+			}
 		}
-		((Map) resultMap).put(propertyPrefix, valueTransformer.apply(source));
+		return false;
 	}
 
-	private static void flattenCollection(String propertyPrefix, Iterable<Object> iterable, Map<String, ?> resultMap,
-			Function<Object, Object> valueTransformer) {
-		int counter = 0;
-		for (Object element : iterable) {
-			flattenElement(propertyPrefix + "[" + counter + "]", element, resultMap, valueTransformer);
-			counter++;
+	/**
+	 * Split {@code propertyName} into {@link String} segments for map keys and
+	 * {@link Integer} segments for list indexes.
+	 */
+	private static List<Object> parsePropertyName(String propertyName) {
+
+		List<Object> segments = new ArrayList<>();
+		int start = 0;
+		boolean afterIndex = false;
+
+		for (int i = 0; i < propertyName.length(); i++) {
+
+			char c = propertyName.charAt(i);
+			if (c == '.') {
+
+				if (!afterIndex || start != i) {
+					segments.add(propertyName.substring(start, i));
+				}
+				start = i + 1;
+				afterIndex = false;
+			} else if (c == '[') {
+
+				int close = getIndexEnd(propertyName, i);
+				if (close == -1) {
+					continue;
+				}
+
+				if (!afterIndex || start != i) {
+					segments.add(propertyName.substring(start, i));
+				}
+				segments.add(Integer.parseInt(propertyName, i + 1, close, 10));
+				start = close + 1;
+				i = close;
+				afterIndex = true;
+			}
 		}
+
+		if (!afterIndex || start != propertyName.length()) {
+			segments.add(propertyName.substring(start));
+		}
+
+		return segments;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static @Nullable Object setOrGet(@Nullable Object container, Object segment, @Nullable Object child, boolean last,
+			String propertyName) {
+
+		@Nullable Object existing;
+		if (container instanceof Map<?, ?> map && segment instanceof String key) {
+
+			Map<String, @Nullable Object> target = (Map<String, @Nullable Object>) map;
+			existing = target.get(key);
+			if (existing == null || (last && !isContainer(existing))) {
+				target.put(key, child);
+				return child;
+			}
+		} else if (container instanceof List<?> list && segment instanceof Integer index) {
+
+			if (index > MAX_LIST_INDEX) {
+				throw new IllegalArgumentException(
+						"Property '%s' exceeds the maximum list index of %d".formatted(propertyName, MAX_LIST_INDEX));
+			}
+
+			List<@Nullable Object> target = (List<@Nullable Object>) list;
+			while (target.size() <= index) {
+				target.add(null);
+			}
+			existing = target.get(index);
+			if (existing == null || (last && !isContainer(existing))) {
+				target.set(index, child);
+				return child;
+			}
+		} else {
+			throw new IllegalArgumentException("Property '%s' conflicts with another property".formatted(propertyName));
+		}
+
+		if (!last && child != null && child.getClass() == existing.getClass()) {
+			return existing;
+		}
+
+		throw new IllegalArgumentException("Property '%s' conflicts with another property".formatted(propertyName));
+	}
+
+	private static boolean isContainer(Object value) {
+		return value instanceof Map<?, ?> || value instanceof List<?>;
+	}
+
+
+	/**
+	 * Marker for unresolvable property names as {@literal null} is a valid
+	 * property value.
+	 */
+	enum NotFound {
+
+		INSTANCE
+
+	}
+
+
+	/**
+	 * Read-only flat view over a hierarchical {@link Map}.
+	 */
+	static class FlattenedView extends AbstractMap<String, Object> {
+
+		private final Map<String, ?> source;
+
+		private final Set<Entry<String, Object>> entrySet = new AbstractSet<>() {
+
+			@Override
+			@SuppressWarnings("unchecked")
+			public Iterator<Entry<String, Object>> iterator() {
+				return (Iterator) new FlatteningIterator(FlattenedView.this.source);
+			}
+
+			@Override
+			public int size() {
+
+				int size = 0;
+				for (Iterator<?> iterator = iterator(); iterator.hasNext(); iterator.next()) {
+					size++;
+				}
+				return size;
+			}
+
+		};
+
+		FlattenedView(Map<String, ?> source) {
+			this.source = source;
+		}
+
+		@Override
+		public Set<Entry<String, Object>> entrySet() {
+			return this.entrySet;
+		}
+
+		@Override
+		public boolean isEmpty() {
+			return !this.entrySet.iterator().hasNext();
+		}
+
+		@Override
+		public boolean containsKey(Object key) {
+			return key instanceof String propertyName && resolve(this.source, propertyName, 0) != NotFound.INSTANCE;
+		}
+
+		@Override
+		public @Nullable Object get(Object key) {
+
+			if (key instanceof String propertyName) {
+				Object result = resolve(this.source, propertyName, 0);
+				return result != NotFound.INSTANCE ? result : null;
+			}
+			return null;
+		}
+
+	}
+
+
+	/**
+	 * Depth-first iterator emitting leaf values along with their property name.
+	 * Property names are assembled in a single buffer that is truncated to the
+	 * prefix length of the current nesting level.
+	 */
+	static class FlatteningIterator implements Iterator<Entry<String, @Nullable Object>> {
+
+		private final StringBuilder buffer = new StringBuilder();
+
+		private final Deque<Level> levels = new ArrayDeque<>();
+
+		private @Nullable Entry<String, @Nullable Object> next;
+
+		FlatteningIterator(Map<String, ?> source) {
+			this.levels.addFirst(new Level(source.entrySet().iterator(), 0, -1));
+		}
+
+		@Override
+		public boolean hasNext() {
+
+			if (this.next == null) {
+				this.next = advance();
+			}
+			return this.next != null;
+		}
+
+		@Override
+		public Entry<String, @Nullable Object> next() {
+
+			Entry<String, @Nullable Object> next = this.next != null ? this.next : advance();
+			if (next == null) {
+				throw new NoSuchElementException();
+			}
+
+			this.next = null;
+			return next;
+		}
+
+		private @Nullable Entry<String, @Nullable Object> advance() {
+
+			while (!this.levels.isEmpty()) {
+
+				Level level = this.levels.getFirst();
+				if (!level.iterator.hasNext()) {
+					this.levels.removeFirst();
+					continue;
+				}
+
+				this.buffer.setLength(level.prefixLength);
+				@Nullable Object value;
+				if (level.index == -1) {
+
+					Entry<?, ?> entry = (Entry<?, ?>) level.iterator.next();
+					if (StringUtils.hasText(this.buffer)) {
+						this.buffer.append('.');
+					}
+					this.buffer.append(entry.getKey());
+					value = entry.getValue();
+				} else {
+					appendIndex(this.buffer, level.index++);
+					value = level.iterator.next();
+				}
+
+				if (value instanceof Iterable<?> iterable) {
+					this.levels.addFirst(new Level(iterable.iterator(), this.buffer.length(), 0));
+					continue;
+				}
+
+				if (value instanceof Map<?, ?> map) {
+					this.levels.addFirst(new Level(map.entrySet().iterator(), this.buffer.length(), -1));
+					continue;
+				}
+
+				return new AbstractMap.SimpleImmutableEntry<>(this.buffer.toString(), value);
+			}
+
+			return null;
+		}
+
+	}
+
+
+	/**
+	 * Nesting level of {@link FlatteningIterator}. {@code index} is {@code -1}
+	 * for maps and the next list index for iterables.
+	 */
+	static class Level {
+
+		final Iterator<?> iterator;
+
+		final int prefixLength;
+
+		int index;
+
+		Level(Iterator<?> iterator, int prefixLength, int index) {
+			this.iterator = iterator;
+			this.prefixLength = prefixLength;
+			this.index = index;
+		}
+
 	}
 
 }
@@ -94,9 +94,7 @@ class KeystoreUtil {
 	static KeyStore createKeyStore(String keyAlias, KeySpec privateKeySpec, char[] keyPassword,
 			X509Certificate... certificates) throws GeneralSecurityException, IOException {
 		Assert.notNull(keyPassword, "keyPassword must not be null");
-		PrivateKey privateKey = (privateKeySpec instanceof RSAPrivateKeySpec
-				|| privateKeySpec instanceof PKCS8EncodedKeySpec) ? RSA_KEY_FACTORY.generatePrivate(privateKeySpec)
-						: EC_KEY_FACTORY.generatePrivate(privateKeySpec);
+		PrivateKey privateKey = getPrivateKey(privateKeySpec);
 		KeyStore keyStore = createKeyStore();
 		List<X509Certificate> certChain = new ArrayList<>();
 		Collections.addAll(certChain, certificates);
@@ -105,6 +103,17 @@ class KeystoreUtil {
 		return keyStore;
 	}
 
+	private static PrivateKey getPrivateKey(KeySpec privateKeySpec) throws GeneralSecurityException {
+
+		if (privateKeySpec instanceof PKCS8EncodedKeySpec pkcs8 && pkcs8.getAlgorithm() != null
+				&& !"RSA".equals(pkcs8.getAlgorithm())) {
+			return KeyFactory.getInstance(pkcs8.getAlgorithm()).generatePrivate(privateKeySpec);
+		}
+
+		return (privateKeySpec instanceof RSAPrivateKeySpec || privateKeySpec instanceof PKCS8EncodedKeySpec)
+				? RSA_KEY_FACTORY.generatePrivate(privateKeySpec) : EC_KEY_FACTORY.generatePrivate(privateKeySpec);
+	}
+
 	/**
 	 * Create a {@link KeyStore} containing the {@link X509Certificate certificates}
 	 * stored with as {@code cert_0, cert_1...cert_N}.
@@ -128,6 +128,35 @@ public class Policy {
 		return null;
 	}
 
+	/**
+	 * Evaluate the capabilities this policy grants on {@code path} without
+	 * contacting Vault. Rule paths may end with a glob ({@code *}) and may contain
+	 * single-segment wildcards ({@code +}). If multiple rules match, the rule with
+	 * the highest priority applies following Vault's priority matching: rules
+	 * with a later first wildcard, without a trailing glob, with fewer
+	 * {@code +} segments, with a longer path, and with a lexicographically greater
+	 * path take precedence, in that order.
+	 * @param path the path to evaluate, must not be {@literal null}.
+	 * @return the capabilities of the matching rule or {@link BuiltinCapabilities#DENY}
+	 * if no rule matches or the matching rule denies access.
+	 * @since 4.2
+	 */
+	public List<Capability> getCapabilities(String path) {
+		Assert.notNull(path, "Path must not be null");
+		String pathToUse = path.startsWith("/") ? path.substring(1) : path;
+		Rule match = null;
+		for (Rule rule : this.rules) {
+			if (rule.matches(pathToUse) && (match == null || Rule.comparePriority(rule, match) > 0)) {
+				match = rule;
+			}
+		}
+		if (match == null || match.getCapabilities().isEmpty()
+				|| match.getCapabilities().contains(BuiltinCapabilities.DENY)) {
+			return List.of(BuiltinCapabilities.DENY);
+		}
+		return match.getCapabilities();
+	}
+
 	@Override
 	public boolean equals(Object o) {
 		if (this == o)
@@ -269,6 +298,67 @@ public class Policy {
 			return this.deniedParameters;
 		}
 
+		/**
+		 * Check whether this rule applies to the given {@code path}. The rule path
+		 * may end with a glob ({@code *}) and may contain single-segment wildcards
+		 * ({@code +}).
+		 * @param path the path to match, must not be {@literal null}.
+		 * @return {@literal true} if this rule applies to {@code path}.
+		 * @since 4.2
+		 */
+		public boolean matches(String path) {
+			Assert.notNull(path, "Path must not be null");
+			String pattern = this.path.startsWith("/") ? this.path.substring(1) : this.path;
+			int offset = 0;
+			for (int i = 0; i < pattern.length(); i++) {
+				char c = pattern.charAt(i);
+				if (c == '*' && i == pattern.length() - 1) {
+					return true;
+				}
+				if (c == '+' && (i == 0 || pattern.charAt(i - 1) == '/')
+						&& (i == pattern.length() - 1 || pattern.charAt(i + 1) == '/')) {
+					while (offset < path.length() && path.charAt(offset) != '/') {
+						offset++;
+					}
+					continue;
+				}
+				if (offset >= path.length() || path.charAt(offset) != c) {
+					return false;
+				}
+				offset++;
+			}
+			return offset == path.length();
+		}
+
+		/**
+		 * Compare the priority of two matching rules.
+		 * @return a positive number if {@code left} takes precedence over
+		 * {@code right}.
+		 */
+		static int comparePriority(Rule left, Rule right) {
+			int result = Integer.compare(firstWildcard(left.path), firstWildcard(right.path));
+			if (result == 0) {
+				result = Boolean.compare(!left.path.endsWith("*"), !right.path.endsWith("*"));
+			}
+			if (result == 0) {
+				result = Long.compare(right.path.chars().filter(c -> c == '+').count(),
+						left.path.chars().filter(c -> c == '+').count());
+			}
+			if (result == 0) {
+				result = Integer.compare(left.path.length(), right.path.length());
+			}
+			return result != 0 ? result : left.path.compareTo(right.path);
+		}
+
+		private static int firstWildcard(String path) {
+			int glob = path.indexOf('*');
+			int plus = path.indexOf('+');
+			if (glob == -1 && plus == -1) {
+				return Integer.MAX_VALUE;
+			}
+			return glob == -1 ? plus : plus == -1 ? glob : Math.min(glob, plus);
+		}
+
 		@Override
 		public boolean equals(Object o) {
 			if (this == o)
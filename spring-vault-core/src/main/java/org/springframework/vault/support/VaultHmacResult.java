@@ -0,0 +1,58 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.vault.support;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.vault.VaultException;
+
+/**
+ * Holds the response from a batch HMAC operation and provides methods to access
+ * the result.
+ *
+ * @author Mark Paluch
+ * @since 4.2
+ */
+public class VaultHmacResult extends AbstractResult<Hmac> {
+
+	private final @Nullable Hmac hmac;
+
+
+	/**
+	 * Create {@link VaultHmacResult} for a successful HMAC operation.
+	 * @param hmac must not be {@literal null}.
+	 */
+	public VaultHmacResult(Hmac hmac) {
+		this.hmac = hmac;
+	}
+
+	/**
+	 * Create {@link VaultHmacResult} for an error during the HMAC operation.
+	 * @param exception must not be {@literal null}.
+	 */
+	public VaultHmacResult(VaultException exception) {
+		super(exception);
+		this.hmac = null;
+	}
+
+
+	@Override
+	protected @Nullable Hmac get0() {
+		return this.hmac;
+	}
+
+}
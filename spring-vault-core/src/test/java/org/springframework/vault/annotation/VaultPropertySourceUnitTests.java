@@ -16,18 +16,34 @@
 
 package org.springframework.vault.annotation;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
+import org.springframework.beans.factory.BeanCreationException;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.beans.factory.support.BeanDefinitionRegistryPostProcessor;
 import org.springframework.context.annotation.AnnotationConfigApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.PropertySource;
 import org.springframework.vault.core.VaultTemplate;
+import org.springframework.vault.core.env.VaultPropertySourceNotFoundException;
 import org.springframework.vault.core.lease.SecretLeaseContainer;
 import org.springframework.vault.core.lease.domain.RequestedSecret;
+import org.springframework.vault.support.VaultResponse;
 
+import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 import static org.springframework.vault.annotation.VaultPropertySource.Renewal.*;
 
@@ -79,9 +95,122 @@ class VaultPropertySourceUnitTests {
 
 	}
 
+	@Configuration
+	static class ConcurrentConfig {
+
+		@Bean
+		VaultTemplate vaultTemplate() {
+
+			VaultTemplate template = Mockito.mock(VaultTemplate.class);
+			CountDownLatch latch = new CountDownLatch(3);
+
+			when(template.read(anyString())).thenAnswer(invocation -> {
+
+				String path = invocation.getArgument(0);
+				if (path.startsWith("sys/")) {
+					return null;
+				}
+
+				latch.countDown();
+				if (!latch.await(5, TimeUnit.SECONDS)) {
+					throw new IllegalStateException("Property sources not loaded concurrently");
+				}
+
+				VaultResponse response = new VaultResponse();
+				response.setData(Map.of(path, "value"));
+				return response;
+			});
+
+			return template;
+		}
+
+	}
+
+	@Configuration
+	static class SequentialConfig {
+
+		static final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+
+		@Bean
+		VaultTemplate vaultTemplate() {
+
+			VaultTemplate template = Mockito.mock(VaultTemplate.class);
+			when(template.read(anyString())).thenAnswer(invocation -> {
+				threads.add(Thread.currentThread());
+				return null;
+			});
+
+			return template;
+		}
+
+	}
+
+	@Configuration
+	static class DependsOnConfig {
+
+		static final List<String> events = new CopyOnWriteArrayList<>();
+
+		@Bean
+		static BeanDefinitionRegistryPostProcessor dependsOnPostProcessor() {
+
+			return new BeanDefinitionRegistryPostProcessor() {
+
+				@Override
+				public void postProcessBeanDefinitionRegistry(BeanDefinitionRegistry registry) {
+					for (String beanName : registry.getBeanDefinitionNames()) {
+						if (beanName.startsWith("vaultPropertySource#")) {
+							registry.getBeanDefinition(beanName).setDependsOn("initializer");
+						}
+					}
+				}
+
+				@Override
+				public void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory) {
+				}
+
+			};
+		}
+
+		@Bean
+		static Object initializer() {
+			events.add("initializer");
+			return new Object();
+		}
+
+		@Bean
+		VaultTemplate vaultTemplate() {
+
+			VaultTemplate template = Mockito.mock(VaultTemplate.class);
+			when(template.read(anyString())).thenAnswer(invocation -> {
+
+				String path = invocation.getArgument(0);
+				if (!path.startsWith("sys/")) {
+					events.add(path);
+				}
+				return null;
+			});
+
+			return template;
+		}
+
+	}
+
+	@Configuration
+	@VaultPropertySource({ "foo", "bar", "baz" })
+	static class MultiplePathsConfig {
+
+	}
+
+	@Configuration
+	@VaultPropertySource(value = { "foo", "bar" }, ignoreSecretNotFound = false)
+	static class RequiredPathsConfig {
+
+	}
+
 	@AfterEach
 	void tearDown() {
 		System.clearProperty("my_property");
+		System.clearProperty(VaultPropertySourceRegistrar.PARALLELISM_PROPERTY);
 	}
 
 	@Test
@@ -139,6 +268,60 @@ class VaultPropertySourceUnitTests {
 		verifyNoMoreInteractions(templateMock);
 	}
 
+	@Test
+	void shouldLoadPropertySourcesConcurrently() {
+
+		AnnotationConfigApplicationContext ctx = new AnnotationConfigApplicationContext();
+
+		ctx.register(ConcurrentConfig.class);
+		ctx.register(MultiplePathsConfig.class);
+		ctx.refresh();
+
+		assertThat(ctx.getEnvironment().getProperty("foo")).isEqualTo("value");
+		assertThat(ctx.getEnvironment().getProperty("baz")).isEqualTo("value");
+		assertThat(ctx.getEnvironment().getPropertySources().stream().map(PropertySource::getName))
+				.containsSubsequence("foo", "bar", "baz");
+	}
+
+	@Test
+	void shouldLoadPropertySourcesSequentially() {
+
+		System.setProperty(VaultPropertySourceRegistrar.PARALLELISM_PROPERTY, "1");
+		AnnotationConfigApplicationContext ctx = new AnnotationConfigApplicationContext();
+
+		ctx.register(SequentialConfig.class);
+		ctx.register(MultiplePathsConfig.class);
+		ctx.refresh();
+
+		assertThat(SequentialConfig.threads).containsOnly(Thread.currentThread());
+	}
+
+	@Test
+	void shouldInitializeDependenciesBeforeLoadingPropertySourcesConcurrently() {
+
+		AnnotationConfigApplicationContext ctx = new AnnotationConfigApplicationContext();
+
+		ctx.register(DependsOnConfig.class);
+		ctx.register(MultiplePathsConfig.class);
+		ctx.refresh();
+
+		assertThat(DependsOnConfig.events).hasSize(4).startsWith("initializer");
+		assertThat(ctx.getBeanFactory().getDependentBeans("initializer")).contains("vaultPropertySource#0",
+				"vaultPropertySource#1", "vaultPropertySource#2");
+	}
+
+	@Test
+	void shouldFailFastForRequiredPropertySources() {
+
+		AnnotationConfigApplicationContext ctx = new AnnotationConfigApplicationContext();
+
+		ctx.register(Config.class);
+		ctx.register(RequiredPathsConfig.class);
+
+		assertThatExceptionOfType(BeanCreationException.class).isThrownBy(ctx::refresh)
+				.withRootCauseInstanceOf(VaultPropertySourceNotFoundException.class);
+	}
+
 	@Test
 	void shouldResolvePlaceholderForRenewablePropertySource() throws Exception {
 
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.vault.client;
+
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.vault.VaultException;
+import org.springframework.vault.client.AdaptiveConcurrencyLimiter.Permit;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for {@link AdaptiveConcurrencyLimiter}.
+ *
+ * @author Mark Paluch
+ */
+class AdaptiveConcurrencyLimiterUnitTests {
+
+	MockWebServer mockWebServer = new MockWebServer();
+
+	VaultEndpoint endpoint = new VaultEndpoint();
+
+	AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter();
+
+	@BeforeEach
+	void before() throws IOException {
+		mockWebServer.start();
+		endpoint.setHost("localhost");
+		endpoint.setPort(mockWebServer.getPort());
+		endpoint.setScheme("http");
+	}
+
+	@AfterEach
+	void after() throws IOException {
+		mockWebServer.shutdown();
+	}
+
+	@Test
+	void shouldDetermineMount() {
+
+		HttpHeaders headers = new HttpHeaders();
+		assertThat(AdaptiveConcurrencyLimiter.getMount(URI.create("http://localhost/v1/secret/data/foo"), headers))
+			.isEqualTo("secret");
+
+		headers.set(VaultHttpHeaders.VAULT_NAMESPACE, "tenant-a");
+		assertThat(AdaptiveConcurrencyLimiter.getMount(URI.create("http://localhost/v1/sys"), headers))
+			.isEqualTo("tenant-a/sys");
+	}
+
+	@Test
+	void shouldQueueAndRejectRequestsExceedingLimit() throws Exception {
+
+		limiter.setInitialLimit(1);
+		limiter.setMaxQueueSize(1);
+
+		Permit permit = limiter.acquire("secret").get();
+		CompletableFuture<Permit> queued = limiter.acquire("secret");
+
+		assertThat(queued).isNotDone();
+		assertThat(limiter.acquire("secret")).failsWithin(Duration.ZERO)
+			.withThrowableOfType(Exception.class)
+			.withCauseInstanceOf(VaultException.class);
+		assertThat(limiter.acquire("database")).isCompleted();
+
+		permit.onResponse(200, new HttpHeaders(), 0);
+		assertThat(queued).isCompleted();
+	}
+
+	@Test
+	void shouldRejectRequestsWaitingTooLong() throws Exception {
+
+		limiter.setInitialLimit(1);
+		limiter.setMaxWait(Duration.ofMillis(10));
+
+		limiter.acquire("secret").get();
+
+		assertThat(limiter.acquire("secret")).failsWithin(Duration.ofSeconds(1))
+			.withThrowableOfType(Exception.class)
+			.withCauseInstanceOf(VaultException.class);
+	}
+
+	@Test
+	void shouldNotPauseMountLongerThanMaxWait() throws Exception {
+
+		limiter.setMaxWait(Duration.ofMillis(50));
+
+		HttpHeaders headers = new HttpHeaders();
+		headers.set(HttpHeaders.RETRY_AFTER, "3600");
+
+		Permit permit = limiter.acquire("secret").get();
+		assertThat(permit.onResponse(429, headers, 0)).isFalse();
+
+		assertThat(limiter.acquire("secret")).succeedsWithin(Duration.ofSeconds(1));
+	}
+
+	@Test
+	void shouldDecreaseLimitAndRetryTooManyRequests() throws InterruptedException {
+
+		mockWebServer.enqueue(jsonResponse(429).setHeader(HttpHeaders.RETRY_AFTER, "0"));
+		mockWebServer.enqueue(jsonResponse(200).setBody("{\"data\": {}}"));
+
+		VaultClient client = VaultClient.builder()
+				.endpoint(endpoint)
+				.requestFactory(new SimpleClientHttpRequestFactory())
+				.concurrencyLimiter(limiter)
+				.build();
+
+		client.get().path("secret/data/foo").retrieve().body();
+
+		assertThat(mockWebServer.getRequestCount()).isEqualTo(2);
+		assertThat(limiter.getLimit("secret")).isEqualTo(10);
+	}
+
+	@Test
+	void shouldReturnResponseAfterRetriesExhausted() {
+
+		limiter.setMaxRetries(0);
+		mockWebServer.enqueue(jsonResponse(503).setBody("{\"errors\": [\"Vault is sealed\"]}"));
+
+		VaultClient client = VaultClient.builder()
+				.endpoint(endpoint)
+				.requestFactory(new SimpleClientHttpRequestFactory())
+				.concurrencyLimiter(limiter)
+				.build();
+
+		assertThatExceptionOfType(VaultClientResponseException.class)
+			.isThrownBy(() -> client.get().path("secret/data/foo").retrieve().body());
+		assertThat(mockWebServer.getRequestCount()).isEqualTo(1);
+	}
+
+	@Test
+	void shouldDecreaseLimitAndRetryTooManyRequestsReactive() {
+
+		mockWebServer.enqueue(jsonResponse(429).setHeader(HttpHeaders.RETRY_AFTER, "0"));
+		mockWebServer.enqueue(jsonResponse(200).setBody("{\"data\": {}}"));
+
+		ReactiveVaultClient client = ReactiveVaultClient.builder().endpoint(endpoint).concurrencyLimiter(limiter).build();
+
+		client.post().path("secret/data/foo").bodyValue(Map.of()).retrieve().toBodilessEntity().block();
+
+		assertThat(mockWebServer.getRequestCount()).isEqualTo(2);
+		assertThat(limiter.getLimit("secret")).isEqualTo(10);
+	}
+
+	static MockResponse jsonResponse(int status) {
+		return new MockResponse().setResponseCode(status)
+				.setHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE);
+	}
+
+}
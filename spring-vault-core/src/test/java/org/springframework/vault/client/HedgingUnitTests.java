@@ -0,0 +1,273 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.vault.client;
+
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import okhttp3.mockwebserver.SocketPolicy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for hedged requests through {@link HedgingPolicy}.
+ *
+ * @author Mark Paluch
+ */
+class HedgingUnitTests {
+
+	static final ParameterizedTypeReference<Map<String, Object>> MAP_TYPE = new ParameterizedTypeReference<>() {};
+
+	MockWebServer primary = new MockWebServer();
+
+	MockWebServer alternate = new MockWebServer();
+
+	VaultEndpointProvider endpointProvider;
+
+	HedgingPolicy policy = new HedgingPolicy();
+
+	@BeforeEach
+	void before() throws IOException {
+
+		primary.start();
+		alternate.start();
+
+		VaultEndpoint primaryEndpoint = endpoint(primary);
+		VaultEndpoint alternateEndpoint = endpoint(alternate);
+		endpointProvider = new VaultEndpointProvider() {
+
+			@Override
+			public VaultEndpoint getVaultEndpoint() {
+				return primaryEndpoint;
+			}
+
+			@Override
+			public VaultEndpoint getAlternateEndpoint(URI uri) {
+				return alternateEndpoint;
+			}
+		};
+
+		policy.setDelay(Duration.ofMillis(50));
+		policy.setBudget(1);
+	}
+
+	@AfterEach
+	void after() throws IOException {
+		primary.shutdown();
+		alternate.shutdown();
+	}
+
+	@Test
+	void shouldUseAdaptiveDelay() {
+
+		HedgingPolicy policy = new HedgingPolicy();
+		assertThat(policy.getDelay()).isEqualTo(HedgingPolicy.INITIAL_DELAY);
+
+		for (int i = 1; i <= 128; i++) {
+			policy.recordResponseTime(Duration.ofMillis(i).toNanos());
+		}
+
+		assertThat(policy.getDelay()).isEqualTo(Duration.ofMillis(122));
+	}
+
+	@Test
+	void shouldCapHedgesByBudget() {
+
+		HedgingPolicy policy = new HedgingPolicy();
+
+		for (int i = 0; i < 9; i++) {
+			policy.onRequest();
+		}
+		assertThat(policy.tryHedge()).isFalse();
+
+		policy.onRequest();
+		assertThat(policy.tryHedge()).isTrue();
+		assertThat(policy.tryHedge()).isFalse();
+	}
+
+	@Test
+	void shouldHedgeSlowRequest() throws InterruptedException {
+
+		primary.enqueue(jsonResponse("primary").setHeadersDelay(2, TimeUnit.SECONDS));
+		alternate.enqueue(jsonResponse("alternate"));
+
+		VaultClient client = VaultClient.builder()
+				.endpoint(endpointProvider)
+				.requestFactory(new SimpleClientHttpRequestFactory())
+				.hedging(policy)
+				.build();
+
+		Map<String, Object> body = client.get().path("secret/data/foo").retrieve().body(MAP_TYPE);
+
+		assertThat(body).containsEntry("data", Map.of("node", "alternate"));
+		assertThat(alternate.takeRequest().getPath()).isEqualTo("/v1/secret/data/foo");
+	}
+
+	@Test
+	void shouldUseHedgedResponseIfPrimaryFails() {
+
+		primary.setDispatcher(failAfter(Duration.ofMillis(300)));
+		alternate.enqueue(jsonResponse("alternate").setHeadersDelay(600, TimeUnit.MILLISECONDS));
+
+		VaultClient client = VaultClient.builder()
+				.endpoint(endpointProvider)
+				.requestFactory(new SimpleClientHttpRequestFactory())
+				.hedging(policy)
+				.build();
+
+		Map<String, Object> body = client.get().path("secret/data/foo").retrieve().body(MAP_TYPE);
+
+		assertThat(body).containsEntry("data", Map.of("node", "alternate"));
+	}
+
+	@Test
+	void shouldRunPrimaryRequestOnCallingThreadIfExecutorRejects() {
+
+		policy.setExecutor(command -> {
+			throw new RejectedExecutionException();
+		});
+		primary.enqueue(jsonResponse("primary"));
+
+		VaultClient client = VaultClient.builder()
+				.endpoint(endpointProvider)
+				.requestFactory(new SimpleClientHttpRequestFactory())
+				.hedging(policy)
+				.build();
+
+		Map<String, Object> body = client.get().path("secret/data/foo").retrieve().body(MAP_TYPE);
+
+		assertThat(body).containsEntry("data", Map.of("node", "primary"));
+		assertThat(alternate.getRequestCount()).isZero();
+	}
+
+	@Test
+	void shouldNotHedgeFastOrNonHedgeableRequests() {
+
+		primary.enqueue(jsonResponse("primary"));
+		primary.enqueue(jsonResponse("primary").setHeadersDelay(1, TimeUnit.SECONDS));
+
+		VaultClient client = VaultClient.builder()
+				.endpoint(endpointProvider)
+				.requestFactory(new SimpleClientHttpRequestFactory())
+				.hedging(policy)
+				.build();
+
+		policy.setDelay(Duration.ofSeconds(30));
+		client.get().path("secret/data/foo").retrieve().body();
+
+		policy.setDelay(Duration.ofMillis(50));
+		client.post().path("secret/data/foo").body(Map.of()).retrieve().body();
+
+		assertThat(primary.getRequestCount()).isEqualTo(2);
+		assertThat(alternate.getRequestCount()).isZero();
+	}
+
+	@Test
+	void shouldHedgeConfiguredRequests() {
+
+		policy.setHedgeable((method, uri) -> HttpMethod.POST.equals(method) && uri.getPath().contains("/decrypt/"));
+		primary.enqueue(jsonResponse("primary").setHeadersDelay(2, TimeUnit.SECONDS));
+		alternate.enqueue(jsonResponse("alternate"));
+
+		VaultClient client = VaultClient.builder()
+				.endpoint(endpointProvider)
+				.requestFactory(new SimpleClientHttpRequestFactory())
+				.hedging(policy)
+				.build();
+
+		Map<String, Object> body = client.post()
+				.path("transit/decrypt/my-key")
+				.body(Map.of())
+				.retrieve()
+				.body(MAP_TYPE);
+
+		assertThat(body).containsEntry("data", Map.of("node", "alternate"));
+	}
+
+	@Test
+	void shouldHedgeSlowRequestReactive() {
+
+		primary.enqueue(jsonResponse("primary").setHeadersDelay(2, TimeUnit.SECONDS));
+		alternate.enqueue(jsonResponse("alternate"));
+
+		ReactiveVaultClient client = ReactiveVaultClient.builder().endpoint(endpointProvider).hedging(policy).build();
+
+		Map<String, Object> body = client.get().path("secret/data/foo").retrieve().bodyToMono(MAP_TYPE).block();
+
+		assertThat(body).containsEntry("data", Map.of("node", "alternate"));
+		assertThat(alternate.getRequestCount()).isOne();
+	}
+
+	@Test
+	void shouldUseHedgedResponseIfPrimaryFailsReactive() {
+
+		primary.setDispatcher(failAfter(Duration.ofMillis(300)));
+		alternate.enqueue(jsonResponse("alternate").setHeadersDelay(600, TimeUnit.MILLISECONDS));
+
+		ReactiveVaultClient client = ReactiveVaultClient.builder().endpoint(endpointProvider).hedging(policy).build();
+
+		Map<String, Object> body = client.get().path("secret/data/foo").retrieve().bodyToMono(MAP_TYPE).block();
+
+		assertThat(body).containsEntry("data", Map.of("node", "alternate"));
+	}
+
+	/**
+	 * Dispatcher closing the connection {@code delay} after receiving a request.
+	 */
+	static Dispatcher failAfter(Duration delay) {
+
+		return new Dispatcher() {
+
+			@Override
+			public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+				Thread.sleep(delay.toMillis());
+				return new MockResponse().setSocketPolicy(SocketPolicy.DISCONNECT_AFTER_REQUEST);
+			}
+		};
+	}
+
+	static VaultEndpoint endpoint(MockWebServer server) {
+
+		VaultEndpoint endpoint = VaultEndpoint.create("localhost", server.getPort());
+		endpoint.setScheme("http");
+		return endpoint;
+	}
+
+	static MockResponse jsonResponse(String node) {
+		return new MockResponse().setResponseCode(200)
+				.setHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+				.setBody("{\"data\": {\"node\": \"%s\"}}".formatted(node));
+	}
+
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.vault.client;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Map;
+
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for read-your-writes consistency through {@link VaultIndexState}.
+ *
+ * @author Mark Paluch
+ */
+class ReadYourWritesUnitTests {
+
+	MockWebServer mockWebServer = new MockWebServer();
+
+	VaultEndpoint endpoint = new VaultEndpoint();
+
+	VaultIndexState indexState = new VaultIndexState();
+
+	@BeforeEach
+	void before() throws IOException {
+		mockWebServer.start();
+		endpoint.setHost("localhost");
+		endpoint.setPort(mockWebServer.getPort());
+		endpoint.setScheme("http");
+	}
+
+	@AfterEach
+	void after() throws IOException {
+		mockWebServer.shutdown();
+	}
+
+	@Test
+	void shouldRetainMostRecentStatePerCluster() {
+
+		indexState.update(state("cluster-a", 10, 5));
+		indexState.update(state("cluster-b", 1, 1));
+		indexState.update(state("cluster-a", 12, 5));
+		indexState.update(state("cluster-a", 11, 5));
+
+		assertThat(indexState.getStates()).containsExactly(state("cluster-a", 12, 5), state("cluster-b", 1, 1));
+	}
+
+	@Test
+	void shouldRetainUnparseableState() {
+
+		indexState.update("foo");
+		indexState.update("bar");
+
+		assertThat(indexState.getStates()).containsOnly("bar");
+	}
+
+	@Test
+	void shouldSendIndexAndRetryPreconditionFailed() throws InterruptedException {
+
+		String state = state("cluster-a", 10, 5);
+		mockWebServer.enqueue(jsonResponse(204).setHeader(VaultHttpHeaders.VAULT_INDEX, state));
+		mockWebServer.enqueue(jsonResponse(412).setBody("{\"errors\": []}"));
+		mockWebServer.enqueue(jsonResponse(200).setBody("{\"data\": {}}"));
+
+		VaultClient client = VaultClient.builder()
+				.endpoint(endpoint)
+				.requestFactory(new SimpleClientHttpRequestFactory())
+				.readYourWrites(indexState)
+				.build();
+
+		client.post().path("secret/data/foo").body(Map.of()).retrieve().toBodilessEntity();
+		client.get().path("secret/data/foo").retrieve().body();
+
+		RecordedRequest write = mockWebServer.takeRequest();
+		assertThat(write.getHeader(VaultHttpHeaders.VAULT_INDEX)).isNull();
+
+		assertThat(mockWebServer.takeRequest().getHeader(VaultHttpHeaders.VAULT_INDEX)).isEqualTo(state);
+		assertThat(mockWebServer.takeRequest().getHeader(VaultHttpHeaders.VAULT_INDEX)).isEqualTo(state);
+		assertThat(mockWebServer.getRequestCount()).isEqualTo(3);
+	}
+
+	@Test
+	void shouldSendIndexAndRetryPreconditionFailedReactive() throws InterruptedException {
+
+		String state = state("cluster-a", 10, 5);
+		mockWebServer.enqueue(jsonResponse(204).setHeader(VaultHttpHeaders.VAULT_INDEX, state));
+		mockWebServer.enqueue(jsonResponse(412).setBody("{\"errors\": []}"));
+		mockWebServer.enqueue(jsonResponse(200).setBody("{\"data\": {}}"));
+
+		ReactiveVaultClient client = ReactiveVaultClient.builder().endpoint(endpoint).readYourWrites(indexState).build();
+
+		client.post().path("secret/data/foo").bodyValue(Map.of()).retrieve().toBodilessEntity().block();
+		client.get().path("secret/data/foo").retrieve().body().block();
+
+		assertThat(mockWebServer.takeRequest().getHeader(VaultHttpHeaders.VAULT_INDEX)).isNull();
+		assertThat(mockWebServer.takeRequest().getHeader(VaultHttpHeaders.VAULT_INDEX)).isEqualTo(state);
+		assertThat(mockWebServer.takeRequest().getHeader(VaultHttpHeaders.VAULT_INDEX)).isEqualTo(state);
+		assertThat(mockWebServer.getRequestCount()).isEqualTo(3);
+	}
+
+	static String state(String clusterId, long localIndex, long replicatedIndex) {
+		return Base64.getEncoder()
+				.encodeToString("v1:%s:%d:%d:abcd".formatted(clusterId, localIndex, replicatedIndex)
+						.getBytes(StandardCharsets.UTF_8));
+	}
+
+	static MockResponse jsonResponse(int status) {
+		return new MockResponse().setResponseCode(status)
+				.setHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE);
+	}
+
+}
@@ -0,0 +1,287 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.vault.client;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.test.StepVerifier;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for streaming response decoding through
+ * {@link VaultClient.ResponseSpec#forEachKey},
+ * {@link VaultClient.ResponseSpec#bodyStream()} and
+ * {@link ReactiveVaultClient.ResponseSpec#keys()}.
+ *
+ * @author Mark Paluch
+ */
+class StreamingResponseUnitTests {
+
+	static final String LIST_RESPONSE = """
+			{"request_id": "1", "lease_id": "", "wrap_info": null,
+			 "data": {"key_info": {"foo": {"x": [1, 2]}}, "keys": ["foo", "bar/", "baz"]}, "warnings": null}""";
+
+	static final String READ_RESPONSE = """
+			{"request_id": "1", "lease_duration": 10, "metadata": {"version": 1},
+			 "data": {"username": "walter", "password": "secret", "ignored": {"nested": true}}}""";
+
+	MockWebServer mockWebServer = new MockWebServer();
+
+	VaultEndpoint endpoint = new VaultEndpoint();
+
+	VaultClient client;
+
+	ReactiveVaultClient reactiveClient;
+
+	@BeforeEach
+	void before() throws IOException {
+		mockWebServer.start();
+		endpoint.setHost("localhost");
+		endpoint.setPort(mockWebServer.getPort());
+		endpoint.setScheme("http");
+		client = VaultClient.builder().endpoint(endpoint).requestFactory(new SimpleClientHttpRequestFactory()).build();
+		reactiveClient = ReactiveVaultClient.builder().endpoint(endpoint).build();
+	}
+
+	@AfterEach
+	void after() throws IOException {
+		mockWebServer.shutdown();
+	}
+
+	@Test
+	void shouldStreamKeys() {
+
+		mockWebServer.enqueue(jsonResponse(200).setBody(LIST_RESPONSE));
+
+		List<String> keys = new ArrayList<>();
+		client.get().path("secret/metadata?list=true").retrieve().forEachKey(keys::add);
+
+		assertThat(keys).containsExactly("foo", "bar/", "baz");
+	}
+
+	@Test
+	void shouldNotEmitKeysForResponseWithoutKeys() {
+
+		mockWebServer.enqueue(jsonResponse(200).setBody("{\"data\": {}}"));
+
+		List<String> keys = new ArrayList<>();
+		client.get().path("secret/metadata?list=true").retrieve().forEachKey(keys::add);
+
+		assertThat(keys).isEmpty();
+	}
+
+	@Test
+	void shouldReportErrorWhenStreamingKeys() {
+
+		mockWebServer.enqueue(jsonResponse(403).setBody("{\"errors\": [\"permission denied\"]}"));
+
+		assertThatExceptionOfType(VaultClientResponseException.class)
+				.isThrownBy(() -> client.get().path("secret/metadata?list=true").retrieve().forEachKey(it -> {
+				}))
+				.withMessageContaining("permission denied")
+				.satisfies(e -> assertThat(e.getStatusCode().value()).isEqualTo(403));
+	}
+
+	@Test
+	void shouldBindData() {
+
+		mockWebServer.enqueue(jsonResponse(200).setBody(READ_RESPONSE));
+
+		Credentials credentials = client.get().path("secret/foo").retrieve().data(Credentials.class);
+
+		assertThat(credentials).isEqualTo(new Credentials("walter", "secret"));
+	}
+
+	@Test
+	void shouldReturnNullForAbsentData() {
+
+		mockWebServer.enqueue(jsonResponse(200).setBody("{\"data\": null}"));
+
+		assertThat(client.get().path("secret/foo").retrieve().data(Credentials.class)).isNull();
+	}
+
+	@Test
+	void shouldStreamBody() throws IOException {
+
+		mockWebServer.enqueue(new MockResponse().setBody("hello-world"));
+
+		try (InputStream body = client.get().path("pki/crl").retrieve().bodyStream()) {
+			assertThat(body).isNotNull().hasContent("hello-world");
+		}
+	}
+
+	@Test
+	void shouldReturnNullForEmptyBodyStream() {
+
+		mockWebServer.enqueue(new MockResponse().setResponseCode(204));
+
+		assertThat(client.get().path("pki/crl").retrieve().bodyStream()).isNull();
+	}
+
+	@Test
+	void shouldExchangeStatusHeadersAndBody() {
+
+		mockWebServer.enqueue(new MockResponse().setHeader(HttpHeaders.ETAG, "\"v1\"").setBody("hello-world"));
+
+		String result = client.get()
+				.path("pki/crl")
+				.retrieve()
+				.exchange((statusCode, headers, body) -> statusCode.value() + " " + headers.getETag() + " "
+						+ new String(body.readAllBytes(), StandardCharsets.US_ASCII));
+
+		assertThat(result).isEqualTo("200 \"v1\" hello-world");
+	}
+
+	@Test
+	void shouldReportErrorWhenStreamingBody() {
+
+		mockWebServer.enqueue(jsonResponse(403).setBody("{\"errors\": [\"permission denied\"]}"));
+
+		assertThatExceptionOfType(VaultClientResponseException.class)
+				.isThrownBy(() -> client.get().path("pki/crl").retrieve().bodyStream())
+				.withMessageContaining("permission denied");
+	}
+
+	@Test
+	void shouldStreamKeysReactive() {
+
+		mockWebServer.enqueue(jsonResponse(200).setBody(LIST_RESPONSE));
+
+		reactiveClient.get()
+				.path("secret/metadata?list=true")
+				.retrieve()
+				.keys()
+				.as(StepVerifier::create)
+				.expectNext("foo", "bar/", "baz")
+				.verifyComplete();
+	}
+
+	@Test
+	void shouldReportErrorWhenStreamingKeysReactive() {
+
+		mockWebServer.enqueue(jsonResponse(404).setBody("{\"errors\": []}"));
+
+		reactiveClient.get()
+				.path("secret/metadata?list=true")
+				.retrieve()
+				.keys()
+				.as(StepVerifier::create)
+				.verifyError(VaultClientResponseException.class);
+	}
+
+	@Test
+	void shouldBindDataReactive() {
+
+		mockWebServer.enqueue(jsonResponse(200).setBody(READ_RESPONSE));
+
+		reactiveClient.get()
+				.path("secret/foo")
+				.retrieve()
+				.data(Credentials.class)
+				.as(StepVerifier::create)
+				.expectNext(new Credentials("walter", "secret"))
+				.verifyComplete();
+	}
+
+	@Test
+	void shouldStreamKeysInChunksReactive() {
+
+		mockWebServer.enqueue(jsonResponse(200).setChunkedBody(LIST_RESPONSE, 7));
+
+		reactiveClient.get()
+				.path("secret/metadata?list=true")
+				.retrieve()
+				.keys()
+				.as(StepVerifier::create)
+				.expectNext("foo", "bar/", "baz")
+				.verifyComplete();
+	}
+
+	@Test
+	void shouldStreamKeysBeyondMaxInMemorySizeReactive() {
+
+		int count = 200_000;
+		StringBuilder body = new StringBuilder("{\"data\": {\"keys\": [");
+		for (int i = 0; i < count; i++) {
+			body.append(i == 0 ? "" : ",").append("\"key-").append(i).append('"');
+		}
+		body.append("]}}");
+		assertThat(body.length()).isGreaterThan(256 * 1024);
+
+		mockWebServer.enqueue(jsonResponse(200).setBody(body.toString()));
+
+		reactiveClient.get()
+				.path("secret/metadata?list=true")
+				.retrieve()
+				.keys()
+				.as(StepVerifier::create)
+				.expectNext("key-0")
+				.expectNextCount(count - 2)
+				.expectNext("key-" + (count - 1))
+				.verifyComplete();
+	}
+
+	@Test
+	void shouldBindDataInChunksReactive() {
+
+		mockWebServer.enqueue(jsonResponse(200).setChunkedBody(READ_RESPONSE, 5));
+
+		reactiveClient.get()
+				.path("secret/foo")
+				.retrieve()
+				.data(Credentials.class)
+				.as(StepVerifier::create)
+				.expectNext(new Credentials("walter", "secret"))
+				.verifyComplete();
+	}
+
+	@Test
+	void shouldCompleteEmptyForAbsentDataReactive() {
+
+		mockWebServer.enqueue(jsonResponse(200).setBody("{\"data\": null}"));
+
+		reactiveClient.get()
+				.path("secret/foo")
+				.retrieve()
+				.data(Credentials.class)
+				.as(StepVerifier::create)
+				.verifyComplete();
+	}
+
+	static MockResponse jsonResponse(int status) {
+		return new MockResponse().setResponseCode(status)
+				.setHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE);
+	}
+
+	record Credentials(String username, String password) {
+	}
+
+}
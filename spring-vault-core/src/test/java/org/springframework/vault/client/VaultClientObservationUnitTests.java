@@ -0,0 +1,225 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.vault.client;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Map;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.tck.TestObservationRegistry;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+
+import static io.micrometer.observation.tck.TestObservationRegistryAssert.*;
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for Vault client observations.
+ *
+ * @author Mark Paluch
+ */
+class VaultClientObservationUnitTests {
+
+	MockWebServer mockWebServer = new MockWebServer();
+
+	TestObservationRegistry observationRegistry = TestObservationRegistry.create();
+
+	VaultEndpoint endpoint = new VaultEndpoint();
+
+	@BeforeEach
+	void before() throws IOException {
+		mockWebServer.start();
+		endpoint.setHost("localhost");
+		endpoint.setPort(mockWebServer.getPort());
+		endpoint.setScheme("http");
+	}
+
+	@AfterEach
+	void after() throws IOException {
+		mockWebServer.shutdown();
+	}
+
+	@Test
+	void shouldRecordObservation() {
+
+		mockWebServer.enqueue(new MockResponse().setResponseCode(200)
+				.setHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+				.setBody("{\"data\": {\"key\": \"value\"}}"));
+
+		VaultClient client = VaultClient.builder()
+				.endpoint(endpoint)
+				.requestFactory(new SimpleClientHttpRequestFactory())
+				.observationRegistry(observationRegistry)
+				.build();
+
+		client.get().path("secret/data/my-app/config").namespace("tenant-1").retrieve().body();
+
+		assertThat(observationRegistry).hasObservationWithNameEqualTo("vault.client.requests")
+				.that()
+				.hasBeenStarted()
+				.hasBeenStopped()
+				.hasLowCardinalityKeyValue("method", "GET")
+				.hasLowCardinalityKeyValue("vault.path", "secret/data/{path}")
+				.hasLowCardinalityKeyValue("status", "200")
+				.hasLowCardinalityKeyValue("vault.namespace", "tenant-1")
+				.hasLowCardinalityKeyValue("outcome", "SUCCESS")
+				.hasHighCardinalityKeyValue("vault.response.size", "26");
+	}
+
+	@Test
+	void shouldRecordErrorObservation() {
+
+		mockWebServer.enqueue(new MockResponse().setResponseCode(403)
+				.setHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+				.setBody("{\"errors\": [\"permission denied\"]}"));
+
+		VaultClient client = VaultClient.builder()
+				.endpoint(endpoint)
+				.requestFactory(new SimpleClientHttpRequestFactory())
+				.observationRegistry(observationRegistry)
+				.build();
+
+		assertThatExceptionOfType(VaultClientResponseException.class)
+				.isThrownBy(() -> client.post().path("transit/encrypt/my-key").body(Map.of()).retrieve().body());
+
+		assertThat(observationRegistry).hasObservationWithNameEqualTo("vault.client.requests")
+				.that()
+				.hasBeenStopped()
+				.hasLowCardinalityKeyValue("method", "POST")
+				.hasLowCardinalityKeyValue("vault.path", "transit/encrypt/{path}")
+				.hasLowCardinalityKeyValue("status", "403")
+				.hasLowCardinalityKeyValue("vault.namespace", "none")
+				.hasLowCardinalityKeyValue("outcome", "CLIENT_ERROR")
+				.hasHighCardinalityKeyValue("vault.request.size", "2");
+	}
+
+	@Test
+	void shouldRecordReactiveObservation() {
+
+		mockWebServer.enqueue(new MockResponse().setResponseCode(200)
+				.setHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+				.setBody("{}"));
+
+		ReactiveVaultClient client = ReactiveVaultClient.builder()
+				.endpoint(endpoint)
+				.observationRegistry(observationRegistry)
+				.build();
+
+		client.get().path("sys/health").retrieve().body().block();
+
+		assertThat(observationRegistry).hasObservationWithNameEqualTo("vault.client.requests")
+				.that()
+				.hasBeenStopped()
+				.hasLowCardinalityKeyValue("method", "GET")
+				.hasLowCardinalityKeyValue("vault.path", "sys/health")
+				.hasLowCardinalityKeyValue("status", "200");
+	}
+
+	@Test
+	void shouldCountReactiveRequestAndResponseBytes() {
+
+		mockWebServer.enqueue(new MockResponse().setResponseCode(200)
+				.setHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+				.setChunkedBody("{\"data\": {\"key\": \"value\"}}", 8));
+
+		ReactiveVaultClient client = ReactiveVaultClient.builder()
+				.endpoint(endpoint)
+				.observationRegistry(observationRegistry)
+				.build();
+
+		client.post().path("transit/encrypt/my-key").bodyValue(Map.of("plaintext", "Zm9v")).retrieve().body().block();
+
+		assertThat(observationRegistry).hasObservationWithNameEqualTo("vault.client.requests")
+				.that()
+				.hasBeenStopped()
+				.hasHighCardinalityKeyValue("vault.request.size", "20")
+				.hasHighCardinalityKeyValue("vault.response.size", "26");
+	}
+
+	@Test
+	void shouldRecordMeters() {
+
+		mockWebServer.enqueue(new MockResponse().setResponseCode(200)
+				.setHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+				.setBody("{}"));
+
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+		observationRegistry.observationConfig()
+				.observationHandler(new VaultClientMeterObservationHandler(meterRegistry));
+
+		VaultClient client = VaultClient.builder()
+				.endpoint(endpoint)
+				.requestFactory(new SimpleClientHttpRequestFactory())
+				.observationRegistry(observationRegistry)
+				.build();
+
+		client.get().path("secret/data/foo").retrieve().body();
+
+		assertThat(meterRegistry.get("vault.client.requests.response.size").summary().totalAmount()).isEqualTo(2);
+		assertThat(meterRegistry.get("vault.client.requests.response.latency")
+				.tag("vault.path", "secret/data/{path}")
+				.timer()
+				.count()).isOne();
+	}
+
+	@Test
+	void shouldNotRecordWithoutRegistry() {
+
+		mockWebServer.enqueue(new MockResponse().setResponseCode(200)
+				.setHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+				.setBody("{}"));
+
+		VaultClient client = VaultClient.builder()
+				.endpoint(endpoint)
+				.requestFactory(new SimpleClientHttpRequestFactory())
+				.build();
+
+		client.get().path("secret/data/foo").retrieve().body();
+
+		assertThat(observationRegistry).doesNotHaveAnyObservation();
+	}
+
+	@ParameterizedTest
+	@CsvSource({ "/v1/secret/data/my/nested/secret, secret/data/{path}", "/v1/secret/my-secret, secret/{path}",
+			"/v1/secret, secret", "/v1/transit/keys/my-key/rotate, transit/keys/{path}",
+			"/v1/auth/approle/login, auth/approle/login", "/v1/auth/token/lookup-self, auth/token/{path}",
+			"/v1/sys/leases/renew, sys/leases/{path}", "/v1/sys/health, sys/health",
+			"/v1/pki/issue/my-role, pki/issue/{path}", "/v1/, /" })
+	void shouldNormalizePath(String path, String expected) {
+
+		VaultClientObservationContext context = new VaultClientObservationContext(HttpMethod.GET,
+				URI.create("https://localhost:8200" + path), null);
+		context.setStatusCode(HttpStatus.OK);
+
+		assertThat(new DefaultVaultClientObservationConvention().getLowCardinalityKeyValues(context))
+				.contains(KeyValue.of("vault.path", expected));
+	}
+
+}
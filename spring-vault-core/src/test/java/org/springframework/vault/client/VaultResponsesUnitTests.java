@@ -16,12 +16,16 @@
 
 package org.springframework.vault.client;
 
+import java.lang.reflect.ParameterizedType;
 import java.nio.charset.StandardCharsets;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpStatus;
 import org.springframework.vault.VaultException;
+import org.springframework.vault.support.VaultResponseSupport;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.HttpStatusCodeException;
 
@@ -73,4 +77,17 @@ class VaultResponsesUnitTests {
 				.hasCause(cause);
 	}
 
+	@Test
+	void shouldReturnCanonicalTypeReference() {
+
+		ParameterizedTypeReference<VaultResponseSupport<Map>> reference = VaultResponses.getTypeReference(Map.class);
+		ParameterizedTypeReference<VaultResponseSupport<Map>> declared = new ParameterizedTypeReference<>() {
+		};
+
+		assertThat(VaultResponses.getTypeReference(Map.class)).isSameAs(reference);
+		assertThat(reference).isEqualTo(declared).hasSameHashCodeAs(declared);
+		assertThat(declared).isEqualTo(reference);
+		assertThat(((ParameterizedType) reference.getType()).getActualTypeArguments()).containsExactly(Map.class);
+	}
+
 }
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.vault.core;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import org.springframework.vault.VaultException;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for {@link BatchUtil}.
+ *
+ * @author Mark Paluch
+ */
+class BatchUtilUnitTests {
+
+	ExecutorService executor = Executors.newFixedThreadPool(4);
+
+	List<Integer> items = IntStream.range(0, 10).boxed().toList();
+
+	@AfterEach
+	void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	void shouldPartition() {
+
+		assertThat(BatchUtil.partition(items, 4)).containsExactly(List.of(0, 1, 2, 3), List.of(4, 5, 6, 7),
+				List.of(8, 9));
+	}
+
+	@Test
+	void shouldNotSplitSmallBatches() {
+
+		List<List<Integer>> chunks = new CopyOnWriteArrayList<>();
+
+		List<Integer> result = BatchUtil.execute(items, 10, 4, executor, chunk -> {
+			chunks.add(chunk);
+			return chunk;
+		});
+
+		assertThat(result).isEqualTo(items);
+		assertThat(chunks).hasSize(1);
+	}
+
+	@Test
+	void shouldExecuteChunksSequentially() {
+
+		List<List<Integer>> chunks = new CopyOnWriteArrayList<>();
+
+		List<Integer> result = BatchUtil.execute(items, 3, 4, null, chunk -> {
+			chunks.add(chunk);
+			return chunk.stream().map(it -> it * 2).toList();
+		});
+
+		assertThat(result).containsExactly(0, 2, 4, 6, 8, 10, 12, 14, 16, 18);
+		assertThat(chunks).hasSize(4);
+	}
+
+	@Test
+	void shouldExecuteChunksConcurrentlyRetainingOrder() {
+
+		AtomicInteger active = new AtomicInteger();
+		AtomicInteger maxActive = new AtomicInteger();
+
+		List<Integer> result = BatchUtil.execute(items, 1, 2, executor, chunk -> {
+			maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+			try {
+				Thread.sleep(10 - chunk.get(0));
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			active.decrementAndGet();
+			return chunk;
+		});
+
+		assertThat(result).isEqualTo(items);
+		assertThat(maxActive.get()).isLessThanOrEqualTo(2);
+	}
+
+	@Test
+	void shouldExecuteRejectedChunksOnCallingThread() {
+
+		Executor saturated = command -> {
+			throw new RejectedExecutionException();
+		};
+		Set<Thread> threads = ConcurrentHashMap.newKeySet();
+
+		List<Integer> result = BatchUtil.execute(items, 1, 4, saturated, chunk -> {
+			threads.add(Thread.currentThread());
+			return chunk;
+		});
+
+		assertThat(result).isEqualTo(items);
+		assertThat(threads).containsOnly(Thread.currentThread());
+	}
+
+	@Test
+	void shouldPropagateChunkFailure() {
+
+		assertThatExceptionOfType(VaultException.class).isThrownBy(() -> BatchUtil.execute(items, 2, 4, executor,
+				chunk -> {
+					if (chunk.contains(5)) {
+						throw new VaultException("Failed");
+					}
+					return chunk;
+				}));
+	}
+
+	@Test
+	void shouldEmitReactiveResultsInOrder() {
+
+		BatchUtil.execute(items, 3, 4,
+				chunk -> Flux.fromIterable(chunk).delayElements(Duration.ofMillis(10 - chunk.get(0))))
+			.collectList()
+			.as(StepVerifier::create)
+			.assertNext(actual -> assertThat(actual).isEqualTo(items))
+			.verifyComplete();
+	}
+
+}
@@ -0,0 +1,337 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.vault.core;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import org.springframework.vault.authentication.SessionManager;
+import org.springframework.vault.core.VaultKeyValueOperationsSupport.KeyValueBackend;
+import org.springframework.vault.support.VaultResponse;
+import org.springframework.vault.support.VaultToken;
+import org.springframework.vault.support.Versioned;
+import org.springframework.vault.support.Versioned.Version;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link CachingVaultOperations} and
+ * {@link CachingReactiveVaultOperations}.
+ *
+ * @author Mark Paluch
+ */
+@ExtendWith(MockitoExtension.class)
+class CachingVaultOperationsUnitTests {
+
+	@Mock
+	VaultOperations vaultOperations;
+
+	@Mock
+	VaultKeyValueOperations keyValueOperations;
+
+	@Mock
+	VaultVersionedKeyValueOperations versionedOperations;
+
+	@Mock
+	VaultKeyValueMetadataOperations metadataOperations;
+
+	@Mock
+	ReactiveVaultOperations reactiveVaultOperations;
+
+	@Mock
+	ReactiveVaultKeyValueOperations reactiveKeyValueOperations;
+
+	@Mock
+	ReactiveVaultVersionedKeyValueOperations reactiveVersionedOperations;
+
+	AtomicLong clock = new AtomicLong();
+
+	CachingVaultOperations cachingOperations;
+
+	@BeforeEach
+	void before() {
+		cachingOperations = new CachingVaultOperations(vaultOperations, new ResponseCache(clock::get), null, null);
+	}
+
+	@Test
+	void shouldCacheRead() {
+
+		VaultResponse response = response(0);
+		when(vaultOperations.read("secret/foo")).thenReturn(response);
+
+		assertThat(cachingOperations.read("secret/foo")).isSameAs(response);
+		assertThat(cachingOperations.read("secret/foo")).isSameAs(response);
+
+		verify(vaultOperations).read("secret/foo");
+	}
+
+	@Test
+	void shouldNotCacheAbsentSecret() {
+
+		cachingOperations.read("secret/foo");
+		cachingOperations.read("secret/foo");
+
+		verify(vaultOperations, times(2)).read("secret/foo");
+	}
+
+	@Test
+	void shouldExpireAfterLeaseDuration() {
+
+		when(vaultOperations.read("secret/foo")).thenReturn(response(10));
+
+		cachingOperations.read("secret/foo");
+		clock.addAndGet(Duration.ofSeconds(9).toNanos());
+		cachingOperations.read("secret/foo");
+		verify(vaultOperations).read("secret/foo");
+
+		clock.addAndGet(Duration.ofSeconds(1).toNanos());
+		cachingOperations.read("secret/foo");
+		verify(vaultOperations, times(2)).read("secret/foo");
+	}
+
+	@Test
+	void shouldCapLeaseDurationToMaximumTtl() {
+
+		cachingOperations.setMaximumTtl(Duration.ofSeconds(5));
+		when(vaultOperations.read("secret/foo")).thenReturn(response(Duration.ofDays(32).toSeconds()));
+
+		cachingOperations.read("secret/foo");
+		clock.addAndGet(Duration.ofSeconds(5).toNanos());
+		cachingOperations.read("secret/foo");
+
+		verify(vaultOperations, times(2)).read("secret/foo");
+	}
+
+	@Test
+	void shouldInvalidateOnWriteAndDelete() {
+
+		when(vaultOperations.read("secret/foo")).thenReturn(response(0));
+
+		cachingOperations.read("secret/foo");
+		cachingOperations.write("secret/foo", Map.of());
+		cachingOperations.read("secret/foo");
+		cachingOperations.delete("secret/foo");
+		cachingOperations.read("secret/foo");
+
+		verify(vaultOperations, times(3)).read("secret/foo");
+	}
+
+	@Test
+	void shouldEvictLeastRecentlyUsed() {
+
+		cachingOperations.setMaximumSize(1);
+		when(vaultOperations.read(anyString())).thenReturn(response(0));
+
+		cachingOperations.read("secret/foo");
+		cachingOperations.read("secret/bar");
+		cachingOperations.read("secret/foo");
+
+		verify(vaultOperations, times(2)).read("secret/foo");
+	}
+
+	@Test
+	void shouldRefreshInBackground() {
+
+		cachingOperations.setRefreshExecutor(Runnable::run);
+		VaultResponse initial = response(0);
+		VaultResponse refreshed = response(0);
+		when(vaultOperations.read("secret/foo")).thenReturn(initial, refreshed);
+
+		cachingOperations.read("secret/foo");
+		clock.addAndGet(Duration.ofSeconds(25).toNanos());
+
+		assertThat(cachingOperations.read("secret/foo")).isSameAs(initial);
+		assertThat(cachingOperations.read("secret/foo")).isSameAs(refreshed);
+		verify(vaultOperations, times(2)).read("secret/foo");
+	}
+
+	@Test
+	void shouldCacheKeyValueGet() {
+
+		when(vaultOperations.opsForKeyValue("secret", KeyValueBackend.KV_2)).thenReturn(keyValueOperations);
+		when(keyValueOperations.get("foo")).thenReturn(response(0));
+
+		VaultKeyValueOperations operations = cachingOperations.opsForKeyValue("secret", KeyValueBackend.KV_2);
+		operations.get("foo");
+		operations.get("foo");
+		operations.put("foo", Map.of());
+		operations.get("foo");
+
+		verify(keyValueOperations, times(2)).get("foo");
+	}
+
+	@Test
+	void shouldInvalidateKeyValueOnVaultPathWrite() {
+
+		when(vaultOperations.opsForKeyValue("secret", KeyValueBackend.KV_2)).thenReturn(keyValueOperations);
+		when(keyValueOperations.getApiVersion()).thenReturn(KeyValueBackend.KV_2);
+		when(keyValueOperations.get("foo")).thenReturn(response(0));
+
+		VaultKeyValueOperations operations = cachingOperations.opsForKeyValue("secret", KeyValueBackend.KV_2);
+		operations.get("foo");
+		cachingOperations.write("secret/data/foo", Map.of());
+		operations.get("foo");
+		cachingOperations.delete("secret/metadata/foo");
+		operations.get("foo");
+		operations.get("foo");
+
+		verify(keyValueOperations, times(3)).get("foo");
+	}
+
+	@Test
+	void shouldInvalidateKeyValueOnVersionedWrite() {
+
+		when(vaultOperations.opsForKeyValue("secret", KeyValueBackend.KV_2)).thenReturn(keyValueOperations);
+		when(vaultOperations.opsForVersionedKeyValue("secret")).thenReturn(versionedOperations);
+		when(versionedOperations.opsForKeyValueMetadata()).thenReturn(metadataOperations);
+		when(keyValueOperations.getApiVersion()).thenReturn(KeyValueBackend.KV_2);
+		when(keyValueOperations.get("foo")).thenReturn(response(0));
+
+		VaultKeyValueOperations operations = cachingOperations.opsForKeyValue("secret", KeyValueBackend.KV_2);
+		VaultVersionedKeyValueOperations versioned = cachingOperations.opsForVersionedKeyValue("secret");
+
+		operations.get("foo");
+		operations.get("foo");
+		versioned.put("foo", Map.of());
+		operations.get("foo");
+		versioned.destroy("foo", Version.from(1));
+		operations.get("foo");
+		versioned.opsForKeyValueMetadata().delete("foo");
+		operations.get("foo");
+		versioned.get("bar");
+		operations.get("foo");
+
+		verify(keyValueOperations, times(4)).get("foo");
+		verify(versionedOperations).put("foo", Map.of());
+		verify(versionedOperations).destroy("foo", Version.from(1));
+		verify(metadataOperations).delete("foo");
+	}
+
+	@Test
+	void shouldInvalidateReactiveKeyValueOnVersionedWrite() {
+
+		VaultResponse response = response(0);
+		when(reactiveVaultOperations.opsForKeyValue("secret", KeyValueBackend.KV_2))
+			.thenReturn(reactiveKeyValueOperations);
+		when(reactiveVaultOperations.opsForVersionedKeyValue("secret")).thenReturn(reactiveVersionedOperations);
+		when(reactiveKeyValueOperations.getApiVersion()).thenReturn(KeyValueBackend.KV_2);
+		when(reactiveKeyValueOperations.get("foo")).thenReturn(Mono.just(response));
+		Versioned.Metadata metadata = Versioned.Metadata.builder()
+			.createdAt(Instant.EPOCH)
+			.version(Version.from(2))
+			.build();
+		when(reactiveVersionedOperations.put("foo", Map.of())).thenReturn(Mono.just(metadata));
+		when(reactiveVersionedOperations.delete("foo", Version.from(2))).thenReturn(Mono.empty());
+
+		CachingReactiveVaultOperations caching = new CachingReactiveVaultOperations(reactiveVaultOperations);
+		ReactiveVaultKeyValueOperations operations = caching.opsForKeyValue("secret", KeyValueBackend.KV_2);
+		ReactiveVaultVersionedKeyValueOperations versioned = caching.opsForVersionedKeyValue("secret");
+
+		operations.get("foo").as(StepVerifier::create).expectNext(response).verifyComplete();
+		operations.get("foo").as(StepVerifier::create).expectNext(response).verifyComplete();
+		versioned.put("foo", Map.of()).as(StepVerifier::create).expectNextCount(1).verifyComplete();
+		operations.get("foo").as(StepVerifier::create).expectNext(response).verifyComplete();
+		versioned.delete("foo", Version.from(2)).as(StepVerifier::create).verifyComplete();
+		operations.get("foo").as(StepVerifier::create).expectNext(response).verifyComplete();
+
+		verify(reactiveKeyValueOperations, times(3)).get("foo");
+	}
+
+	@Test
+	void shouldScopeEntriesToSessionToken() {
+
+		SessionManager sessionManager = mock(SessionManager.class);
+		when(sessionManager.getSessionToken()).thenReturn(VaultToken.of("foo"), VaultToken.of("bar"),
+				VaultToken.of("foo"));
+		when(vaultOperations.read("secret/foo")).thenReturn(response(0));
+
+		CachingVaultOperations operations = new CachingVaultOperations(vaultOperations, new ResponseCache(clock::get),
+				"ns1", sessionManager);
+		operations.read("secret/foo");
+		operations.read("secret/foo");
+		operations.read("secret/foo");
+
+		verify(vaultOperations, times(2)).read("secret/foo");
+	}
+
+	@Test
+	void shouldNotCacheRefreshCompletingAfterInvalidation() {
+
+		AtomicReference<Runnable> refresh = new AtomicReference<>();
+		cachingOperations.setRefreshExecutor(refresh::set);
+		when(vaultOperations.read("secret/foo")).thenReturn(response(0));
+
+		cachingOperations.read("secret/foo");
+		clock.addAndGet(Duration.ofSeconds(25).toNanos());
+		cachingOperations.read("secret/foo");
+
+		cachingOperations.evict("secret/foo");
+		refresh.get().run();
+		cachingOperations.read("secret/foo");
+
+		verify(vaultOperations, times(3)).read("secret/foo");
+	}
+
+	@Test
+	void shouldDetermineAffectedPaths() {
+
+		assertThat(ResponseCache.getAffectedPaths("/secret/foo/")).containsOnly("secret/foo");
+		assertThat(ResponseCache.getAffectedPaths("secret/metadata/foo")).containsOnly("secret/metadata/foo",
+				"secret/data/foo");
+		assertThat(ResponseCache.getAffectedPaths("secret/destroy/foo")).containsOnly("secret/destroy/foo",
+				"secret/data/foo");
+	}
+
+	@Test
+	void shouldCacheReactiveRead() {
+
+		VaultResponse response = response(0);
+		when(reactiveVaultOperations.read("secret/foo")).thenReturn(Mono.just(response));
+		when(reactiveVaultOperations.delete("secret/foo")).thenReturn(Mono.empty());
+
+		CachingReactiveVaultOperations operations = new CachingReactiveVaultOperations(reactiveVaultOperations);
+
+		operations.read("secret/foo").as(StepVerifier::create).expectNext(response).verifyComplete();
+		operations.read("secret/foo").as(StepVerifier::create).expectNext(response).verifyComplete();
+		verify(reactiveVaultOperations).read("secret/foo");
+
+		operations.delete("secret/foo").as(StepVerifier::create).verifyComplete();
+		operations.read("secret/foo").as(StepVerifier::create).expectNext(response).verifyComplete();
+		verify(reactiveVaultOperations, times(2)).read("secret/foo");
+	}
+
+	static VaultResponse response(long leaseDuration) {
+
+		VaultResponse response = new VaultResponse();
+		response.setData(Map.of("key", "value"));
+		response.setLeaseDuration(leaseDuration);
+		return response;
+	}
+
+}
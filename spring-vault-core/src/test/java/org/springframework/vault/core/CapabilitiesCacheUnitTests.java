@@ -0,0 +1,153 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.vault.core;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import org.springframework.vault.authentication.LoginToken;
+import org.springframework.vault.authentication.event.AfterLoginEvent;
+import org.springframework.vault.authentication.event.LoginTokenExpiredEvent;
+import org.springframework.vault.support.Policy;
+import org.springframework.vault.support.Policy.BuiltinCapabilities;
+import org.springframework.vault.support.Policy.Capability;
+import org.springframework.vault.support.Policy.Rule;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link CapabilitiesCache}.
+ *
+ * @author Mark Paluch
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class CapabilitiesCacheUnitTests {
+
+	@Mock
+	VaultSysOperations sysOperations;
+
+	long time;
+
+	CapabilitiesCache cache;
+
+	@BeforeEach
+	void setUp() {
+
+		when(sysOperations.getCapabilities(anyList())).thenAnswer(invocation -> {
+			List<String> paths = invocation.getArgument(0);
+			Map<String, List<Capability>> result = new java.util.LinkedHashMap<>();
+			paths.forEach(path -> result.put(path,
+					path.startsWith("secret/") ? List.of(BuiltinCapabilities.READ) : List.of(BuiltinCapabilities.DENY)));
+			return result;
+		});
+
+		cache = new CapabilitiesCache(sysOperations, () -> time);
+	}
+
+	@Test
+	void shouldQueryUncachedPathsInBatch() {
+
+		assertThat(cache.getCapabilities(List.of("secret/a", "database/creds")))
+			.containsEntry("secret/a", List.of(BuiltinCapabilities.READ))
+			.containsEntry("database/creds", List.of(BuiltinCapabilities.DENY));
+
+		assertThat(cache.getCapabilities(List.of("secret/a", "secret/b", "database/creds"))).hasSize(3);
+
+		verify(sysOperations).getCapabilities(List.of("secret/a", "database/creds"));
+		verify(sysOperations).getCapabilities(List.of("secret/b"));
+		verifyNoMoreInteractions(sysOperations);
+	}
+
+	@Test
+	void shouldCheckCapability() {
+
+		assertThat(cache.hasCapability("secret/a", BuiltinCapabilities.READ)).isTrue();
+		assertThat(cache.hasCapability("secret/a", BuiltinCapabilities.UPDATE)).isFalse();
+		assertThat(cache.hasCapability("database/creds", BuiltinCapabilities.READ)).isFalse();
+
+		verify(sysOperations, times(2)).getCapabilities(anyList());
+	}
+
+	@Test
+	void shouldExpireCachedCapabilities() {
+
+		cache.setTtl(Duration.ofNanos(10));
+
+		cache.getCapabilities("secret/a");
+		cache.getCapabilities("secret/a");
+		verify(sysOperations).getCapabilities(anyList());
+
+		time = 10;
+		cache.getCapabilities("secret/a");
+		verify(sysOperations, times(2)).getCapabilities(anyList());
+	}
+
+	@Test
+	void shouldDiscardCapabilitiesForNewToken() {
+
+		LoginToken first = LoginToken.builder().token("first").accessor("accessor-1").build();
+		LoginToken second = LoginToken.builder().token("second").accessor("accessor-2").build();
+
+		cache.getAuthenticationListener().onAuthenticationEvent(new AfterLoginEvent(first));
+		cache.getCapabilities("secret/a");
+
+		cache.getAuthenticationListener().onAuthenticationEvent(new AfterLoginEvent(first));
+		cache.getCapabilities("secret/a");
+		verify(sysOperations).getCapabilities(anyList());
+
+		cache.getAuthenticationListener().onAuthenticationEvent(new AfterLoginEvent(second));
+		cache.getCapabilities("secret/a");
+		verify(sysOperations, times(2)).getCapabilities(anyList());
+
+		cache.getAuthenticationListener().onAuthenticationEvent(new LoginTokenExpiredEvent(second));
+		cache.getCapabilities("secret/a");
+		verify(sysOperations, times(3)).getCapabilities(anyList());
+	}
+
+	@Test
+	void shouldEvaluatePolicyLocally() {
+
+		cache.setPolicy(Policy.of(Rule.builder().path("secret/*").capabilities(BuiltinCapabilities.crud()).build()));
+
+		assertThat(cache.hasCapability("secret/a", BuiltinCapabilities.UPDATE)).isTrue();
+		assertThat(cache.hasCapability("database/creds", BuiltinCapabilities.READ)).isFalse();
+
+		verifyNoInteractions(sysOperations);
+	}
+
+	@Test
+	void rootShouldGrantAllCapabilities() {
+
+		when(sysOperations.getCapabilities(anyList()))
+			.thenReturn(Map.of("sys/mounts", List.of(new VaultSysTemplate.NamedCapability("root"))));
+
+		assertThat(cache.hasCapability("sys/mounts", BuiltinCapabilities.SUDO)).isTrue();
+	}
+
+}
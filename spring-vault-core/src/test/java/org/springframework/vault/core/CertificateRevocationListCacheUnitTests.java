@@ -0,0 +1,191 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.vault.core;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Base64;
+
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import okio.Buffer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.vault.authentication.ClientAuthentication;
+import org.springframework.vault.client.VaultClient;
+import org.springframework.vault.client.VaultEndpoint;
+import org.springframework.vault.support.VaultToken;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for {@link CertificateRevocationListCache}.
+ *
+ * @author Mark Paluch
+ */
+class CertificateRevocationListCacheUnitTests {
+
+	/**
+	 * CRL number 1 revoking {@code 3A} and {@code 01767161B0}.
+	 */
+	static final String BASE_CRL = "MIH4MIGgAgEBMAoGCCqGSM49BAMCMBIxEDAOBgNVBAMMB1Rlc3QgQ0EXDTI2MTAxODIwMjE1MloXDTM2MTAxNTIwMjE1MlowLDASAgE6Fw0yNjAxMDEwMDAwMDBaMBYCBQF2cWGwFw0yNjAxMDEwMDAwMDBaoC8wLTAfBgNVHSMEGDAWgBRBvFk0rgCwPe/wy/uqLtpWyOWQijAKBgNVHRQEAwIBATAKBggqhkjOPQQDAgNHADBEAiB8ot13fXRfoKnV9Opl3nNipsDqvOUe0noqeywaIcin7QIgEd6MG3zrCrFZLRgDKih0O5uvTEkFk/NJF5fbwxJbbhA=";
+
+	/**
+	 * Delta CRL for base CRL number 1 removing {@code 3A} and revoking {@code 4B}.
+	 */
+	static final String DELTA_CRL = "MIIBEjCBuQIBATAKBggqhkjOPQQDAjASMRAwDgYDVQQDDAdUZXN0IENBFw0yNjEwMTgyMDIxNTZaFw0zNjEwMTUyMDIxNTZaMDYwIAIBOhcNMjYwMTAxMDAwMDAwWjAMMAoGA1UdFQQDCgEIMBICAUsXDTI2MDEwMjAwMDAwMFqgPjA8MB8GA1UdIwQYMBaAFEG8WTSuALA97/DL+6ou2lbI5ZCKMA0GA1UdGwEB/wQDAgEBMAoGA1UdFAQDAgECMAoGCCqGSM49BAMCA0gAMEUCIQCyDLIccWd0JT2WupfOiiJNGUO/Mqw6HPRMjsGne0tfXAIgCn5cM+gDdTy388G5XMhItYv+zVuVFrJmuQ5s483j2cQ=";
+
+	/**
+	 * CRL number 3 revoking {@code 3A}, {@code 4B} and {@code 01767161B0}.
+	 */
+	static final String NEWER_BASE_CRL = "MIIBDTCBtAIBATAKBggqhkjOPQQDAjASMRAwDgYDVQQDDAdUZXN0IENBFw0yNjEwMTgyMDIyMDNaFw0zNjEwMTUyMDIyMDNaMEAwEgIBOhcNMjYwMTAxMDAwMDAwWjASAgFLFw0yNjAxMDIwMDAwMDBaMBYCBQF2cWGwFw0yNjAxMDEwMDAwMDBaoC8wLTAfBgNVHSMEGDAWgBRBvFk0rgCwPe/wy/uqLtpWyOWQijAKBgNVHRQEAwIBAzAKBggqhkjOPQQDAgNIADBFAiEA02AbOxg7ACJbMBPgWW8pKQRu6U7964M/c1O/kKFqvv4CICR8Xo5ULfjqwXLKBGcPnE0jMbF05iEwkjHWvXI4jU/x";
+
+	/**
+	 * Delta CRL for base CRL number 3 revoking {@code 5C}.
+	 */
+	static final String NEWER_DELTA_CRL = "MIHwMIGXAgEBMAoGCCqGSM49BAMCMBIxEDAOBgNVBAMMB1Rlc3QgQ0EXDTI2MTAxODIwMjIwM1oXDTM2MTAxNTIwMjIwM1owFDASAgFcFw0yNjAxMDMwMDAwMDBaoD4wPDAfBgNVHSMEGDAWgBRBvFk0rgCwPe/wy/uqLtpWyOWQijANBgNVHRsBAf8EAwIBAzAKBgNVHRQEAwIBBDAKBggqhkjOPQQDAgNIADBFAiBZpUx/XmxvqtQu4ODZ4yLNGyfw9SoRS58m7xBHNCzgSAIhALNNcouNWesvQ4zwZ9sWvluMMw+PgKQRq1/qCiO5yhJP";
+
+	MockWebServer mockWebServer = new MockWebServer();
+
+	Instant now = Instant.parse("2026-10-19T00:00:00Z");
+
+	CertificateRevocationListCache cache;
+
+	@BeforeEach
+	void before() throws IOException {
+
+		mockWebServer.start();
+
+		VaultEndpoint endpoint = new VaultEndpoint();
+		endpoint.setHost("localhost");
+		endpoint.setPort(mockWebServer.getPort());
+		endpoint.setScheme("http");
+
+		VaultTemplate template = new VaultTemplate(VaultClient.builder().endpoint(endpoint).build(),
+				(ClientAuthentication) () -> VaultToken.of("my-token"));
+
+		cache = new CertificateRevocationListCache(template, "pki");
+		cache.setClock(Clock.fixed(now, ZoneOffset.UTC));
+	}
+
+	@AfterEach
+	void after() throws IOException {
+		mockWebServer.shutdown();
+	}
+
+	@Test
+	void shouldIndexRevokedSerialNumbers() throws Exception {
+
+		mockWebServer.enqueue(crl(BASE_CRL));
+
+		assertThat(cache.isRevoked("3a")).isTrue();
+		assertThat(cache.isRevoked("01:76:71:61:b0")).isTrue();
+		assertThat(cache.isRevoked("4b")).isFalse();
+
+		RecordedRequest request = mockWebServer.takeRequest();
+		assertThat(request.getPath()).isEqualTo("/v1/pki/crl");
+		assertThat(mockWebServer.getRequestCount()).isOne();
+	}
+
+	@Test
+	void shouldFetchCrlOnDemand() throws Exception {
+
+		mockWebServer.enqueue(crl(BASE_CRL));
+		mockWebServer.enqueue(crl(BASE_CRL));
+
+		assertThat(cache.isRevoked("3a")).isTrue();
+		assertThat(cache.getCrl().getRevokedCertificates()).hasSize(2);
+
+		assertThat(mockWebServer.getRequestCount()).isEqualTo(2);
+		assertThat(mockWebServer.takeRequest().getPath()).isEqualTo("/v1/pki/crl");
+		assertThat(mockWebServer.takeRequest().getPath()).isEqualTo("/v1/pki/crl");
+	}
+
+	@Test
+	void shouldRevalidateCrlUsingConditionalRequest() throws Exception {
+
+		mockWebServer.enqueue(crl(BASE_CRL).setHeader(HttpHeaders.ETAG, "\"v1\"")
+				.setHeader(HttpHeaders.LAST_MODIFIED, "Sun, 18 Oct 2026 20:21:52 GMT"));
+		mockWebServer.enqueue(new MockResponse().setResponseCode(304));
+
+		assertThat(cache.isRevoked("3a")).isTrue();
+
+		cache.setClock(Clock.fixed(now.plus(Duration.ofMinutes(6)), ZoneOffset.UTC));
+		assertThat(cache.isRevoked("3a")).isTrue();
+
+		mockWebServer.takeRequest();
+		RecordedRequest request = mockWebServer.takeRequest();
+		assertThat(request.getHeader(HttpHeaders.IF_NONE_MATCH)).isEqualTo("\"v1\"");
+		assertThat(request.getHeader(HttpHeaders.IF_MODIFIED_SINCE)).isEqualTo("Sun, 18 Oct 2026 20:21:52 GMT");
+	}
+
+	@Test
+	void shouldApplyDeltaCrl() throws Exception {
+
+		cache.setDeltaCrl(true);
+		mockWebServer.enqueue(crl(BASE_CRL));
+		mockWebServer.enqueue(crl(DELTA_CRL));
+
+		assertThat(cache.isRevoked("3a")).isFalse();
+		assertThat(cache.isRevoked("4b")).isTrue();
+		assertThat(cache.isRevoked("01:76:71:61:b0")).isTrue();
+
+		assertThat(mockWebServer.takeRequest().getPath()).isEqualTo("/v1/pki/crl");
+		assertThat(mockWebServer.takeRequest().getPath()).isEqualTo("/v1/pki/crl/delta");
+	}
+
+	@Test
+	void shouldRefreshBaseCrlReferencedByDeltaCrl() throws Exception {
+
+		cache.setDeltaCrl(true);
+		mockWebServer.enqueue(crl(BASE_CRL));
+		mockWebServer.enqueue(crl(NEWER_DELTA_CRL));
+		mockWebServer.enqueue(crl(NEWER_BASE_CRL));
+
+		assertThat(cache.isRevoked("4b")).isTrue();
+		assertThat(cache.isRevoked("5c")).isTrue();
+		assertThat(mockWebServer.getRequestCount()).isEqualTo(3);
+	}
+
+	@Test
+	void shouldRetainCrlIfRefreshFails() {
+
+		mockWebServer.enqueue(crl(BASE_CRL));
+		mockWebServer.enqueue(new MockResponse().setResponseCode(500));
+
+		assertThat(cache.isRevoked("3a")).isTrue();
+
+		cache.setClock(Clock.fixed(now.plus(Duration.ofMinutes(6)), ZoneOffset.UTC));
+		assertThat(cache.isRevoked("3a")).isTrue();
+		assertThat(cache.isRevoked("3a")).isTrue();
+
+		assertThat(mockWebServer.getRequestCount()).isEqualTo(2);
+	}
+
+	static MockResponse crl(String base64) {
+		return new MockResponse().setHeader(HttpHeaders.CONTENT_TYPE, "application/pkix-crl")
+				.setBody(new Buffer().write(Base64.getDecoder().decode(base64)));
+	}
+
+}
@@ -0,0 +1,248 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.vault.core;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.vault.VaultException;
+import org.springframework.vault.client.ReactiveVaultClient;
+import org.springframework.vault.client.VaultClient;
+import org.springframework.vault.client.VaultEndpoint;
+import org.springframework.vault.support.VaultHealth;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for {@link LatencyAwareVaultEndpointProvider}.
+ *
+ * @author Mark Paluch
+ */
+class LatencyAwareVaultEndpointProviderUnitTests {
+
+	static final VaultHealth ACTIVE = new VaultSysTemplate.VaultHealthImpl(true, false, false, false, null, 0, null);
+
+	static final VaultHealth PERFORMANCE_STANDBY = new VaultSysTemplate.VaultHealthImpl(true, false, true, true,
+			null, 0, null);
+
+	static final VaultHealth SEALED = new VaultSysTemplate.VaultHealthImpl(true, true, true, false, null, 0, null);
+
+	MockWebServer active = new MockWebServer();
+
+	MockWebServer standby = new MockWebServer();
+
+	VaultEndpoint activeEndpoint;
+
+	VaultEndpoint standbyEndpoint;
+
+	Map<VaultEndpoint, VaultHealth> health = new HashMap<>();
+
+	Set<VaultEndpoint> hanging = ConcurrentHashMap.newKeySet();
+
+	CountDownLatch release = new CountDownLatch(1);
+
+	LatencyAwareVaultEndpointProvider provider;
+
+	@BeforeEach
+	void before() throws IOException {
+
+		active.start();
+		standby.start();
+
+		activeEndpoint = createEndpoint(active);
+		standbyEndpoint = createEndpoint(standby);
+
+		health.put(activeEndpoint, ACTIVE);
+		health.put(standbyEndpoint, PERFORMANCE_STANDBY);
+
+		provider = new LatencyAwareVaultEndpointProvider(List.of(activeEndpoint, standbyEndpoint),
+				endpoint -> new StubSysOperations(endpoint));
+	}
+
+	@AfterEach
+	void after() throws Exception {
+		release.countDown();
+		provider.destroy();
+		active.shutdown();
+		standby.shutdown();
+	}
+
+	@Test
+	void shouldResolveActiveAndStandbyEndpoints() {
+
+		provider.checkHealth();
+
+		assertThat(provider.getVaultEndpoint()).isEqualTo(activeEndpoint);
+		assertThat(provider.getReadEndpoint()).isEqualTo(standbyEndpoint);
+		assertThat(provider.getLatency(activeEndpoint)).isNotNull();
+	}
+
+	@Test
+	void shouldFallBackToActiveNodeForReads() {
+
+		health.put(standbyEndpoint, SEALED);
+		provider.checkHealth();
+
+		assertThat(provider.isAvailable(standbyEndpoint)).isFalse();
+		assertThat(provider.getReadEndpoint()).isEqualTo(activeEndpoint);
+	}
+
+	@Test
+	void shouldEjectFailingNode() {
+
+		provider.checkHealth();
+		health.remove(activeEndpoint);
+		provider.checkHealth();
+
+		assertThat(provider.isAvailable(activeEndpoint)).isFalse();
+		assertThat(provider.getVaultEndpoint()).isEqualTo(standbyEndpoint);
+
+		health.put(activeEndpoint, ACTIVE);
+		provider.checkHealth();
+
+		assertThat(provider.getVaultEndpoint()).isEqualTo(activeEndpoint);
+	}
+
+	@Test
+	void shouldEjectHangingNodeWithoutDelayingOtherNodes() {
+
+		provider.setHealthCheckTimeout(Duration.ofMillis(200));
+		provider.checkHealth();
+
+		hanging.add(activeEndpoint);
+		health.put(standbyEndpoint, SEALED);
+
+		long start = System.nanoTime();
+		provider.checkHealth();
+
+		assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(2));
+		assertThat(provider.isAvailable(activeEndpoint)).isFalse();
+		assertThat(provider.isAvailable(standbyEndpoint)).isFalse();
+	}
+
+	@Test
+	void shouldRouteReadsToStandby() throws InterruptedException {
+
+		provider.checkHealth();
+		standby.enqueue(jsonResponse("{\"data\": {}}"));
+		active.enqueue(jsonResponse("{\"data\": {}}"));
+
+		VaultClient client = VaultClient.builder()
+				.requestFactory(new SimpleClientHttpRequestFactory())
+				.apply(provider::configure)
+				.build();
+
+		client.get().path("secret/data/foo").retrieve().body();
+		client.post().path("secret/data/foo").body(Map.of()).retrieve().body();
+
+		assertThat(standby.takeRequest().getMethod()).isEqualTo("GET");
+		assertThat(active.takeRequest().getMethod()).isEqualTo("POST");
+		assertThat(provider.getLatency(standbyEndpoint)).isNotNull();
+	}
+
+	@Test
+	void shouldRouteReactiveReadsToStandby() throws InterruptedException {
+
+		provider.checkHealth();
+		standby.enqueue(jsonResponse("{\"data\": {}}"));
+		active.enqueue(jsonResponse("{\"data\": {}}"));
+
+		ReactiveVaultClient client = ReactiveVaultClient.builder().apply(provider::configure).build();
+
+		client.get().path("secret/data/foo").retrieve().body().block();
+		client.post().path("secret/data/foo").bodyValue(Map.of()).retrieve().body().block();
+
+		assertThat(standby.takeRequest().getMethod()).isEqualTo("GET");
+		assertThat(active.takeRequest().getMethod()).isEqualTo("POST");
+	}
+
+	@Test
+	void shouldEjectNodeOnIoError() throws IOException {
+
+		provider.checkHealth();
+		standby.shutdown();
+
+		VaultClient client = VaultClient.builder()
+				.requestFactory(new SimpleClientHttpRequestFactory())
+				.apply(provider::configure)
+				.build();
+
+		assertThatException().isThrownBy(() -> client.get().path("secret/data/foo").retrieve().body());
+		assertThat(provider.isAvailable(standbyEndpoint)).isFalse();
+		assertThat(provider.getReadEndpoint()).isEqualTo(activeEndpoint);
+	}
+
+	static VaultEndpoint createEndpoint(MockWebServer server) {
+
+		VaultEndpoint endpoint = VaultEndpoint.create("localhost", server.getPort());
+		endpoint.setScheme("http");
+		return endpoint;
+	}
+
+	static MockResponse jsonResponse(String body) {
+		return new MockResponse().setResponseCode(200)
+				.setHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+				.setBody(body);
+	}
+
+
+	class StubSysOperations extends VaultSysTemplate {
+
+		private final VaultEndpoint endpoint;
+
+		StubSysOperations(VaultEndpoint endpoint) {
+			super(new VaultTemplate(endpoint));
+			this.endpoint = endpoint;
+		}
+
+		@Override
+		public VaultHealth health() {
+
+			if (hanging.contains(endpoint)) {
+				try {
+					release.await(10, TimeUnit.SECONDS);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+
+			VaultHealth vaultHealth = health.get(endpoint);
+			if (vaultHealth == null) {
+				throw new VaultException("Connection refused");
+			}
+			return vaultHealth;
+		}
+
+	}
+
+}
@@ -0,0 +1,243 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.vault.core;
+
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.spec.MGF1ParameterSpec;
+import java.security.spec.PSSParameterSpec;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import org.springframework.vault.support.*;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link LocalVerifyingVaultTransitOperations}.
+ *
+ * @author Mark Paluch
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class LocalVerifyingVaultTransitOperationsUnitTests {
+
+	@Mock
+	VaultTransitOperations delegate;
+
+	@Mock
+	VaultTransitKey transitKey;
+
+	long time;
+
+	LocalVerifyingVaultTransitOperations operations;
+
+	@BeforeEach
+	void setUp() {
+		when(delegate.getKey("my-key")).thenReturn(transitKey);
+		operations = new LocalVerifyingVaultTransitOperations(delegate, () -> time);
+	}
+
+	@Test
+	void shouldVerifyEcdsaSignatureLocally() throws GeneralSecurityException {
+
+		KeyPair keyPair = generateKeyPair("EC", 256);
+		mockKey("ecdsa-p256", Map.of("1", Map.of("public_key", pem(keyPair.getPublic()))));
+
+		Signature signature = sign("SHA256withECDSA", keyPair.getPrivate(), 1, "hello-world");
+
+		assertThat(operations.verify("my-key", Plaintext.of("hello-world"), signature)).isTrue();
+		assertThat(operations.verify("my-key", Plaintext.of("tampered"), signature)).isFalse();
+
+		verify(delegate).getKey("my-key");
+		verify(delegate, never()).verify(anyString(), any(VaultSignatureVerificationRequest.class));
+	}
+
+	@Test
+	void shouldVerifyEd25519SignatureLocally() throws GeneralSecurityException {
+
+		KeyPair keyPair = KeyPairGenerator.getInstance("Ed25519").generateKeyPair();
+		byte[] encoded = keyPair.getPublic().getEncoded();
+		byte[] raw = Arrays.copyOfRange(encoded, encoded.length - 32, encoded.length);
+		mockKey("ed25519", Map.of("1", Map.of("public_key", Base64.getEncoder().encodeToString(raw))));
+
+		Signature signature = sign("Ed25519", keyPair.getPrivate(), 1, "hello-world");
+
+		assertThat(operations.verify("my-key", Plaintext.of("hello-world"), signature)).isTrue();
+		verify(delegate, never()).verify(anyString(), any(VaultSignatureVerificationRequest.class));
+	}
+
+	@Test
+	void shouldVerifyRsaPssSignatureLocally() throws GeneralSecurityException {
+
+		KeyPair keyPair = generateKeyPair("RSA", 2048);
+		mockKey("rsa-2048", Map.of("1", Map.of("public_key", pem(keyPair.getPublic()))));
+
+		java.security.Signature signer = java.security.Signature.getInstance("RSASSA-PSS");
+		signer.setParameter(new PSSParameterSpec("SHA-256", "MGF1", MGF1ParameterSpec.SHA256, 256 - 32 - 2, 1));
+		signer.initSign(keyPair.getPrivate());
+		signer.update("hello-world".getBytes());
+		Signature signature = Signature.of("vault:v1:" + Base64.getEncoder().encodeToString(signer.sign()));
+
+		assertThat(operations.verify("my-key", Plaintext.of("hello-world"), signature)).isTrue();
+		verify(delegate, never()).verify(anyString(), any(VaultSignatureVerificationRequest.class));
+	}
+
+	@Test
+	void shouldConfirmInvalidRsaPssSignatureWithVault() throws GeneralSecurityException {
+
+		KeyPair keyPair = generateKeyPair("RSA", 2048);
+		mockKey("rsa-2048", Map.of("1", Map.of("public_key", pem(keyPair.getPublic()))));
+		when(delegate.verify(eq("my-key"), any(VaultSignatureVerificationRequest.class)))
+				.thenReturn(SignatureValidation.invalid());
+
+		Signature signature = sign("SHA256withRSA", keyPair.getPrivate(), 1, "hello-world");
+
+		assertThat(operations.verify("my-key", Plaintext.of("hello-world"), signature)).isFalse();
+		verify(delegate).verify(eq("my-key"), any(VaultSignatureVerificationRequest.class));
+	}
+
+	@Test
+	void shouldRefreshKeysForNewerVersion() throws GeneralSecurityException {
+
+		KeyPair v1 = generateKeyPair("EC", 256);
+		KeyPair v2 = generateKeyPair("EC", 256);
+		mockKey("ecdsa-p256", Map.of("1", Map.of("public_key", pem(v1.getPublic()))));
+
+		assertThat(operations.verify("my-key", Plaintext.of("hello-world"),
+				sign("SHA256withECDSA", v1.getPrivate(), 1, "hello-world")))
+			.isTrue();
+
+		when(transitKey.getLatestVersion()).thenReturn(2);
+		when(transitKey.getKeys()).thenReturn(Map.of("1", Map.of("public_key", pem(v1.getPublic())), "2",
+				Map.of("public_key", pem(v2.getPublic()))));
+
+		assertThat(operations.verify("my-key", Plaintext.of("hello-world"),
+				sign("SHA256withECDSA", v2.getPrivate(), 2, "hello-world")))
+			.isTrue();
+
+		verify(delegate, times(2)).getKey("my-key");
+		verify(delegate, never()).verify(anyString(), any(VaultSignatureVerificationRequest.class));
+	}
+
+	@Test
+	void shouldRefreshKeysAfterTtl() throws GeneralSecurityException {
+
+		KeyPair keyPair = generateKeyPair("EC", 256);
+		mockKey("ecdsa-p256", Map.of("1", Map.of("public_key", pem(keyPair.getPublic()))));
+		operations.setKeyTtl(Duration.ofNanos(10));
+
+		Signature signature = sign("SHA256withECDSA", keyPair.getPrivate(), 1, "hello-world");
+
+		operations.verify("my-key", Plaintext.of("hello-world"), signature);
+		operations.verify("my-key", Plaintext.of("hello-world"), signature);
+		verify(delegate).getKey("my-key");
+
+		time = 10;
+		operations.verify("my-key", Plaintext.of("hello-world"), signature);
+		verify(delegate, times(2)).getKey("my-key");
+	}
+
+	@Test
+	void shouldDelegateHmacVerification() {
+
+		when(delegate.verify(eq("my-key"), any(VaultSignatureVerificationRequest.class)))
+				.thenReturn(SignatureValidation.valid());
+
+		VaultSignatureVerificationRequest request = VaultSignatureVerificationRequest.create(Plaintext.of("hello"),
+				Hmac.of("vault:v1:aGVsbG8="));
+
+		assertThat(operations.verify("my-key", request)).isEqualTo(SignatureValidation.valid());
+		verify(delegate, never()).getKey(anyString());
+	}
+
+	@Test
+	void shouldDelegateForUnsupportedKeyType() {
+
+		mockKey("aes256-gcm96", Map.of("1", 1234));
+		when(delegate.verify(eq("my-key"), any(VaultSignatureVerificationRequest.class)))
+				.thenReturn(SignatureValidation.valid());
+
+		assertThat(operations.verify("my-key", Plaintext.of("hello"), Signature.of("vault:v1:aGVsbG8="))).isTrue();
+		verify(delegate).verify(eq("my-key"), any(VaultSignatureVerificationRequest.class));
+	}
+
+	@Test
+	void shouldVerifyBatchLocallyAndDelegateRemaining() throws GeneralSecurityException {
+
+		KeyPair keyPair = generateKeyPair("EC", 256);
+		mockKey("ecdsa-p256", Map.of("1", Map.of("public_key", pem(keyPair.getPublic()))));
+
+		VaultSignatureVerificationRequest local = VaultSignatureVerificationRequest.create(Plaintext.of("one"),
+				sign("SHA256withECDSA", keyPair.getPrivate(), 1, "one"));
+		VaultSignatureVerificationRequest hmac = VaultSignatureVerificationRequest.create(Plaintext.of("two"),
+				Hmac.of("vault:v1:aGVsbG8="));
+
+		when(delegate.verify("my-key", List.of(hmac)))
+				.thenReturn(List.of(new VaultSignatureVerificationResult(SignatureValidation.invalid())));
+
+		List<VaultSignatureVerificationResult> results = operations.verify("my-key", List.of(local, hmac));
+
+		assertThat(results).extracting(VaultSignatureVerificationResult::get)
+				.containsExactly(SignatureValidation.valid(), SignatureValidation.invalid());
+	}
+
+	private void mockKey(String type, Map<String, Object> keys) {
+		when(transitKey.getType()).thenReturn(type);
+		when(transitKey.getLatestVersion()).thenReturn(1);
+		when(transitKey.getMinDecryptionVersion()).thenReturn(1);
+		when(transitKey.getKeys()).thenReturn(keys);
+	}
+
+	private static KeyPair generateKeyPair(String algorithm, int size) throws GeneralSecurityException {
+		KeyPairGenerator generator = KeyPairGenerator.getInstance(algorithm);
+		generator.initialize(size);
+		return generator.generateKeyPair();
+	}
+
+	private static Signature sign(String algorithm, PrivateKey privateKey, int version, String plaintext)
+			throws GeneralSecurityException {
+
+		java.security.Signature signer = java.security.Signature.getInstance(algorithm);
+		signer.initSign(privateKey);
+		signer.update(plaintext.getBytes());
+
+		return Signature.of("vault:v%d:%s".formatted(version, Base64.getEncoder().encodeToString(signer.sign())));
+	}
+
+	private static String pem(PublicKey publicKey) {
+		return "-----BEGIN PUBLIC KEY-----\n" + Base64.getMimeEncoder().encodeToString(publicKey.getEncoded())
+				+ "\n-----END PUBLIC KEY-----\n";
+	}
+
+}
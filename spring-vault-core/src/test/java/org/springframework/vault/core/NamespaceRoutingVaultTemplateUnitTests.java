@@ -0,0 +1,171 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.vault.core;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.vault.authentication.SessionManager;
+import org.springframework.vault.client.VaultClient;
+import org.springframework.vault.client.VaultEndpoint;
+import org.springframework.vault.client.VaultHttpHeaders;
+import org.springframework.vault.support.VaultToken;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for {@link NamespaceRoutingVaultTemplate}.
+ *
+ * @author Mark Paluch
+ */
+class NamespaceRoutingVaultTemplateUnitTests {
+
+	MockWebServer mockWebServer = new MockWebServer();
+
+	List<String> destroyed = new ArrayList<>();
+
+	long time;
+
+	NamespaceRoutingVaultTemplate template;
+
+	@BeforeEach
+	void before() throws IOException {
+
+		mockWebServer.start();
+
+		VaultEndpoint endpoint = new VaultEndpoint();
+		endpoint.setHost("localhost");
+		endpoint.setPort(mockWebServer.getPort());
+		endpoint.setScheme("http");
+
+		template = new NamespaceRoutingVaultTemplate(VaultClient.builder().endpoint(endpoint).build(),
+				(namespace, client) -> new DestroyableSessionManager(namespace), () -> time);
+	}
+
+	@AfterEach
+	void after() throws IOException {
+		mockWebServer.shutdown();
+	}
+
+	@Test
+	void shouldRouteRequestsToNamespace() throws Exception {
+
+		mockWebServer.enqueue(jsonResponse());
+		mockWebServer.enqueue(jsonResponse());
+
+		template.withNamespace("tenant-a").read("secret/foo");
+		template.withNamespace("tenant-b").read("secret/foo");
+
+		RecordedRequest first = mockWebServer.takeRequest();
+		assertThat(first.getHeader(VaultHttpHeaders.VAULT_NAMESPACE)).isEqualTo("tenant-a");
+		assertThat(first.getHeader(VaultHttpHeaders.VAULT_TOKEN)).isEqualTo("token-tenant-a");
+
+		RecordedRequest second = mockWebServer.takeRequest();
+		assertThat(second.getHeader(VaultHttpHeaders.VAULT_NAMESPACE)).isEqualTo("tenant-b");
+		assertThat(second.getHeader(VaultHttpHeaders.VAULT_TOKEN)).isEqualTo("token-tenant-b");
+	}
+
+	@Test
+	void shouldReuseNamespacedOperations() {
+
+		VaultOperations operations = template.withNamespace("tenant-a");
+
+		assertThat(template.withNamespace("tenant-a")).isSameAs(operations);
+		assertThat(template.withNamespace("tenant-b")).isNotSameAs(operations);
+		assertThat(template.size()).isEqualTo(2);
+	}
+
+	@Test
+	void shouldEvictIdleNamespaces() {
+
+		template.setIdleTimeout(Duration.ofNanos(100));
+
+		VaultOperations operations = template.withNamespace("tenant-a");
+		time = 50;
+		template.withNamespace("tenant-b");
+
+		time = 120;
+		template.evictIdle();
+
+		assertThat(destroyed).containsExactly("tenant-a");
+		assertThat(template.size()).isOne();
+		assertThat(template.withNamespace("tenant-a")).isNotSameAs(operations);
+	}
+
+	@Test
+	void shouldEvictIdleNamespacesOnAccess() {
+
+		template.setIdleTimeout(Duration.ofNanos(100));
+
+		template.withNamespace("tenant-a");
+		time = 100;
+		template.withNamespace("tenant-b");
+
+		assertThat(destroyed).containsExactly("tenant-a");
+		assertThat(template.size()).isOne();
+	}
+
+	@Test
+	void shouldDestroySessionManagers() {
+
+		template.withNamespace("tenant-a");
+		template.withNamespace("tenant-b");
+
+		template.destroy();
+
+		assertThat(destroyed).containsOnly("tenant-a", "tenant-b");
+		assertThat(template.size()).isZero();
+	}
+
+	static MockResponse jsonResponse() {
+		return new MockResponse().setHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+				.setBody("{\"data\": {}}");
+	}
+
+	class DestroyableSessionManager implements SessionManager, DisposableBean {
+
+		private final String namespace;
+
+		DestroyableSessionManager(String namespace) {
+			this.namespace = namespace;
+		}
+
+		@Override
+		public VaultToken getSessionToken() {
+			return VaultToken.of("token-" + namespace);
+		}
+
+		@Override
+		public void destroy() {
+			destroyed.add(namespace);
+		}
+
+	}
+
+}
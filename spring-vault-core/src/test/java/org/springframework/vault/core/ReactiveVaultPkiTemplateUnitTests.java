@@ -0,0 +1,184 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.vault.core;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import okio.Buffer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.vault.client.ReactiveVaultClient;
+import org.springframework.vault.client.VaultEndpoint;
+import org.springframework.vault.client.VaultHttpHeaders;
+import org.springframework.vault.core.VaultPkiOperations.Encoding;
+import org.springframework.vault.support.VaultCertificateRequest;
+import org.springframework.vault.support.VaultToken;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for {@link ReactiveVaultPkiTemplate}.
+ *
+ * @author Mark Paluch
+ */
+class ReactiveVaultPkiTemplateUnitTests {
+
+	MockWebServer mockWebServer = new MockWebServer();
+
+	ReactiveVaultPkiOperations pkiOperations;
+
+	@BeforeEach
+	void before() throws IOException {
+
+		mockWebServer.start();
+
+		VaultEndpoint endpoint = new VaultEndpoint();
+		endpoint.setHost("localhost");
+		endpoint.setPort(mockWebServer.getPort());
+		endpoint.setScheme("http");
+
+		ReactiveVaultClient client = ReactiveVaultClient.builder().endpoint(endpoint).build();
+		ReactiveVaultTemplate template = new ReactiveVaultTemplate(client, () -> Mono.just(VaultToken.of("my-token")));
+		pkiOperations = template.opsForPki();
+	}
+
+	@AfterEach
+	void after() throws IOException {
+		mockWebServer.shutdown();
+	}
+
+	@Test
+	void shouldIssueCertificate() throws Exception {
+
+		mockWebServer.enqueue(new MockResponse().setResponseCode(200)
+				.setHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+				.setBody("""
+						{"data": {"serial_number": "39:dd:2e", "certificate": "cert", "issuing_ca": "ca",
+						"ca_chain": ["ca"], "private_key": "key", "private_key_type": "rsa"}}"""));
+
+		pkiOperations.issueCertificate("my-role", VaultCertificateRequest.create("hello.example.com"))
+				.as(StepVerifier::create)
+				.assertNext(response -> {
+					assertThat(response.getRequiredData().getSerialNumber()).isEqualTo("39:dd:2e");
+					assertThat(response.getRequiredData().getPrivateKey()).isEqualTo("key");
+				})
+				.verifyComplete();
+
+		RecordedRequest request = mockWebServer.takeRequest();
+		assertThat(request.getMethod()).isEqualTo("POST");
+		assertThat(request.getPath()).isEqualTo("/v1/pki/issue/my-role");
+		assertThat(request.getHeader(VaultHttpHeaders.VAULT_TOKEN)).isEqualTo("my-token");
+		assertThat(request.getBody().readUtf8()).contains("\"common_name\":\"hello.example.com\"")
+				.contains("\"format\":\"der\"");
+	}
+
+	@Test
+	void shouldSignCertificateRequest() throws Exception {
+
+		mockWebServer.enqueue(new MockResponse().setResponseCode(200)
+				.setHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+				.setBody("""
+						{"data": {"serial_number": "39:dd:2e", "certificate": "cert", "issuing_ca": "ca",
+						"ca_chain": ["ca"]}}"""));
+
+		pkiOperations
+				.signCertificateRequest("my-role", "my-csr", VaultCertificateRequest.create("hello.example.com"))
+				.as(StepVerifier::create)
+				.assertNext(response -> assertThat(response.getRequiredData().getCertificate()).isEqualTo("cert"))
+				.verifyComplete();
+
+		RecordedRequest request = mockWebServer.takeRequest();
+		assertThat(request.getPath()).isEqualTo("/v1/pki/sign/my-role");
+		assertThat(request.getBody().readUtf8()).contains("\"csr\":\"my-csr\"");
+	}
+
+	@Test
+	void shouldRevokeCertificate() throws Exception {
+
+		mockWebServer.enqueue(new MockResponse().setResponseCode(204));
+
+		pkiOperations.revoke("39:dd:2e").as(StepVerifier::create).verifyComplete();
+
+		RecordedRequest request = mockWebServer.takeRequest();
+		assertThat(request.getPath()).isEqualTo("/v1/pki/revoke");
+		assertThat(request.getBody().readUtf8()).isEqualTo("{\"serial_number\":\"39:dd:2e\"}");
+	}
+
+	@Test
+	void shouldStreamCrl() throws Exception {
+
+		byte[] crl = new byte[256 * 1024];
+		for (int i = 0; i < crl.length; i++) {
+			crl[i] = (byte) i;
+		}
+
+		mockWebServer.enqueue(new MockResponse().setResponseCode(200)
+				.setHeader(HttpHeaders.CONTENT_TYPE, "application/pkix-crl")
+				.setBody(new Buffer().write(crl)));
+
+		DataBufferUtils.join(pkiOperations.getCrl(Encoding.DER)).map(buffer -> {
+			byte[] bytes = new byte[buffer.readableByteCount()];
+			buffer.read(bytes);
+			DataBufferUtils.release(buffer);
+			return bytes;
+		}).as(StepVerifier::create).assertNext(actual -> assertThat(actual).isEqualTo(crl)).verifyComplete();
+
+		assertThat(mockWebServer.takeRequest().getPath()).isEqualTo("/v1/pki/crl");
+	}
+
+	@Test
+	void shouldCompleteEmptyIfCrlIsAbsent() throws Exception {
+
+		mockWebServer.enqueue(new MockResponse().setResponseCode(204));
+
+		pkiOperations.getCrl(Encoding.PEM).as(StepVerifier::create).verifyComplete();
+
+		assertThat(mockWebServer.takeRequest().getPath()).isEqualTo("/v1/pki/crl/pem");
+	}
+
+	@Test
+	void shouldReturnIssuerCertificate() throws Exception {
+
+		mockWebServer.enqueue(new MockResponse().setResponseCode(200)
+				.setHeader(HttpHeaders.CONTENT_TYPE, "application/pem-certificate-chain")
+				.setBody("-----BEGIN CERTIFICATE-----"));
+
+		DataBufferUtils.join(pkiOperations.getIssuerCertificate("default", Encoding.PEM))
+				.map(buffer -> {
+					String pem = buffer.toString(StandardCharsets.US_ASCII);
+					DataBufferUtils.release(buffer);
+					return pem;
+				})
+				.as(StepVerifier::create)
+				.expectNext("-----BEGIN CERTIFICATE-----")
+				.verifyComplete();
+
+		assertThat(mockWebServer.takeRequest().getPath()).isEqualTo("/v1/pki/issuer/default/pem");
+	}
+
+}
@@ -753,6 +753,39 @@ public class ReactiveVaultTransitIntegrationTests extends IntegrationTestSupport
 				.verifyComplete();
 	}
 
+	@Test
+	void shouldBatchSignAndVerify() {
+
+		List<Plaintext> plaintexts = Arrays.asList(Plaintext.of("one"), Plaintext.of("two"));
+
+		createEcdsaP256Key()
+				.flatMapMany(keyName -> this.reactiveTransitOperations
+						.sign(keyName, plaintexts.stream().map(VaultSignRequest::create).toList())
+						.map(VaultSignResult::get)
+						.collectList()
+						.flatMapMany(signatures -> this.reactiveTransitOperations.verify(keyName,
+								Arrays.asList(VaultSignatureVerificationRequest.create(plaintexts.get(0), signatures.get(0)),
+										VaultSignatureVerificationRequest.create(plaintexts.get(1),
+												signatures.get(0))))))
+				.as(StepVerifier::create)
+				.assertNext(validation -> assertThat(validation.get()).isEqualTo(SignatureValidation.valid()))
+				.assertNext(validation -> assertThat(validation.get()).isEqualTo(SignatureValidation.invalid()))
+				.verifyComplete();
+	}
+
+	@Test
+	void shouldBatchHmac() {
+
+		createEcdsaP256Key()
+				.flatMapMany(keyName -> this.reactiveTransitOperations.getHmac(keyName,
+						Arrays.asList(VaultHmacRequest.create(Plaintext.of("one")),
+								VaultHmacRequest.create(Plaintext.of("two")))))
+				.as(StepVerifier::create)
+				.assertNext(hmac -> assertThat(hmac.isSuccessful()).isTrue())
+				.assertNext(hmac -> assertThat(hmac.isSuccessful()).isTrue())
+				.verifyComplete();
+	}
+
 	@Test
 	void shouldVerifyValidSignatureWithCustomAlgorithm() {
 
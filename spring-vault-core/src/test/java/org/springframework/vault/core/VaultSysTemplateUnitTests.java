@@ -16,8 +16,14 @@
 
 package org.springframework.vault.core;
 
+import java.util.List;
+import java.util.Map;
+
 import org.junit.jupiter.api.Test;
 
+import org.springframework.vault.support.Policy.BuiltinCapabilities;
+import org.springframework.vault.support.Policy.Capability;
+
 import static org.assertj.core.api.Assertions.*;
 
 /**
@@ -41,4 +47,25 @@ class VaultSysTemplateUnitTests {
 		assertThat(enabled.isRecoveryReplicationSecondary()).isTrue();
 	}
 
+	@Test
+	void shouldMapCapabilitiesPerPath() {
+
+		Map<String, List<Capability>> capabilities = VaultSysTemplate.toCapabilities(List.of("secret/a", "secret/b"),
+				Map.of("secret/a", List.of("read", "list"), "secret/b", List.of("root"), "capabilities",
+						List.of("read", "list", "root")));
+
+		assertThat(capabilities).containsOnlyKeys("secret/a", "secret/b");
+		assertThat(capabilities.get("secret/a")).containsExactly(BuiltinCapabilities.READ, BuiltinCapabilities.LIST);
+		assertThat(capabilities.get("secret/b")).extracting(Capability::name).containsExactly("root");
+	}
+
+	@Test
+	void shouldMapCapabilitiesOfSinglePath() {
+
+		Map<String, List<Capability>> capabilities = VaultSysTemplate.toCapabilities(List.of("secret/a"),
+				Map.of("capabilities", List.of("deny")));
+
+		assertThat(capabilities.get("secret/a")).containsExactly(BuiltinCapabilities.DENY);
+	}
+
 }
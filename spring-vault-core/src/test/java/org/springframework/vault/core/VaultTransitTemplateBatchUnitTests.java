@@ -0,0 +1,166 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.vault.core;
+
+import java.io.IOException;
+import java.util.List;
+
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.vault.authentication.ClientAuthentication;
+import org.springframework.vault.client.VaultClient;
+import org.springframework.vault.client.VaultEndpoint;
+import org.springframework.vault.support.Hmac;
+import org.springframework.vault.support.Plaintext;
+import org.springframework.vault.support.Signature;
+import org.springframework.vault.support.VaultHmacRequest;
+import org.springframework.vault.support.VaultHmacResult;
+import org.springframework.vault.support.VaultSignRequest;
+import org.springframework.vault.support.VaultSignResult;
+import org.springframework.vault.support.VaultSignatureVerificationRequest;
+import org.springframework.vault.support.VaultSignatureVerificationResult;
+import org.springframework.vault.support.VaultToken;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for batch sign, verify and HMAC operations of
+ * {@link VaultTransitTemplate}.
+ *
+ * @author Mark Paluch
+ */
+class VaultTransitTemplateBatchUnitTests {
+
+	MockWebServer mockWebServer = new MockWebServer();
+
+	VaultTransitTemplate template;
+
+	@BeforeEach
+	void before() throws IOException {
+
+		mockWebServer.start();
+
+		VaultEndpoint endpoint = new VaultEndpoint();
+		endpoint.setHost("localhost");
+		endpoint.setPort(mockWebServer.getPort());
+		endpoint.setScheme("http");
+
+		VaultTemplate vaultTemplate = new VaultTemplate(VaultClient.builder().endpoint(endpoint).build(),
+				(ClientAuthentication) () -> VaultToken.of("my-token"));
+		template = new VaultTransitTemplate(vaultTemplate, "transit");
+	}
+
+	@AfterEach
+	void after() throws IOException {
+		mockWebServer.shutdown();
+	}
+
+	@Test
+	void shouldSignBatch() throws InterruptedException {
+
+		mockWebServer.enqueue(jsonResponse("""
+				{"data": {"batch_results": [{"signature": "vault:v1:one"}, {"error": "invalid input"},
+				{"signature": "vault:v1:three"}]}}"""));
+
+		List<VaultSignResult> results = template.sign("my-key",
+				List.of(signRequest("one"), signRequest("two"), signRequest("three")));
+
+		RecordedRequest request = mockWebServer.takeRequest();
+		assertThat(request.getPath()).isEqualTo("/v1/transit/sign/my-key");
+		assertThat(request.getBody().readUtf8()).contains("\"hash_algorithm\":\"sha2-512\"")
+				.contains("\"batch_input\":[{\"input\":\"b25l\"},{\"input\":\"dHdv\"},{\"input\":\"dGhyZWU=\"}]");
+
+		assertThat(results).hasSize(3);
+		assertThat(results.get(0).get()).isEqualTo(Signature.of("vault:v1:one"));
+		assertThat(results.get(1).isSuccessful()).isFalse();
+		assertThat(results.get(1).getCause()).hasMessageContaining("invalid input");
+		assertThat(results.get(2).get()).isEqualTo(Signature.of("vault:v1:three"));
+	}
+
+	@Test
+	void shouldReportMissingBatchResults() {
+
+		mockWebServer.enqueue(jsonResponse("""
+				{"data": {"batch_results": [{"signature": "vault:v1:one"}, {}]}}"""));
+
+		List<VaultSignResult> results = template.sign("my-key",
+				List.of(signRequest("one"), signRequest("two"), signRequest("three")));
+
+		assertThat(results).hasSize(3);
+		assertThat(results.get(0).isSuccessful()).isTrue();
+		assertThat(results.get(1).isSuccessful()).isFalse();
+		assertThat(results.get(2).isSuccessful()).isFalse();
+	}
+
+	@Test
+	void shouldVerifyBatch() throws InterruptedException {
+
+		mockWebServer.enqueue(jsonResponse("""
+				{"data": {"batch_results": [{"valid": true}, {"valid": false}, {"error": "invalid signature"}]}}"""));
+
+		List<VaultSignatureVerificationResult> results = template.verify("my-key",
+				List.of(VaultSignatureVerificationRequest.create(Plaintext.of("one"), Signature.of("vault:v1:one")),
+						VaultSignatureVerificationRequest.create(Plaintext.of("two"), Signature.of("vault:v1:two")),
+						VaultSignatureVerificationRequest.create(Plaintext.of("three"), Signature.of("invalid"))));
+
+		RecordedRequest request = mockWebServer.takeRequest();
+		assertThat(request.getPath()).isEqualTo("/v1/transit/verify/my-key");
+		assertThat(request.getBody().readUtf8())
+				.contains("{\"input\":\"b25l\",\"signature\":\"vault:v1:one\"}");
+
+		assertThat(results).hasSize(3);
+		assertThat(results.get(0).get().isValid()).isTrue();
+		assertThat(results.get(1).get().isValid()).isFalse();
+		assertThat(results.get(2).isSuccessful()).isFalse();
+		assertThat(results.get(2).getCause()).hasMessageContaining("invalid signature");
+	}
+
+	@Test
+	void shouldHmacBatch() throws InterruptedException {
+
+		mockWebServer.enqueue(jsonResponse("""
+				{"data": {"batch_results": [{"hmac": "vault:v1:one"}, {"hmac": "vault:v1:two"}]}}"""));
+
+		List<VaultHmacResult> results = template.getHmac("my-key",
+				List.of(VaultHmacRequest.create(Plaintext.of("one")), VaultHmacRequest.create(Plaintext.of("two"))));
+
+		RecordedRequest request = mockWebServer.takeRequest();
+		assertThat(request.getPath()).isEqualTo("/v1/transit/hmac/my-key");
+		assertThat(request.getBody().readUtf8()).contains("\"batch_input\":[{\"input\":\"b25l\"},{\"input\":\"dHdv\"}]");
+
+		assertThat(results).extracting(VaultHmacResult::get)
+				.containsExactly(Hmac.of("vault:v1:one"), Hmac.of("vault:v1:two"));
+	}
+
+	static VaultSignRequest signRequest(String plaintext) {
+		return VaultSignRequest.builder().plaintext(Plaintext.of(plaintext)).hashAlgorithm("sha2-512").build();
+	}
+
+	static MockResponse jsonResponse(String body) {
+		return new MockResponse().setResponseCode(200)
+				.setHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+				.setBody(body);
+	}
+
+}
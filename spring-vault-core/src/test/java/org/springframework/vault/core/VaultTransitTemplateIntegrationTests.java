@@ -815,6 +815,52 @@ class VaultTransitTemplateIntegrationTests extends IntegrationTestSupport {
 		assertThat(valid).isEqualTo(SignatureValidation.valid());
 	}
 
+	@Test
+	void shouldBatchSignAndVerify() {
+
+		String keyName = createEcdsaP256Key();
+
+		List<VaultSignResult> signatures = this.transitOperations.sign(keyName,
+				Arrays.asList(VaultSignRequest.create(Plaintext.of("one")),
+						VaultSignRequest.create(Plaintext.of("two"))));
+
+		assertThat(signatures).hasSize(2).allMatch(VaultSignResult::isSuccessful);
+
+		List<VaultSignatureVerificationResult> validations = this.transitOperations.verify(keyName,
+				Arrays.asList(VaultSignatureVerificationRequest.create(Plaintext.of("one"), signatures.get(0).get()),
+						VaultSignatureVerificationRequest.create(Plaintext.of("two"), signatures.get(0).get())));
+
+		assertThat(validations.get(0).get()).isEqualTo(SignatureValidation.valid());
+		assertThat(validations.get(1).get()).isEqualTo(SignatureValidation.invalid());
+	}
+
+	@Test
+	void shouldBatchHmacAndVerify() {
+
+		String keyName = createEcdsaP256Key();
+
+		List<VaultHmacResult> hmacs = this.transitOperations.getHmac(keyName, Arrays
+			.asList(VaultHmacRequest.create(Plaintext.of("one")), VaultHmacRequest.create(Plaintext.of("two"))));
+
+		assertThat(hmacs).hasSize(2).allMatch(VaultHmacResult::isSuccessful);
+		assertThat(hmacs.get(0).get()).isEqualTo(this.transitOperations.getHmac(keyName, Plaintext.of("one")));
+
+		List<VaultSignatureVerificationResult> validations = this.transitOperations.verify(keyName,
+				Arrays.asList(VaultSignatureVerificationRequest.create(Plaintext.of("one"), hmacs.get(0).get()),
+						VaultSignatureVerificationRequest.create(Plaintext.of("two"), hmacs.get(1).get())));
+
+		assertThat(validations).allMatch(it -> it.get().isValid());
+	}
+
+	@Test
+	void batchSignShouldRejectMixedOptions() {
+
+		List<VaultSignRequest> batchRequest = Arrays.asList(VaultSignRequest.create(Plaintext.of("one")),
+				VaultSignRequest.builder().plaintext(Plaintext.of("two")).hashAlgorithm("sha2-512").build());
+
+		assertThatIllegalArgumentException().isThrownBy(() -> this.transitOperations.sign("mykey", batchRequest));
+	}
+
 	@Test
 	void shouldVerifyValidSignatureWithCustomAlgorithm() {
 
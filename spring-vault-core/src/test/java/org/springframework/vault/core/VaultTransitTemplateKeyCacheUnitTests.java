@@ -0,0 +1,175 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.vault.core;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import org.springframework.vault.core.VaultTransitTemplate.VaultTransitKeyImpl;
+import org.springframework.vault.support.VaultResponse;
+import org.springframework.vault.support.VaultResponseSupport;
+import org.springframework.vault.support.VaultTransitKey;
+import org.springframework.vault.support.VaultTransitKeyConfiguration;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for key metadata caching in {@link VaultTransitTemplate}.
+ *
+ * @author Mark Paluch
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class VaultTransitTemplateKeyCacheUnitTests {
+
+	@Mock
+	VaultOperations vaultOperations;
+
+	long time;
+
+	List<Runnable> refreshTasks = new ArrayList<>();
+
+	VaultTransitTemplate template;
+
+	@BeforeEach
+	void setUp() {
+
+		mockKey(1);
+
+		template = new VaultTransitTemplate(vaultOperations, "transit", new TransitKeyCache(() -> time));
+		template.setKeyCacheTtl(Duration.ofNanos(100));
+		template.setKeyCacheRefreshExecutor(refreshTasks::add);
+	}
+
+	@Test
+	void shouldNotCacheByDefault() {
+
+		VaultTransitTemplate template = new VaultTransitTemplate(vaultOperations, "transit");
+
+		template.getKey("my-key");
+		template.getKey("my-key");
+
+		verify(vaultOperations, times(2)).read("transit/keys/my-key", VaultTransitKeyImpl.class);
+	}
+
+	@Test
+	void shouldCacheKeyUntilTtlExpires() {
+
+		assertThat(template.getKey("my-key").getLatestVersion()).isEqualTo(1);
+		template.getKey("my-key");
+		verify(vaultOperations).read("transit/keys/my-key", VaultTransitKeyImpl.class);
+
+		time = 100;
+		mockKey(2);
+
+		assertThat(template.getKey("my-key").getLatestVersion()).isEqualTo(2);
+		verify(vaultOperations, times(2)).read("transit/keys/my-key", VaultTransitKeyImpl.class);
+	}
+
+	@Test
+	void shouldRefreshAhead() {
+
+		template.setKeyCacheRefreshAhead(Duration.ofNanos(20));
+		template.getKey("my-key");
+
+		time = 85;
+		mockKey(2);
+
+		assertThat(template.getKey("my-key").getLatestVersion()).isEqualTo(1);
+		assertThat(template.getKey("my-key").getLatestVersion()).isEqualTo(1);
+		assertThat(refreshTasks).hasSize(1);
+
+		refreshTasks.get(0).run();
+
+		assertThat(template.getKey("my-key").getLatestVersion()).isEqualTo(2);
+		verify(vaultOperations, times(2)).read("transit/keys/my-key", VaultTransitKeyImpl.class);
+	}
+
+	@Test
+	void shouldEvictOnKeyModification() {
+
+		template.getKey("my-key");
+		template.rotate("my-key");
+		template.getKey("my-key");
+
+		template.configureKey("my-key", VaultTransitKeyConfiguration.builder().deletionAllowed(true).build());
+		template.getKey("my-key");
+
+		template.deleteKey("my-key");
+		template.getKey("my-key");
+
+		verify(vaultOperations, times(4)).read("transit/keys/my-key", VaultTransitKeyImpl.class);
+	}
+
+	@Test
+	void shouldEvictWhenEncryptingWithNewerKeyVersion() {
+
+		VaultResponse v1 = new VaultResponse();
+		v1.setData(Map.of("ciphertext", "vault:v1:foo"));
+		VaultResponse v2 = new VaultResponse();
+		v2.setData(Map.of("ciphertext", "vault:v2:foo"));
+		when(vaultOperations.write(eq("transit/encrypt/my-key"), any())).thenReturn(v1, v2);
+
+		template.getKey("my-key");
+
+		template.encrypt("my-key", "hello");
+		template.getKey("my-key");
+		verify(vaultOperations).read("transit/keys/my-key", VaultTransitKeyImpl.class);
+
+		template.encrypt("my-key", "hello");
+		template.getKey("my-key");
+		verify(vaultOperations, times(2)).read("transit/keys/my-key", VaultTransitKeyImpl.class);
+	}
+
+	@Test
+	void shouldNotCacheKeyLoadedBeforeEviction() {
+
+		TransitKeyCache cache = new TransitKeyCache(() -> time);
+		cache.setTtl(Duration.ofNanos(100));
+
+		long generation = cache.getGeneration();
+		cache.evict("my-key");
+		cache.put("my-key", mock(VaultTransitKey.class), generation);
+
+		assertThat(cache.get("my-key", keyName -> {
+		})).isNull();
+	}
+
+	private void mockKey(int latestVersion) {
+
+		VaultTransitKeyImpl key = mock(VaultTransitKeyImpl.class);
+		when(key.getLatestVersion()).thenReturn(latestVersion);
+
+		VaultResponseSupport<VaultTransitKeyImpl> response = new VaultResponseSupport<>();
+		response.setData(key);
+
+		when(vaultOperations.read("transit/keys/my-key", VaultTransitKeyImpl.class)).thenReturn(response);
+	}
+
+}
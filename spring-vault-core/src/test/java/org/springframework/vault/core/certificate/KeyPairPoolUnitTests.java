@@ -0,0 +1,90 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.vault.core.certificate;
+
+import java.security.KeyPair;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.vault.VaultException;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for {@link KeyPairPool}.
+ *
+ * @author Mark Paluch
+ */
+class KeyPairPoolUnitTests {
+
+	@Test
+	void shouldGenerateKeyPairIfNotInitialized() {
+
+		KeyPairPool pool = KeyPairPool.ec("secp256r1");
+
+		KeyPair keyPair = pool.take();
+
+		assertThat(keyPair.getPrivate().getAlgorithm()).isEqualTo("EC");
+		assertThat(pool.getAvailable()).isZero();
+	}
+
+	@Test
+	void shouldFillPoolOnInitialization() {
+
+		KeyPairPool pool = KeyPairPool.ec("secp256r1");
+		pool.setPoolSize(3);
+		pool.setExecutor(Runnable::run);
+		pool.afterPropertiesSet();
+
+		assertThat(pool.getAvailable()).isEqualTo(3);
+	}
+
+	@Test
+	void shouldRefillPoolAfterTake() {
+
+		KeyPairPool pool = KeyPairPool.ed25519();
+		pool.setPoolSize(2);
+		pool.setExecutor(Runnable::run);
+		pool.afterPropertiesSet();
+
+		KeyPair first = pool.take();
+		KeyPair second = pool.take();
+
+		assertThat(first).isNotSameAs(second);
+		assertThat(first.getPrivate().getAlgorithm()).isIn("EdDSA", "Ed25519");
+		assertThat(pool.getAvailable()).isEqualTo(2);
+	}
+
+	@Test
+	void shouldNotRefillAfterDestroy() {
+
+		KeyPairPool pool = KeyPairPool.ec("secp256r1");
+		pool.setExecutor(Runnable::run);
+		pool.afterPropertiesSet();
+		pool.destroy();
+
+		pool.take();
+
+		assertThat(pool.getAvailable()).isZero();
+	}
+
+	@Test
+	void shouldRejectUnknownCurve() {
+		assertThatExceptionOfType(VaultException.class).isThrownBy(() -> KeyPairPool.ec("unknown"));
+	}
+
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.vault.core.certificate;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Arrays;
+import java.util.Base64;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import org.springframework.vault.core.VaultPkiOperations;
+import org.springframework.vault.support.Certificate;
+import org.springframework.vault.support.CertificateBundle;
+import org.springframework.vault.support.VaultCertificateRequest;
+import org.springframework.vault.support.VaultCertificateResponse;
+import org.springframework.vault.support.VaultSignCertificateRequestResponse;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link VaultCertificateAuthority} and
+ * {@link CertificateSigningRequest}.
+ *
+ * @author Mark Paluch
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class VaultCertificateAuthorityUnitTests {
+
+	@Mock
+	VaultPkiOperations pki;
+
+	VaultCertificateRequest request = VaultCertificateRequest.create("hello.example.com");
+
+	@Test
+	void shouldIssueCertificateThroughVault() {
+
+		CertificateBundle bundle = CertificateBundle.of("serial", "certificate", "issuer", "key");
+		VaultCertificateResponse response = new VaultCertificateResponse();
+		response.setData(bundle);
+		when(pki.issueCertificate("my-role", request)).thenReturn(response);
+
+		VaultCertificateAuthority authority = new VaultCertificateAuthority(pki);
+
+		assertThat(authority.issueCertificate("my-cert", "my-role", request)).isSameAs(bundle);
+		verify(pki, never()).signCertificateRequest(anyString(), anyString(), any());
+	}
+
+	@Test
+	void shouldIssueCertificateBySigningCsr() {
+
+		VaultSignCertificateRequestResponse response = new VaultSignCertificateRequestResponse();
+		response.setData(Certificate.of("serial", "certificate", "issuer"));
+		when(pki.signCertificateRequest(eq("my-role"), anyString(), eq(request))).thenReturn(response);
+
+		KeyPairPool keyPairPool = KeyPairPool.ec("secp256r1");
+		VaultCertificateAuthority authority = new VaultCertificateAuthority(pki, keyPairPool);
+
+		CertificateBundle bundle = authority.issueCertificate("my-cert", "my-role", request);
+
+		ArgumentCaptor<String> csr = ArgumentCaptor.forClass(String.class);
+		verify(pki).signCertificateRequest(eq("my-role"), csr.capture(), eq(request));
+		verify(pki, never()).issueCertificate(anyString(), any());
+
+		assertThat(csr.getValue()).startsWith("-----BEGIN CERTIFICATE REQUEST-----");
+		assertThat(bundle.getSerialNumber()).isEqualTo("serial");
+		assertThat(bundle.getCertificate()).isEqualTo("certificate");
+		assertThat(bundle.getPrivateKeyType()).isEqualTo("ec");
+		assertThat(bundle.getPrivateKeySpec()).isNotNull();
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = { "rsa", "ec", "ed25519" })
+	void shouldCreateVerifiableCertificateSigningRequest(String keyType) throws Exception {
+
+		KeyPairPool pool = switch (keyType) {
+		case "rsa" -> KeyPairPool.rsa(2048);
+		case "ec" -> KeyPairPool.ec("secp384r1");
+		default -> KeyPairPool.ed25519();
+		};
+		KeyPair keyPair = pool.take();
+
+		byte[] csr = CertificateSigningRequest.encode(keyPair, "hello.example.com");
+
+		// CertificationRequest ::= SEQUENCE { info, algorithm, signature }
+		InputStream request = new ByteArrayInputStream(readValue(new ByteArrayInputStream(csr)));
+		byte[] info = readElement(request);
+		readElement(request);
+		byte[] signature = readValue(request);
+
+		CertificateSigningRequest.SignatureAlgorithm algorithm = CertificateSigningRequest.SignatureAlgorithm
+			.of(keyPair);
+		PublicKey publicKey = KeyFactory.getInstance(keyPair.getPublic().getAlgorithm())
+			.generatePublic(new X509EncodedKeySpec(keyPair.getPublic().getEncoded()));
+
+		Signature verifier = Signature.getInstance(algorithm.name());
+		verifier.initVerify(publicKey);
+		verifier.update(info);
+
+		assertThat(verifier.verify(Arrays.copyOfRange(signature, 1, signature.length))).isTrue();
+		assertThat(new String(info, "UTF-8")).contains("hello.example.com");
+	}
+
+	@Test
+	void shouldEncodeObjectIdentifier() {
+		assertThat(Base64.getEncoder().encodeToString(CertificateSigningRequest.oid("1.2.840.113549.1.1.11")))
+			.isEqualTo(Base64.getEncoder()
+				.encodeToString(new byte[] { 0x06, 0x09, 0x2a, (byte) 0x86, 0x48, (byte) 0x86, (byte) 0xf7, 0x0d, 0x01,
+						0x01, 0x0b }));
+	}
+
+	private static byte[] readElement(InputStream in) throws IOException {
+
+		in.mark(Integer.MAX_VALUE);
+		int start = in.available();
+		byte[] value = readValue(in);
+		int length = start - in.available();
+		in.reset();
+
+		byte[] element = in.readNBytes(length);
+		assertThat(element).endsWith(value);
+		return element;
+	}
+
+	private static byte[] readValue(InputStream in) throws IOException {
+
+		in.read(); // tag
+		int length = in.read();
+		if (length >= 0x80) {
+			int bytes = length & 0x7F;
+			length = 0;
+			for (int i = 0; i < bytes; i++) {
+				length = (length << 8) | in.read();
+			}
+		}
+		return in.readNBytes(length);
+	}
+
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.vault.core.env;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import org.springframework.vault.VaultException;
+import org.springframework.vault.core.VaultTemplate;
+import org.springframework.vault.core.VaultTransitOperations;
+import org.springframework.vault.core.util.PropertyTransformers;
+import org.springframework.vault.support.Ciphertext;
+import org.springframework.vault.support.Plaintext;
+import org.springframework.vault.support.VaultResponse;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link PropertySourceSnapshot}.
+ *
+ * @author Mark Paluch
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class PropertySourceSnapshotUnitTests {
+
+	@TempDir
+	Path directory;
+
+	@Mock
+	VaultTemplate vaultTemplate;
+
+	@Mock
+	VaultTransitOperations transitOperations;
+
+	List<Runnable> refreshes = new ArrayList<>();
+
+	PropertySourceSnapshot snapshot;
+
+	@BeforeEach
+	void setUp() {
+		snapshot = new PropertySourceSnapshot(directory, SnapshotKeyProvider.local(new byte[32]));
+		snapshot.setRefreshExecutor(refreshes::add);
+	}
+
+	@Test
+	void shouldWriteAndReadSnapshot() throws IOException {
+
+		snapshot.write("my-source", Map.of("database.password", "secret", "port", 1234));
+
+		assertThat(snapshot.read("my-source")).containsEntry("database.password", "secret")
+				.containsEntry("port", 1234);
+		assertThat(new String(Files.readAllBytes(snapshot.getFile("my-source")), StandardCharsets.ISO_8859_1))
+				.doesNotContain("secret");
+	}
+
+	@Test
+	void shouldReturnNullForAbsentSnapshot() {
+		assertThat(snapshot.read("my-source")).isNull();
+	}
+
+	@Test
+	void shouldRejectSnapshotWithDifferentKey() throws IOException {
+
+		snapshot.write("my-source", Map.of("key", "value"));
+
+		byte[] otherKey = new byte[32];
+		otherKey[0] = 1;
+		PropertySourceSnapshot other = new PropertySourceSnapshot(directory, SnapshotKeyProvider.local(otherKey));
+
+		assertThat(other.read("my-source")).isNull();
+	}
+
+	@Test
+	void shouldRejectSnapshotOfOtherPropertySource() throws IOException {
+
+		snapshot.write("my-source", Map.of("key", "value"));
+		Files.copy(snapshot.getFile("my-source"), snapshot.getFile("other-source"));
+
+		assertThat(snapshot.read("other-source")).isNull();
+	}
+
+	@Test
+	void shouldWriteSnapshotAfterLoadingFromVault() {
+
+		when(vaultTemplate.read("secret/myapp")).thenReturn(response(Map.of("key", "value")));
+
+		VaultPropertySource propertySource = new VaultPropertySource("my-source", vaultTemplate, "secret/myapp",
+				PropertyTransformers.noop(), false, snapshot);
+
+		assertThat(propertySource.getProperty("key")).isEqualTo("value");
+		assertThat(snapshot.read("my-source")).containsEntry("key", "value");
+		assertThat(refreshes).isEmpty();
+	}
+
+	@Test
+	void shouldServeSnapshotAndRefreshInBackground() throws IOException {
+
+		snapshot.write("my-source", Map.of("key", "snapshot"));
+		when(vaultTemplate.read("secret/myapp")).thenReturn(response(Map.of("key", "refreshed")));
+
+		VaultPropertySource propertySource = new VaultPropertySource("my-source", vaultTemplate, "secret/myapp",
+				PropertyTransformers.noop(), false, snapshot);
+
+		assertThat(propertySource.getProperty("key")).isEqualTo("snapshot");
+		verify(vaultTemplate, never()).read("secret/myapp");
+
+		assertThat(refreshes).hasSize(1);
+		refreshes.get(0).run();
+
+		assertThat(propertySource.getProperty("key")).isEqualTo("refreshed");
+		assertThat(snapshot.read("my-source")).containsEntry("key", "refreshed");
+	}
+
+	@Test
+	void shouldRetainSnapshotPropertiesIfVaultIsUnavailable() throws IOException {
+
+		snapshot.write("my-source", Map.of("key", "snapshot"));
+		when(vaultTemplate.read("secret/myapp")).thenThrow(new VaultException("Unavailable"));
+
+		VaultPropertySource propertySource = new VaultPropertySource("my-source", vaultTemplate, "secret/myapp",
+				PropertyTransformers.noop(), false, snapshot);
+		refreshes.forEach(Runnable::run);
+
+		assertThat(propertySource.getProperty("key")).isEqualTo("snapshot");
+	}
+
+	@Test
+	void shouldRetainTransitDataKey() throws IOException {
+
+		String plaintext = Base64.getEncoder().encodeToString(new byte[32]);
+		when(vaultTemplate.write(eq("transit/datakey/plaintext/my-key"), any()))
+				.thenReturn(response(Map.of("plaintext", plaintext, "ciphertext", "vault:v1:wrapped")));
+
+		PropertySourceSnapshot snapshot = new PropertySourceSnapshot(directory,
+				SnapshotKeyProvider.transit(vaultTemplate, "transit", "my-key"));
+		snapshot.write("my-source", Map.of("key", "value"));
+
+		assertThat(snapshot.read("my-source")).containsEntry("key", "value");
+		verify(vaultTemplate, never()).opsForTransit(anyString());
+	}
+
+	@Test
+	void shouldRetainOnlyLatestTransitDataKey() throws IOException {
+
+		byte[] first = new byte[32];
+		first[0] = 1;
+		when(vaultTemplate.write(eq("transit/datakey/plaintext/my-key"), any())).thenReturn(
+				response(Map.of("plaintext", Base64.getEncoder().encodeToString(first), "ciphertext", "vault:v1:first")),
+				response(Map.of("plaintext", Base64.getEncoder().encodeToString(new byte[32]), "ciphertext",
+						"vault:v1:second")));
+		when(vaultTemplate.opsForTransit("transit")).thenReturn(transitOperations);
+		when(transitOperations.decrypt("my-key", Ciphertext.of("vault:v1:first"))).thenReturn(Plaintext.of(first));
+
+		PropertySourceSnapshot snapshot = new PropertySourceSnapshot(directory,
+				SnapshotKeyProvider.transit(vaultTemplate, "transit", "my-key"));
+		snapshot.write("first", Map.of("key", "first"));
+		snapshot.write("second", Map.of("key", "second"));
+
+		assertThat(snapshot.read("second")).containsEntry("key", "second");
+		verify(vaultTemplate, never()).opsForTransit(anyString());
+
+		assertThat(snapshot.read("first")).containsEntry("key", "first");
+		assertThat(snapshot.read("first")).containsEntry("key", "first");
+		verify(transitOperations).decrypt("my-key", Ciphertext.of("vault:v1:first"));
+	}
+
+	@Test
+	void shouldRejectIncompleteTransitDataKey() {
+
+		when(vaultTemplate.write(eq("transit/datakey/plaintext/my-key"), any()))
+				.thenReturn(response(Map.of("plaintext", "")));
+
+		SnapshotKeyProvider provider = SnapshotKeyProvider.transit(vaultTemplate, "transit", "my-key");
+
+		assertThatExceptionOfType(VaultException.class).isThrownBy(provider::generateKey);
+	}
+
+	static VaultResponse response(Map<String, Object> data) {
+
+		VaultResponse response = new VaultResponse();
+		response.setData(data);
+		return response;
+	}
+
+}
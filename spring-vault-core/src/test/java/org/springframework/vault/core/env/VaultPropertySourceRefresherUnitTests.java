@@ -0,0 +1,157 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.vault.core.env;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import org.springframework.vault.VaultException;
+import org.springframework.vault.core.VaultTemplate;
+import org.springframework.vault.support.VaultResponse;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link VaultPropertySourceRefresher}.
+ *
+ * @author Mark Paluch
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class VaultPropertySourceRefresherUnitTests {
+
+	@Mock
+	VaultTemplate vaultTemplate;
+
+	List<VaultPropertySourceRefreshedEvent> events = new ArrayList<>();
+
+	VaultPropertySourceRefresher refresher;
+
+	@BeforeEach
+	void setUp() {
+
+		when(vaultTemplate.read("sys/internal/ui/mounts/secret/app"))
+				.thenReturn(response(Map.of("path", "secret/", "options", Map.of("version", "2"))));
+		when(vaultTemplate.read("sys/internal/ui/mounts/kv/app"))
+				.thenReturn(response(Map.of("path", "kv/", "options", Map.of("version", "1"))));
+
+		refresher = new VaultPropertySourceRefresher(vaultTemplate);
+		refresher.addListener(events::add);
+	}
+
+	@Test
+	void shouldRefreshOnlyIfVersionChanged() {
+
+		when(vaultTemplate.read("secret/data/app")).thenReturn(secret(Map.of("key", "v1")),
+				secret(Map.of("key", "v1")), secret(Map.of("key", "v2", "added", "a")));
+		when(vaultTemplate.read("secret/metadata/app")).thenReturn(metadata(1), metadata(1), metadata(2));
+
+		VaultPropertySource propertySource = new VaultPropertySource(vaultTemplate, "secret/app");
+		refresher.register(propertySource);
+
+		refresher.checkForUpdates();
+		refresher.checkForUpdates();
+		verify(vaultTemplate, times(2)).read("secret/data/app");
+		assertThat(events).isEmpty();
+
+		refresher.checkForUpdates();
+		verify(vaultTemplate, times(3)).read("secret/data/app");
+
+		assertThat(propertySource.getProperty("key")).isEqualTo("v2");
+		assertThat(events).hasSize(1);
+		assertThat(events.get(0).getSource()).isSameAs(propertySource);
+		assertThat(events.get(0).getChangedPropertyNames()).containsOnly("key", "added");
+	}
+
+	@Test
+	void shouldRereadUnversionedSecrets() {
+
+		when(vaultTemplate.read("kv/app")).thenReturn(response(Map.of("key", "v1")),
+				response(Map.of("key", "v1")), response(Map.of("key", "v2")));
+
+		VaultPropertySource propertySource = new VaultPropertySource(vaultTemplate, "kv/app");
+		refresher.register(propertySource);
+
+		refresher.checkForUpdates();
+		assertThat(events).isEmpty();
+
+		refresher.checkForUpdates();
+		assertThat(propertySource.getProperty("key")).isEqualTo("v2");
+		assertThat(events).hasSize(1);
+	}
+
+	@Test
+	void shouldRetainPropertiesOnFailure() {
+
+		when(vaultTemplate.read("kv/app")).thenReturn(response(Map.of("key", "v1")))
+				.thenThrow(new VaultException("Unavailable"));
+
+		VaultPropertySource propertySource = new VaultPropertySource(vaultTemplate, "kv/app");
+		refresher.register(propertySource);
+
+		refresher.checkForUpdates();
+
+		assertThat(propertySource.getProperty("key")).isEqualTo("v1");
+		assertThat(events).isEmpty();
+	}
+
+	@Test
+	void shouldCheckInBatches() {
+
+		when(vaultTemplate.read("kv/app")).thenReturn(response(Map.of("key", "v1")));
+		when(vaultTemplate.read("secret/data/app")).thenReturn(secret(Map.of("key", "v1")));
+		when(vaultTemplate.read("secret/metadata/app")).thenReturn(metadata(1));
+
+		refresher.register(new VaultPropertySource(vaultTemplate, "kv/app"));
+		refresher.register(new VaultPropertySource(vaultTemplate, "secret/app"));
+		refresher.setBatchSize(1);
+
+		refresher.checkNextBatch();
+		verify(vaultTemplate, times(2)).read("kv/app");
+		verify(vaultTemplate, never()).read("secret/metadata/app");
+
+		refresher.checkNextBatch();
+		verify(vaultTemplate, times(2)).read("kv/app");
+		verify(vaultTemplate).read("secret/metadata/app");
+	}
+
+	static VaultResponse secret(Map<String, Object> data) {
+		return response(Map.of("data", data, "metadata", Map.of("version", 1)));
+	}
+
+	static VaultResponse metadata(int currentVersion) {
+		return response(Map.of("current_version", currentVersion));
+	}
+
+	static VaultResponse response(Map<String, Object> data) {
+
+		VaultResponse response = new VaultResponse();
+		response.setData(data);
+		return response;
+	}
+
+}
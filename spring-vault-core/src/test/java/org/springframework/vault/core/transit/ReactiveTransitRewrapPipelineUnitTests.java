@@ -0,0 +1,161 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.vault.core.transit;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import org.springframework.vault.VaultException;
+import org.springframework.vault.core.ReactiveVaultTransitOperations;
+import org.springframework.vault.support.Ciphertext;
+import org.springframework.vault.support.VaultEncryptionResult;
+import org.springframework.vault.support.VaultTransitKey;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link ReactiveTransitRewrapPipeline}.
+ *
+ * @author Mark Paluch
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ReactiveTransitRewrapPipelineUnitTests {
+
+	@Mock
+	ReactiveVaultTransitOperations transitOperations;
+
+	@Mock
+	VaultTransitKey transitKey;
+
+	ReactiveTransitRewrapPipeline<String> pipeline;
+
+	List<RewrapProgress> progress = new ArrayList<>();
+
+	@BeforeEach
+	void setUp() {
+
+		when(transitKey.getLatestVersion()).thenReturn(3);
+		when(transitOperations.getKey("my-key")).thenReturn(Mono.just(transitKey));
+		when(transitOperations.rewrap(eq("my-key"), anyList())).thenAnswer(invocation -> {
+			List<Ciphertext> ciphertexts = invocation.getArgument(1);
+			return Flux.fromIterable(ciphertexts)
+				.map(it -> new VaultEncryptionResult(Ciphertext.of(it.getCiphertext().replaceFirst("v\\d+", "v3"))));
+		});
+
+		pipeline = new ReactiveTransitRewrapPipeline<>(transitOperations, "my-key", Ciphertext::of);
+		pipeline.setBatchSize(2);
+		pipeline.setProgressListener(progress::add);
+	}
+
+	@Test
+	void shouldRewrapOutdatedCiphertexts() {
+
+		pipeline.rewrap(Flux.just("vault:v1:a", "vault:v3:b", "vault:v2:c", "vault:v3:d", "vault:v1:e"))
+			.map(it -> it.get().getCiphertext())
+			.as(StepVerifier::create)
+			.expectNext("vault:v3:a", "vault:v3:c", "vault:v3:e")
+			.verifyComplete();
+
+		assertThat(progress).extracting(RewrapProgress::getPosition).containsExactly(2L, 4L, 5L);
+
+		RewrapProgress last = progress.get(progress.size() - 1);
+		assertThat(last.getRewrapped()).isEqualTo(3);
+		assertThat(last.getSkipped()).isEqualTo(2);
+	}
+
+	@Test
+	void shouldResumeFromCheckpoint() {
+
+		pipeline.resume(Flux.just("vault:v1:a", "vault:v1:b", "vault:v1:c"), RewrapProgress.checkpoint(2))
+			.map(RewrapResult::getItem)
+			.as(StepVerifier::create)
+			.expectNext("vault:v1:c")
+			.verifyComplete();
+
+		assertThat(progress).extracting(RewrapProgress::getPosition).containsExactly(3L);
+		verify(transitOperations).rewrap("my-key", List.of(Ciphertext.of("vault:v1:c")));
+	}
+
+	@Test
+	void shouldRewrapConcurrentlyInOrder() {
+
+		when(transitOperations.rewrap(eq("my-key"), anyList())).thenAnswer(invocation -> {
+			List<Ciphertext> ciphertexts = invocation.getArgument(1);
+			int index = Integer.parseInt(ciphertexts.get(0).getCiphertext().substring("vault:v1:".length()));
+			return Flux.fromIterable(ciphertexts)
+				.map(it -> new VaultEncryptionResult(Ciphertext.of(it.getCiphertext().replaceFirst("v\\d+", "v3"))))
+				.delaySubscription(Duration.ofMillis(index % 3 == 0 ? 20 : 0));
+		});
+		pipeline.setParallelism(3);
+
+		List<String> source = new ArrayList<>();
+		for (int i = 0; i < 21; i++) {
+			source.add("vault:v1:" + i);
+		}
+
+		pipeline.rewrap(Flux.fromIterable(source))
+			.map(RewrapResult::getItem)
+			.collectList()
+			.as(StepVerifier::create)
+			.assertNext(actual -> assertThat(actual).containsExactlyElementsOf(source))
+			.verifyComplete();
+
+		assertThat(progress).hasSize(11);
+		assertThat(progress.get(10).getRewrapped()).isEqualTo(21);
+	}
+
+	@Test
+	void shouldReportFailedItems() {
+
+		when(transitOperations.rewrap(eq("my-key"), anyList()))
+			.thenReturn(Flux.just(new VaultEncryptionResult(new VaultException("invalid ciphertext")),
+					new VaultEncryptionResult(Ciphertext.of("vault:v3:b"))));
+
+		pipeline.rewrap(Flux.just("vault:v1:a", "vault:v1:b"))
+			.map(RewrapResult::isSuccessful)
+			.as(StepVerifier::create)
+			.expectNext(false, true)
+			.verifyComplete();
+
+		assertThat(progress.get(0).getFailed()).isEqualTo(1);
+		assertThat(progress.get(0).getRewrapped()).isEqualTo(1);
+	}
+
+	@Test
+	void shouldFailIfKeyNotFound() {
+
+		when(transitOperations.getKey("my-key")).thenReturn(Mono.empty());
+
+		pipeline.rewrap(Flux.just("vault:v1:a")).as(StepVerifier::create).verifyError(IllegalStateException.class);
+	}
+
+}
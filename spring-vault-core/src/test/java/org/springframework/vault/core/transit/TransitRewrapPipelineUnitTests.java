@@ -0,0 +1,180 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.vault.core.transit;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import org.springframework.vault.VaultException;
+import org.springframework.vault.core.VaultTransitOperations;
+import org.springframework.vault.support.Ciphertext;
+import org.springframework.vault.support.VaultEncryptionResult;
+import org.springframework.vault.support.VaultTransitKey;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link TransitRewrapPipeline}.
+ *
+ * @author Mark Paluch
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class TransitRewrapPipelineUnitTests {
+
+	@Mock
+	VaultTransitOperations transitOperations;
+
+	@Mock
+	VaultTransitKey transitKey;
+
+	TransitRewrapPipeline<String> pipeline;
+
+	List<RewrapResult<String>> results = new ArrayList<>();
+
+	List<RewrapProgress> progress = new ArrayList<>();
+
+	@BeforeEach
+	void setUp() {
+
+		when(transitKey.getLatestVersion()).thenReturn(3);
+		when(transitOperations.getKey("my-key")).thenReturn(transitKey);
+		when(transitOperations.rewrap(eq("my-key"), anyList())).thenAnswer(invocation -> {
+			List<Ciphertext> ciphertexts = invocation.getArgument(1);
+			return ciphertexts.stream()
+				.map(it -> new VaultEncryptionResult(Ciphertext.of(it.getCiphertext().replaceFirst("v\\d+", "v3"))))
+				.toList();
+		});
+
+		pipeline = new TransitRewrapPipeline<>(transitOperations, "my-key", Ciphertext::of);
+		pipeline.setBatchSize(2);
+		pipeline.setProgressListener(progress::add);
+	}
+
+	@Test
+	void shouldRewrapOutdatedCiphertexts() {
+
+		List<String> source = List.of("vault:v1:a", "vault:v3:b", "vault:v2:c", "vault:v3:d", "vault:v1:e");
+
+		RewrapProgress result = pipeline.run(source.iterator(), results::add);
+
+		assertThat(results).extracting(RewrapResult::getItem).containsExactly("vault:v1:a", "vault:v2:c", "vault:v1:e");
+		assertThat(results).extracting(it -> it.get().getCiphertext())
+			.containsExactly("vault:v3:a", "vault:v3:c", "vault:v3:e");
+
+		assertThat(result.getPosition()).isEqualTo(5);
+		assertThat(result.getRewrapped()).isEqualTo(3);
+		assertThat(result.getSkipped()).isEqualTo(2);
+		assertThat(result.getFailed()).isZero();
+		assertThat(progress).extracting(RewrapProgress::getPosition).containsExactly(2L, 4L, 5L);
+
+		verify(transitOperations).rewrap("my-key", List.of(Ciphertext.of("vault:v1:a")));
+		verify(transitOperations).rewrap("my-key", List.of(Ciphertext.of("vault:v2:c")));
+		verify(transitOperations).rewrap("my-key", List.of(Ciphertext.of("vault:v1:e")));
+	}
+
+	@Test
+	void shouldNotCallVaultForUpToDateBatch() {
+
+		RewrapProgress result = pipeline.run(List.of("vault:v3:a", "vault:v4:b").iterator(), results::add);
+
+		assertThat(results).isEmpty();
+		assertThat(result.getSkipped()).isEqualTo(2);
+		verify(transitOperations, never()).rewrap(anyString(), anyList());
+	}
+
+	@Test
+	void shouldReportFailedItems() {
+
+		when(transitOperations.rewrap(eq("my-key"), anyList()))
+			.thenReturn(List.of(new VaultEncryptionResult(new VaultException("invalid ciphertext")),
+					new VaultEncryptionResult(Ciphertext.of("vault:v3:b"))));
+
+		RewrapProgress result = pipeline.run(List.of("vault:v1:a", "vault:v1:b").iterator(), results::add);
+
+		assertThat(results).hasSize(2);
+		assertThat(results.get(0).isSuccessful()).isFalse();
+		assertThat(results.get(0).getCause()).hasMessageContaining("invalid ciphertext");
+		assertThat(result.getRewrapped()).isEqualTo(1);
+		assertThat(result.getFailed()).isEqualTo(1);
+	}
+
+	@Test
+	void shouldResumeFromCheckpoint() {
+
+		when(transitOperations.rewrap(eq("my-key"), anyList()))
+			.thenReturn(List.of(new VaultEncryptionResult(Ciphertext.of("vault:v3:a")),
+					new VaultEncryptionResult(Ciphertext.of("vault:v3:b"))))
+			.thenThrow(new VaultException("Vault unavailable"));
+
+		List<String> source = List.of("vault:v1:a", "vault:v1:b", "vault:v1:c", "vault:v1:d");
+
+		assertThatExceptionOfType(VaultException.class).isThrownBy(() -> pipeline.run(source.iterator(), results::add));
+		assertThat(progress).hasSize(1);
+
+		RewrapProgress checkpoint = progress.get(0);
+		assertThat(checkpoint.getPosition()).isEqualTo(2);
+
+		when(transitOperations.rewrap(eq("my-key"), anyList()))
+			.thenReturn(List.of(new VaultEncryptionResult(Ciphertext.of("vault:v3:c")),
+					new VaultEncryptionResult(Ciphertext.of("vault:v3:d"))));
+		results.clear();
+
+		RewrapProgress result = pipeline.resume(source.iterator(), results::add, checkpoint);
+
+		assertThat(results).extracting(RewrapResult::getItem).containsExactly("vault:v1:c", "vault:v1:d");
+		assertThat(result.getPosition()).isEqualTo(4);
+		assertThat(result.getRewrapped()).isEqualTo(4);
+	}
+
+	@Test
+	void shouldRewrapConcurrentlyInOrder() {
+
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+
+			pipeline.setExecutor(executor);
+			pipeline.setParallelism(3);
+
+			List<String> source = new ArrayList<>();
+			for (int i = 0; i < 101; i++) {
+				source.add("vault:v1:" + i);
+			}
+
+			RewrapProgress result = pipeline.run(source.iterator(), results::add);
+
+			assertThat(results).extracting(RewrapResult::getItem).containsExactlyElementsOf(source);
+			assertThat(result.getRewrapped()).isEqualTo(101);
+			assertThat(progress).hasSize(51);
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.vault.core.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for {@link TransitVersions}.
+ *
+ * @author Mark Paluch
+ */
+class TransitVersionsUnitTests {
+
+	@Test
+	void shouldParseKeyVersion() {
+
+		assertThat(TransitVersions.getKeyVersion("vault:v12:foo")).isEqualTo(12);
+		assertThat(TransitVersions.getKeyVersion("vault:foo")).isEqualTo(-1);
+		assertThat(TransitVersions.getKeyVersion("foo")).isEqualTo(-1);
+	}
+
+	@Test
+	void shouldRemoveVersionPrefix() {
+
+		assertThat(TransitVersions.removeVersionPrefix("vault:v1:Zm9v")).isEqualTo("Zm9v");
+		assertThat(TransitVersions.removeVersionPrefix("Zm9v")).isNull();
+	}
+
+}
@@ -30,7 +30,10 @@ import org.junit.jupiter.api.Test;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.Version;
+import org.springframework.data.mapping.model.EntityInstantiators;
 import org.springframework.vault.repository.mapping.VaultMappingContext;
+import org.springframework.vault.repository.mapping.VaultPersistentEntity;
+import org.springframework.vault.repository.mapping.VaultPersistentProperty;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -122,6 +125,25 @@ class MappingVaultConverterUnitTests {
 		assertThat(entity.getPassword()).isEqualTo("hb");
 	}
 
+	@Test
+	void shouldCacheEntityPlan() {
+
+		VaultPersistentEntity<?> entity = this.context.getRequiredPersistentEntity(ConstructorCreation.class);
+
+		MappingVaultConverter.EntityPlan plan = this.converter.getPlan(entity);
+
+		assertThat(this.converter.getPlan(entity)).isSameAs(plan);
+		assertThat(plan.readIdProperty).isNull();
+		assertThat(plan.readProperties).extracting(VaultPersistentProperty::getName).containsOnly("password");
+		assertThat(plan.writeProperties).extracting(VaultPersistentProperty::getName)
+			.contains("username", "password")
+			.doesNotContain("id");
+
+		this.converter.setInstantiators(new EntityInstantiators());
+
+		assertThat(this.converter.getPlan(entity)).isNotSameAs(plan);
+	}
+
 	@Test
 	void shouldReadEntityWithList() {
 
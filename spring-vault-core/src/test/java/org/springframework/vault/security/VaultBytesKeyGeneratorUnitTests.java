@@ -0,0 +1,155 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.vault.security;
+
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import org.springframework.vault.core.VaultOperations;
+import org.springframework.vault.support.VaultResponse;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link VaultBytesKeyGenerator}.
+ *
+ * @author Mark Paluch
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class VaultBytesKeyGeneratorUnitTests {
+
+	@Mock
+	VaultOperations vaultOperations;
+
+	List<Runnable> refills = new ArrayList<>();
+
+	byte counter;
+
+	@BeforeEach
+	void setUp() {
+		when(vaultOperations.invoke(startsWith("transit/random/"), any())).thenAnswer(invocation -> {
+			String path = invocation.getArgument(0);
+			return random(Integer.parseInt(path.substring(path.lastIndexOf('/') + 1)));
+		});
+	}
+
+	@Test
+	void shouldRequestRandomBytesPerKey() {
+
+		VaultBytesKeyGenerator generator = new VaultBytesKeyGenerator(vaultOperations, "transit", 16);
+
+		assertThat(generator.generateKey()).hasSize(16);
+		assertThat(generator.generateKey()).hasSize(16);
+
+		verify(vaultOperations, times(2)).invoke(eq("transit/random/16"), any());
+	}
+
+	@Test
+	void shouldSliceKeysFromBuffer() {
+
+		VaultBytesKeyGenerator generator = new VaultBytesKeyGenerator(vaultOperations, "transit", 4);
+		generator.setBufferSize(16);
+		generator.setRefillExecutor(refills::add);
+
+		assertThat(generator.generateKey()).containsExactly(1, 2, 3, 4);
+		assertThat(generator.generateKey()).containsExactly(5, 6, 7, 8);
+		assertThat(generator.generateKey()).containsExactly(9, 10, 11, 12);
+
+		verify(vaultOperations).invoke(eq("transit/random/16"), any());
+		assertThat(refills).hasSize(1);
+	}
+
+	@Test
+	void shouldUsePrefetchedBlock() {
+
+		VaultBytesKeyGenerator generator = new VaultBytesKeyGenerator(vaultOperations, "transit", 4);
+		generator.setBufferSize(8);
+		generator.setLowWatermark(4);
+		generator.setRefillExecutor(refills::add);
+
+		generator.generateKey();
+		assertThat(refills).hasSize(1);
+		refills.get(0).run();
+
+		generator.generateKey();
+		assertThat(generator.generateKey()).containsExactly(9, 10, 11, 12);
+
+		verify(vaultOperations, times(2)).invoke(eq("transit/random/8"), any());
+	}
+
+	@Test
+	void shouldSpanBlocks() {
+
+		VaultBytesKeyGenerator generator = new VaultBytesKeyGenerator(vaultOperations, "transit", 6);
+		generator.setBufferSize(8);
+		generator.setLowWatermark(0);
+		generator.setRefillExecutor(Runnable::run);
+
+		generator.generateKey();
+
+		assertThat(generator.generateKey()).containsExactly(7, 8, 9, 10, 11, 12);
+	}
+
+	@Test
+	void shouldFetchSynchronouslyIfPrefetchFailed() {
+
+		VaultBytesKeyGenerator generator = new VaultBytesKeyGenerator(vaultOperations, "transit", 4);
+		generator.setBufferSize(4);
+		generator.setRefillExecutor(command -> {
+			throw new RejectedExecutionException();
+		});
+
+		generator.generateKey();
+
+		assertThat(generator.generateKey()).containsExactly(5, 6, 7, 8);
+	}
+
+	@Test
+	void shouldRejectBufferSmallerThanKey() {
+
+		VaultBytesKeyGenerator generator = new VaultBytesKeyGenerator(vaultOperations, "transit", 16);
+
+		assertThatIllegalArgumentException().isThrownBy(() -> generator.setBufferSize(8));
+	}
+
+	VaultResponse random(int count) {
+
+		byte[] bytes = new byte[count];
+		for (int i = 0; i < count; i++) {
+			bytes[i] = ++counter;
+		}
+
+		VaultResponse response = new VaultResponse();
+		response.setData(Map.of("random_bytes", Base64.getEncoder().encodeToString(bytes)));
+		return response;
+	}
+
+}
@@ -19,8 +19,11 @@ package org.springframework.vault.support;
 import java.io.IOException;
 import java.io.InputStream;
 import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
 import java.security.KeyStore;
 import java.security.PrivateKey;
+import java.util.Base64;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -98,6 +101,22 @@ class CertificateBundleUnitTests {
 		assertThat(bundle.getPrivateKeySpec()).isNotNull();
 	}
 
+	@ParameterizedTest
+	@ValueSource(strings = { "EC:ec", "Ed25519:ed25519" })
+	void getPrivateKeySpecShouldCreatePrivateKeyFromPkcs8(String algorithmAndType) throws Exception {
+
+		String[] parts = algorithmAndType.split(":");
+		KeyPair keyPair = KeyPairGenerator.getInstance(parts[0]).generateKeyPair();
+		String privateKey = Base64.getEncoder().encodeToString(keyPair.getPrivate().getEncoded());
+
+		CertificateBundle bundle = CertificateBundle.of(Certificate.of("serial", "certificate", "issuer"), privateKey,
+				parts[1]);
+
+		PrivateKey actual = KeyFactory.getInstance(parts[0]).generatePrivate(bundle.getPrivateKeySpec());
+		assertThat(actual.getEncoded()).isEqualTo(keyPair.getPrivate().getEncoded());
+		assertThat(bundle.getSerialNumber()).isEqualTo("serial");
+	}
+
 	@Test
 	void shouldReturnPrivateKey() {
 
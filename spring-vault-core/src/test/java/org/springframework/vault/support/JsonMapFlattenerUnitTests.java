@@ -17,6 +17,8 @@
 package org.springframework.vault.support;
 
 import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.junit.jupiter.api.Test;
@@ -92,4 +94,87 @@ class JsonMapFlattenerUnitTests {
 				.containsEntry("key.level1[1].nested", "other-value");
 	}
 
+	@Test
+	void shouldProvideFlattenedView() throws Exception {
+
+		Map<String, Object> map = this.OBJECT_MAPPER.readValue(
+				"{\"key\": { \"level1\": [{ \"nested\":\"value\"}, [\"one\"]]}, \"dotted.key\": [\"two\"] }",
+				Map.class);
+		Map<String, Object> view = JsonMapFlattener.flattenedView(map);
+
+		assertThat(view).containsExactlyEntriesOf(JsonMapFlattener.flatten(map));
+		assertThat(view.get("key.level1[0].nested")).isEqualTo("value");
+		assertThat(view.get("key.level1[1][0]")).isEqualTo("one");
+		assertThat(view.get("dotted.key[0]")).isEqualTo("two");
+		assertThat(view).doesNotContainKey("key").doesNotContainKey("key.level1[2]").doesNotContainKey("dotted");
+	}
+
+	@Test
+	void flattenedViewShouldReflectChanges() {
+
+		Map<String, Object> map = new LinkedHashMap<>();
+		Map<String, Object> view = JsonMapFlattener.flattenedView(map);
+
+		assertThat(view).isEmpty();
+
+		map.put("key", Map.of("nested", "value"));
+
+		assertThat(view).hasSize(1).containsEntry("key.nested", "value");
+	}
+
+	@Test
+	void shouldUnflatten() throws Exception {
+
+		Map<String, Object> map = this.OBJECT_MAPPER.readValue(
+				"{\"key\": { \"level1\": [{ \"nested\":\"value\"}, [\"one\", \"two\"]]}, \"flat\": true }",
+				Map.class);
+
+		assertThat(JsonMapFlattener.unflatten(JsonMapFlattener.flatten(map))).isEqualTo(map);
+	}
+
+	@Test
+	void shouldUnflattenSparseList() {
+
+		Map<String, Object> flat = new LinkedHashMap<>();
+		flat.put("key[2]", "two");
+		flat.put("key[0].nested", "zero");
+
+		Map<String, Object> result = JsonMapFlattener.unflatten(flat);
+
+		assertThat(result).containsOnlyKeys("key");
+		assertThat((List<Object>) result.get("key")).containsExactly(Map.of("nested", "zero"), null, "two");
+	}
+
+	@Test
+	void unflattenShouldRejectConflictingProperties() {
+
+		Map<String, Object> flat = new LinkedHashMap<>();
+		flat.put("key", "value");
+		flat.put("key.nested", "value");
+
+		assertThatIllegalArgumentException().isThrownBy(() -> JsonMapFlattener.unflatten(flat));
+	}
+
+	@Test
+	void unflattenShouldRejectConflictingPropertiesInAnyOrder() {
+
+		Map<String, Object> flat = new LinkedHashMap<>();
+		flat.put("key.nested", "value");
+		flat.put("key", "value");
+
+		assertThatIllegalArgumentException().isThrownBy(() -> JsonMapFlattener.unflatten(flat));
+
+		Map<String, Object> list = new LinkedHashMap<>();
+		list.put("key[0]", "value");
+		list.put("key", "value");
+
+		assertThatIllegalArgumentException().isThrownBy(() -> JsonMapFlattener.unflatten(list));
+	}
+
+	@Test
+	void unflattenShouldRejectExcessiveListIndex() {
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> JsonMapFlattener.unflatten(Map.of("key[999999999]", "value")));
+	}
+
 }
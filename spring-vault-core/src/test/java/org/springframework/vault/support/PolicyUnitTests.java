@@ -101,4 +101,35 @@ class PolicyUnitTests {
 		assertThat(updated.getRule("secret/").getCapabilities()).containsExactly(BuiltinCapabilities.READ);
 	}
 
+	@Test
+	void shouldMatchRulePaths() {
+
+		assertThat(rule("secret/foo").matches("secret/foo")).isTrue();
+		assertThat(rule("secret/foo").matches("secret/foobar")).isFalse();
+		assertThat(rule("secret/fo*").matches("secret/foo/bar")).isTrue();
+		assertThat(rule("secret/+/bar").matches("secret/foo/bar")).isTrue();
+		assertThat(rule("secret/+/bar").matches("secret/a/b/bar")).isFalse();
+	}
+
+	@Test
+	void shouldEvaluateCapabilitiesOfHighestPriorityRule() {
+
+		Policy policy = Policy.of(Rule.builder().path("secret/*").capabilities(BuiltinCapabilities.READ).build(),
+				Rule.builder()
+					.path("secret/+/config")
+					.capabilities(BuiltinCapabilities.READ, BuiltinCapabilities.UPDATE)
+					.build(),
+				Rule.builder().path("secret/app/config").capabilities(BuiltinCapabilities.DENY).build());
+
+		assertThat(policy.getCapabilities("secret/other")).containsExactly(BuiltinCapabilities.READ);
+		assertThat(policy.getCapabilities("/secret/other/config")).containsExactly(BuiltinCapabilities.READ,
+				BuiltinCapabilities.UPDATE);
+		assertThat(policy.getCapabilities("secret/app/config")).containsExactly(BuiltinCapabilities.DENY);
+		assertThat(policy.getCapabilities("database/creds")).containsExactly(BuiltinCapabilities.DENY);
+	}
+
+	static Rule rule(String path) {
+		return Rule.builder().path(path).capabilities(BuiltinCapabilities.READ).build();
+	}
+
 }